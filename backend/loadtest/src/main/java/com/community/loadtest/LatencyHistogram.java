@@ -0,0 +1,55 @@
+package com.community.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 구간 지연 시간 히스토그램 (0.1ms 단위, 최대 10초)
+ * 수신 스레드 여러 개가 잠금 없이 기록하고, 보고 시 백분위수를 계산합니다.
+ */
+public class LatencyHistogram {
+
+    private static final long BUCKET_NANOS = 100_000L;
+    private static final int BUCKETS = 100_000;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long nanos) {
+        if (nanos < 0) {
+            return;
+        }
+        int bucket = (int) Math.min(BUCKETS, nanos / BUCKET_NANOS);
+        buckets.incrementAndGet(bucket);
+        count.incrementAndGet();
+        maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * 백분위수 (밀리초)
+     */
+    public double percentileMillis(double percentile) {
+        long total = count.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i <= BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return (i + 1) * BUCKET_NANOS / 1_000_000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    public double maxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,202 @@
+package com.community.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.WebSocketContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 헤드리스 STOMP 부하 생성기
+ * 로컬 백엔드(h2 프로필)에 시뮬레이션 클라이언트 N 개를 붙여 입장/이동/광장 채팅/미니게임 대기방 흐름을 실행하고
+ * 전송 지연(p50/p99), 초당 메시지 수, 서버 CPU/힙을 주기적으로 출력합니다.
+ * 클라이언트와 서버가 같은 장비에서 실행된다고 가정합니다 (전송 시각과 수신 시각을 같은 시계로 비교).
+ */
+public class LoadTestMain {
+
+    private static final int MAX_MESSAGE_BYTES = 1024 * 1024;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = new ObjectMapper();
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        PositionLedger ledger = new PositionLedger();
+        ServerStatsProbe probe = new ServerStatsProbe(options.baseUrl());
+
+        // 닉네임 20자 제한에 맞춘 실행 ID
+        String runId = Long.toString(System.currentTimeMillis() % 60_466_176L, 36);
+        System.out.printf("Preparing %d users (run %s)...%n", options.players(), runId);
+        List<SimUser> users = new UserProvisioner(options, objectMapper).provision(runId);
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(2);
+        heartbeatScheduler.setThreadNamePrefix("lt-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+
+        // 위치 프레임이 커질 수 있으므로 수신 버퍼를 늘림
+        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+        container.setDefaultMaxTextMessageBufferSize(MAX_MESSAGE_BYTES);
+        container.setDefaultMaxBinaryMessageBufferSize(MAX_MESSAGE_BYTES);
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient(container));
+        stompClient.setInboundMessageSizeLimit(MAX_MESSAGE_BYTES);
+        stompClient.setTaskScheduler(heartbeatScheduler);
+
+        ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(
+                Math.max(2, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "lt-client");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        List<SimulatedPlayer> players = createPlayers(users, options, metrics, ledger, objectMapper, scheduler, runId);
+
+        ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "lt-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long startNanos = System.nanoTime();
+        LoadTestMetrics.Counts[] previous = {metrics.snapshot()};
+        reporter.scheduleAtFixedRate(() -> {
+            try {
+                LoadTestMetrics.Counts current = metrics.snapshot();
+                printProgress(startNanos, previous[0], current, metrics, probe.poll());
+                previous[0] = current;
+            } catch (Exception e) {
+                // 예외가 발생해도 다음 보고가 계속 실행되도록 함
+                System.err.println("Report failed: " + e.getMessage());
+            }
+        }, options.reportIntervalSeconds(), options.reportIntervalSeconds(), TimeUnit.SECONDS);
+
+        // 접속 구간: 클라이언트를 일정 간격으로 연결
+        System.out.printf("Connecting %d clients over %ds to %s%n",
+                players.size(), options.rampUpSeconds(), options.webSocketUrl());
+        long gapNanos = players.isEmpty() ? 0 : TimeUnit.SECONDS.toNanos(options.rampUpSeconds()) / players.size();
+        List<CompletableFuture<Void>> connects = new ArrayList<>(players.size());
+        for (SimulatedPlayer player : players) {
+            connects.add(player.start(stompClient));
+            if (gapNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(gapNanos);
+            }
+        }
+        try {
+            CompletableFuture.allOf(connects.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // 실패한 연결은 connectFailures 에 기록됨
+        }
+
+        // 측정 구간
+        metrics.resetLatency();
+        LoadTestMetrics.Counts measureStart = metrics.snapshot();
+        probe.poll();
+        System.out.printf("Measuring for %ds (%d connected, %d failed)%n",
+                options.durationSeconds(), metrics.connected.get(), metrics.connectFailures.get());
+        TimeUnit.SECONDS.sleep(options.durationSeconds());
+        LoadTestMetrics.Counts measureEnd = metrics.snapshot();
+        ServerStatsProbe.Sample lastSample = probe.poll();
+
+        reporter.shutdownNow();
+        printFinalReport(options, measureStart, measureEnd, metrics, probe, lastSample);
+
+        players.forEach(SimulatedPlayer::stop);
+        TimeUnit.SECONDS.sleep(2);
+        scheduler.shutdownNow();
+        heartbeatScheduler.shutdown();
+        System.exit(0);
+    }
+
+    private static List<SimulatedPlayer> createPlayers(List<SimUser> users, LoadTestOptions options,
+                                                       LoadTestMetrics metrics, PositionLedger ledger,
+                                                       ObjectMapper objectMapper, ScheduledExecutorService scheduler,
+                                                       String runId) {
+        // 앞쪽 minigameFraction 비율의 클라이언트를 roomSize 명씩 묶어 미니게임 그룹으로 사용
+        int roomSize = Math.max(2, options.roomSize());
+        int minigamePlayers = (int) Math.round(users.size() * Math.max(0, Math.min(1, options.minigameFraction())));
+        minigamePlayers -= minigamePlayers % roomSize;
+
+        List<SimulatedPlayer> players = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            String groupHostId = null;
+            String groupRoomName = null;
+            if (i < minigamePlayers) {
+                int group = i / roomSize;
+                groupHostId = users.get(group * roomSize).userId();
+                groupRoomName = "lt-" + runId + "-" + group;
+            }
+            players.add(new SimulatedPlayer(users.get(i), options, metrics, ledger, objectMapper, scheduler,
+                    groupHostId, groupRoomName));
+        }
+        return players;
+    }
+
+    private static void printProgress(long startNanos, LoadTestMetrics.Counts previous, LoadTestMetrics.Counts current,
+                                      LoadTestMetrics metrics, ServerStatsProbe.Sample sample) {
+        double seconds = (current.nanos() - previous.nanos()) / 1e9;
+        System.out.printf(Locale.ROOT,
+                "[%4ds] clients=%d sent=%.0f/s recv=%.0f/s (%.1f KB/s) pos p50=%.1fms p99=%.1fms chat p99=%.1fms%s%n",
+                TimeUnit.NANOSECONDS.toSeconds(current.nanos() - startNanos),
+                metrics.connected.get() - metrics.disconnects.get(),
+                (current.sent() - previous.sent()) / seconds,
+                (current.received() - previous.received()) / seconds,
+                (current.receivedBytes() - previous.receivedBytes()) / seconds / 1024,
+                metrics.positionLatency.percentileMillis(50),
+                metrics.positionLatency.percentileMillis(99),
+                metrics.chatLatency.percentileMillis(99),
+                formatServer(sample));
+    }
+
+    private static void printFinalReport(LoadTestOptions options, LoadTestMetrics.Counts start,
+                                         LoadTestMetrics.Counts end, LoadTestMetrics metrics,
+                                         ServerStatsProbe probe, ServerStatsProbe.Sample lastSample) {
+        double seconds = (end.nanos() - start.nanos()) / 1e9;
+        StringBuilder report = new StringBuilder();
+        report.append("\n=== Load test report ===\n");
+        report.append(String.format(Locale.ROOT,
+                "clients: %d requested, %d connected, %d connect failures, %d dropped%n",
+                options.players(), metrics.connected.get(), metrics.connectFailures.get(), metrics.disconnects.get()));
+        report.append(String.format(Locale.ROOT, "workload: move %.1f Hz, chat %.1f/min, minigame rooms %d (joins %d)%n",
+                options.moveHz(), options.chatPerMinute(), metrics.roomsCreated.get(), metrics.roomJoins.get()));
+        report.append(String.format(Locale.ROOT, "throughput: sent %.0f msg/s, received %.0f msg/s (%.1f KB/s)%n",
+                (end.sent() - start.sent()) / seconds,
+                (end.received() - start.received()) / seconds,
+                (end.receivedBytes() - start.receivedBytes()) / seconds / 1024));
+        appendLatency(report, "position", metrics.positionLatency);
+        appendLatency(report, "plaza chat", metrics.chatLatency);
+        appendLatency(report, "room chat", metrics.roomChatLatency);
+        report.append(String.format(Locale.ROOT, "errors: %d%n", metrics.errors.get()));
+        if (lastSample != null) {
+            report.append(String.format(Locale.ROOT,
+                    "server: cpu %.0f%% (max %.0f%%), heap %.0f MB (max %.0f MB), outbound %.0f msgs total%n",
+                    lastSample.cpu() * 100, probe.getMaxCpu() * 100,
+                    lastSample.heapBytes() / (1024 * 1024), probe.getMaxHeapBytes() / (1024 * 1024),
+                    lastSample.outboundMessages()));
+        } else {
+            report.append("server: /actuator/prometheus not reachable\n");
+        }
+        System.out.print(report);
+    }
+
+    private static void appendLatency(StringBuilder report, String name, LatencyHistogram histogram) {
+        report.append(String.format(Locale.ROOT, "%-11s latency: n=%d p50=%.1fms p99=%.1fms max=%.1fms%n",
+                name, histogram.getCount(), histogram.percentileMillis(50), histogram.percentileMillis(99),
+                histogram.maxMillis()));
+    }
+
+    private static String formatServer(ServerStatsProbe.Sample sample) {
+        if (sample == null) {
+            return "";
+        }
+        return String.format(Locale.ROOT, " server cpu=%.0f%% heap=%.0fMB",
+                sample.cpu() * 100, sample.heapBytes() / (1024 * 1024));
+    }
+}
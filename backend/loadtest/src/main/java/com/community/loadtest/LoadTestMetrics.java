@@ -0,0 +1,40 @@
+package com.community.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트 쪽 측정값 (모든 시뮬레이션 클라이언트가 공유)
+ */
+public class LoadTestMetrics {
+
+    // 접속 구간이 끝나면 새로 만들어 정상 상태 값만 남김
+    volatile LatencyHistogram positionLatency = new LatencyHistogram();
+    volatile LatencyHistogram chatLatency = new LatencyHistogram();
+    volatile LatencyHistogram roomChatLatency = new LatencyHistogram();
+
+    final AtomicLong connected = new AtomicLong();
+    final AtomicLong connectFailures = new AtomicLong();
+    final AtomicLong disconnects = new AtomicLong();
+    final AtomicLong sentMessages = new AtomicLong();
+    final AtomicLong receivedMessages = new AtomicLong();
+    final AtomicLong receivedBytes = new AtomicLong();
+    final AtomicLong roomsCreated = new AtomicLong();
+    final AtomicLong roomJoins = new AtomicLong();
+    final AtomicLong errors = new AtomicLong();
+
+    void resetLatency() {
+        positionLatency = new LatencyHistogram();
+        chatLatency = new LatencyHistogram();
+        roomChatLatency = new LatencyHistogram();
+    }
+
+    /**
+     * 구간 처리량 계산용 스냅샷
+     */
+    record Counts(long sent, long received, long receivedBytes, long nanos) {
+    }
+
+    Counts snapshot() {
+        return new Counts(sentMessages.get(), receivedMessages.get(), receivedBytes.get(), System.nanoTime());
+    }
+}
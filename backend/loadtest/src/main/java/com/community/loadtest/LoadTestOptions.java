@@ -0,0 +1,77 @@
+package com.community.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--key=value 형식 인자)
+ */
+public record LoadTestOptions(
+        String baseUrl,
+        String endpoint,
+        int players,
+        int rampUpSeconds,
+        int durationSeconds,
+        double moveHz,
+        double area,
+        double chatPerMinute,
+        double minigameFraction,
+        int roomSize,
+        boolean register,
+        int reportIntervalSeconds) {
+
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unknown argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        if (values.containsKey("help")) {
+            System.out.println(usage());
+            System.exit(0);
+        }
+
+        return new LoadTestOptions(
+                values.getOrDefault("url", "http://localhost:8080"),
+                values.getOrDefault("endpoint", "/ws-native"),
+                Integer.parseInt(values.getOrDefault("players", "100")),
+                Integer.parseInt(values.getOrDefault("ramp-up-s", "10")),
+                Integer.parseInt(values.getOrDefault("duration-s", "60")),
+                Double.parseDouble(values.getOrDefault("move-hz", "10")),
+                Double.parseDouble(values.getOrDefault("area", "100")),
+                Double.parseDouble(values.getOrDefault("chat-per-min", "2")),
+                Double.parseDouble(values.getOrDefault("minigame-fraction", "0.2")),
+                Integer.parseInt(values.getOrDefault("room-size", "4")),
+                Boolean.parseBoolean(values.getOrDefault("register", "true")),
+                Integer.parseInt(values.getOrDefault("report-interval-s", "10")));
+    }
+
+    public String webSocketUrl() {
+        return baseUrl.replaceFirst("^http", "ws") + endpoint;
+    }
+
+    static String usage() {
+        return """
+                Usage: ./gradlew -p loadtest run --args='[options]'
+                  --url=http://localhost:8080   backend base URL (start it with --spring.profiles.active=h2)
+                  --endpoint=/ws-native         STOMP endpoint (/ws-native or /ws/websocket)
+                  --players=100                 simulated clients
+                  --ramp-up-s=10                seconds to connect all clients
+                  --duration-s=60               measurement time after ramp-up
+                  --move-hz=10                  position updates per client per second
+                  --area=100                    plaza square side the clients walk in (world units)
+                  --chat-per-min=2              plaza chat messages per client per minute
+                  --minigame-fraction=0.2       share of clients that play in minigame rooms
+                  --room-size=4                 clients per minigame room
+                  --register=true               register real users (false: synthetic ids, chat is not saved)
+                  --report-interval-s=10        progress report interval
+                """;
+    }
+}
@@ -0,0 +1,57 @@
+package com.community.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 보낸 위치 기록 (전송 지연 측정용)
+ * 모든 클라이언트가 한 JVM 에 있으므로, 보낸 쪽이 x 좌표(cm)와 전송 시각을 남기면
+ * 받은 쪽이 같은 x 값을 찾아 전송부터 수신까지의 시간을 계산합니다.
+ * 사용자마다 최근 전송 몇 개만 보관합니다 (수신함에서 합쳐져 전달되지 않는 업데이트가 있기 때문).
+ */
+public class PositionLedger {
+
+    private static final int HISTORY = 32;
+
+    private final Map<String, Ring> rings = new ConcurrentHashMap<>();
+
+    public void recordSend(String userId, int xCentimeters, long sentNanos) {
+        rings.computeIfAbsent(userId, id -> new Ring()).put(xCentimeters, sentNanos);
+    }
+
+    /**
+     * @return 전송 시각 (모르면 -1)
+     */
+    public long findSendTime(String userId, int xCentimeters) {
+        Ring ring = rings.get(userId);
+        return ring != null ? ring.find(xCentimeters) : -1;
+    }
+
+    private static class Ring {
+        private final int[] xs = new int[HISTORY];
+        private final long[] times = new long[HISTORY];
+        private int next;
+
+        Ring() {
+            Arrays.fill(times, -1);
+        }
+
+        synchronized void put(int x, long nanos) {
+            xs[next] = x;
+            times[next] = nanos;
+            next = (next + 1) % HISTORY;
+        }
+
+        // 같은 x 를 다시 지나간 경우를 피하려고 최근 전송부터 찾음
+        synchronized long find(int x) {
+            for (int n = 1; n <= HISTORY; n++) {
+                int i = Math.floorMod(next - n, HISTORY);
+                if (times[i] >= 0 && xs[i] == x) {
+                    return times[i];
+                }
+            }
+            return -1;
+        }
+    }
+}
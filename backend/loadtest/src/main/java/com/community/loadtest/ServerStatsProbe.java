@@ -0,0 +1,88 @@
+package com.community.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * 서버 CPU/힙 조회 (/actuator/prometheus)
+ * 같은 장비에서 실행하므로 서버 프로세스 기준 값을 그대로 사용합니다.
+ */
+public class ServerStatsProbe {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final URI uri;
+
+    private double maxCpu;
+    private double maxHeapBytes;
+
+    public ServerStatsProbe(String baseUrl) {
+        this.uri = URI.create(baseUrl + "/actuator/prometheus");
+    }
+
+    /**
+     * 서버 상태 한 번 조회 (실패하면 null)
+     */
+    public Sample poll() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            Sample sample = parse(response.body());
+            maxCpu = Math.max(maxCpu, sample.cpu());
+            maxHeapBytes = Math.max(maxHeapBytes, sample.heapBytes());
+            return sample;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    public double getMaxCpu() {
+        return maxCpu;
+    }
+
+    public double getMaxHeapBytes() {
+        return maxHeapBytes;
+    }
+
+    private Sample parse(String body) {
+        double cpu = 0;
+        double heap = 0;
+        double outbound = 0;
+        for (String line : body.split("\n")) {
+            if (line.startsWith("#")) {
+                continue;
+            }
+            if (line.startsWith("process_cpu_usage")) {
+                cpu = value(line);
+            } else if (line.startsWith("jvm_memory_used_bytes") && line.contains("area=\"heap\"")) {
+                heap += value(line);
+            } else if (line.startsWith("websocket_outbound_messages_total")) {
+                outbound += value(line);
+            }
+        }
+        return new Sample(cpu, heap, outbound);
+    }
+
+    private double value(String line) {
+        try {
+            return Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * @param cpu 서버 프로세스 CPU 사용률 (0~1, 전체 코어 기준)
+     * @param heapBytes 힙 사용량
+     * @param outboundMessages 서버가 보낸 STOMP 메시지 누적 수
+     */
+    public record Sample(double cpu, double heapBytes, double outboundMessages) {
+    }
+}
@@ -0,0 +1,7 @@
+package com.community.loadtest;
+
+/**
+ * 부하 테스트 사용자 (로그인한 사용자 ID 와 닉네임)
+ */
+public record SimUser(String userId, String username) {
+}
@@ -0,0 +1,363 @@
+package com.community.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 시뮬레이션 클라이언트 하나
+ * 프론트엔드와 같은 순서로 접속(/app/player.join)하고, 광장을 걸어 다니며 위치와 채팅을 보냅니다.
+ * 미니게임 그룹에 속하면 그룹의 첫 번째 클라이언트가 방을 만들고 나머지가 입장해 대기방 채팅을 보냅니다.
+ *
+ * 보내는 채팅 본문은 "lt|전송 시각(nanoTime)" 형식이라 받은 쪽에서 바로 지연 시간을 계산할 수 있고,
+ * 위치는 PositionLedger 에 남긴 x 좌표로 전송 시각을 찾습니다 (모든 클라이언트가 같은 JVM 에 있음).
+ */
+public class SimulatedPlayer {
+
+    private static final Logger log = LoggerFactory.getLogger(SimulatedPlayer.class);
+
+    private static final String LATENCY_PREFIX = "lt|";
+    private static final double WALK_SPEED = 4.0;  // 초당 이동 거리 (월드 좌표 단위)
+
+    private final SimUser user;
+    private final LoadTestOptions options;
+    private final LoadTestMetrics metrics;
+    private final PositionLedger ledger;
+    private final ObjectMapper objectMapper;
+    private final ScheduledExecutorService scheduler;
+
+    // 미니게임 그룹 (없으면 null), 방장 userId, 방 이름
+    private final String groupHostId;
+    private final String groupRoomName;
+
+    private volatile ScheduledFuture<?> positionTask;
+    private volatile ScheduledFuture<?> chatTask;
+    private volatile boolean running;
+    private volatile StompSession session;
+    private volatile String minigameRoomId;
+
+    // 걷기 상태 (위치 작업 스레드에서만 사용)
+    private double x;
+    private double z;
+    private double heading;
+    private int lastSentXCentimeters = Integer.MIN_VALUE;
+
+    // 위치 프레임 해석 상태 (프레임 ID -> userId, 보낸 사람별 마지막으로 본 x)
+    private final Map<Integer, String> frameIds = new ConcurrentHashMap<>();
+    private final Map<String, Integer> lastSeenX = new ConcurrentHashMap<>();
+
+    public SimulatedPlayer(SimUser user, LoadTestOptions options, LoadTestMetrics metrics, PositionLedger ledger,
+                           ObjectMapper objectMapper, ScheduledExecutorService scheduler,
+                           String groupHostId, String groupRoomName) {
+        this.user = user;
+        this.options = options;
+        this.metrics = metrics;
+        this.ledger = ledger;
+        this.objectMapper = objectMapper;
+        this.scheduler = scheduler;
+        this.groupHostId = groupHostId;
+        this.groupRoomName = groupRoomName;
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double half = options.area() / 2;
+        this.x = random.nextDouble(-half, half);
+        this.z = random.nextDouble(-half, half);
+        this.heading = random.nextDouble(0, Math.PI * 2);
+    }
+
+    /**
+     * 연결 후 구독, 입장, 주기 작업 시작
+     */
+    public CompletableFuture<Void> start(WebSocketStompClient stompClient) {
+        return stompClient.connectAsync(options.webSocketUrl(), new SessionHandler())
+                .thenAccept(connected -> {
+                    session = connected;
+                    running = true;
+                    metrics.connected.incrementAndGet();
+                    subscribeAll();
+                    send("/app/player.join", Map.of("userId", user.userId(), "username", user.username()));
+                    if (isGroupHost()) {
+                        createMinigameRoom();
+                    }
+                    scheduleWork();
+                })
+                .whenComplete((ignored, e) -> {
+                    if (e != null) {
+                        metrics.connectFailures.incrementAndGet();
+                        log.warn("Connect failed for {}: {}", user.username(), e.getMessage());
+                    }
+                });
+    }
+
+    public void stop() {
+        cancelTasks();
+        StompSession current = session;
+        if (current != null && current.isConnected()) {
+            if (minigameRoomId != null) {
+                send("/app/minigame.room.leave", Map.of("roomId", minigameRoomId, "userId", user.userId()));
+            }
+            current.disconnect();
+        }
+    }
+
+    private boolean isGroupHost() {
+        return groupHostId != null && groupHostId.equals(user.userId());
+    }
+
+    private void subscribeAll() {
+        subscribe("/topic/positions", this::onPositionFrame);
+        subscribe("/user/queue/positions", this::onPositionFrame);
+        subscribe("/topic/chat", this::onChat);
+        subscribe("/user/queue/chat", this::onChat);
+        if (groupHostId != null) {
+            subscribe("/topic/minigame/rooms", this::onMinigameRoomEvent);
+        }
+    }
+
+    private void scheduleWork() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (options.moveHz() > 0) {
+            long periodMicros = (long) (1_000_000 / options.moveHz());
+            positionTask = scheduler.scheduleAtFixedRate(guard(this::sendPosition),
+                    random.nextLong(periodMicros), periodMicros, TimeUnit.MICROSECONDS);
+        }
+        if (options.chatPerMinute() > 0) {
+            scheduleChat();
+        }
+    }
+
+    // 채팅 간격은 지수 분포 (클라이언트끼리 같은 순간에 몰리지 않도록)
+    private void scheduleChat() {
+        double meanMillis = 60_000 / options.chatPerMinute();
+        long delay = (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanMillis);
+        chatTask = scheduler.schedule(guard(() -> {
+            if (!running) {
+                return;
+            }
+            sendChat();
+            scheduleChat();
+        }), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void sendPosition() {
+        double step = WALK_SPEED / options.moveHz();
+        double half = options.area() / 2;
+        heading += ThreadLocalRandom.current().nextDouble(-0.3, 0.3);
+        x += Math.cos(heading) * step;
+        z += Math.sin(heading) * step;
+        if (Math.abs(x) > half || Math.abs(z) > half) {
+            // 경계에서 돌아섬
+            heading += Math.PI;
+            x = Math.max(-half, Math.min(half, x));
+            z = Math.max(-half, Math.min(half, z));
+        }
+
+        // 지연 시간 측정을 위해 매 전송마다 x 의 1cm 단위 값이 바뀌게 함
+        int xCentimeters = (int) Math.round(x * 100);
+        if (xCentimeters == lastSentXCentimeters) {
+            xCentimeters += 1;
+            x = xCentimeters / 100.0;
+        }
+        lastSentXCentimeters = xCentimeters;
+
+        Map<String, Object> position = new LinkedHashMap<>();
+        position.put("userId", user.userId());
+        position.put("username", user.username());
+        position.put("x", x);
+        position.put("y", 0.0);
+        position.put("z", z);
+        position.put("rotationY", heading);
+        position.put("animation", "walk");
+        position.put("isChangingAvatar", false);
+        position.put("timestamp", System.currentTimeMillis());
+
+        ledger.recordSend(user.userId(), xCentimeters, System.nanoTime());
+        send("/app/player.position", position);
+    }
+
+    private void sendChat() {
+        String message = LATENCY_PREFIX + System.nanoTime();
+        if (minigameRoomId != null) {
+            send("/app/minigame.room.chat", Map.of("roomId", minigameRoomId, "userId", user.userId(),
+                    "username", user.username(), "message", message));
+        } else {
+            send("/app/chat.message", Map.of("userId", user.userId(), "username", user.username(),
+                    "message", message));
+        }
+    }
+
+    private void createMinigameRoom() {
+        Map<String, Object> request = new HashMap<>();
+        request.put("roomName", groupRoomName);
+        request.put("gameName", "오목");
+        request.put("hostId", user.userId());
+        request.put("hostName", user.username());
+        request.put("maxPlayers", Math.max(2, options.roomSize()));
+        request.put("locked", false);
+        request.put("hostLevel", 1);
+        send("/app/minigame.room.create", request);
+    }
+
+    private void onPositionFrame(JsonNode frame) {
+        for (JsonNode def : frame.path("defs")) {
+            frameIds.put(def.path("i").asInt(), def.path("u").asText());
+        }
+        long now = System.nanoTime();
+        for (JsonNode update : frame.path("u")) {
+            int mask = update.path(1).asInt();
+            if ((mask & 1) == 0) {
+                continue;
+            }
+            String senderId = frameIds.get(update.path(0).asInt());
+            if (senderId == null || senderId.equals(user.userId())) {
+                continue;
+            }
+            int xCentimeters = update.path(2).asInt();
+            Integer previous = lastSeenX.put(senderId, xCentimeters);
+            if (previous != null && previous == xCentimeters) {
+                continue;
+            }
+            long sentNanos = ledger.findSendTime(senderId, xCentimeters);
+            if (sentNanos > 0) {
+                metrics.positionLatency.record(now - sentNanos);
+            }
+        }
+    }
+
+    private void onChat(JsonNode chat) {
+        recordEmbeddedLatency(chat.path("message").asText(), metrics.chatLatency);
+    }
+
+    private void onRoomChat(JsonNode chat) {
+        recordEmbeddedLatency(chat.path("message").asText(), metrics.roomChatLatency);
+    }
+
+    private void onMinigameRoomEvent(JsonNode room) {
+        if (minigameRoomId != null || !"create".equals(room.path("action").asText())
+                || !groupHostId.equals(room.path("hostId").asText())) {
+            return;
+        }
+        String roomId = room.path("roomId").asText();
+        minigameRoomId = roomId;
+        subscribe("/topic/minigame/room/" + roomId + "/chat", this::onRoomChat);
+        if (isGroupHost()) {
+            metrics.roomsCreated.incrementAndGet();
+        } else {
+            send("/app/minigame.room.join", Map.of("roomId", roomId, "userId", user.userId(),
+                    "username", user.username(), "level", 1));
+            metrics.roomJoins.incrementAndGet();
+        }
+    }
+
+    private void recordEmbeddedLatency(String message, LatencyHistogram histogram) {
+        if (message == null || !message.startsWith(LATENCY_PREFIX)) {
+            return;
+        }
+        try {
+            histogram.record(System.nanoTime() - Long.parseLong(message.substring(LATENCY_PREFIX.length())));
+        } catch (NumberFormatException ignored) {
+            // 다른 클라이언트가 보낸 같은 형식의 메시지
+        }
+    }
+
+    private void subscribe(String destination, Consumer<JsonNode> handler) {
+        session.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return byte[].class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                byte[] body = (byte[]) payload;
+                metrics.receivedMessages.incrementAndGet();
+                metrics.receivedBytes.addAndGet(body.length);
+                try {
+                    handler.accept(objectMapper.readTree(body));
+                } catch (Exception e) {
+                    metrics.errors.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void send(String destination, Object payload) {
+        StompSession current = session;
+        if (current == null || !current.isConnected()) {
+            return;
+        }
+        try {
+            StompHeaders headers = new StompHeaders();
+            headers.setDestination(destination);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            byte[] body = objectMapper.writeValueAsBytes(payload);
+            // 같은 웹소켓 세션에 여러 스레드가 동시에 쓰지 않도록 함
+            synchronized (this) {
+                current.send(headers, body);
+            }
+            metrics.sentMessages.incrementAndGet();
+        } catch (Exception e) {
+            metrics.errors.incrementAndGet();
+            log.debug("Send failed for {} to {}: {}", user.username(), destination, e.getMessage());
+        }
+    }
+
+    private void cancelTasks() {
+        running = false;
+        if (positionTask != null) {
+            positionTask.cancel(false);
+        }
+        if (chatTask != null) {
+            chatTask.cancel(false);
+        }
+    }
+
+    // 주기 작업에서 예외가 발생해도 다음 실행이 취소되지 않도록 함
+    private Runnable guard(Runnable task) {
+        return () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                metrics.errors.incrementAndGet();
+                log.debug("Task failed for {}: {}", user.username(), e.getMessage());
+            }
+        };
+    }
+
+    private class SessionHandler extends StompSessionHandlerAdapter {
+        @Override
+        public void handleException(StompSession session, StompCommand command, StompHeaders headers,
+                                    byte[] payload, Throwable exception) {
+            metrics.errors.incrementAndGet();
+        }
+
+        @Override
+        public void handleTransportError(StompSession session, Throwable exception) {
+            if (!session.isConnected()) {
+                metrics.disconnects.incrementAndGet();
+                cancelTasks();
+            }
+            log.debug("Transport error for {}: {}", user.username(), exception.getMessage());
+        }
+    }
+}
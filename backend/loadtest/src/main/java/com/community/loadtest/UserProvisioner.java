@@ -0,0 +1,73 @@
+package com.community.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 부하 테스트 사용자 준비
+ * /api/auth/register 로 가입하고, 이미 있으면 /api/auth/login 으로 ID 를 가져옵니다.
+ * 광장 채팅 저장이 userId 를 숫자 ID 로 다루므로 실제 사용자를 쓰는 것이 서버 부하에 가깝습니다.
+ */
+public class UserProvisioner {
+
+    private static final String PASSWORD = "loadtest123";
+
+    private final LoadTestOptions options;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public UserProvisioner(LoadTestOptions options, ObjectMapper objectMapper) {
+        this.options = options;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<SimUser> provision(String runId) throws IOException, InterruptedException {
+        List<SimUser> users = new ArrayList<>(options.players());
+        for (int i = 0; i < options.players(); i++) {
+            // 닉네임은 20자 이하
+            String username = "lt" + runId + "_" + i;
+            if (!options.register()) {
+                users.add(new SimUser(username, username));
+                continue;
+            }
+            users.add(registerOrLogin(username));
+        }
+        return users;
+    }
+
+    private SimUser registerOrLogin(String username) throws IOException, InterruptedException {
+        String email = username + "@loadtest.local";
+        HttpResponse<String> response = post("/api/auth/register",
+                Map.of("username", username, "email", email, "password", PASSWORD));
+        if (response.statusCode() / 100 != 2) {
+            response = post("/api/auth/login", Map.of("email", email, "password", PASSWORD));
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Could not register or log in " + username + ": HTTP "
+                    + response.statusCode() + " " + response.body());
+        }
+        JsonNode user = objectMapper.readTree(response.body()).path("user");
+        return new SimUser(user.path("id").asText(), user.path("username").asText(username));
+    }
+
+    private HttpResponse<String> post(String path, Map<String, String> body) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
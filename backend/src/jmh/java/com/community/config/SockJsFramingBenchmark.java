@@ -0,0 +1,117 @@
+package com.community.config;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.PlayerPositionDto;
+import com.community.service.PositionFrameEncoder;
+import com.community.service.WorldStateService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.sockjs.frame.Jackson2SockJsMessageCodec;
+import org.springframework.web.socket.sockjs.frame.SockJsFrame;
+import org.springframework.web.socket.sockjs.frame.SockJsMessageCodec;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 -> 클라이언트 메시지 하나를 전송 프레임으로 만드는 비용: /ws-native 와 SockJS(/ws) 비교
+ * - nativeFrame: STOMP MESSAGE 프레임 인코딩 (WebSocket 프레임 본문 그대로)
+ * - sockJsFrame: 같은 STOMP 프레임을 문자열로 바꾼 뒤 SockJS 메시지 프레임 a["..."] 로 JSON 이스케이프
+ * 본문은 위치 프레임(변경분, JSON) 과 채팅 메시지. 프레임 크기(bytes)는 설정 단계에서 출력합니다.
+ * 네트워크 왕복과 HTTP 폴백(xhr-streaming/polling) 비용은 포함하지 않습니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=SockJsFramingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SockJsFramingBenchmark {
+
+    @Param({"positions", "chat"})
+    public String payload;
+
+    private final StompEncoder stompEncoder = new StompEncoder();
+    private final SockJsMessageCodec sockJsCodec = new Jackson2SockJsMessageCodec();
+
+    private Message<byte[]> message;
+
+    @Setup(Level.Trial)
+    public void createMessage() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        byte[] body = "positions".equals(payload)
+                ? objectMapper.writeValueAsBytes(positionDelta())
+                : objectMapper.writeValueAsBytes(Map.of(
+                        "type", "chat",
+                        "userId", "user-17",
+                        "username", "플레이어17",
+                        "message", "안녕하세요! \"광장\"에서 만나요 :)",
+                        "timestamp", 1_700_000_000_000L));
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination("/user/queue/positions");
+        accessor.setSubscriptionId("sub-3");
+        accessor.setMessageId("a1b2c3d4-1234");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        accessor.setLeaveMutable(true);
+        message = MessageBuilder.createMessage(body, accessor.getMessageHeaders());
+
+        System.out.printf("%n[bytes] payload=%s body=%d native=%d sockjs=%d%n",
+                payload, body.length, nativeFrame().length, sockJsFrame().length);
+    }
+
+    private static CompactPositionFrameDto positionDelta() {
+        WorldStateService worldState = new WorldStateService();
+        PositionFrameEncoder encoder = new PositionFrameEncoder(worldState);
+        Random random = new Random(1);
+        List<PlayerPositionDto> positions = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            PlayerPositionDto position = new PlayerPositionDto();
+            position.setUserId("user-" + i);
+            position.setUsername("플레이어" + i);
+            position.setModelPath("/models/character-" + (i % 4) + ".gltf");
+            position.setX(random.nextDouble() * 200 - 100);
+            position.setY(0.0);
+            position.setZ(random.nextDouble() * 200 - 100);
+            position.setRotationY(random.nextDouble() * Math.PI * 2);
+            position.setAnimation("walk");
+            worldState.updatePosition(position);
+            positions.add(position);
+        }
+        encoder.encode(1, positions, true);
+        for (PlayerPositionDto position : positions) {
+            position.setX(position.getX() + 0.1);
+            position.setZ(position.getZ() - 0.1);
+        }
+        return encoder.encode(2, positions, false);
+    }
+
+    @Benchmark
+    public byte[] nativeFrame() {
+        return stompEncoder.encode(message);
+    }
+
+    @Benchmark
+    public byte[] sockJsFrame() {
+        // StompSubProtocolHandler 가 SockJS 세션에 보내는 TextMessage + SockJS 메시지 프레임
+        String text = new String(stompEncoder.encode(message), StandardCharsets.UTF_8);
+        return SockJsFrame.messageFrame(sockJsCodec, text).getContentBytes();
+    }
+}
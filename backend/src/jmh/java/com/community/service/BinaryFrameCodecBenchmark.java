@@ -0,0 +1,145 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.GameEventDto;
+import com.community.dto.GameTargetDto;
+import com.community.dto.PlayerPositionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON(Jackson) 과 binary-v1 인코딩 비용 비교 (메시지 하나 기준)
+ * - 위치 프레임: PositionFrameEncoder 로 만든 키프레임 / 변경분 프레임 (players 명)
+ * - 게임 이벤트: spawnTarget, aimTimer
+ * 프레임 크기(bytes)는 설정 단계에서 출력합니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=BinaryFrameCodecBenchmark (할당량까지: -PjmhProfilers=gc)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BinaryFrameCodecBenchmark {
+
+    @Param({"10", "50"})
+    public int players;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BinaryFrameCodec codec = new BinaryFrameCodec();
+
+    private CompactPositionFrameDto keyframe;
+    private CompactPositionFrameDto delta;
+    private GameEventDto spawnTarget;
+    private GameEventDto aimTimer;
+
+    @Setup(Level.Trial)
+    public void createMessages() throws IOException {
+        WorldStateService worldState = new WorldStateService();
+        PositionFrameEncoder encoder = new PositionFrameEncoder(worldState);
+        Random random = new Random(1);
+
+        List<PlayerPositionDto> positions = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            PlayerPositionDto position = new PlayerPositionDto();
+            position.setUserId("user-" + i);
+            position.setUsername("플레이어" + i);
+            position.setModelPath("/resources/Ultimate Animated Character Pack - Nov 2019/glTF/Worker_Male.gltf");
+            position.setX(random.nextDouble() * 200 - 100);
+            position.setY(0.0);
+            position.setZ(random.nextDouble() * 200 - 100);
+            position.setRotationY(random.nextDouble() * Math.PI * 2);
+            position.setAnimation(i % 3 == 0 ? "walk" : "idle");
+            worldState.updatePosition(position);
+            positions.add(position);
+        }
+        keyframe = encoder.encode(1, positions, true);
+
+        // 다음 틱: 절반이 조금씩 이동 (x/z/회전만 바뀜)
+        for (int i = 0; i < players; i += 2) {
+            PlayerPositionDto position = positions.get(i);
+            position.setX(position.getX() + 0.12);
+            position.setZ(position.getZ() - 0.08);
+            position.setRotationY(position.getRotationY() + 0.05);
+        }
+        delta = encoder.encode(2, positions, false);
+
+        spawnTarget = new GameEventDto();
+        spawnTarget.setRoomId("3f2b8c1e-9a47-4d0e-b5a2-7c61e0f4d913");
+        spawnTarget.setType("spawnTarget");
+        GameTargetDto target = new GameTargetDto();
+        target.setId("t-1700000000000-42");
+        target.setX(0.4312);
+        target.setY(0.7781);
+        target.setSize(0.06);
+        target.setCreatedAt(1_700_000_000_000L);
+        target.setDuration(1500);
+        spawnTarget.setTarget(target);
+        spawnTarget.setTimestamp(1_700_000_000_000L);
+
+        aimTimer = new GameEventDto();
+        aimTimer.setRoomId(spawnTarget.getRoomId());
+        aimTimer.setType("aimTimer");
+        aimTimer.setPayload("27");
+        aimTimer.setTimestamp(1_700_000_000_000L);
+
+        System.out.printf("%n[bytes] players=%d keyframe json=%d binary=%d | delta json=%d binary=%d"
+                        + " | spawnTarget json=%d binary=%d | aimTimer json=%d binary=%d%n",
+                players,
+                objectMapper.writeValueAsBytes(keyframe).length, codec.encodePositionFrame(keyframe).length,
+                objectMapper.writeValueAsBytes(delta).length, codec.encodePositionFrame(delta).length,
+                objectMapper.writeValueAsBytes(spawnTarget).length, codec.encodeGameEvent(spawnTarget).length,
+                objectMapper.writeValueAsBytes(aimTimer).length, codec.encodeGameEvent(aimTimer).length);
+    }
+
+    @Benchmark
+    public byte[] keyframeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(keyframe);
+    }
+
+    @Benchmark
+    public byte[] keyframeBinary() {
+        return codec.encodePositionFrame(keyframe);
+    }
+
+    @Benchmark
+    public byte[] deltaJson() throws IOException {
+        return objectMapper.writeValueAsBytes(delta);
+    }
+
+    @Benchmark
+    public byte[] deltaBinary() {
+        return codec.encodePositionFrame(delta);
+    }
+
+    @Benchmark
+    public byte[] spawnTargetJson() throws IOException {
+        return objectMapper.writeValueAsBytes(spawnTarget);
+    }
+
+    @Benchmark
+    public byte[] spawnTargetBinary() {
+        return codec.encodeGameEvent(spawnTarget);
+    }
+
+    @Benchmark
+    public byte[] aimTimerJson() throws IOException {
+        return objectMapper.writeValueAsBytes(aimTimer);
+    }
+
+    @Benchmark
+    public byte[] aimTimerBinary() {
+        return codec.encodeGameEvent(aimTimer);
+    }
+}
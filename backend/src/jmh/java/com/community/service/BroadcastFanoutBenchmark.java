@@ -0,0 +1,132 @@
+package com.community.service;
+
+import com.community.dto.ChatMessageDto;
+import com.community.dto.RoomDto;
+import com.community.dto.RoomListSnapshotDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 JSON 을 여러 세션에 보내는 비용 (수신자 subscribers 명에게 한 번 보내기 기준)
+ * - chatPerSessionConvert: 세션마다 convertAndSendToUser (세션마다 Jackson 변환, 기존 근거리 채팅 방식)
+ * - chatSerializeOnce: RealtimeMessagingService.sendToSessions (한 번 직렬화한 byte[] 공유)
+ * - roomListPerRequestConvert / roomListCached: 방 목록 요청 subscribers 번 (요청마다 변환 vs 버전별 캐시)
+ * 브로커 채널은 메시지를 버리므로 서버 쪽 변환/메시지 생성 비용만 잽니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=BroadcastFanoutBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BroadcastFanoutBenchmark {
+
+    private static final String CHAT_QUEUE = "/queue/chat";
+    private static final String ROOMS_QUEUE = "/queue/rooms";
+
+    @Param({"1000"})
+    public int subscribers;
+
+    private long sent;
+    private SimpMessagingTemplate messagingTemplate;
+    private RealtimeMessagingService realtimeMessaging;
+    private List<String> sessionIds;
+    private ChatMessageDto chat;
+    private RoomListSnapshotDto roomList;
+    private byte[] cachedRoomList;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        MappingJackson2MessageConverter jsonConverter = new MappingJackson2MessageConverter();
+        jsonConverter.setObjectMapper(objectMapper);
+
+        // 브로커 대신 메시지를 세기만 하는 채널
+        MessageChannel brokerChannel = (message, timeout) -> {
+            sent++;
+            return true;
+        };
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        messagingTemplate.setMessageConverter(new CompositeMessageConverter(List.of(
+                new StringMessageConverter(), new ByteArrayMessageConverter(), jsonConverter)));
+        realtimeMessaging = new RealtimeMessagingService(messagingTemplate, new BinaryFrameCodec(),
+                new SessionCodecRegistry(), objectMapper);
+
+        sessionIds = new ArrayList<>();
+        for (int i = 0; i < subscribers; i++) {
+            sessionIds.add("session-" + i);
+        }
+
+        chat = new ChatMessageDto();
+        chat.setUserId("user-17");
+        chat.setUsername("플레이어17");
+        chat.setMessage("안녕하세요! 광장 분수대 앞에서 만나요 :)");
+        chat.setTimestamp(1_700_000_000_000L);
+        chat.setScope("nearby");
+
+        List<RoomDto> rooms = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            RoomDto room = new RoomDto();
+            room.setRoomId("room-" + i);
+            room.setRoomName("개인 룸 " + i);
+            room.setHostId("user-" + i);
+            room.setHostName("플레이어" + i);
+            room.setMaxMembers(8);
+            room.setIsPrivate(i % 5 == 0);
+            room.setGpsLng(126.97 + i * 0.001);
+            room.setGpsLat(37.56 + i * 0.001);
+            room.setTimestamp(1_700_000_000_000L);
+            room.setMembers(i % 8);
+            rooms.add(room);
+        }
+        roomList = new RoomListSnapshotDto(42L, rooms);
+        cachedRoomList = realtimeMessaging.serialize(roomList);
+    }
+
+    @Benchmark
+    public long chatPerSessionConvert() {
+        for (String sessionId : sessionIds) {
+            realtimeMessaging.sendToSession(sessionId, CHAT_QUEUE, chat);
+        }
+        return sent;
+    }
+
+    @Benchmark
+    public long chatSerializeOnce() {
+        realtimeMessaging.sendToSessions(sessionIds, CHAT_QUEUE, chat);
+        return sent;
+    }
+
+    @Benchmark
+    public long roomListPerRequestConvert() {
+        for (String sessionId : sessionIds) {
+            realtimeMessaging.sendToSession(sessionId, ROOMS_QUEUE, roomList);
+        }
+        return sent;
+    }
+
+    @Benchmark
+    public long roomListCached() {
+        for (String sessionId : sessionIds) {
+            realtimeMessaging.sendSerializedToSession(sessionId, ROOMS_QUEUE, cachedRoomList);
+        }
+        return sent;
+    }
+}
@@ -0,0 +1,94 @@
+package com.community.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 끝말잇기 사전 조회 비용 (내장 DAWG, direct 버퍼)
+ * HashSet<String> 조회를 기준으로 단어 확인(있음/없음)과 시작 글자별 단어 수 조회를 잽니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=KoreanDictionaryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KoreanDictionaryBenchmark {
+
+    private KoreanDictionary dictionary;
+    private Set<String> hashSet;
+    private String[] words;
+    private String[] misses;
+    private String[] syllables;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void load() throws IOException {
+        byte[] bytes;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("dictionary/korean-words.dawg")) {
+            bytes = in.readAllBytes();
+        }
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        dictionary = KoreanDictionary.load(buffer);
+
+        // 한글 음절로 시작하는 단어 전체를 사전에서 꺼내 조회 대상으로 사용
+        List<String> all = new ArrayList<>();
+        List<String> starts = new ArrayList<>();
+        for (char syllable = '가'; syllable <= '힣'; syllable++) {
+            String prefix = String.valueOf(syllable);
+            int count = dictionary.countWithPrefix(prefix);
+            if (count > 0) {
+                starts.add(prefix);
+            }
+            for (int i = 0; i < count; i++) {
+                all.add(dictionary.wordWithPrefix(prefix, i));
+            }
+        }
+        words = all.toArray(new String[0]);
+        misses = all.stream().map(word -> word + "힣").toArray(String[]::new);
+        syllables = starts.toArray(new String[0]);
+        hashSet = new HashSet<>(all);
+    }
+
+    private int next(int length) {
+        int i = index++;
+        if (index == Integer.MAX_VALUE) {
+            index = 0;
+        }
+        return i % length;
+    }
+
+    @Benchmark
+    public boolean dawgContainsHit() {
+        return dictionary.contains(words[next(words.length)]);
+    }
+
+    @Benchmark
+    public boolean dawgContainsMiss() {
+        return dictionary.contains(misses[next(misses.length)]);
+    }
+
+    @Benchmark
+    public int dawgCountWithPrefix() {
+        return dictionary.countWithPrefix(syllables[next(syllables.length)]);
+    }
+
+    @Benchmark
+    public boolean hashSetContainsHit() {
+        return hashSet.contains(words[next(words.length)]);
+    }
+}
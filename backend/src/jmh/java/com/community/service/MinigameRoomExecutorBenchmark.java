@@ -0,0 +1,109 @@
+package com.community.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 방 이벤트 처리량: 방별 수신함(MinigameRoomExecutor) 과 전역 잠금(기존 synchronized handleHit) 비교
+ * 이벤트 BATCH 개를 rooms 개 방에 고르게 보내고 모두 끝날 때까지 기다립니다 (이벤트 하나 기준 처리량).
+ * - work=cpu: 이벤트마다 짧은 계산 (코어 수만큼 늘어남)
+ * - work=blocking: 이벤트마다 20us 대기 (전송 대기 등, 코어 수와 무관하게 전역 잠금은 한 번에 하나만 처리)
+ * 두 방식 모두 같은 수(poolSize)의 스레드를 씁니다.
+ * 실행: ./gradlew jmh -PjmhIncludes=MinigameRoomExecutorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MinigameRoomExecutorBenchmark {
+
+    private static final int BATCH = 1024;
+    private static final int POOL_SIZE = 4;
+
+    @Param({"1", "16", "256"})
+    public int rooms;
+
+    @Param({"cpu", "blocking"})
+    public String work;
+
+    private MinigameRoomExecutor roomExecutor;
+    private ExecutorService pool;
+    private final Object globalLock = new Object();
+    private String[] roomIds;
+    private boolean blocking;
+
+    @Setup(Level.Trial)
+    public void start() {
+        roomExecutor = new MinigameRoomExecutor();
+        ReflectionTestUtils.setField(roomExecutor, "mode", "pool");
+        ReflectionTestUtils.setField(roomExecutor, "poolSize", POOL_SIZE);
+        ReflectionTestUtils.setField(roomExecutor, "maxBatch", 32);
+        roomExecutor.start();
+
+        roomIds = new String[rooms];
+        for (int i = 0; i < rooms; i++) {
+            roomIds[i] = "room-" + i;
+            roomExecutor.register(roomIds[i]);
+        }
+        pool = Executors.newFixedThreadPool(POOL_SIZE);
+        blocking = "blocking".equals(work);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        roomExecutor.stop();
+        pool.shutdownNow();
+    }
+
+    private void handle() {
+        if (blocking) {
+            LockSupport.parkNanos(20_000);
+        } else {
+            Blackhole.consumeCPU(200);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void roomMailboxes() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            roomExecutor.execute(roomIds[i % rooms], () -> {
+                handle();
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void globalLock() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            pool.execute(() -> {
+                synchronized (globalLock) {
+                    handle();
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,152 @@
+package com.community.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오목 착수 + 5목 판정 비용 (수 하나 기준)
+ * 미리 만든 무작위 대국(판당 MOVES 수)을 처음부터 끝까지 두면서 매 수마다 승리 여부를 확인합니다.
+ * - bitboard: OmokBoard (마지막 수를 지나는 네 방향 9칸 시프트-AND)
+ * - arrayLastMove: int[15][15] 에서 마지막 수 기준 네 방향으로 같은 돌 세기 (흔한 구현)
+ * - arrayFullScan: int[15][15] 에서 매 수마다 판 전체의 5목 검사 (기존 클라이언트 방식)
+ * 실행: ./gradlew jmh -PjmhIncludes=OmokBoardBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OmokBoardBenchmark {
+
+    private static final int GAMES = 256;
+    private static final int MOVES = 120;
+    private static final int N = OmokBoard.SIZE;
+    private static final int[][] DIRECTIONS = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+
+    private int[][] games;
+    private int gameIndex;
+
+    @Setup(Level.Trial)
+    public void createGames() {
+        Random random = new Random(42);
+        games = new int[GAMES][];
+        for (int g = 0; g < GAMES; g++) {
+            OmokBoard board = new OmokBoard();
+            int[] moves = new int[MOVES];
+            for (int i = 0; i < MOVES; i++) {
+                moves[i] = board.randomEmptyCell(random);
+                board.place(moves[i], i % 2 == 0 ? OmokBoard.BLACK : OmokBoard.WHITE);
+            }
+            games[g] = moves;
+        }
+    }
+
+    private int[] nextGame() {
+        int[] game = games[gameIndex];
+        gameIndex = (gameIndex + 1) % GAMES;
+        return game;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int bitboard() {
+        int[] moves = nextGame();
+        OmokBoard board = new OmokBoard();
+        int wins = 0;
+        for (int i = 0; i < moves.length; i++) {
+            if (board.place(moves[i], i % 2 == 0 ? OmokBoard.BLACK : OmokBoard.WHITE)) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int arrayLastMove() {
+        int[] moves = nextGame();
+        int[][] board = new int[N][N];
+        int wins = 0;
+        for (int i = 0; i < moves.length; i++) {
+            int row = moves[i] / N;
+            int col = moves[i] % N;
+            int stone = i % 2 == 0 ? OmokBoard.BLACK : OmokBoard.WHITE;
+            board[row][col] = stone;
+            if (isFiveThrough(board, row, col, stone)) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MOVES)
+    public int arrayFullScan() {
+        int[] moves = nextGame();
+        int[][] board = new int[N][N];
+        int wins = 0;
+        for (int i = 0; i < moves.length; i++) {
+            int stone = i % 2 == 0 ? OmokBoard.BLACK : OmokBoard.WHITE;
+            board[moves[i] / N][moves[i] % N] = stone;
+            if (hasFive(board, stone)) {
+                wins++;
+            }
+        }
+        return wins;
+    }
+
+    private static boolean isFiveThrough(int[][] board, int row, int col, int stone) {
+        for (int[] d : DIRECTIONS) {
+            int count = 1 + count(board, row, col, d[0], d[1], stone) + count(board, row, col, -d[0], -d[1], stone);
+            if (count >= 5) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int count(int[][] board, int row, int col, int dr, int dc, int stone) {
+        int count = 0;
+        int r = row + dr;
+        int c = col + dc;
+        while (r >= 0 && r < N && c >= 0 && c < N && board[r][c] == stone) {
+            count++;
+            r += dr;
+            c += dc;
+        }
+        return count;
+    }
+
+    private static boolean hasFive(int[][] board, int stone) {
+        for (int row = 0; row < N; row++) {
+            for (int col = 0; col < N; col++) {
+                if (board[row][col] != stone) {
+                    continue;
+                }
+                for (int[] d : DIRECTIONS) {
+                    int k = 1;
+                    while (k < 5) {
+                        int r = row + d[0] * k;
+                        int c = col + d[1] * k;
+                        if (r < 0 || r >= N || c < 0 || c >= N || board[r][c] != stone) {
+                            break;
+                        }
+                        k++;
+                    }
+                    if (k == 5) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+package com.community.config;
+
+import com.community.service.BinaryFrameCodec;
+import com.community.service.SessionCodecRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+
+/**
+ * 세션별 바이너리 코덱 협상 및 적용
+ * - inbound: CONNECT 의 accept-codec 헤더에 binary-v1 이 있고 SockJS 가 아닌 세션을 바이너리로 등록
+ * - outbound: 바이너리 세션으로 가는 메시지에 미리 인코딩된 본문이 있으면 JSON 대신 그 본문을 전송
+ * SockJS 는 텍스트 프레임만 지원하므로 항상 JSON 을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BinaryCodecInterceptor implements ChannelInterceptor {
+
+    public static final String TRANSPORT_ATTRIBUTE = "transport";
+    public static final String TRANSPORT_SOCKJS = "sockjs";
+    public static final String TRANSPORT_NATIVE = "websocket";
+
+    private final SessionCodecRegistry sessionCodecRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        if (messageType == SimpMessageType.MESSAGE) {
+            return toBinaryIfNegotiated(message);
+        }
+
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.CONNECT) {
+            String acceptCodec = accessor.getFirstNativeHeader(BinaryFrameCodec.ACCEPT_CODEC_HEADER);
+            Map<String, Object> attributes = accessor.getSessionAttributes();
+            boolean sockJs = attributes != null && TRANSPORT_SOCKJS.equals(attributes.get(TRANSPORT_ATTRIBUTE));
+            if (acceptCodec != null && acceptCodec.contains(BinaryFrameCodec.CODEC_NAME) && !sockJs) {
+                sessionCodecRegistry.registerBinary(accessor.getSessionId());
+                log.debug("Binary codec negotiated: sessionId={}", accessor.getSessionId());
+            }
+        } else if (accessor.getCommand() == StompCommand.DISCONNECT) {
+            sessionCodecRegistry.remove(accessor.getSessionId());
+        }
+        return message;
+    }
+
+    private Message<?> toBinaryIfNegotiated(Message<?> message) {
+        Object binaryPayload = message.getHeaders().get(BinaryFrameCodec.BINARY_PAYLOAD_HEADER);
+        if (!(binaryPayload instanceof byte[] bytes)) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (!sessionCodecRegistry.isBinary(sessionId)) {
+            return message;
+        }
+
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        accessor.removeHeader(BinaryFrameCodec.BINARY_PAYLOAD_HEADER);
+        return MessageBuilder.createMessage(bytes, accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,48 @@
+package com.community.config;
+
+/**
+ * 지표 태그용 destination 정규화
+ * 방 ID/사용자 ID 처럼 값마다 달라지는 부분을 묶어 태그 종류가 늘어나지 않게 합니다.
+ * - /queue/positions-user{sessionId} -> /queue/positions
+ * - /topic/room/room_123/positions -> /topic/room/{id}/positions
+ */
+final class DestinationTags {
+
+    private static final int MAX_SEGMENTS = 4;
+
+    private DestinationTags() {
+    }
+
+    static String of(String destination) {
+        if (destination == null || destination.isEmpty()) {
+            return "none";
+        }
+        String[] segments = destination.split("/");
+        StringBuilder tag = new StringBuilder();
+        int count = 0;
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (count++ == MAX_SEGMENTS) {
+                break;
+            }
+            // 사용자 목적지가 세션별로 바뀐 이름 (UserDestinationResolver)
+            int userSuffix = segment.indexOf("-user");
+            if (userSuffix > 0) {
+                segment = segment.substring(0, userSuffix);
+            }
+            tag.append('/').append(containsDigit(segment) ? "{id}" : segment);
+        }
+        return tag.length() > 0 ? tag.toString() : "none";
+    }
+
+    private static boolean containsDigit(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            if (Character.isDigit(segment.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,143 @@
+package com.community.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.annotation.support.SimpAnnotationMethodMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 클라이언트 -> 서버 STOMP 지표 (/actuator/prometheus)
+ * - websocket.inbound.messages: 수신 프레임 수 (command, destination)
+ * - websocket.subscriptions: destination 별 현재 구독 수 (topic fan-out 크기)
+ * - websocket.handler.latency: @MessageMapping 핸들러 처리 시간 (destination, 히스토그램)
+ * 다른 인터셉터가 메시지를 소비하기 전에 세도록 인바운드 인터셉터 중 가장 앞에 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InboundMetricsInterceptor implements ExecutorChannelInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    // sessionId -> (subscriptionId -> destination 태그)
+    private final Map<String, Map<String, String>> subscriptions = new ConcurrentHashMap<>();
+
+    // destination 태그 -> 현재 구독 수
+    private final Map<String, AtomicInteger> subscriptionCounts = new ConcurrentHashMap<>();
+
+    // 핸들러 시작 시각 (인바운드 실행 스레드별)
+    private final ThreadLocal<Long> handleStartNanos = new ThreadLocal<>();
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        String destination = command == StompCommand.SEND ? DestinationTags.of(accessor.getDestination()) : "none";
+        Counter.builder("websocket.inbound.messages")
+                .tag("command", command.name())
+                .tag("destination", destination)
+                .register(meterRegistry)
+                .increment();
+
+        String sessionId = accessor.getSessionId();
+        if (sessionId != null) {
+            switch (command) {
+                case SUBSCRIBE -> subscribe(sessionId, accessor.getSubscriptionId(), accessor.getDestination());
+                case UNSUBSCRIBE -> unsubscribe(sessionId, accessor.getSubscriptionId());
+                case DISCONNECT -> removeSession(sessionId);
+                default -> {
+                }
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        if (handler instanceof SimpAnnotationMethodMessageHandler) {
+            handleStartNanos.set(System.nanoTime());
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler,
+                                    Exception ex) {
+        if (!(handler instanceof SimpAnnotationMethodMessageHandler)) {
+            return;
+        }
+        Long start = handleStartNanos.get();
+        handleStartNanos.remove();
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (start == null || accessor == null || accessor.getCommand() != StompCommand.SEND) {
+            return;
+        }
+        Timer.builder("websocket.handler.latency")
+                .tag("destination", DestinationTags.of(accessor.getDestination()))
+                .tag("outcome", ex == null ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        if (subscriptionId == null) {
+            return;
+        }
+        String tag = DestinationTags.of(destination);
+        String previous = subscriptions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, tag);
+        if (previous != null) {
+            countFor(previous).decrementAndGet();
+        }
+        countFor(tag).incrementAndGet();
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, String> sessionSubscriptions = subscriptions.get(sessionId);
+        if (sessionSubscriptions == null || subscriptionId == null) {
+            return;
+        }
+        String tag = sessionSubscriptions.remove(subscriptionId);
+        if (tag != null) {
+            countFor(tag).decrementAndGet();
+        }
+    }
+
+    // 세션 종료 시 남은 구독 정리 (연결이 그냥 끊겨도 DISCONNECT 메시지가 인바운드 채널로 전달됨)
+    private void removeSession(String sessionId) {
+        Map<String, String> sessionSubscriptions = subscriptions.remove(sessionId);
+        if (sessionSubscriptions != null) {
+            sessionSubscriptions.values().forEach(tag -> countFor(tag).decrementAndGet());
+        }
+    }
+
+    private AtomicInteger countFor(String tag) {
+        return subscriptionCounts.computeIfAbsent(tag, key -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder("websocket.subscriptions", count, AtomicInteger::get)
+                    .tag("destination", key)
+                    .description("Current STOMP subscriptions per destination")
+                    .register(meterRegistry);
+            return count;
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.community.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 -> 클라이언트 STOMP 지표 (/actuator/prometheus)
+ * - websocket.outbound.messages: 세션별로 나가는 메시지 수 (destination)
+ * - websocket.outbound.bytes: 메시지 본문 크기 (destination)
+ * 아웃바운드 채널에는 구독자 한 명당 메시지 하나가 지나가므로 위치/타이머/채팅 중 어느 기능이 전송량을 차지하는지 보입니다.
+ * 생략/코덱 변환이 끝난 실제 본문을 세도록 아웃바운드 인터셉터 중 가장 뒤에 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboundMetricsInterceptor implements ChannelInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+
+        String destination = DestinationTags.of(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+        Counter.builder("websocket.outbound.messages")
+                .tag("destination", destination)
+                .register(meterRegistry)
+                .increment();
+        if (message.getPayload() instanceof byte[] payload) {
+            DistributionSummary.builder("websocket.outbound.bytes")
+                    .baseUnit("bytes")
+                    .tag("destination", destination)
+                    .register(meterRegistry)
+                    .record(payload.length);
+        }
+        return message;
+    }
+}
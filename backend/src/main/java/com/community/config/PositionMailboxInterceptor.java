@@ -0,0 +1,46 @@
+package com.community.config;
+
+import com.community.service.PositionMailbox;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * /app/player.position 메시지를 인바운드 스레드 풀에 넣기 전에 PositionMailbox 로 보냄
+ * 웹소켓 수신 스레드에서 바로 처리되므로 컨트롤러 호출과 인바운드 채널 작업이 생기지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PositionMailboxInterceptor implements ChannelInterceptor {
+
+    private static final String POSITION_DESTINATION = "/app/player.position";
+
+    private final PositionMailbox positionMailbox;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (accessor.getCommand() == StompCommand.SEND
+                && positionMailbox.isEnabled()
+                && POSITION_DESTINATION.equals(accessor.getDestination())
+                && message.getPayload() instanceof byte[] payload) {
+            // 최신 값만 보관하고 메시지는 여기서 소비 (null 반환 시 채널로 전달되지 않음)
+            positionMailbox.offer(accessor.getSessionId(), payload);
+            return null;
+        }
+
+        if (accessor.getCommand() == StompCommand.DISCONNECT) {
+            positionMailbox.remove(accessor.getSessionId());
+        }
+        return message;
+    }
+}
@@ -0,0 +1,35 @@
+package com.community.config;
+
+import com.community.service.PresenceHeartbeatTracker;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 프레임 수신 시각을 PresenceHeartbeatTracker 에 기록
+ * heartbeat 를 포함한 모든 프레임은 연결 유지로, SEND(MESSAGE) 프레임은 사용자 활동으로 봅니다.
+ */
+@Component
+public class PresenceHeartbeatInterceptor implements ChannelInterceptor {
+
+    private final PresenceHeartbeatTracker presenceHeartbeatTracker;
+
+    // 트래커가 브로커 메시징 템플릿에 의존하므로 순환 참조를 피하려고 지연 주입
+    public PresenceHeartbeatInterceptor(@Lazy PresenceHeartbeatTracker presenceHeartbeatTracker) {
+        this.presenceHeartbeatTracker = presenceHeartbeatTracker;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            SimpMessageType messageType = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+            presenceHeartbeatTracker.touch(sessionId, messageType == SimpMessageType.MESSAGE);
+        }
+        return message;
+    }
+}
@@ -46,7 +46,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/users/**").permitAll() // 사용자 API 허용
                         .requestMatchers("/resources/**").permitAll() // 이미지 리소스 허용 추가
                         .requestMatchers("/ws/**").permitAll() // WebSocket endpoints
+                        .requestMatchers("/ws-native/**").permitAll() // Native WebSocket endpoint (SockJS 미사용)
                         .requestMatchers("/actuator/health/**").permitAll() // Health check endpoint
+                        .requestMatchers("/actuator/prometheus").permitAll() // Prometheus scrape endpoint (내부망에서만 노출)
                         .anyRequest().authenticated())
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
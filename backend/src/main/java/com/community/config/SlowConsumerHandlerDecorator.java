@@ -0,0 +1,53 @@
+package com.community.config;
+
+import com.community.service.SlowConsumerRegistry;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+
+/**
+ * 웹소켓 세션의 실제 전송 시간을 SlowConsumerRegistry 에 기록하는 핸들러 데코레이터
+ */
+public class SlowConsumerHandlerDecorator extends WebSocketHandlerDecorator {
+
+    private final SlowConsumerRegistry slowConsumerRegistry;
+
+    public SlowConsumerHandlerDecorator(WebSocketHandler delegate, SlowConsumerRegistry slowConsumerRegistry) {
+        super(delegate);
+        this.slowConsumerRegistry = slowConsumerRegistry;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        super.afterConnectionEstablished(new SendTimingSession(session));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        // 전송 시간/버퍼 한도 초과로 끊긴 세션은 SESSION_NOT_RELIABLE 로 종료됨
+        slowConsumerRegistry.remove(session.getId(), CloseStatus.SESSION_NOT_RELIABLE.equals(closeStatus));
+        super.afterConnectionClosed(session, closeStatus);
+    }
+
+    private class SendTimingSession extends WebSocketSessionDecorator {
+
+        SendTimingSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            slowConsumerRegistry.sendStarted(getId());
+            try {
+                super.sendMessage(message);
+            } finally {
+                slowConsumerRegistry.sendFinished(getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.community.config;
+
+import com.community.service.SlowConsumerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저하된(느린) 세션으로 가는 위치 프레임을 outbound 채널에서 버림
+ * 위치는 다음 프레임/키프레임이 대체하므로 버려도 되지만, 채팅/게임 이벤트는 그대로 전송합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SlowConsumerInterceptor implements ChannelInterceptor {
+
+    private final SlowConsumerRegistry slowConsumerRegistry;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        if (sessionId != null && isPositionDestination(destination) && slowConsumerRegistry.isDegraded(sessionId)) {
+            slowConsumerRegistry.recordSkippedFrame();
+            return null;
+        }
+        return message;
+    }
+
+    private boolean isPositionDestination(String destination) {
+        if (destination == null) {
+            return false;
+        }
+        return destination.startsWith("/topic/positions")
+                || destination.startsWith("/queue/positions")
+                || destination.startsWith("/user/queue/positions")
+                || (destination.startsWith("/topic/room/") && destination.endsWith("/positions"));
+    }
+}
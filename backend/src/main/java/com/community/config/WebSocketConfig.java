@@ -1,20 +1,139 @@
 package com.community.config;
 
+import com.community.service.SlowConsumerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.SimpleBrokerRegistration;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final BinaryCodecInterceptor binaryCodecInterceptor;
+    private final PositionMailboxInterceptor positionMailboxInterceptor;
+    private final SlowConsumerInterceptor slowConsumerInterceptor;
+    private final SlowConsumerRegistry slowConsumerRegistry;
+    private final PresenceHeartbeatInterceptor presenceHeartbeatInterceptor;
+    private final InboundMetricsInterceptor inboundMetricsInterceptor;
+    private final OutboundMetricsInterceptor outboundMetricsInterceptor;
+
+    // 내장 브로커 heartbeat 용 스케줄러 (Spring 이 만드는 messageBrokerTaskScheduler)
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // 서버 <-> 클라이언트 STOMP heartbeat 간격 (0 이면 사용 안 함)
+    @Value("${realtime.websocket.heartbeat-ms:10000}")
+    private long heartbeatMs;
+
+    // 클라이언트 -> 서버 메시지 처리 스레드 풀
+    @Value("${realtime.websocket.inbound.core-pool-size:4}")
+    private int inboundCorePoolSize;
+
+    @Value("${realtime.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @Value("${realtime.websocket.inbound.queue-capacity:1000}")
+    private int inboundQueueCapacity;
+
+    // 서버 -> 클라이언트 메시지 전송 스레드 풀
+    @Value("${realtime.websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @Value("${realtime.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${realtime.websocket.outbound.queue-capacity:1000}")
+    private int outboundQueueCapacity;
+
+    // 세션 하나의 전송이 이 시간을 넘기거나 버퍼가 가득 차면 연결 종료
+    @Value("${realtime.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${realtime.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${realtime.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // simple: JVM 내장 브로커 (단일 인스턴스), relay: 외부 STOMP 브로커 중계 (여러 인스턴스)
+    @Value("${realtime.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${realtime.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${realtime.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${realtime.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+
+    @Value("${realtime.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+
+    @Value("${realtime.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+
+    @Value("${realtime.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
+
+    @Value("${realtime.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // 외부 브로커가 구독을 관리하므로 어느 노드에서 보낸 메시지든 모든 구독자에게 전달됨
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayClientLogin)
+                    .setClientPasscode(relayClientPasscode)
+                    .setSystemLogin(relaySystemLogin)
+                    .setSystemPasscode(relaySystemPasscode)
+                    // 다른 노드에 연결된 세션의 /user/... 목적지도 해석되도록 사용자 레지스트리 공유
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            config.setApplicationDestinationPrefixes("/app");
+            return;
+        }
+
         // Enable a simple memory-based message broker to send messages to clients
         // Prefix for messages FROM server TO client
-        config.enableSimpleBroker("/topic", "/queue");
+        SimpleBrokerRegistration simpleBroker = config.enableSimpleBroker("/topic", "/queue");
+        if (heartbeatMs > 0) {
+            // heartbeat 로 끊긴 연결을 감지하고 PresenceHeartbeatTracker 가 연결 유지 여부를 판단
+            simpleBroker.setHeartbeatValue(new long[] {heartbeatMs, heartbeatMs})
+                    .setTaskScheduler(messageBrokerTaskScheduler);
+        }
 
         // Prefix for messages FROM client TO server
         config.setApplicationDestinationPrefixes("/app");
@@ -25,6 +144,79 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         // Register STOMP endpoint that clients will connect to
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("*") // Allow all origins for development
+                .addInterceptors(transportMarker(BinaryCodecInterceptor.TRANSPORT_SOCKJS))
                 .withSockJS(); // Enable SockJS fallback options
+
+        // 순수 WebSocket 엔드포인트 (SockJS 프레이밍/폴링 없음, 최신 브라우저 기본 경로)
+        registry.addEndpoint("/ws-native")
+                .setAllowedOriginPatterns("*")
+                .addInterceptors(transportMarker(BinaryCodecInterceptor.TRANSPORT_NATIVE));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                // 세션별 전송 시간 기록 (느린 수신자 감지)
+                .addDecoratorFactory(handler -> new SlowConsumerHandlerDecorator(handler, slowConsumerRegistry));
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        // 큐가 가득 차면 수신 스레드가 직접 처리 (클라이언트 수신 속도를 늦추는 back-pressure)
+        registration.taskExecutor(createExecutor("ws-inbound-", inboundCorePoolSize, inboundMaxPoolSize,
+                inboundQueueCapacity, new ThreadPoolExecutor.CallerRunsPolicy()));
+
+        // 수신 지표 (다른 인터셉터가 소비하기 전에 집계)
+        // 프레임 수신 시각 기록 (heartbeat/유휴 상태 판단)
+        // 위치 업데이트는 세션별 최신 값만 수신함에 보관 (컨트롤러 호출 생략)
+        // 바이너리 코덱 협상 (CONNECT accept-codec 헤더)
+        registration.interceptors(inboundMetricsInterceptor, presenceHeartbeatInterceptor, positionMailboxInterceptor,
+                binaryCodecInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 큐가 가득 차면 보내는 스레드가 직접 전송 (채팅/게임 이벤트를 조용히 잃지 않도록)
+        // 느린 세션 하나는 send-time-limit/send-buffer-size-limit 과 SlowConsumerInterceptor 가 따로 걸러내므로
+        // 여기서는 서버 전체가 밀릴 때만 발행 쪽 속도를 늦춥니다.
+        registration.taskExecutor(createExecutor("ws-outbound-", outboundCorePoolSize, outboundMaxPoolSize,
+                outboundQueueCapacity, new ThreadPoolExecutor.CallerRunsPolicy()));
+
+        // 느린 세션에는 위치 프레임 생략
+        // 바이너리 코덱 세션에는 미리 인코딩된 바이너리 본문 전송
+        // 송신 지표 (실제로 나가는 본문 기준)
+        registration.interceptors(slowConsumerInterceptor, binaryCodecInterceptor, outboundMetricsInterceptor);
+    }
+
+    private ThreadPoolTaskExecutor createExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize,
+                                                  int queueCapacity, RejectedExecutionHandler policy) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(Math.max(corePoolSize, maxPoolSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(policy));
+        return executor;
+    }
+
+    /**
+     * 핸드셰이크 시 전송 방식을 세션 속성에 기록 (SockJS 세션은 바이너리 코덱 사용 불가)
+     */
+    private HandshakeInterceptor transportMarker(String transport) {
+        return new HandshakeInterceptor() {
+            @Override
+            public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                           WebSocketHandler wsHandler, Map<String, Object> attributes) {
+                attributes.put(BinaryCodecInterceptor.TRANSPORT_ATTRIBUTE, transport);
+                return true;
+            }
+
+            @Override
+            public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                       WebSocketHandler wsHandler, Exception exception) {
+            }
+        };
     }
 }
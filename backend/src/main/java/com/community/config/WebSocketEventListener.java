@@ -1,28 +1,37 @@
 package com.community.config;
 
 import com.community.dto.PlayerJoinDto;
-import com.community.dto.RoomDto;
 import com.community.service.ActiveUserService;
+import com.community.service.AreaOfInterestService;
+import com.community.service.BlockingTaskExecutor;
 import com.community.service.PersonalRoomService;
+import com.community.service.PositionMailbox;
+import com.community.service.PresenceAggregator;
+import com.community.service.PresenceHeartbeatTracker;
+import com.community.service.ProximityChatService;
+import com.community.service.WorldStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.messaging.SessionConnectedEvent;
 import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketEventListener {
 
-    private final SimpMessageSendingOperations messagingTemplate;
     private final ActiveUserService activeUserService;
     private final PersonalRoomService personalRoomService;
+    private final WorldStateService worldStateService;
+    private final AreaOfInterestService areaOfInterestService;
+    private final PresenceAggregator presenceAggregator;
+    private final PresenceHeartbeatTracker presenceHeartbeatTracker;
+    private final ProximityChatService proximityChatService;
+    private final PositionMailbox positionMailbox;
+    private final BlockingTaskExecutor blockingTaskExecutor;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
@@ -46,18 +55,19 @@ public class WebSocketEventListener {
             // ActiveUserService에 등록 (username 포함)
             activeUserService.addUser(userId, sessionId, username);
             
-            // 접속 알림 브로드캐스트
-            PlayerJoinDto joinDto = new PlayerJoinDto();
-            joinDto.setUserId(userId);
-            joinDto.setUsername(username);
-            joinDto.setAction("join");
-            joinDto.setTimestamp(System.currentTimeMillis());
-
-            messagingTemplate.convertAndSend("/topic/players", joinDto);
-             
-            // 온라인 인원 수 업데이트
-            messagingTemplate.convertAndSend("/topic/online-count",
-                    activeUserService.getActiveUserCount());
+            // 접속 알림 브로드캐스트 (묶음 전송, 관심 영역 모드에서는 위치 프레임으로 주변에만 전달)
+            if (!areaOfInterestService.isEnabled()) {
+                PlayerJoinDto joinDto = new PlayerJoinDto();
+                joinDto.setUserId(userId);
+                joinDto.setUsername(username);
+                joinDto.setAction("join");
+                joinDto.setTimestamp(System.currentTimeMillis());
+
+                presenceAggregator.recordJoin(joinDto);
+            }
+
+            // 온라인 인원 수 업데이트 (묶음 전송)
+            presenceAggregator.markCountChanged();
         }
     }
 
@@ -78,35 +88,68 @@ public class WebSocketEventListener {
         if (username != null && userId != null) {
             log.info("User Disconnected : " + username);
 
-            // ActiveUserService에서 사용자 제거
             String sessionId = headerAccessor.getSessionId();
             if (sessionId != null) {
-                activeUserService.removeUserBySession(sessionId);
-                log.info("Removed user {} from active users. Current count: {}",
-                        userId, activeUserService.getActiveUserCount());
+                presenceHeartbeatTracker.remove(sessionId);
             }
+            cleanupUser(sessionId, userId, username);
+        }
+    }
+
+    /**
+     * heartbeat 가 끊긴 채 접속 종료 이벤트가 오지 않은 세션 정리
+     */
+    @EventListener
+    public void handleGhostSession(PresenceHeartbeatTracker.GhostSession ghost) {
+        // 이미 다른 세션으로 재접속했으면 현재 세션의 상태는 건드리지 않음
+        if (!ghost.userId().equals(activeUserService.getUserIdBySession(ghost.sessionId()))) {
+            return;
+        }
+        log.info("Ghost session reaped : " + ghost.username());
+        cleanupUser(ghost.sessionId(), ghost.userId(), ghost.username());
+    }
 
-            // 개인 룸은 호스트가 나가도 삭제하지 않음 (명시적인 삭제 요청 시에만 삭제)
-            // 방은 DB에 영구 저장되어 호스트가 다시 접속하면 기존 방을 사용할 수 있음
-            log.info("User {} disconnected but personal room preserved (if any)", userId);
+    private void cleanupUser(String sessionId, String userId, String username) {
+        // ActiveUserService에서 사용자 제거
+        if (sessionId != null) {
+            activeUserService.removeUserBySession(sessionId);
+            log.info("Removed user {} from active users. Current count: {}",
+                    userId, activeUserService.getActiveUserCount());
+        }
+
+        // 처리되지 않은 위치 업데이트 제거 (DISCONNECT 프레임보다 이 이벤트가 먼저 오고, ghost 정리는 프레임이 없음)
+        if (sessionId != null) {
+            positionMailbox.remove(sessionId);
+        }
+
+        // 월드 상태에서 위치 제거 (다음 스냅샷부터 제외)
+        worldStateService.removePlayer(userId);
+        proximityChatService.removeUser(userId);
+
+        // 개인 룸은 호스트가 나가도 삭제하지 않음 (명시적인 삭제 요청 시에만 삭제)
+        // 방은 DB에 영구 저장되어 호스트가 다시 접속하면 기존 방을 사용할 수 있음
+        log.info("User {} disconnected but personal room preserved (if any)", userId);
 
-            // 다른 플레이어들에게 퇴장 알림
+        // 다른 플레이어들에게 퇴장 알림 (묶음 전송, 관심 영역 모드에서는 위치 프레임으로 주변에만 전달)
+        if (!areaOfInterestService.isEnabled()) {
             PlayerJoinDto leaveDto = new PlayerJoinDto();
             leaveDto.setUserId(userId);
             leaveDto.setUsername(username);
             leaveDto.setAction("leave");
             leaveDto.setTimestamp(System.currentTimeMillis());
 
-            messagingTemplate.convertAndSend("/topic/players", leaveDto);
-
-            // 온라인 인원 수 업데이트 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/online-count",
-                    activeUserService.getActiveUserCount());
-            
-            // 개인방 목록 업데이트 브로드캐스트 (오프라인된 호스트의 방 제거)
-            List<RoomDto> updatedRooms = personalRoomService.getAllRooms();
-            messagingTemplate.convertAndSend("/topic/rooms/list", updatedRooms);
-            log.info("방 목록 업데이트 브로드캐스트 (사용자 해제): {} rooms", updatedRooms.size());
+            presenceAggregator.recordLeave(leaveDto);
         }
+
+        // 온라인 인원 수 업데이트 브로드캐스트 (묶음 전송)
+        presenceAggregator.markCountChanged();
+
+        // 개인방 목록 변경분 브로드캐스트 (오프라인된 호스트의 방 숨김, DB 조회가 있어 블로킹 작업 실행기에서 처리)
+        // 실행 전에 다시 접속했으면 입장 쪽 host-online 결과를 덮어쓰지 않음
+        blockingTaskExecutor.execute("host-offline", () -> {
+            if (!activeUserService.isUserActive(userId)) {
+                personalRoomService.updateHostPresence(userId, false);
+            }
+        });
     }
 }
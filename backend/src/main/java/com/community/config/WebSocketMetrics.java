@@ -0,0 +1,145 @@
+package com.community.config;
+
+import com.community.service.BlockingTaskExecutor;
+import com.community.service.MinigameRoomExecutor;
+import com.community.service.PositionMailbox;
+import com.community.service.PresenceHeartbeatTracker;
+import com.community.service.SlowConsumerRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionHandler;
+
+/**
+ * STOMP 채널 스레드 풀과 느린 수신자 지표 등록 (/actuator/metrics, /actuator/prometheus)
+ * - websocket.executor.queue.size / active / pool.size / rejected (channel=inbound|outbound)
+ * - websocket.slow-consumer.degraded / skipped.frames / evicted
+ * - realtime.position.mailbox.accepted / coalesced / dropped
+ * - realtime.blocking.permits.available / waiting / completed / failed
+ * - realtime.presence.tracked.sessions
+ * - realtime.minigame.rooms / queued / completed / failed
+ * 메시지 수/크기/핸들러 시간은 InboundMetricsInterceptor, OutboundMetricsInterceptor 에서 기록합니다.
+ */
+@Component
+public class WebSocketMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final SlowConsumerRegistry slowConsumerRegistry;
+    private final ThreadPoolTaskExecutor clientInboundChannelExecutor;
+    private final ThreadPoolTaskExecutor clientOutboundChannelExecutor;
+    private final PositionMailbox positionMailbox;
+    private final BlockingTaskExecutor blockingTaskExecutor;
+    private final PresenceHeartbeatTracker presenceHeartbeatTracker;
+    private final MinigameRoomExecutor minigameRoomExecutor;
+
+    public WebSocketMetrics(MeterRegistry meterRegistry,
+                            SlowConsumerRegistry slowConsumerRegistry,
+                            @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor clientInboundChannelExecutor,
+                            @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor clientOutboundChannelExecutor,
+                            PositionMailbox positionMailbox,
+                            BlockingTaskExecutor blockingTaskExecutor,
+                            @Lazy PresenceHeartbeatTracker presenceHeartbeatTracker,
+                            MinigameRoomExecutor minigameRoomExecutor) {
+        this.meterRegistry = meterRegistry;
+        this.slowConsumerRegistry = slowConsumerRegistry;
+        this.clientInboundChannelExecutor = clientInboundChannelExecutor;
+        this.clientOutboundChannelExecutor = clientOutboundChannelExecutor;
+        this.positionMailbox = positionMailbox;
+        this.blockingTaskExecutor = blockingTaskExecutor;
+        this.presenceHeartbeatTracker = presenceHeartbeatTracker;
+        this.minigameRoomExecutor = minigameRoomExecutor;
+    }
+
+    @PostConstruct
+    public void registerMetrics() {
+        registerExecutor("inbound", clientInboundChannelExecutor);
+        registerExecutor("outbound", clientOutboundChannelExecutor);
+
+        Gauge.builder("websocket.slow-consumer.degraded", slowConsumerRegistry,
+                        SlowConsumerRegistry::getDegradedSessionCount)
+                .description("Sessions currently skipping position frames")
+                .register(meterRegistry);
+        FunctionCounter.builder("websocket.slow-consumer.skipped.frames", slowConsumerRegistry,
+                        SlowConsumerRegistry::getSkippedFrameCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("websocket.slow-consumer.degrade.events", slowConsumerRegistry,
+                        SlowConsumerRegistry::getDegradeEventCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("websocket.slow-consumer.evicted", slowConsumerRegistry,
+                        SlowConsumerRegistry::getEvictedSessionCount)
+                .register(meterRegistry);
+
+        FunctionCounter.builder("realtime.position.mailbox.accepted", positionMailbox,
+                        PositionMailbox::getAcceptedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.position.mailbox.coalesced", positionMailbox,
+                        PositionMailbox::getCoalescedCount)
+                .description("Position updates replaced before the next tick")
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.position.mailbox.dropped", positionMailbox,
+                        PositionMailbox::getDroppedCount)
+                .description("Position updates dropped by the per-session rate limit")
+                .register(meterRegistry);
+
+        Gauge.builder("realtime.blocking.permits.available", blockingTaskExecutor,
+                        BlockingTaskExecutor::getAvailablePermits)
+                .register(meterRegistry);
+        Gauge.builder("realtime.blocking.waiting", blockingTaskExecutor, BlockingTaskExecutor::getWaitingCount)
+                .description("Blocking handler tasks waiting for a database permit")
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.blocking.completed", blockingTaskExecutor,
+                        BlockingTaskExecutor::getCompletedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.blocking.failed", blockingTaskExecutor,
+                        BlockingTaskExecutor::getFailedCount)
+                .register(meterRegistry);
+
+        Gauge.builder("realtime.presence.tracked.sessions", presenceHeartbeatTracker,
+                        PresenceHeartbeatTracker::getTrackedSessionCount)
+                .register(meterRegistry);
+
+        Gauge.builder("realtime.minigame.rooms", minigameRoomExecutor, MinigameRoomExecutor::getRoomCount)
+                .description("Minigame rooms with an event mailbox")
+                .register(meterRegistry);
+        Gauge.builder("realtime.minigame.queued", minigameRoomExecutor, MinigameRoomExecutor::getQueuedCount)
+                .description("Minigame room events waiting for their room executor")
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.minigame.completed", minigameRoomExecutor,
+                        MinigameRoomExecutor::getCompletedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.minigame.failed", minigameRoomExecutor,
+                        MinigameRoomExecutor::getFailedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.minigame.dropped", minigameRoomExecutor,
+                        MinigameRoomExecutor::getDroppedCount)
+                .description("Minigame room events dropped because the room no longer exists")
+                .register(meterRegistry);
+    }
+
+    private void registerExecutor(String channel, ThreadPoolTaskExecutor executor) {
+        Gauge.builder("websocket.executor.queue.size", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("channel", channel)
+                .register(meterRegistry);
+        FunctionCounter.builder("websocket.executor.rejected", executor, WebSocketMetrics::rejectedCount)
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    private static double rejectedCount(ThreadPoolTaskExecutor executor) {
+        RejectedExecutionHandler handler = executor.getThreadPoolExecutor().getRejectedExecutionHandler();
+        return handler instanceof CountingRejectedExecutionHandler counting ? counting.getRejectedCount() : 0;
+    }
+}
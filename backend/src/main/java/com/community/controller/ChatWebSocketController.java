@@ -1,6 +1,7 @@
 package com.community.controller;
 
 import com.community.dto.ChatRoomMessageRequest;
+import com.community.service.BlockingTaskExecutor;
 import com.community.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -17,6 +18,7 @@ public class ChatWebSocketController {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ChatService chatService;
+    private final BlockingTaskExecutor blockingTaskExecutor;
 
     /**
      * 채팅방 메시지 전송 (WebSocket)
@@ -41,13 +43,16 @@ public class ChatWebSocketController {
 
         System.out.println("✅ WebSocket Message Received - Room: " + request.getRoomId() + ", User: " + userId + ", Content: " + request.getContent());
 
-        try {
-            // 메시지 저장 및 브로드캐스트
-            chatService.sendMessage(request.getRoomId(), userId, request.getContent());
-        } catch (Exception e) {
-            System.err.println("❌ Failed to process message: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // 메시지 저장 및 브로드캐스트 (DB 트랜잭션이므로 블로킹 작업 실행기에서 처리)
+        Long senderId = userId;
+        blockingTaskExecutor.execute("chat-send", () -> {
+            try {
+                chatService.sendMessage(request.getRoomId(), senderId, request.getContent());
+            } catch (Exception e) {
+                System.err.println("❌ Failed to process message: " + e.getMessage());
+                e.printStackTrace();
+            }
+        });
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.community.controller;
 
 import com.community.dto.*;
+import com.community.service.MinigameRoomExecutor;
 import com.community.service.MinigameRoomService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +10,10 @@ import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Controller;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @RequiredArgsConstructor
@@ -17,6 +21,7 @@ import java.util.List;
 public class MinigameController {
 
     private final MinigameRoomService roomService;
+    private final MinigameRoomExecutor roomExecutor;
     private final SimpMessageSendingOperations messagingTemplate;
 
     /**
@@ -54,8 +59,22 @@ public class MinigameController {
      */
     @MessageMapping("/minigame.rooms.list")
     public void getRoomsList() {
-        List<MinigameRoomDto> rooms = roomService.getAllRooms();
-        messagingTemplate.convertAndSend("/topic/minigame/rooms-list", rooms);
+        // 방마다 그 방의 실행기에서 복사본을 만들고, 모두 모이면 전송 (실행기가 바꾸는 중인 방을 직렬화하지 않도록)
+        List<CompletableFuture<MinigameRoomDto>> snapshots = new ArrayList<>();
+        for (String roomId : roomService.getRoomIds()) {
+            CompletableFuture<MinigameRoomDto> snapshot = new CompletableFuture<>();
+            roomExecutor.execute(roomId,
+                    () -> snapshot.complete(roomService.snapshotRoom(roomId)),
+                    () -> snapshot.complete(null));
+            snapshots.add(snapshot);
+        }
+        CompletableFuture.allOf(snapshots.toArray(new CompletableFuture[0])).thenRun(() -> {
+            List<MinigameRoomDto> rooms = snapshots.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .toList();
+            messagingTemplate.convertAndSend("/topic/minigame/rooms-list", rooms);
+        });
     }
 
     /**
@@ -65,57 +84,63 @@ public class MinigameController {
      */
     @MessageMapping("/minigame.room.join")
     public void joinRoom(JoinRoomRequest request) {
-        log.info("방 입장 요청: {}", request);
-
-        MinigamePlayerDto player = new MinigamePlayerDto();
-        player.setUserId(request.getUserId());
-        player.setUsername(request.getUsername());
-        player.setLevel(request.getLevel());
-        player.setHost(false);
-        player.setReady(false);
-        player.setSelectedProfile(request.getSelectedProfile());
-        player.setSelectedOutline(request.getSelectedOutline());
-
-        MinigameRoomDto room = roomService.joinRoom(request.getRoomId(), player);
-        if (room != null) {
-            room.setAction("join");
-            room.setTimestamp(System.currentTimeMillis());
-
-            // 방에 있는 모든 사람에게 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
-
-            // 방 목록 업데이트 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
-
-            // 개인에게도 성공 ACK 전송 (so joining client gets explicit confirmation)
-            GameEventDto ack = new GameEventDto();
-            ack.setRoomId(request.getRoomId());
-            ack.setType("joinResult");
-            ack.setPlayerId(request.getUserId());
-            ack.setPayload("ok");
-            ack.setTimestamp(System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/minigame/joinResult/" + request.getUserId(), ack);
-            log.info("joinResult(ok) sent to user {} for room {}", request.getUserId(), request.getRoomId());
-        } else {
-            // failure reason checking
-            MinigameRoomDto maybeRoom = roomService.getRoom(request.getRoomId());
-            String reason = "not found or full";
-            if (maybeRoom == null)
-                reason = "room not found";
-            else if (maybeRoom.getCurrentPlayers() >= maybeRoom.getMaxPlayers())
-                reason = "room full";
-
-            // 실패(방 없음 또는 가득 참)일 때 개인에게 오류 ACK 전송
-            GameEventDto ack = new GameEventDto();
-            ack.setRoomId(request.getRoomId());
-            ack.setType("joinResult");
-            ack.setPlayerId(request.getUserId());
-            ack.setPayload("error: " + reason);
-            ack.setTimestamp(System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/minigame/joinResult/" + request.getUserId(), ack);
-            log.warn("joinResult(error: {}) sent to user {} for room {}", reason, request.getUserId(),
-                    request.getRoomId());
-        }
+        // 방 상태 변경은 방 실행기에서 순서대로 처리
+        roomExecutor.execute(request.getRoomId(), () -> {
+            log.info("방 입장 요청: {}", request);
+
+            MinigamePlayerDto player = new MinigamePlayerDto();
+            player.setUserId(request.getUserId());
+            player.setUsername(request.getUsername());
+            player.setLevel(request.getLevel());
+            player.setHost(false);
+            player.setReady(false);
+            player.setSelectedProfile(request.getSelectedProfile());
+            player.setSelectedOutline(request.getSelectedOutline());
+
+            MinigameRoomDto room = roomService.joinRoom(request.getRoomId(), player);
+            if (room != null) {
+                room.setAction("join");
+                room.setTimestamp(System.currentTimeMillis());
+
+                // 방에 있는 모든 사람에게 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+
+                // 방 목록 업데이트 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
+
+                // 개인에게도 성공 ACK 전송 (so joining client gets explicit confirmation)
+                GameEventDto ack = new GameEventDto();
+                ack.setRoomId(request.getRoomId());
+                ack.setType("joinResult");
+                ack.setPlayerId(request.getUserId());
+                ack.setPayload("ok");
+                ack.setTimestamp(System.currentTimeMillis());
+                messagingTemplate.convertAndSend("/topic/minigame/joinResult/" + request.getUserId(), ack);
+                log.info("joinResult(ok) sent to user {} for room {}", request.getUserId(), request.getRoomId());
+            } else {
+                // failure reason checking
+                MinigameRoomDto maybeRoom = roomService.getRoom(request.getRoomId());
+                String reason = "not found or full";
+                if (maybeRoom == null)
+                    reason = "room not found";
+                else if (maybeRoom.getCurrentPlayers() >= maybeRoom.getMaxPlayers())
+                    reason = "room full";
+                sendJoinError(request, reason);
+            }
+        }, () -> sendJoinError(request, "room not found")); // 수신함이 없는 방 (없는 방, 삭제된 방)
+    }
+
+    // 실패(방 없음 또는 가득 참)일 때 개인에게 오류 ACK 전송
+    private void sendJoinError(JoinRoomRequest request, String reason) {
+        GameEventDto ack = new GameEventDto();
+        ack.setRoomId(request.getRoomId());
+        ack.setType("joinResult");
+        ack.setPlayerId(request.getUserId());
+        ack.setPayload("error: " + reason);
+        ack.setTimestamp(System.currentTimeMillis());
+        messagingTemplate.convertAndSend("/topic/minigame/joinResult/" + request.getUserId(), ack);
+        log.warn("joinResult(error: {}) sent to user {} for room {}", reason, request.getUserId(),
+                request.getRoomId());
     }
 
     /**
@@ -125,34 +150,37 @@ public class MinigameController {
      */
     @MessageMapping("/minigame.room.leave")
     public void leaveRoom(RoomActionRequest request) {
-        log.info("방 나가기 요청: {}", request);
-
-        MinigameRoomDto room = roomService.leaveRoom(request.getRoomId(), request.getUserId());
-
-        if (room == null) {
-            // 방이 삭제됨
-            MinigameRoomDto deletedRoom = new MinigameRoomDto();
-            deletedRoom.setRoomId(request.getRoomId());
-            deletedRoom.setAction("delete");
-            deletedRoom.setTimestamp(System.currentTimeMillis());
-
-            messagingTemplate.convertAndSend("/topic/minigame/rooms", deletedRoom);
-        } else {
-            // 서비스에서 이미 gameEndByPlayerLeave 액션을 설정한 경우 덮어쓰지 않음
-            if (!"gameEndByPlayerLeave".equals(room.getAction())) {
-                room.setAction("leave");
-                room.setTimestamp(System.currentTimeMillis());
+        // 방 상태 변경은 방 실행기에서 순서대로 처리
+        roomExecutor.execute(request.getRoomId(), () -> {
+            log.info("방 나가기 요청: {}", request);
 
-                // 방에 있는 모든 사람에게 브로드캐스트
-                messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+            MinigameRoomDto room = roomService.leaveRoom(request.getRoomId(), request.getUserId());
 
-                // 방 목록 업데이트 브로드캐스트
-                messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
-                log.info("일반 나가기 처리: roomId={}, action=leave", request.getRoomId());
+            if (room == null) {
+                // 방이 삭제됨
+                MinigameRoomDto deletedRoom = new MinigameRoomDto();
+                deletedRoom.setRoomId(request.getRoomId());
+                deletedRoom.setAction("delete");
+                deletedRoom.setTimestamp(System.currentTimeMillis());
+
+                messagingTemplate.convertAndSend("/topic/minigame/rooms", deletedRoom);
             } else {
-                log.info("gameEndByPlayerLeave 액션 감지 - 중복 브로드캐스트 스킵: roomId={}", request.getRoomId());
+                // 서비스에서 이미 gameEndByPlayerLeave 액션을 설정한 경우 덮어쓰지 않음
+                if (!"gameEndByPlayerLeave".equals(room.getAction())) {
+                    room.setAction("leave");
+                    room.setTimestamp(System.currentTimeMillis());
+
+                    // 방에 있는 모든 사람에게 브로드캐스트
+                    messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+
+                    // 방 목록 업데이트 브로드캐스트
+                    messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
+                    log.info("일반 나가기 처리: roomId={}, action=leave", request.getRoomId());
+                } else {
+                    log.info("gameEndByPlayerLeave 액션 감지 - 중복 브로드캐스트 스킵: roomId={}", request.getRoomId());
+                }
             }
-        }
+        });
     }
 
     /**
@@ -162,22 +190,25 @@ public class MinigameController {
      */
     @MessageMapping("/minigame.room.update")
     public void updateRoom(UpdateRoomRequest request) {
-        log.info("방 설정 변경 요청: {}", request);
-
-        MinigameRoomDto room = roomService.updateRoomSettings(
-                request.getRoomId(),
-                request.getGameName(),
-                request.getMaxPlayers());
-        if (room != null) {
-            room.setAction("update");
-            room.setTimestamp(System.currentTimeMillis());
+        // 방 상태 변경은 방 실행기에서 순서대로 처리
+        roomExecutor.execute(request.getRoomId(), () -> {
+            log.info("방 설정 변경 요청: {}", request);
+
+            MinigameRoomDto room = roomService.updateRoomSettings(
+                    request.getRoomId(),
+                    request.getGameName(),
+                    request.getMaxPlayers());
+            if (room != null) {
+                room.setAction("update");
+                room.setTimestamp(System.currentTimeMillis());
 
-            // 방에 있는 모든 사람에게 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+                // 방에 있는 모든 사람에게 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
 
-            // 방 목록 업데이트 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
-        }
+                // 방 목록 업데이트 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
+            }
+        });
     }
 
     /**
@@ -187,15 +218,18 @@ public class MinigameController {
      */
     @MessageMapping("/minigame.room.ready")
     public void toggleReady(RoomActionRequest request) {
-        log.info("준비 상태 변경 요청: {}", request);
+        // 방 상태 변경은 방 실행기에서 순서대로 처리
+        roomExecutor.execute(request.getRoomId(), () -> {
+            log.info("준비 상태 변경 요청: {}", request);
 
-        MinigameRoomDto room = roomService.toggleReady(request.getRoomId(), request.getUserId());
-        if (room != null) {
-            room.setAction("ready");
-            room.setTimestamp(System.currentTimeMillis());
+            MinigameRoomDto room = roomService.toggleReady(request.getRoomId(), request.getUserId());
+            if (room != null) {
+                room.setAction("ready");
+                room.setTimestamp(System.currentTimeMillis());
 
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
-        }
+                messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+            }
+        });
     }
 
     /**
@@ -205,21 +239,75 @@ public class MinigameController {
      */
     @MessageMapping("/minigame.room.switchRole")
     public void switchRole(RoomActionRequest request) {
-        log.info("역할 전환 요청: roomId={}, userId={}", request.getRoomId(), request.getUserId());
+        // 방 상태 변경은 방 실행기에서 순서대로 처리
+        roomExecutor.execute(request.getRoomId(), () -> {
+            log.info("역할 전환 요청: roomId={}, userId={}", request.getRoomId(), request.getUserId());
 
-        MinigameRoomDto room = roomService.switchRole(request.getRoomId(), request.getUserId());
-        if (room != null) {
-            room.setAction("switchRole");
-            room.setTimestamp(System.currentTimeMillis());
+            MinigameRoomDto room = roomService.switchRole(request.getRoomId(), request.getUserId());
+            if (room != null) {
+                room.setAction("switchRole");
+                room.setTimestamp(System.currentTimeMillis());
 
-            // 방에 있는 모든 사람에게 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+                // 방에 있는 모든 사람에게 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
 
-            // 방 목록 업데이트 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
-        } else {
-            log.warn("역할 전환 실패: roomId={}, userId={}", request.getRoomId(), request.getUserId());
-        }
+                // 방 목록 업데이트 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
+            } else {
+                log.warn("역할 전환 실패: roomId={}, userId={}", request.getRoomId(), request.getUserId());
+            }
+        });
+    }
+
+    /**
+     * 오목 봇 추가 (방장만)
+     * Client -> /app/minigame.room.addBot
+     * Server -> /topic/minigame/room/{roomId} (to room)
+     */
+    @MessageMapping("/minigame.room.addBot")
+    public void addBot(AddBotRequest request) {
+        // 방 상태 변경은 방 실행기에서 순서대로 처리
+        roomExecutor.execute(request.getRoomId(), () -> {
+            log.info("봇 추가 요청: {}", request);
+
+            MinigameRoomDto room = roomService.addOmokBot(request.getRoomId(), request.getUserId(),
+                    request.getDifficulty());
+            if (room != null) {
+                room.setAction("update");
+                room.setTimestamp(System.currentTimeMillis());
+
+                // 방에 있는 모든 사람에게 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+
+                // 방 목록 업데이트 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
+            }
+        });
+    }
+
+    /**
+     * 오목 봇 제거 (방장만)
+     * Client -> /app/minigame.room.removeBot
+     * Server -> /topic/minigame/room/{roomId} (to room)
+     */
+    @MessageMapping("/minigame.room.removeBot")
+    public void removeBot(RoomActionRequest request) {
+        // 방 상태 변경은 방 실행기에서 순서대로 처리
+        roomExecutor.execute(request.getRoomId(), () -> {
+            log.info("봇 제거 요청: {}", request);
+
+            MinigameRoomDto room = roomService.removeOmokBot(request.getRoomId(), request.getUserId());
+            if (room != null) {
+                room.setAction("update");
+                room.setTimestamp(System.currentTimeMillis());
+
+                // 방에 있는 모든 사람에게 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+
+                // 방 목록 업데이트 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
+            }
+        });
     }
 
     /**
@@ -229,19 +317,22 @@ public class MinigameController {
      */
     @MessageMapping("/minigame.room.start")
     public void startGame(RoomActionRequest request) {
-        log.info("게임 시작 요청: {}", request);
+        // 방 상태 변경은 방 실행기에서 순서대로 처리
+        roomExecutor.execute(request.getRoomId(), () -> {
+            log.info("게임 시작 요청: {}", request);
 
-        MinigameRoomDto room = roomService.startGame(request.getRoomId());
-        if (room != null) {
-            room.setAction("start");
-            room.setTimestamp(System.currentTimeMillis());
+            MinigameRoomDto room = roomService.startGame(request.getRoomId());
+            if (room != null) {
+                room.setAction("start");
+                room.setTimestamp(System.currentTimeMillis());
 
-            // 방에 있는 모든 사람에게 브로드캐스트
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
+                // 방에 있는 모든 사람에게 브로드캐스트
+                messagingTemplate.convertAndSend("/topic/minigame/room/" + request.getRoomId(), room);
 
-            // 로비에 있는 사람들에게도 방 상태 업데이트 브로드캐스트 (대기중 -> 게임중)
-            messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
-        }
+                // 로비에 있는 사람들에게도 방 상태 업데이트 브로드캐스트 (대기중 -> 게임중)
+                messagingTemplate.convertAndSend("/topic/minigame/rooms", room);
+            }
+        });
     }
 
     /**
@@ -255,6 +346,11 @@ public class MinigameController {
         if (event == null || event.getRoomId() == null)
             return;
 
+        // 같은 방의 게임 이벤트는 방 실행기에서 하나씩 처리 (다른 방의 이벤트와는 동시에 실행)
+        roomExecutor.execute(event.getRoomId(), () -> processGameEvent(event));
+    }
+
+    private void processGameEvent(GameEventDto event) {
         if ("hit".equals(event.getType())) {
             // validate and update score
             String roomId = event.getRoomId();
@@ -285,25 +381,16 @@ public class MinigameController {
 
             log.info("오목 움직임: roomId={}, playerId={}, position={}", roomId, playerId, position);
 
-            // 타이머 재시작 (다음 턴)
-            roomService.startOmokTimer(roomId);
-
-            // 모든 플레이어에게 브로드캐스트
-            GameEventDto omokEvt = new GameEventDto();
-            omokEvt.setRoomId(roomId);
-            omokEvt.setType("omokMove");
-            omokEvt.setPlayerId(playerId);
-            omokEvt.setPosition(position);
-            omokEvt.setTimestamp(System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", omokEvt);
+            // 검증, 착수, 승리 판정, 브로드캐스트, 다음 턴 타이머는 서비스에서 처리
+            roomService.handleOmokMove(roomId, playerId, position);
         }
 
         if ("omokStart".equals(event.getType())) {
-            // 오목 게임 시작 시 첫 타이머 시작
+            // 오목 게임 시작 시 첫 타이머 시작 (방장만, 진행 중인 대국이 없을 때)
             String roomId = event.getRoomId();
-            log.info("오목 게임 시작, 타이머 시작: roomId={}", roomId);
-            roomService.initOmokGame(roomId);
-            roomService.startOmokTimer(roomId);
+            if (roomService.startOmokGame(roomId, event.getPlayerId())) {
+                log.info("오목 게임 시작, 타이머 시작: roomId={}", roomId);
+            }
         }
 
         if ("omokRematchRequest".equals(event.getType())) {
@@ -415,6 +502,11 @@ public class MinigameController {
             roomService.submitWord(roomId, playerId, word);
         }
 
+        if ("wordChainHint".equals(event.getType())) {
+            log.info("끝말잇기 힌트 요청: roomId={}, playerId={}", event.getRoomId(), event.getPlayerId());
+            roomService.sendWordChainHint(event.getRoomId(), event.getPlayerId());
+        }
+
         if ("wordChainRematchRequest".equals(event.getType())) {
             String roomId = event.getRoomId();
             String playerId = event.getPlayerId();
@@ -583,7 +675,8 @@ public class MinigameController {
         if (event == null || event.getRoomId() == null)
             return;
         log.info("게임 상태 요청: roomId={}, userId={}", event.getRoomId(), event.getPlayerId());
-        roomService.sendGameState(event.getRoomId(), event.getPlayerId());
+        roomExecutor.execute(event.getRoomId(),
+                () -> roomService.sendGameState(event.getRoomId(), event.getPlayerId()));
     }
 
     /**
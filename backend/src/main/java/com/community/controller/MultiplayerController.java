@@ -6,8 +6,17 @@ import com.community.dto.PlayerPositionDto;
 import com.community.dto.RoomDto;
 import com.community.dto.MinigameChatDto;
 import com.community.service.ActiveUserService;
+import com.community.service.AreaOfInterestService;
+import com.community.service.BlockingTaskExecutor;
 import com.community.service.MessageService;
+import com.community.service.PersonalRoomDirectory;
 import com.community.service.PersonalRoomService;
+import com.community.service.PositionBroadcastService;
+import com.community.service.PresenceAggregator;
+import com.community.service.PresenceHeartbeatTracker;
+import com.community.service.ProximityChatService;
+import com.community.service.RealtimeMessagingService;
+import com.community.service.WorldStateService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -16,8 +25,6 @@ import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Controller;
 
-import java.util.List;
-
 @Controller
 @RequiredArgsConstructor
 @Slf4j
@@ -27,11 +34,20 @@ public class MultiplayerController {
     private final SimpMessageSendingOperations messagingTemplate;
     private final MessageService messageService;
     private final PersonalRoomService personalRoomService;
+    private final WorldStateService worldStateService;
+    private final AreaOfInterestService areaOfInterestService;
+    private final PresenceAggregator presenceAggregator;
+    private final PresenceHeartbeatTracker presenceHeartbeatTracker;
+    private final ProximityChatService proximityChatService;
+    private final RealtimeMessagingService realtimeMessagingService;
+    private final BlockingTaskExecutor blockingTaskExecutor;
+    private final PositionBroadcastService positionBroadcastService;
 
     /**
      * 플레이어 입장
      * Client -> /app/player.join
-     * Server -> /topic/players (broadcast to all)
+     * Server -> /topic/presence (PresenceAggregator 가 짧은 구간마다 묶어서 전송)
+     *           /topic/players (중복 로그인 알림만 즉시 전송)
      */
     @MessageMapping("/player.join")
     @SendTo("/topic/players")
@@ -64,46 +80,87 @@ public class MultiplayerController {
         headerAccessor.getSessionAttributes().put("username", joinDto.getUsername());
         headerAccessor.getSessionAttributes().put("userId", userId);
 
+        // heartbeat/유휴 상태 추적 시작
+        presenceHeartbeatTracker.register(sessionId, userId, joinDto.getUsername());
+
+        // 다음 틱에 광장 스냅샷 전송 (움직이지 않는 플레이어도 바로 표시)
+        positionBroadcastService.requestSnapshot(sessionId, userId);
+
         joinDto.setAction("join");
         joinDto.setTimestamp(System.currentTimeMillis());
 
         log.info("User {} joined. Current online count: {}", userId, activeUserService.getActiveUserCount());
 
-        // 온라인 인원 수 브로드캐스트
-        messagingTemplate.convertAndSend("/topic/online-count",
-                activeUserService.getActiveUserCount());
-        
-        // 개인방 목록 업데이트 브로드캐스트 (새 호스트가 접속하면 방이 목록에 표시됨)
-        List<RoomDto> updatedRooms = personalRoomService.getAllRooms();
-        messagingTemplate.convertAndSend("/topic/rooms/list", updatedRooms);
-        log.info("방 목록 업데이트 브로드캐스트 (사용자 접속): {} rooms", updatedRooms.size());
+        // 온라인 인원 수 브로드캐스트 (묶음 전송)
+        presenceAggregator.markCountChanged();
+
+        // 개인방 목록 변경분 브로드캐스트 (새 호스트가 접속하면 방이 목록에 표시됨, 처음에는 DB 조회)
+        blockingTaskExecutor.execute("host-online", () -> personalRoomService.updateHostPresence(userId, true));
 
-        return joinDto;
+        // 관심 영역 모드에서는 입장 알림을 주변 플레이어에게만 위치 프레임으로 전달
+        if (!areaOfInterestService.isEnabled()) {
+            presenceAggregator.recordJoin(joinDto);
+        }
+        return null;
     }
 
     /**
      * 플레이어 위치 업데이트
      * Client -> /app/player.position
-     * Server -> /topic/positions (broadcast to all)
+     * Server -> /topic/positions (PositionBroadcastService가 틱마다 스냅샷으로 전송)
+     * realtime.position.mailbox.enabled=true 이면 PositionMailboxInterceptor 가 먼저 처리하므로 호출되지 않음
      */
     @MessageMapping("/player.position")
-    @SendTo("/topic/positions")
-    public PlayerPositionDto updatePosition(PlayerPositionDto positionDto) {
+    public void updatePosition(PlayerPositionDto positionDto) {
         positionDto.setTimestamp(System.currentTimeMillis());
-        return positionDto;
+        worldStateService.updatePosition(positionDto);
     }
 
     /**
-     * 전체 채팅 메시지
+     * 광장 채팅 메시지
      * Client -> /app/chat.message
-     * Server -> /topic/chat (broadcast to all)
+     * Server -> /user/queue/chat (근거리 채팅: 보낸 사람 주변 플레이어에게만)
+     *           /topic/chat (realtime.chat.proximity.enabled=false 이면 전체 브로드캐스트)
      */
     @MessageMapping("/chat.message")
-    @SendTo("/topic/chat")
-    public ChatMessageDto sendChatMessage(ChatMessageDto chatDto) {
+    public void sendChatMessage(ChatMessageDto chatDto) {
+        chatDto.setTimestamp(System.currentTimeMillis());
+
+        if (proximityChatService.isEnabled()) {
+            int recipients = proximityChatService.sendNearby(chatDto);
+            log.debug("근거리 채팅 전송: userId={}, recipients={}", chatDto.getUserId(), recipients);
+        } else {
+            chatDto.setScope(ProximityChatService.SCOPE_GLOBAL);
+            messagingTemplate.convertAndSend("/topic/chat", chatDto);
+        }
+
+        // 전송 후 DB 저장은 블로킹 작업 실행기에서 처리
+        blockingTaskExecutor.execute("plaza-message", () -> savePlazaMessage(chatDto));
+    }
+
+    /**
+     * 전체 채팅 메시지 (사용자별 속도 제한)
+     * Client -> /app/chat.global
+     * Server -> /topic/chat (broadcast to all)
+     *           /user/queue/chat (속도 제한 시 보낸 사람에게만 안내)
+     */
+    @MessageMapping("/chat.global")
+    public void sendGlobalChatMessage(ChatMessageDto chatDto, SimpMessageHeaderAccessor headerAccessor) {
+        if (!proximityChatService.tryAcquireGlobal(chatDto.getUserId())) {
+            log.debug("전체 채팅 속도 제한: userId={}", chatDto.getUserId());
+            proximityChatService.sendNotice(headerAccessor.getSessionId(),
+                    "전체 채팅은 잠시 후 다시 보낼 수 있습니다.");
+            return;
+        }
+
         chatDto.setTimestamp(System.currentTimeMillis());
+        chatDto.setScope(ProximityChatService.SCOPE_GLOBAL);
+        messagingTemplate.convertAndSend("/topic/chat", chatDto);
+        blockingTaskExecutor.execute("plaza-message", () -> savePlazaMessage(chatDto));
+    }
 
-        // 광장 메시지를 데이터베이스에 저장
+    // 광장 메시지를 데이터베이스에 저장
+    private void savePlazaMessage(ChatMessageDto chatDto) {
         try {
             Long senderId = Long.parseLong(chatDto.getUserId());
             messageService.savePlazaMessage(senderId, chatDto.getMessage());
@@ -111,8 +168,6 @@ public class MultiplayerController {
         } catch (Exception e) {
             log.error("광장 메시지 저장 실패: {}", e.getMessage(), e);
         }
-
-        return chatDto;
     }
 
     /**
@@ -121,19 +176,20 @@ public class MultiplayerController {
      * Server -> /topic/rooms (broadcast to all)
      */
     @MessageMapping("/room.create")
-    @SendTo("/topic/rooms")
-    public RoomDto createRoom(RoomDto roomDto) {
-        // PersonalRoomService에 방 저장
-        RoomDto savedRoom = personalRoomService.createRoom(roomDto);
-        if (savedRoom == null) {
-            log.warn("방 생성 실패: roomId={}", roomDto.getRoomId());
-            return null;
-        }
-        
-        log.info("방 생성 브로드캐스트: roomId={}, roomName={}, hostName={}, 현재 방 개수={}", 
-                savedRoom.getRoomId(), savedRoom.getRoomName(), savedRoom.getHostName(),
-                personalRoomService.getRoomCount());
-        return savedRoom;
+    public void createRoom(RoomDto roomDto) {
+        blockingTaskExecutor.execute("room-create", () -> {
+            // PersonalRoomService에 방 저장
+            RoomDto savedRoom = personalRoomService.createRoom(roomDto);
+            if (savedRoom == null) {
+                log.warn("방 생성 실패: roomId={}", roomDto.getRoomId());
+                return;
+            }
+
+            log.info("방 생성 브로드캐스트: roomId={}, roomName={}, hostName={}, 현재 방 개수={}", 
+                    savedRoom.getRoomId(), savedRoom.getRoomName(), savedRoom.getHostName(),
+                    personalRoomService.getRoomCount());
+            messagingTemplate.convertAndSend("/topic/rooms", savedRoom);
+        });
     }
 
     /**
@@ -142,52 +198,46 @@ public class MultiplayerController {
      * Server -> /topic/rooms (broadcast to all)
      */
     @MessageMapping("/room.delete")
-    @SendTo("/topic/rooms")
-    public RoomDto deleteRoom(RoomDto roomDto) {
-        // PersonalRoomService에서 방 삭제
-        RoomDto deletedRoom = personalRoomService.deleteRoom(roomDto.getRoomId());
-        if (deletedRoom == null) {
-            // 방이 없어도 삭제 브로드캐스트는 전송 (클라이언트 동기화용)
-            roomDto.setAction("delete");
-            roomDto.setTimestamp(System.currentTimeMillis());
-            log.warn("삭제할 방 없음, 브로드캐스트만 전송: roomId={}", roomDto.getRoomId());
-            return roomDto;
-        }
-        
-        log.info("방 삭제 브로드캐스트: roomId={}, 남은 방 개수={}", 
-                deletedRoom.getRoomId(), personalRoomService.getRoomCount());
-        return deletedRoom;
+    public void deleteRoom(RoomDto roomDto) {
+        blockingTaskExecutor.execute("room-delete", () -> {
+            // PersonalRoomService에서 방 삭제
+            RoomDto deletedRoom = personalRoomService.deleteRoom(roomDto.getRoomId());
+            if (deletedRoom == null) {
+                // 방이 없어도 삭제 브로드캐스트는 전송 (클라이언트 동기화용)
+                roomDto.setAction("delete");
+                roomDto.setTimestamp(System.currentTimeMillis());
+                log.warn("삭제할 방 없음, 브로드캐스트만 전송: roomId={}", roomDto.getRoomId());
+                messagingTemplate.convertAndSend("/topic/rooms", roomDto);
+                return;
+            }
+
+            log.info("방 삭제 브로드캐스트: roomId={}, 남은 방 개수={}", 
+                    deletedRoom.getRoomId(), personalRoomService.getRoomCount());
+            messagingTemplate.convertAndSend("/topic/rooms", deletedRoom);
+        });
     }
 
     /**
-     * 활성 방 목록 요청
+     * 활성 방 목록 요청 (버전 포함 전체 목록, 이후 변경분은 /topic/rooms/delta)
      * Client -> /app/room.list
      * Server -> /user/queue/rooms (개인 메시지로 응답)
      */
     @MessageMapping("/room.list")
     public void getRoomList(SimpMessageHeaderAccessor headerAccessor) {
         String sessionId = headerAccessor.getSessionId();
-        List<RoomDto> rooms = personalRoomService.getAllRooms();
-        
-        log.info("방 목록 요청: sessionId={}, 방 개수={}", sessionId, rooms.size());
-        
-        // 요청한 클라이언트에게만 방 목록 전송
-        messagingTemplate.convertAndSendToUser(
-            sessionId, 
-            "/queue/rooms", 
-            rooms,
-            createHeaders(sessionId)
-        );
+        // 처음 요청 시에는 DB에서 방 목록을 불러오므로 블로킹 작업 실행기에서 처리
+        blockingTaskExecutor.execute("room-list", () -> {
+            // 같은 버전의 목록은 한 번만 직렬화해 재사용
+            PersonalRoomDirectory.SerializedSnapshot snapshot = personalRoomService.getSerializedRoomListSnapshot();
+
+            log.info("방 목록 요청: sessionId={}, 방 개수={}, version={}",
+                    sessionId, snapshot.roomCount(), snapshot.version());
+
+            // 요청한 클라이언트에게만 방 목록 전송
+            realtimeMessagingService.sendSerializedToSession(sessionId, "/queue/rooms", snapshot.json());
+        });
     }
     
-    private org.springframework.messaging.MessageHeaders createHeaders(String sessionId) {
-        org.springframework.messaging.simp.SimpMessageHeaderAccessor headerAccessor = 
-            org.springframework.messaging.simp.SimpMessageHeaderAccessor.create(org.springframework.messaging.simp.SimpMessageType.MESSAGE);
-        headerAccessor.setSessionId(sessionId);
-        headerAccessor.setLeaveMutable(true);
-        return headerAccessor.getMessageHeaders();
-    }
-
     /**
      * 개인 룸 채팅
      * Client -> /app/room.chat
@@ -0,0 +1,10 @@
+package com.community.dto;
+
+import lombok.Data;
+
+@Data
+public class AddBotRequest {
+    private String roomId;
+    private String userId;
+    private String difficulty; // easy, normal, hard
+}
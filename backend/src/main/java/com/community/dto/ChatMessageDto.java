@@ -18,6 +18,7 @@ public class ChatMessageDto {
     private String username;
     private String message;
     private Long timestamp;
+    private String scope;         // 광장 채팅 범위 (nearby, global, notice)
     
     // 새로운 필드
     private Long id;
@@ -0,0 +1,34 @@
+package com.community.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 압축 위치 프레임
+ * u 의 각 항목은 [플레이어 ID, 필드 마스크, 바뀐 필드 값...] 형태의 정수 배열입니다.
+ * 마스크 비트: 1=x, 2=y, 4=z (1/100 단위), 8=rotationY (1/1000 라디안), 16=animation ID, 32=isChangingAvatar
+ */
+@Data
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class CompactPositionFrameDto {
+    private Long t;                        // 틱 번호
+    private Long ts;                       // 타임스탬프
+    private Boolean k;                     // 키프레임 여부 (전체 필드 포함)
+    private List<PlayerDefDto> defs;       // 새로 알게 된 플레이어 정의
+    private Map<Integer, String> anims;    // 새로 알게 된 애니메이션 ID -> 이름
+    private List<int[]> u;                 // 위치 업데이트
+    private List<PlayerJoinDto> presence;  // 관심 영역 입장/퇴장 (join, leave, in-range, out-of-range)
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return (defs == null || defs.isEmpty())
+                && (u == null || u.isEmpty())
+                && (presence == null || presence.isEmpty());
+    }
+}
@@ -0,0 +1,20 @@
+package com.community.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 압축 위치 프레임의 플레이어 정의 (처음 보이거나 정적 속성이 바뀔 때만 전송)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PlayerDefDto {
+    private Integer i;  // 프레임 내 플레이어 ID
+    private String u;   // userId
+    private String n;   // username
+    private String m;   // modelPath
+}
@@ -0,0 +1,23 @@
+package com.community.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 짧은 구간 동안 모은 입장/퇴장 및 온라인 인원 수 (/topic/presence)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class PresenceBatchDto {
+    private List<PlayerJoinDto> joins;   // 입장한 플레이어
+    private List<PlayerJoinDto> leaves;  // 퇴장한 플레이어
+    private List<PresenceStatusDto> statuses; // 활동 상태가 바뀐 플레이어 (active, idle, away)
+    private Integer onlineCount;         // 현재 온라인 인원 수 (바뀐 경우에만)
+    private Long timestamp;
+}
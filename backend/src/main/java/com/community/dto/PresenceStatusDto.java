@@ -0,0 +1,13 @@
+package com.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PresenceStatusDto {
+    private String userId;   // 플레이어 ID
+    private String status;   // "active", "idle", "away"
+}
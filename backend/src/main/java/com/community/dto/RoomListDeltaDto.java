@@ -0,0 +1,22 @@
+package com.community.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 개인 룸 목록 변경분 (/topic/rooms/delta)
+ * version 이 직전에 받은 버전 + 1 이 아니면 클라이언트는 전체 목록을 다시 요청합니다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class RoomListDeltaDto {
+    private Long version;           // 이 변경을 적용한 뒤의 목록 버전
+    private List<RoomDto> added;    // 목록에 추가(또는 갱신)된 방
+    private List<String> removed;   // 목록에서 빠진 방 ID
+}
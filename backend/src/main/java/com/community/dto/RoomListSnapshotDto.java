@@ -0,0 +1,18 @@
+package com.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 개인 룸 전체 목록과 버전 (/user/queue/rooms)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomListSnapshotDto {
+    private Long version;           // 목록 버전 (이후 변경분은 version + 1 부터)
+    private List<RoomDto> rooms;    // 호스트가 온라인인 방 목록
+}
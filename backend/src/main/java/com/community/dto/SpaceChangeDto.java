@@ -0,0 +1,15 @@
+package com.community.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpaceChangeDto {
+    private String spaceType;             // PLAZA 또는 LOCAL_ROOM
+    private String roomId;                // 개인 룸 ID (광장이면 null)
+    private String positionsDestination;  // 구독할 위치 토픽 (광장 관심 영역 모드면 /user/queue/positions)
+    private Long timestamp;
+}
@@ -40,7 +40,9 @@ public class UserSession {
 
     @PrePersist
     protected void onCreate() {
-        lastActiveAt = LocalDateTime.now();
+        if (lastActiveAt == null) {
+            lastActiveAt = LocalDateTime.now();
+        }
         updatedAt = LocalDateTime.now();
     }
 
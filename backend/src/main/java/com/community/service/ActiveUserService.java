@@ -15,6 +15,7 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * 활성 사용자 세션 관리 서비스
  * WebSocket 연결 중인 사용자들을 추적하여 중복 로그인 방지 및 온라인 인원 수 관리
+ * 실제 저장은 PresenceStore 가 담당 (여러 인스턴스 배포 시 realtime.presence.store=jdbc)
  */
 @Service
 @RequiredArgsConstructor
@@ -22,27 +23,8 @@ public class ActiveUserService {
 
     private final UserRepository userRepository;
 
-    // userId -> sessionId 매핑
-    private final Map<String, String> activeUsers = new ConcurrentHashMap<>();
-
-    // sessionId -> userId 매핑 (역참조용)
-    private final Map<String, String> sessionToUser = new ConcurrentHashMap<>();
-
-    // sessionId -> SessionMetadata 매핑 (세션 상세 정보)
-    private final Map<String, SessionMetadata> sessionMetadata = new ConcurrentHashMap<>();
-
-    /**
-     * 세션 메타데이터 내부 클래스
-     */
-    private static class SessionMetadata {
-        String username;
-        LocalDateTime connectedAt;
-
-        SessionMetadata(String username, LocalDateTime connectedAt) {
-            this.username = username;
-            this.connectedAt = connectedAt;
-        }
-    }
+    // 접속 정보 저장소 (realtime.presence.store: memory | jdbc)
+    private final PresenceStore presenceStore;
 
     /**
      * 사용자가 이미 접속 중인지 확인
@@ -50,7 +32,7 @@ public class ActiveUserService {
      * @return 접속 중이면 true, 아니면 false
      */
     public boolean isUserActive(String userId) {
-        return activeUsers.containsKey(userId);
+        return presenceStore.isActive(userId);
     }
 
     /**
@@ -87,10 +69,12 @@ public class ActiveUserService {
             }
         }
 
-        activeUsers.put(userId, sessionId);
-        sessionToUser.put(sessionId, userId);
-        sessionMetadata.put(sessionId, new SessionMetadata(finalUsername, LocalDateTime.now()));
-        return true;
+        return presenceStore.register(ActiveSessionDto.builder()
+                .userId(userId)
+                .sessionId(sessionId)
+                .username(finalUsername)
+                .connectedAt(LocalDateTime.now())
+                .build());
     }
 
     /**
@@ -99,12 +83,8 @@ public class ActiveUserService {
      * @return 제거된 사용자 ID (없으면 null)
      */
     public String removeUserBySession(String sessionId) {
-        String userId = sessionToUser.remove(sessionId);
-        if (userId != null) {
-            activeUsers.remove(userId);
-            sessionMetadata.remove(sessionId);
-        }
-        return userId;
+        ActiveSessionDto session = presenceStore.removeBySession(sessionId);
+        return session != null ? session.getUserId() : null;
     }
 
     /**
@@ -113,12 +93,8 @@ public class ActiveUserService {
      * @return 제거된 세션 ID (없으면 null)
      */
     public String removeUserById(String userId) {
-        String sessionId = activeUsers.remove(userId);
-        if (sessionId != null) {
-            sessionToUser.remove(sessionId);
-            sessionMetadata.remove(sessionId);
-        }
-        return sessionId;
+        ActiveSessionDto session = presenceStore.removeByUser(userId);
+        return session != null ? session.getSessionId() : null;
     }
 
     /**
@@ -127,7 +103,8 @@ public class ActiveUserService {
      * @return 사용자 ID (없으면 null)
      */
     public String getUserIdBySession(String sessionId) {
-        return sessionToUser.get(sessionId);
+        ActiveSessionDto session = presenceStore.findBySession(sessionId);
+        return session != null ? session.getUserId() : null;
     }
 
     /**
@@ -136,7 +113,8 @@ public class ActiveUserService {
      * @return 세션 ID (없으면 null)
      */
     public String getSessionIdByUserId(String userId) {
-        return activeUsers.get(userId);
+        ActiveSessionDto session = presenceStore.findByUser(userId);
+        return session != null ? session.getSessionId() : null;
     }
 
     /**
@@ -144,7 +122,7 @@ public class ActiveUserService {
      * @return 온라인 인원 수
      */
     public int getActiveUserCount() {
-        return activeUsers.size();
+        return presenceStore.count();
     }
 
     /**
@@ -152,7 +130,11 @@ public class ActiveUserService {
      * @return 활성 사용자 맵
      */
     public Map<String, String> getAllActiveUsers() {
-        return new ConcurrentHashMap<>(activeUsers);
+        Map<String, String> activeUsers = new ConcurrentHashMap<>();
+        for (ActiveSessionDto session : presenceStore.findAll()) {
+            activeUsers.put(session.getUserId(), session.getSessionId());
+        }
+        return activeUsers;
     }
 
     /**
@@ -161,16 +143,12 @@ public class ActiveUserService {
      */
     public List<ActiveSessionDto> getAllActiveSessions() {
         List<ActiveSessionDto> sessions = new ArrayList<>();
-        for (Map.Entry<String, String> entry : activeUsers.entrySet()) {
-            String userId = entry.getKey();
-            String sessionId = entry.getValue();
-            SessionMetadata metadata = sessionMetadata.get(sessionId);
-
+        for (ActiveSessionDto session : presenceStore.findAll()) {
             sessions.add(ActiveSessionDto.builder()
-                    .userId(userId)
-                    .sessionId(sessionId)
-                    .username(metadata != null ? metadata.username : "Unknown")
-                    .connectedAt(metadata != null ? metadata.connectedAt : null)
+                    .userId(session.getUserId())
+                    .sessionId(session.getSessionId())
+                    .username(session.getUsername() != null ? session.getUsername() : "Unknown")
+                    .connectedAt(session.getConnectedAt())
                     .build());
         }
         return sessions;
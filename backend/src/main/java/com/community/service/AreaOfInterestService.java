@@ -0,0 +1,164 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.PlayerJoinDto;
+import com.community.dto.PlayerPositionDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 관심 영역(Area of Interest) 기반 위치/입퇴장 전송 서비스
+ * 광장(개인 룸 밖)을 x/z 균일 격자로 나누고, 각 플레이어에게 주변 셀(이웃 셀 포함)에 있는 플레이어의
+ * 움직임과 입장/퇴장만 /user/queue/positions 로 전송합니다.
+ * 틱 스레드에서만 호출됩니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AreaOfInterestService {
+
+    private final WorldStateService worldStateService;
+    private final ActiveUserService activeUserService;
+    private final RealtimeMessagingService realtimeMessagingService;
+    private final SlowConsumerRegistry slowConsumerRegistry;
+
+    @Value("${realtime.position.interest.enabled:true}")
+    private boolean enabled;
+
+    // 셀 한 변의 길이 (월드 좌표 단위)
+    @Value("${realtime.position.interest.cell-size:30}")
+    private double cellSize;
+
+    // 자기 셀 기준 몇 칸까지 볼지 (1이면 3x3)
+    @Value("${realtime.position.interest.view-radius-cells:1}")
+    private int viewRadiusCells;
+
+    // 몇 틱마다 시야 안 전체 상태를 다시 보낼지 (수신자별로 분산)
+    @Value("${realtime.position.keyframe-interval-ticks:150}")
+    private int keyframeIntervalTicks;
+
+    // 수신자 userId -> 직전 틱에 보이던 userId 집합
+    private final Map<String, Set<String>> visibleSets = new HashMap<>();
+
+    // 수신자 userId -> 압축 프레임 인코더 (수신자가 마지막으로 받은 상태 보관)
+    private final Map<String, PositionFrameEncoder> encoders = new HashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 한 틱 분량의 관심 영역 프레임 전송
+     * @param tick 틱 번호
+     * @param plazaPlayers 현재 광장에 있는 플레이어
+     * @param movedIds 이번 틱에 움직인 userId
+     * @param arrived 이번 틱에 처음 위치를 보낸 userId
+     * @param departed 이번 틱에 접속 종료한 userId -> username
+     * @param livePlayerIds 현재 위치를 알고 있는 플레이어 ID
+     */
+    public void publish(long tick, List<PlayerPositionDto> plazaPlayers, Set<String> movedIds, Set<String> arrived,
+                        Map<String, String> departed, Set<Integer> livePlayerIds) {
+        SpatialGrid<PlayerPositionDto> grid = new SpatialGrid<>(cellSize);
+        for (PlayerPositionDto position : plazaPlayers) {
+            grid.insert(coordinate(position.getX()), coordinate(position.getZ()), position);
+        }
+
+        long now = System.currentTimeMillis();
+        Set<String> receivers = new HashSet<>();
+
+        for (Map.Entry<Long, List<PlayerPositionDto>> cell : grid.getCells().entrySet()) {
+            int cellX = SpatialGrid.cellXOf(cell.getKey());
+            int cellZ = SpatialGrid.cellZOf(cell.getKey());
+
+            // 같은 셀에 있는 수신자들은 이웃 목록을 공유
+            Map<String, PlayerPositionDto> neighborhood = new HashMap<>();
+            grid.forEachNear(cellX, cellZ, viewRadiusCells, p -> neighborhood.put(p.getUserId(), p));
+
+            for (PlayerPositionDto receiver : cell.getValue()) {
+                String receiverId = receiver.getUserId();
+                receivers.add(receiverId);
+
+                // 느린 수신자는 이번 틱을 건너뜀 (시야/인코더 상태를 유지해 회복 후 이어서 전송)
+                String sessionId = activeUserService.getSessionIdByUserId(receiverId);
+                if (sessionId != null && slowConsumerRegistry.isDegraded(sessionId)) {
+                    slowConsumerRegistry.recordSkippedFrame();
+                    continue;
+                }
+
+                Set<String> previous = visibleSets.getOrDefault(receiverId, Collections.emptySet());
+                Set<String> current = new HashSet<>(neighborhood.keySet());
+                current.remove(receiverId);
+
+                PositionFrameEncoder encoder = encoders.computeIfAbsent(receiverId,
+                        k -> new PositionFrameEncoder(worldStateService));
+                boolean keyframe = isKeyframe(tick, receiverId)
+                        || (sessionId != null && slowConsumerRegistry.consumeResync(sessionId));
+
+                List<PlayerPositionDto> players = new ArrayList<>();
+                List<PlayerJoinDto> presence = new ArrayList<>();
+
+                for (String userId : current) {
+                    PlayerPositionDto position = neighborhood.get(userId);
+                    boolean entered = !previous.contains(userId);
+                    if (entered) {
+                        presence.add(presenceEvent(userId, position.getUsername(),
+                                arrived.contains(userId) ? "join" : "in-range", now));
+                    }
+                    if (keyframe || entered || movedIds.contains(userId)) {
+                        players.add(position);
+                    }
+                }
+                for (String userId : previous) {
+                    if (!current.contains(userId)) {
+                        boolean disconnected = departed.containsKey(userId);
+                        presence.add(presenceEvent(userId, disconnected ? departed.get(userId) : null,
+                                disconnected ? "leave" : "out-of-range", now));
+                        if (!disconnected) {
+                            encoder.forget(userId);
+                        }
+                    }
+                }
+
+                visibleSets.put(receiverId, current);
+                CompactPositionFrameDto frame = encoder.encode(tick, players, keyframe);
+                frame.setPresence(presence);
+                if (!frame.isEmpty() && sessionId != null) {
+                    realtimeMessagingService.sendPositionFrameToSession(sessionId, frame);
+                }
+            }
+        }
+
+        // 광장을 떠난 수신자(접속 종료, 개인 룸 입장)의 시야 정보 정리
+        visibleSets.keySet().retainAll(receivers);
+        encoders.keySet().retainAll(receivers);
+        if (!departed.isEmpty()) {
+            encoders.values().forEach(encoder -> encoder.retainPlayers(livePlayerIds));
+        }
+    }
+
+    private boolean isKeyframe(long tick, String receiverId) {
+        if (keyframeIntervalTicks <= 0) {
+            return false;
+        }
+        // 모든 수신자가 같은 틱에 키프레임을 받지 않도록 수신자별로 분산
+        return Math.floorMod(tick + receiverId.hashCode(), keyframeIntervalTicks) == 0;
+    }
+
+    private PlayerJoinDto presenceEvent(String userId, String username, String action, long timestamp) {
+        return new PlayerJoinDto(userId, username, action, timestamp);
+    }
+
+    private double coordinate(Double value) {
+        return value != null ? value : 0.0;
+    }
+}
@@ -0,0 +1,222 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.GameEventDto;
+import com.community.dto.GameTargetDto;
+import com.community.dto.PlayerDefDto;
+import com.community.dto.PlayerJoinDto;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 고빈도 멀티플레이 메시지용 바이너리 코덱 (binary-v1)
+ * 정수는 가변 길이(varint, 음수는 zigzag), 문자열은 길이 + UTF-8 로 기록합니다.
+ *
+ * 프레임 공통 헤더: [매직 0xB1][메시지 타입]
+ *  - 타입 1 (위치 프레임): tick, ts, keyframe, defs, anims, updates, presence
+ *  - 타입 2 (게임 이벤트): 이벤트 타입, 필드 마스크, 필드 값
+ */
+@Component
+public class BinaryFrameCodec {
+
+    public static final String CODEC_NAME = "binary-v1";
+
+    // CONNECT 프레임에서 클라이언트가 지원 코덱을 알리는 헤더
+    public static final String ACCEPT_CODEC_HEADER = "accept-codec";
+
+    // 미리 인코딩한 바이너리 본문을 담는 내부 메시지 헤더 (전송되지 않음)
+    public static final String BINARY_PAYLOAD_HEADER = "binaryPayload";
+
+    public static final int MAGIC = 0xB1;
+    public static final int TYPE_POSITION_FRAME = 1;
+    public static final int TYPE_GAME_EVENT = 2;
+
+    // 바이너리로 보낼 게임 이벤트 타입 -> 코드 (0 은 문자열로 직접 기록)
+    private static final Map<String, Integer> GAME_EVENT_CODES = Map.of(
+            "aimTimer", 1,
+            "omokTimer", 2,
+            "spawnTarget", 3,
+            "scoreUpdate", 4
+    );
+
+    private static final Set<String> HOT_GAME_EVENTS = GAME_EVENT_CODES.keySet();
+
+    // 게임 이벤트 필드 마스크
+    private static final int EVT_ROOM_ID = 1;
+    private static final int EVT_PLAYER_ID = 1 << 1;
+    private static final int EVT_PLAYER_NAME = 1 << 2;
+    private static final int EVT_TARGET = 1 << 3;
+    private static final int EVT_TARGET_ID = 1 << 4;
+    private static final int EVT_POSITION = 1 << 5;
+    private static final int EVT_PAYLOAD = 1 << 6;
+    private static final int EVT_TIMESTAMP = 1 << 7;
+
+    /**
+     * 바이너리 인코딩 대상 게임 이벤트인지 확인
+     */
+    public boolean supports(GameEventDto event) {
+        return event != null && HOT_GAME_EVENTS.contains(event.getType());
+    }
+
+    public byte[] encodePositionFrame(CompactPositionFrameDto frame) {
+        Writer out = new Writer(64);
+        out.writeByte(MAGIC);
+        out.writeByte(TYPE_POSITION_FRAME);
+        out.writeVarLong(frame.getT() != null ? frame.getT() : 0);
+        out.writeVarLong(frame.getTs() != null ? frame.getTs() : 0);
+        out.writeByte(Boolean.TRUE.equals(frame.getK()) ? 1 : 0);
+
+        List<PlayerDefDto> defs = orEmpty(frame.getDefs());
+        out.writeVarInt(defs.size());
+        for (PlayerDefDto def : defs) {
+            out.writeVarInt(def.getI());
+            out.writeString(def.getU());
+            out.writeString(def.getN());
+            out.writeString(def.getM());
+        }
+
+        Map<Integer, String> anims = frame.getAnims() != null ? frame.getAnims() : Collections.emptyMap();
+        out.writeVarInt(anims.size());
+        for (Map.Entry<Integer, String> anim : anims.entrySet()) {
+            out.writeVarInt(anim.getKey());
+            out.writeString(anim.getValue());
+        }
+
+        List<int[]> updates = orEmpty(frame.getU());
+        out.writeVarInt(updates.size());
+        for (int[] update : updates) {
+            out.writeVarInt(update[0]);
+            out.writeByte(update[1]);
+            for (int i = 2; i < update.length; i++) {
+                out.writeSignedVarInt(update[i]);
+            }
+        }
+
+        List<PlayerJoinDto> presence = orEmpty(frame.getPresence());
+        out.writeVarInt(presence.size());
+        for (PlayerJoinDto event : presence) {
+            out.writeString(event.getUserId());
+            out.writeString(event.getUsername());
+            out.writeString(event.getAction());
+        }
+        return out.toByteArray();
+    }
+
+    public byte[] encodeGameEvent(GameEventDto event) {
+        Writer out = new Writer(48);
+        out.writeByte(MAGIC);
+        out.writeByte(TYPE_GAME_EVENT);
+
+        int code = GAME_EVENT_CODES.getOrDefault(event.getType(), 0);
+        out.writeByte(code);
+        if (code == 0) {
+            out.writeString(event.getType());
+        }
+
+        int mask = 0;
+        if (event.getRoomId() != null) mask |= EVT_ROOM_ID;
+        if (event.getPlayerId() != null) mask |= EVT_PLAYER_ID;
+        if (event.getPlayerName() != null) mask |= EVT_PLAYER_NAME;
+        if (event.getTarget() != null) mask |= EVT_TARGET;
+        if (event.getTargetId() != null) mask |= EVT_TARGET_ID;
+        if (event.getPosition() != null) mask |= EVT_POSITION;
+        if (event.getPayload() != null) mask |= EVT_PAYLOAD;
+        if (event.getTimestamp() != null) mask |= EVT_TIMESTAMP;
+        out.writeByte(mask);
+
+        if ((mask & EVT_ROOM_ID) != 0) out.writeString(event.getRoomId());
+        if ((mask & EVT_PLAYER_ID) != 0) out.writeString(event.getPlayerId());
+        if ((mask & EVT_PLAYER_NAME) != 0) out.writeString(event.getPlayerName());
+        if ((mask & EVT_TARGET) != 0) {
+            GameTargetDto target = event.getTarget();
+            out.writeString(target.getId());
+            out.writeFloat((float) target.getX());
+            out.writeFloat((float) target.getY());
+            out.writeFloat((float) target.getSize());
+            out.writeVarLong(target.getCreatedAt());
+            out.writeVarLong(target.getDuration());
+        }
+        if ((mask & EVT_TARGET_ID) != 0) out.writeString(event.getTargetId());
+        if ((mask & EVT_POSITION) != 0) out.writeSignedVarInt(event.getPosition());
+        if ((mask & EVT_PAYLOAD) != 0) out.writeString(event.getPayload());
+        if ((mask & EVT_TIMESTAMP) != 0) out.writeVarLong(event.getTimestamp());
+        return out.toByteArray();
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list != null ? list : Collections.emptyList();
+    }
+
+    /**
+     * 가변 길이 정수 기록용 버퍼
+     * 바이트마다 잠금을 거는 ByteArrayOutputStream 대신 배열에 직접 기록합니다.
+     */
+    private static class Writer {
+
+        private byte[] buffer;
+        private int size;
+
+        Writer(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + extra));
+            }
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+
+        void writeVarInt(int value) {
+            writeVarLong(value & 0xFFFFFFFFL);
+        }
+
+        void writeSignedVarInt(int value) {
+            writeVarInt((value << 1) ^ (value >> 31));
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeFloat(float value) {
+            int bits = Float.floatToIntBits(value);
+            ensureCapacity(4);
+            buffer[size++] = (byte) (bits >>> 24);
+            buffer[size++] = (byte) (bits >>> 16);
+            buffer[size++] = (byte) (bits >>> 8);
+            buffer[size++] = (byte) bits;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarInt(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.community.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DB 를 사용하는 STOMP 핸들러 작업 실행기
+ * 인바운드 채널 스레드에서 JDBC 를 기다리지 않도록 블로킹 작업을 별도 실행기로 넘깁니다.
+ * - virtual: 작업마다 가상 스레드 (Java 21 이상, 낮은 버전에서는 pool 로 대체)
+ * - pool: 고정 크기 스레드 풀
+ * - inline: 호출한 스레드에서 바로 실행 (기존 동작)
+ * 어떤 모드든 동시에 DB 를 쓰는 작업 수는 Hikari 풀 크기로 제한해 연결이 고갈되지 않게 합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BlockingTaskExecutor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${realtime.blocking.mode:virtual}")
+    private String mode;
+
+    // 동시에 DB 를 사용할 수 있는 작업 수 (0 이면 Hikari 최대 풀 크기 사용)
+    @Value("${realtime.blocking.db-concurrency:0}")
+    private int dbConcurrency;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int hikariPoolSize;
+
+    // pool 모드 스레드 수와 대기열 크기
+    @Value("${realtime.blocking.pool-size:8}")
+    private int poolSize;
+
+    @Value("${realtime.blocking.queue-capacity:1000}")
+    private int queueCapacity;
+
+    private ExecutorService executor;
+    private Semaphore dbPermits;
+    private String activeMode;
+
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    @PostConstruct
+    public void start() {
+        int permits = dbConcurrency > 0 ? dbConcurrency : Math.max(1, hikariPoolSize);
+        dbPermits = new Semaphore(permits, true);
+
+        activeMode = mode.toLowerCase();
+        if ("virtual".equals(activeMode)) {
+            executor = createVirtualThreadExecutor();
+            if (executor == null) {
+                log.warn("Virtual threads are not available on Java {}, falling back to pool mode",
+                        Runtime.version().feature());
+                activeMode = "pool";
+            }
+        }
+        if ("pool".equals(activeMode)) {
+            executor = createPoolExecutor();
+        } else if (!"virtual".equals(activeMode)) {
+            activeMode = "inline";
+        }
+        log.info("Blocking task executor started: mode={}, dbConcurrency={}", activeMode, permits);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor == null) {
+            return;
+        }
+        // 대기 중인 저장 작업이 끝날 때까지 잠시 기다림
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 블로킹(DB) 작업 실행
+     * @param taskName 로그용 작업 이름
+     */
+    public void execute(String taskName, Runnable task) {
+        if (executor == null) {
+            runWithPermit(taskName, task);
+            return;
+        }
+        executor.execute(() -> runWithPermit(taskName, task));
+    }
+
+    public String getMode() {
+        return activeMode;
+    }
+
+    public int getAvailablePermits() {
+        return dbPermits.availablePermits();
+    }
+
+    public int getWaitingCount() {
+        return dbPermits.getQueueLength();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void runWithPermit(String taskName, Runnable task) {
+        try {
+            dbPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Blocking task interrupted before start: {}", taskName);
+            return;
+        }
+        long startNanos = System.nanoTime();
+        try {
+            task.run();
+            completedCount.incrementAndGet();
+        } catch (Exception e) {
+            failedCount.incrementAndGet();
+            log.error("Blocking task failed: {} - {}", taskName, e.getMessage(), e);
+        } finally {
+            dbPermits.release();
+            // 작업 실행 시간 (DB 대기 제외)
+            Timer.builder("realtime.blocking.task")
+                    .tag("task", taskName)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Java 21 이상이면 작업마다 가상 스레드를 만드는 실행기 (빌드 대상이 17 이라 리플렉션으로 호출)
+     */
+    private ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private ExecutorService createPoolExecutor() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "blocking-task-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        int size = Math.max(1, poolSize);
+        // 대기열이 차면 호출한 스레드에서 실행 (작업을 버리지 않음)
+        return new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), threadFactory,
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
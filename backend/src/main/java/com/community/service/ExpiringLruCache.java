@@ -0,0 +1,103 @@
+package com.community.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한 + 만료 시간이 있는 LRU 캐시
+ * - 가득 차면 가장 오래 조회하지 않은 항목부터 버림
+ * - 항목마다 만료 시간을 따로 줄 수 있고 (기본은 생성할 때 준 ttl), 만료된 항목은 조회할 때 없는 것으로 보고 지움
+ * 조회/저장은 짧은 synchronized 구간이라 외부 호출 결과 캐시처럼 호출 빈도가 낮은 곳에 씁니다.
+ * 적중/실패/만료/제거 수는 지표(FunctionCounter)로 읽을 수 있게 셉니다.
+ */
+public final class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+    private final long defaultTtlNanos;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ExpiringLruCache(int maxSize, long defaultTtl, TimeUnit unit) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.defaultTtlNanos = unit.toNanos(defaultTtl);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return 값 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.expiresAtNanos < 0) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                expirations.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(K key, V value) {
+        putEntry(key, value, defaultTtlNanos);
+    }
+
+    public void put(K key, V value, long ttl, TimeUnit unit) {
+        putEntry(key, value, unit.toNanos(ttl));
+    }
+
+    private void putEntry(K key, V value, long ttlNanos) {
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + ttlNanos);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getExpirationCount() {
+        return expirations.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+    }
+}
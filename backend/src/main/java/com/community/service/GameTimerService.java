@@ -0,0 +1,311 @@
+package com.community.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 미니게임 타이머 (해시 타이밍 휠)
+ * 모든 방의 카운트다운/지연 작업을 스레드 하나가 tick-ms 간격으로 처리합니다.
+ * - 등록/취소: O(1) (등록은 대기열에 넣고, 취소는 상태만 바꾼 뒤 휠 스레드가 칸에서 떼어냄)
+ * - 틱과 반복 타이머의 다음 실행 시각은 시작 시각 기준 절대 시간으로 계산해 지연이 누적되지 않음
+ * - 휠 한 바퀴보다 먼 타이머는 남은 바퀴 수를 세다가 실행
+ * 만료된 작업은 휠 스레드에서 바로 실행되므로 방 실행기에 넘기는 정도의 짧은 작업만 등록해야 합니다.
+ * 틱이 예정 시각보다 늦게 처리된 시간은 realtime.minigame.timer.lag 로 기록합니다 (노드 과부하 지표).
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class GameTimerService {
+
+    private static final int PENDING = 0;
+    private static final int CANCELLED = 1;
+    private static final int EXPIRED = 2;
+
+    private static final long LAG_WARN_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final MeterRegistry meterRegistry;
+
+    // 휠 한 칸의 시간
+    @Value("${realtime.minigame.timer.tick-ms:100}")
+    private long tickMs;
+
+    // 휠 칸 수 (2의 거듭제곱으로 올림)
+    @Value("${realtime.minigame.timer.wheel-size:512}")
+    private int wheelSize;
+
+    // 틱이 이 시간 이상 늦으면 경고 로그
+    @Value("${realtime.minigame.timer.lag-warn-ms:250}")
+    private long lagWarnMs;
+
+    private Bucket[] wheel;
+    private int mask;
+    private long tickNanos;
+    private long startNanos;
+
+    // 다른 스레드에서 등록/취소한 타이머 (휠 스레드가 틱마다 반영)
+    private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private Thread wheelThread;
+    private volatile boolean running;
+    private Timer lagTimer;
+    private long lastLagWarnNanos;
+
+    @PostConstruct
+    public void start() {
+        int size = Integer.highestOneBit(Math.max(16, wheelSize) - 1) << 1;
+        wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        mask = size - 1;
+        tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMs));
+        startNanos = System.nanoTime();
+        lastLagWarnNanos = startNanos - LAG_WARN_INTERVAL_NANOS;
+
+        lagTimer = Timer.builder("realtime.minigame.timer.lag")
+                .description("How late timing wheel ticks run compared to their schedule")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        Gauge.builder("realtime.minigame.timer.pending", pendingCount, AtomicInteger::get)
+                .description("Scheduled minigame timers")
+                .register(meterRegistry);
+
+        running = true;
+        wheelThread = new Thread(this::run, "game-timer-wheel");
+        wheelThread.setDaemon(true);
+        wheelThread.start();
+        log.info("Game timer wheel started: tick={}ms, slots={}", tickMs, size);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (wheelThread != null) {
+            wheelThread.interrupt();
+            try {
+                wheelThread.join(TimeUnit.SECONDS.toMillis(2));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 한 번 실행
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return add(new Timeout(task, elapsedNanos() + unit.toNanos(Math.max(0, delay)), 0));
+    }
+
+    /**
+     * 주기 실행 (첫 실행은 한 주기 뒤, 이후 실행 시각은 첫 예정 시각 기준으로 계산)
+     */
+    public Timeout scheduleAtFixedRate(Runnable task, long period, TimeUnit unit) {
+        long periodNanos = Math.max(tickNanos, unit.toNanos(period));
+        return add(new Timeout(task, elapsedNanos() + periodNanos, periodNanos));
+    }
+
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private Timeout add(Timeout timeout) {
+        pendingCount.incrementAndGet();
+        newTimeouts.offer(timeout);
+        return timeout;
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long tickDeadline = (tick + 1) * tickNanos;
+            if (!waitUntil(tickDeadline)) {
+                break;
+            }
+            long lagNanos = elapsedNanos() - tickDeadline;
+            recordLag(lagNanos);
+
+            try {
+                removeCancelled();
+                transferNewTimeouts(tick);
+                wheel[(int) (tick & mask)].expire(elapsedNanos());
+            } catch (Exception e) {
+                // 예외가 발생해도 다음 틱이 계속 실행되도록 함
+                log.error("Game timer tick failed: {}", e.getMessage(), e);
+            }
+            tick++;
+        }
+    }
+
+    // 틱 예정 시각까지 대기 (종료 중이면 false)
+    private boolean waitUntil(long deadlineNanos) {
+        while (running) {
+            long sleepNanos = deadlineNanos - elapsedNanos();
+            if (sleepNanos <= 0) {
+                return true;
+            }
+            LockSupport.parkNanos(this, sleepNanos);
+            if (Thread.interrupted() && !running) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private void recordLag(long lagNanos) {
+        lagTimer.record(Math.max(0, lagNanos), TimeUnit.NANOSECONDS);
+        long now = System.nanoTime();
+        if (lagNanos >= TimeUnit.MILLISECONDS.toNanos(lagWarnMs)
+                && now - lastLagWarnNanos >= LAG_WARN_INTERVAL_NANOS) {
+            lastLagWarnNanos = now;
+            log.warn("Game timer wheel is running late: lag={}ms, pending={}",
+                    TimeUnit.NANOSECONDS.toMillis(lagNanos), pendingCount.get());
+        }
+    }
+
+    private void transferNewTimeouts(long currentTick) {
+        Timeout timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.state.get() == CANCELLED) {
+                continue;
+            }
+            long calculatedTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (calculatedTick - currentTick) / wheel.length;
+            // 이미 지난 시각은 현재 칸에 넣어 이번 틱에 실행
+            long targetTick = Math.max(calculatedTick, currentTick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelledTimeouts.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void fire(Timeout timeout) {
+        try {
+            timeout.task.run();
+        } catch (Exception e) {
+            log.error("Game timer task failed: {}", e.getMessage(), e);
+        }
+        if (timeout.periodNanos > 0 && timeout.state.get() == PENDING) {
+            // 다음 실행 시각은 이전 예정 시각 + 주기 (실행이 늦어져도 밀리지 않음)
+            timeout.deadlineNanos += timeout.periodNanos;
+            newTimeouts.offer(timeout);
+        } else if (timeout.state.compareAndSet(PENDING, EXPIRED)) {
+            pendingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * 등록된 타이머 (취소용 핸들)
+     */
+    public final class Timeout {
+        private final Runnable task;
+        private final long periodNanos;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        // 휠 스레드에서만 사용
+        private long deadlineNanos;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadlineNanos, long periodNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+            this.periodNanos = periodNanos;
+        }
+
+        /**
+         * @return 이번 호출로 취소했으면 true (이미 실행됐거나 취소된 경우 false)
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            pendingCount.decrementAndGet();
+            cancelledTimeouts.offer(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+    }
+
+    /**
+     * 휠 한 칸 (이중 연결 리스트, 휠 스레드에서만 사용)
+     */
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(long nowNanos) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.state.get() == CANCELLED) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadlineNanos <= nowNanos) {
+                    remove(timeout);
+                    fire(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.community.service;
+
+import com.community.dto.ActiveSessionDto;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JVM 메모리 프레즌스 저장소 (단일 인스턴스, 기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "realtime.presence.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryPresenceStore implements PresenceStore {
+
+    // userId -> 세션 정보
+    private final Map<String, ActiveSessionDto> byUser = new ConcurrentHashMap<>();
+
+    // sessionId -> userId (역참조용)
+    private final Map<String, String> sessionToUser = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean register(ActiveSessionDto session) {
+        if (byUser.putIfAbsent(session.getUserId(), session) != null) {
+            return false; // 이미 접속 중
+        }
+        sessionToUser.put(session.getSessionId(), session.getUserId());
+        return true;
+    }
+
+    @Override
+    public ActiveSessionDto removeBySession(String sessionId) {
+        String userId = sessionToUser.remove(sessionId);
+        if (userId == null) {
+            return null;
+        }
+        ActiveSessionDto session = byUser.get(userId);
+        if (session != null && sessionId.equals(session.getSessionId())) {
+            byUser.remove(userId, session);
+            return session;
+        }
+        return null;
+    }
+
+    @Override
+    public ActiveSessionDto removeByUser(String userId) {
+        ActiveSessionDto session = byUser.remove(userId);
+        if (session != null) {
+            sessionToUser.remove(session.getSessionId());
+        }
+        return session;
+    }
+
+    @Override
+    public ActiveSessionDto findByUser(String userId) {
+        return byUser.get(userId);
+    }
+
+    @Override
+    public ActiveSessionDto findBySession(String sessionId) {
+        String userId = sessionToUser.get(sessionId);
+        return userId != null ? byUser.get(userId) : null;
+    }
+
+    @Override
+    public boolean isActive(String userId) {
+        return byUser.containsKey(userId);
+    }
+
+    @Override
+    public int count() {
+        return byUser.size();
+    }
+
+    @Override
+    public List<ActiveSessionDto> findAll() {
+        return new ArrayList<>(byUser.values());
+    }
+}
@@ -0,0 +1,296 @@
+package com.community.service;
+
+import com.community.dto.ActiveSessionDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 공유 프레즌스 저장소 (여러 인스턴스)
+ * presence_sessions 테이블(user_id PK)로 노드 간 중복 접속을 막고, 조회는 로컬 캐시를 먼저 사용합니다.
+ * - 이 노드에 연결된 세션: 로컬 맵이 기준 (DB 조회 없음)
+ * - 다른 노드의 세션/전체 인원 수: near-cache-ttl-ms 동안 캐시
+ * 노드가 비정상 종료돼도 heartbeat 가 끊긴 행은 stale-after-ms 후 다른 노드가 정리합니다.
+ * heartbeat 기록과 만료 비교는 모두 DB 시계(CURRENT_TIMESTAMP)를 사용해 노드 간 시계 차이의 영향을 받지 않습니다.
+ * presence_sessions 테이블은 db/migration/V4__create_presence_sessions.sql 로 미리 만들어 두어야 합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "realtime.presence.store", havingValue = "jdbc")
+public class JdbcPresenceStore implements PresenceStore {
+
+    private static final String SELECT_COLUMNS = "SELECT user_id, session_id, username, connected_at FROM presence_sessions";
+
+    // DB 시계 기준 만료 시각 (파라미터: 초 단위 stale-after)
+    private static final String STALE_THRESHOLD = "CURRENT_TIMESTAMP - CAST(? AS DOUBLE PRECISION) * INTERVAL '1' SECOND";
+    private static final String FRESH = "heartbeat_at >= " + STALE_THRESHOLD;
+    private static final String STALE = "heartbeat_at < " + STALE_THRESHOLD;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${realtime.presence.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${realtime.presence.near-cache-ttl-ms:2000}")
+    private long nearCacheTtlMs;
+
+    @Value("${realtime.presence.heartbeat-interval-ms:10000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${realtime.presence.stale-after-ms:30000}")
+    private long staleAfterMs;
+
+    // 이 노드에 연결된 세션 (기준 데이터)
+    private final InMemoryPresenceStore localSessions = new InMemoryPresenceStore();
+
+    // 다른 노드 사용자 조회 캐시 (userId -> 조회 결과, 접속 중이 아니면 session == null)
+    private final Map<String, CachedLookup> remoteLookups = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    private String nodeId;
+    private volatile int cachedCount;
+    private volatile long countExpiresAt;
+
+    private static final RowMapper<ActiveSessionDto> ROW_MAPPER = (rs, rowNum) -> ActiveSessionDto.builder()
+            .userId(rs.getString("user_id"))
+            .sessionId(rs.getString("session_id"))
+            .username(rs.getString("username"))
+            .connectedAt(toLocalDateTime(rs.getTimestamp("connected_at")))
+            .build();
+
+    @PostConstruct
+    public void start() {
+        checkTable();
+        nodeId = configuredNodeId.isBlank() ? UUID.randomUUID().toString() : configuredNodeId;
+        heartbeatExecutor.scheduleAtFixedRate(this::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs,
+                TimeUnit.MILLISECONDS);
+        log.info("JDBC presence store started: nodeId={}", nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeatExecutor.shutdownNow();
+        try {
+            jdbcTemplate.update("DELETE FROM presence_sessions WHERE node_id = ?", nodeId);
+        } catch (DataAccessException e) {
+            log.warn("Failed to clear presence rows on shutdown: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean register(ActiveSessionDto session) {
+        if (localSessions.isActive(session.getUserId())) {
+            return false;
+        }
+        try {
+            if (!tryInsert(session)) {
+                // 비정상 종료된 노드가 남긴 행이면 정리 후 한 번 더 시도
+                int removed = jdbcTemplate.update(
+                        "DELETE FROM presence_sessions WHERE user_id = ? AND " + STALE,
+                        session.getUserId(), staleAfterSeconds());
+                if (removed == 0 || !tryInsert(session)) {
+                    return false;
+                }
+            }
+        } catch (DataAccessException e) {
+            // DB 장애 시에도 이 노드에서는 접속을 허용 (노드 간 중복 검사만 생략)
+            log.warn("Presence insert failed, registering locally only: userId={}, error={}",
+                    session.getUserId(), e.getMessage());
+        }
+        remoteLookups.remove(session.getUserId());
+        countExpiresAt = 0;
+        return localSessions.register(session);
+    }
+
+    @Override
+    public ActiveSessionDto removeBySession(String sessionId) {
+        ActiveSessionDto session = localSessions.removeBySession(sessionId);
+        try {
+            jdbcTemplate.update("DELETE FROM presence_sessions WHERE session_id = ?", sessionId);
+        } catch (DataAccessException e) {
+            log.warn("Presence delete failed: sessionId={}, error={}", sessionId, e.getMessage());
+        }
+        if (session != null) {
+            remoteLookups.remove(session.getUserId());
+        }
+        countExpiresAt = 0;
+        return session;
+    }
+
+    @Override
+    public ActiveSessionDto removeByUser(String userId) {
+        ActiveSessionDto session = localSessions.removeByUser(userId);
+        try {
+            if (session == null) {
+                session = queryByUser(userId);
+            }
+            jdbcTemplate.update("DELETE FROM presence_sessions WHERE user_id = ?", userId);
+        } catch (DataAccessException e) {
+            log.warn("Presence delete failed: userId={}, error={}", userId, e.getMessage());
+        }
+        remoteLookups.remove(userId);
+        countExpiresAt = 0;
+        return session;
+    }
+
+    @Override
+    public ActiveSessionDto findByUser(String userId) {
+        ActiveSessionDto local = localSessions.findByUser(userId);
+        if (local != null) {
+            return local;
+        }
+        long now = System.currentTimeMillis();
+        CachedLookup cached = remoteLookups.get(userId);
+        if (cached != null && cached.expiresAt > now) {
+            return cached.session;
+        }
+        ActiveSessionDto session;
+        try {
+            session = queryByUser(userId);
+        } catch (DataAccessException e) {
+            log.warn("Presence lookup failed: userId={}, error={}", userId, e.getMessage());
+            return cached != null ? cached.session : null;
+        }
+        remoteLookups.put(userId, new CachedLookup(session, now + nearCacheTtlMs));
+        return session;
+    }
+
+    @Override
+    public ActiveSessionDto findBySession(String sessionId) {
+        ActiveSessionDto local = localSessions.findBySession(sessionId);
+        if (local != null) {
+            return local;
+        }
+        try {
+            List<ActiveSessionDto> rows = jdbcTemplate.query(
+                    SELECT_COLUMNS + " WHERE session_id = ? AND " + FRESH,
+                    ROW_MAPPER, sessionId, staleAfterSeconds());
+            return rows.isEmpty() ? null : rows.get(0);
+        } catch (DataAccessException e) {
+            log.warn("Presence lookup failed: sessionId={}, error={}", sessionId, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isActive(String userId) {
+        return findByUser(userId) != null;
+    }
+
+    @Override
+    public int count() {
+        long now = System.currentTimeMillis();
+        if (countExpiresAt > now) {
+            return cachedCount;
+        }
+        try {
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM presence_sessions WHERE " + FRESH,
+                    Integer.class, staleAfterSeconds());
+            cachedCount = count != null ? count : 0;
+        } catch (DataAccessException e) {
+            log.warn("Presence count failed: {}", e.getMessage());
+            cachedCount = Math.max(cachedCount, localSessions.count());
+        }
+        countExpiresAt = now + nearCacheTtlMs;
+        return cachedCount;
+    }
+
+    @Override
+    public List<ActiveSessionDto> findAll() {
+        try {
+            return jdbcTemplate.query(SELECT_COLUMNS + " WHERE " + FRESH, ROW_MAPPER, staleAfterSeconds());
+        } catch (DataAccessException e) {
+            log.warn("Presence list failed, returning local sessions: {}", e.getMessage());
+            return localSessions.findAll();
+        }
+    }
+
+    /**
+     * 이 노드 세션의 heartbeat 갱신 및 끊긴 노드의 행 정리
+     */
+    private void heartbeat() {
+        try {
+            jdbcTemplate.update("UPDATE presence_sessions SET heartbeat_at = CURRENT_TIMESTAMP WHERE node_id = ?",
+                    nodeId);
+            int removed = jdbcTemplate.update("DELETE FROM presence_sessions WHERE " + STALE, staleAfterSeconds());
+            if (removed > 0) {
+                log.info("Removed {} stale presence rows", removed);
+            }
+        } catch (Exception e) {
+            // 예외가 발생해도 다음 heartbeat 가 계속 실행되도록 함
+            log.warn("Presence heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean tryInsert(ActiveSessionDto session) {
+        LocalDateTime connectedAt = session.getConnectedAt() != null ? session.getConnectedAt() : LocalDateTime.now();
+        try {
+            jdbcTemplate.update("INSERT INTO presence_sessions "
+                            + "(user_id, session_id, username, node_id, connected_at, heartbeat_at) "
+                            + "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                    session.getUserId(), session.getSessionId(), session.getUsername(), nodeId,
+                    Timestamp.valueOf(connectedAt));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    private ActiveSessionDto queryByUser(String userId) {
+        List<ActiveSessionDto> rows = jdbcTemplate.query(
+                SELECT_COLUMNS + " WHERE user_id = ? AND " + FRESH,
+                ROW_MAPPER, userId, staleAfterSeconds());
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private double staleAfterSeconds() {
+        return staleAfterMs / 1000.0;
+    }
+
+    /**
+     * presence_sessions 테이블 확인 (Flyway 를 쓰지 않으므로 없으면 시작하지 않음)
+     */
+    private void checkTable() {
+        try {
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM presence_sessions WHERE 1 = 0", Integer.class);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("realtime.presence.store=jdbc requires the presence_sessions table. "
+                    + "Apply db/migration/V4__create_presence_sessions.sql to the database first.", e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+
+    private static class CachedLookup {
+        private final ActiveSessionDto session;
+        private final long expiresAt;
+
+        CachedLookup(ActiveSessionDto session, long expiresAt) {
+            this.session = session;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.community.service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+
+/**
+ * 끝말잇기 단어 사전 (DAWG: 공통 접두사와 공통 접미사를 합친 최소 비순환 오토마타)
+ * KoreanDictionaryCompiler (src/tools) 가 만든 파일을 그대로 읽으며, 조회 중에는 객체를 만들지 않습니다.
+ * 파일 형식 (빅엔디언 int):
+ * - 헤더: MAGIC, VERSION, 단어 수, 시작 상태 오프셋, 전체 int 수
+ * - 상태: [글자 수(arc 수), 이 상태 뒤로 만들어지는 단어 수] + arc 목록
+ * - arc: [글자 | FINAL(여기서 단어가 끝남), 다음 상태 오프셋 (없으면 -1)]
+ * 상태의 arc 는 글자 순으로 정렬되어 있어 이진 탐색하고,
+ * 상태별 단어 수로 접두사로 시작하는 단어 수와 n 번째 단어를 바로 구합니다.
+ * 버퍼는 절대 위치로만 읽으므로 여러 스레드에서 동시에 사용해도 안전합니다.
+ */
+public final class KoreanDictionary {
+
+    // 파일 형식 (tools 소스셋의 KoreanDictionaryCompiler 와 공유)
+    public static final int MAGIC = 0x4B445747; // "KDWG"
+    public static final int VERSION = 1;
+    public static final int HEADER_INTS = 5;
+    public static final int NODE_HEADER_INTS = 2;
+    public static final int ARC_INTS = 2;
+    public static final int FINAL = 1 << 16;
+    public static final int LABEL_MASK = 0xFFFF;
+    public static final int NO_NODE = -1;
+
+    private final IntBuffer data;
+    private final int wordCount;
+    private final int root;
+
+    private KoreanDictionary(IntBuffer data) {
+        this.data = data;
+        this.wordCount = data.get(2);
+        this.root = data.get(3);
+    }
+
+    /**
+     * @param buffer 사전 파일 전체 (메모리 매핑 또는 direct 버퍼)
+     */
+    public static KoreanDictionary load(ByteBuffer buffer) {
+        IntBuffer data = buffer.duplicate().order(ByteOrder.BIG_ENDIAN).asIntBuffer();
+        if (data.limit() < HEADER_INTS || data.get(0) != MAGIC) {
+            throw new IllegalArgumentException("끝말잇기 사전 파일이 아닙니다.");
+        }
+        if (data.get(1) != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 사전 버전입니다: " + data.get(1));
+        }
+        if (data.get(4) != data.limit()) {
+            throw new IllegalArgumentException("사전 파일이 손상되었습니다.");
+        }
+        return new KoreanDictionary(data);
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    public int getSizeInBytes() {
+        return data.limit() * Integer.BYTES;
+    }
+
+    public boolean contains(CharSequence word) {
+        int arc = findPath(word);
+        return arc >= 0 && (data.get(arc) & FINAL) != 0;
+    }
+
+    /**
+     * 접두사로 시작하는 단어 수 (접두사 자체가 단어면 포함)
+     */
+    public int countWithPrefix(CharSequence prefix) {
+        if (prefix.length() == 0) {
+            return wordCount;
+        }
+        int arc = findPath(prefix);
+        return arc < 0 ? 0 : countAfter(arc);
+    }
+
+    /**
+     * 접두사로 시작하는 단어 중 사전 순 index 번째 단어
+     * @return 범위를 벗어나면 null
+     */
+    public String wordWithPrefix(CharSequence prefix, int index) {
+        if (index < 0 || prefix.length() == 0) {
+            return null;
+        }
+        int arc = findPath(prefix);
+        if (arc < 0 || index >= countAfter(arc)) {
+            return null;
+        }
+
+        StringBuilder word = new StringBuilder(prefix.length() + 4).append(prefix);
+        while (true) {
+            if ((data.get(arc) & FINAL) != 0) {
+                if (index == 0) {
+                    return word.toString();
+                }
+                index--;
+            }
+            int node = data.get(arc + 1);
+            int arcCount = data.get(node);
+            int next = node + NODE_HEADER_INTS;
+            for (int i = 0; i < arcCount; i++, next += ARC_INTS) {
+                int count = countAfter(next);
+                if (index < count) {
+                    break;
+                }
+                index -= count;
+            }
+            arc = next;
+            word.append((char) (data.get(arc) & LABEL_MASK));
+        }
+    }
+
+    // 이 arc 를 지나서 만들어지는 단어 수
+    private int countAfter(int arc) {
+        int count = (data.get(arc) & FINAL) != 0 ? 1 : 0;
+        int node = data.get(arc + 1);
+        return node == NO_NODE ? count : count + data.get(node + 1);
+    }
+
+    // 단어를 따라간 마지막 arc 위치 (없으면 -1)
+    private int findPath(CharSequence word) {
+        int node = root;
+        int arc = -1;
+        for (int i = 0; i < word.length(); i++) {
+            if (node == NO_NODE) {
+                return -1;
+            }
+            arc = findArc(node, word.charAt(i));
+            if (arc < 0) {
+                return -1;
+            }
+            node = data.get(arc + 1);
+        }
+        return arc;
+    }
+
+    private int findArc(int node, char label) {
+        int low = 0;
+        int high = data.get(node) - 1;
+        int first = node + NODE_HEADER_INTS;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int arc = first + mid * ARC_INTS;
+            int midLabel = data.get(arc) & LABEL_MASK;
+            if (midLabel < label) {
+                low = mid + 1;
+            } else if (midLabel > label) {
+                high = mid - 1;
+            } else {
+                return arc;
+            }
+        }
+        return -1;
+    }
+}
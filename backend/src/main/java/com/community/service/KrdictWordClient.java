@@ -0,0 +1,297 @@
+package com.community.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 한국어기초사전(krdict) Open API 비동기 단어 확인 (끝말잇기 오프라인 사전에 없는 단어만)
+ * 기본으로 켜져 있고 (api-key 를 비우면 꺼짐), 호출한 스레드를 막지 않습니다.
+ * - 연결 재사용: HttpClient 하나를 공유 (keep-alive 연결 풀)
+ * - 동시 요청 제한: max-concurrency 를 넘으면 기다리지 않고 바로 UNAVAILABLE
+ * - 요청 합치기: 같은 단어를 확인하는 중이면 새 요청 없이 같은 결과를 기다림
+ * - 서킷 브레이커: 연속 failure-threshold 번 실패하면 open-ms 동안 호출하지 않고 UNAVAILABLE,
+ *   이후 요청 하나로 회복 여부를 확인
+ * - 캐시: 확인된 결과만 크기 제한 LRU 캐시에 저장 (있는 단어/없는 단어의 만료 시간은 따로, 실패한 호출은 저장하지 않음)
+ * 결과는 VALID / INVALID / UNAVAILABLE 로 구분되어, 확인하지 못한 단어를 "없는 단어"로 알리지 않습니다.
+ * 지표: realtime.minigame.krdict.* (요청 결과, 합쳐진 요청, 캐시 적중률, 서킷 상태)
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class KrdictWordClient {
+
+    public enum WordLookup {
+        VALID,       // 사전에 있는 단어
+        INVALID,     // 사전에 없는 단어
+        UNAVAILABLE  // 확인하지 못함 (꺼짐, 서킷 열림, 동시 요청 초과, 호출 실패)
+    }
+
+    private static final int ALLOWED = 0;
+    private static final int TRIAL = 1;
+    private static final int DENIED = 2;
+
+    private final MeterRegistry meterRegistry;
+
+    // 비우면 외부 확인을 하지 않음
+    @Value("${realtime.minigame.dictionary.krdict.api-key:F5E1C7AE840AC60C17D459064E04F4E7}")
+    private String apiKey;
+
+    @Value("${realtime.minigame.dictionary.krdict.url:https://krdict.korean.go.kr/api/search}")
+    private String apiUrl;
+
+    @Value("${realtime.minigame.dictionary.krdict.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${realtime.minigame.dictionary.krdict.connect-timeout-ms:1000}")
+    private long connectTimeoutMs;
+
+    @Value("${realtime.minigame.dictionary.krdict.request-timeout-ms:2000}")
+    private long requestTimeoutMs;
+
+    @Value("${realtime.minigame.dictionary.krdict.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${realtime.minigame.dictionary.krdict.open-ms:30000}")
+    private long openMs;
+
+    @Value("${realtime.minigame.dictionary.krdict.cache.size:20000}")
+    private int cacheSize;
+
+    @Value("${realtime.minigame.dictionary.krdict.cache.valid-ttl-minutes:1440}")
+    private long validCacheTtlMinutes;
+
+    @Value("${realtime.minigame.dictionary.krdict.cache.invalid-ttl-minutes:60}")
+    private long invalidCacheTtlMinutes;
+
+    private HttpClient httpClient;
+    private ExecutorService httpExecutor;
+    private Semaphore permits;
+    private ExpiringLruCache<String, WordLookup> cache;
+
+    // 확인 중인 단어 (같은 단어 요청 합치기)
+    private final ConcurrentHashMap<String, CompletableFuture<WordLookup>> inFlight = new ConcurrentHashMap<>();
+
+    // 서킷 브레이커 상태
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialInFlight = new AtomicBoolean();
+    private volatile long openUntilNanos;
+
+    private Counter coalescedCounter;
+
+    @PostConstruct
+    public void init() {
+        cache = new ExpiringLruCache<>(Math.max(1, cacheSize), validCacheTtlMinutes, TimeUnit.MINUTES);
+        registerMetrics();
+
+        if (!isEnabled()) {
+            log.info("krdict word lookup disabled (offline dictionary only)");
+            return;
+        }
+        permits = new Semaphore(Math.max(1, maxConcurrency));
+        AtomicInteger threadCount = new AtomicInteger();
+        httpExecutor = Executors.newFixedThreadPool(2, r -> {
+            Thread thread = new Thread(r, "krdict-http-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .executor(httpExecutor)
+                .build();
+        log.info("krdict word lookup enabled: maxConcurrency={}, timeout={}ms, circuit={} failures/{}ms",
+                maxConcurrency, requestTimeoutMs, failureThreshold, openMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (httpExecutor != null) {
+            httpExecutor.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return apiKey != null && !apiKey.isBlank();
+    }
+
+    /**
+     * 단어가 사전에 있는지 비동기로 확인
+     * 꺼져 있거나, 서킷이 열려 있거나, 동시 요청이 가득 찼거나, 호출이 실패하면 UNAVAILABLE 로 완료됩니다.
+     * 결과는 HTTP 스레드에서 완료되므로 방 상태는 방 실행기로 넘겨서 바꿔야 합니다.
+     */
+    public CompletableFuture<WordLookup> lookup(String word) {
+        if (!isEnabled() || word == null || word.isBlank()) {
+            return CompletableFuture.completedFuture(WordLookup.UNAVAILABLE);
+        }
+        WordLookup cached = cache.get(word);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<WordLookup> result = new CompletableFuture<>();
+        CompletableFuture<WordLookup> existing = inFlight.putIfAbsent(word, result);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return existing;
+        }
+        result.whenComplete((lookup, error) -> inFlight.remove(word, result));
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(buildUri(word))
+                    .timeout(Duration.ofMillis(requestTimeoutMs))
+                    .GET()
+                    .build();
+        } catch (RuntimeException e) {
+            // 잘못된 url 설정 등 (요청을 보내지 않았으므로 서킷에는 반영하지 않음)
+            countRequest("error");
+            log.warn("krdict 요청 생성 실패: word={}, error={}", word, e.toString());
+            result.complete(WordLookup.UNAVAILABLE);
+            return result;
+        }
+
+        int admission = admit();
+        if (admission == DENIED) {
+            countRequest("short-circuited");
+            result.complete(WordLookup.UNAVAILABLE);
+            return result;
+        }
+        boolean trial = admission == TRIAL;
+        if (!permits.tryAcquire()) {
+            countRequest("rejected");
+            if (trial) {
+                trialInFlight.set(false);
+            }
+            result.complete(WordLookup.UNAVAILABLE);
+            return result;
+        }
+
+        try {
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+                    .whenComplete((response, error) -> {
+                        permits.release();
+                        if (error != null || response.statusCode() != 200) {
+                            onFailure(trial);
+                            countRequest("error");
+                            log.warn("krdict 단어 확인 실패: word={}, status={}, error={}", word,
+                                    response != null ? response.statusCode() : null,
+                                    error != null ? error.toString() : null);
+                            result.complete(WordLookup.UNAVAILABLE);
+                            return;
+                        }
+                        onSuccess(trial);
+                        boolean valid = containsExactWord(response.body(), word);
+                        cache.put(word, valid ? WordLookup.VALID : WordLookup.INVALID,
+                                valid ? validCacheTtlMinutes : invalidCacheTtlMinutes, TimeUnit.MINUTES);
+                        countRequest(valid ? "valid" : "invalid");
+                        result.complete(valid ? WordLookup.VALID : WordLookup.INVALID);
+                    });
+        } catch (RuntimeException e) {
+            // sendAsync 가 바로 던지면 whenComplete 가 불리지 않으므로 여기서 정리
+            permits.release();
+            onFailure(trial);
+            countRequest("error");
+            log.warn("krdict 단어 확인 실패: word={}, error={}", word, e.toString());
+            result.complete(WordLookup.UNAVAILABLE);
+        }
+        return result;
+    }
+
+    private URI buildUri(String word) {
+        return URI.create(apiUrl + "?key=" + URLEncoder.encode(apiKey, StandardCharsets.UTF_8)
+                + "&q=" + URLEncoder.encode(word, StandardCharsets.UTF_8) + "&part=word&sort=dict");
+    }
+
+    // 검색 결과 중 표제어가 정확히 일치하는 항목이 있는지 (<word>단어</word>)
+    private boolean containsExactWord(String xml, String word) {
+        return xml != null && !xml.contains("<total>0</total>") && xml.contains("<word>" + word + "</word>");
+    }
+
+    // ===== 서킷 브레이커 =====
+
+    private int admit() {
+        if (consecutiveFailures.get() < failureThreshold) {
+            return ALLOWED;
+        }
+        if (System.nanoTime() - openUntilNanos < 0) {
+            return DENIED;
+        }
+        // open 시간이 지나면 요청 하나만 보내 회복 여부 확인 (half-open)
+        return trialInFlight.compareAndSet(false, true) ? TRIAL : DENIED;
+    }
+
+    private void onSuccess(boolean trial) {
+        if (consecutiveFailures.getAndSet(0) >= failureThreshold) {
+            log.info("krdict circuit closed");
+        }
+        if (trial) {
+            trialInFlight.set(false);
+        }
+    }
+
+    private void onFailure(boolean trial) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold && (failures == failureThreshold || trial)) {
+            // 처음 열리거나 회복 확인 요청이 실패하면 open 시간을 다시 시작
+            openUntilNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(openMs);
+            log.warn("krdict circuit open for {}ms: consecutiveFailures={}", openMs, failures);
+        }
+        if (trial) {
+            trialInFlight.set(false);
+        }
+    }
+
+    private boolean isCircuitOpen() {
+        return consecutiveFailures.get() >= failureThreshold;
+    }
+
+    // ===== 지표 =====
+
+    private void countRequest(String result) {
+        Counter.builder("realtime.minigame.krdict.requests")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void registerMetrics() {
+        coalescedCounter = Counter.builder("realtime.minigame.krdict.coalesced")
+                .description("Word lookups that joined a request already in flight")
+                .register(meterRegistry);
+        Gauge.builder("realtime.minigame.krdict.circuit.open", this, client -> client.isCircuitOpen() ? 1 : 0)
+                .register(meterRegistry);
+        Gauge.builder("realtime.minigame.krdict.cache.size", cache, ExpiringLruCache::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.minigame.krdict.cache.hits", cache, ExpiringLruCache::getHitCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.minigame.krdict.cache.misses", cache, ExpiringLruCache::getMissCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.minigame.krdict.cache.evictions", cache, ExpiringLruCache::getEvictionCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("realtime.minigame.krdict.cache.expirations", cache, ExpiringLruCache::getExpirationCount)
+                .register(meterRegistry);
+    }
+}
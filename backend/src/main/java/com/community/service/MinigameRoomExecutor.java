@@ -0,0 +1,235 @@
+package com.community.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미니게임 방별 직렬 실행기 (방 하나 = 수신함 하나)
+ * 같은 방의 이벤트(STOMP 핸들러, 게임 타이머)는 도착 순서대로 한 번에 하나씩 실행되고,
+ * 다른 방의 이벤트는 서로 기다리지 않고 동시에 실행됩니다.
+ * 방 상태(MinigameRoomDto, 게임 세션)는 그 방의 실행기에서만 변경하므로 별도 잠금이 필요 없습니다.
+ * 수신함은 방을 만들 때 register 로 만들고 remove 로 닫으며, 수신함이 없는 방(없는 방, 삭제된 방)의 이벤트는 버립니다.
+ * (삭제 뒤에 도착한 타이머 작업이 수신함을 다시 만들어 남기지 않도록)
+ * - virtual: 수신함 처리마다 가상 스레드 (Java 21 이상, 낮은 버전에서는 pool 로 대체)
+ * - pool: 고정 크기 스레드 풀에서 수신함을 번갈아 처리
+ */
+@Component
+@Slf4j
+public class MinigameRoomExecutor {
+
+    @Value("${realtime.minigame.executor.mode:virtual}")
+    private String mode;
+
+    // pool 모드 스레드 수
+    @Value("${realtime.minigame.executor.pool-size:4}")
+    private int poolSize;
+
+    // 한 번 실행될 때 처리할 최대 이벤트 수 (넘으면 다른 방에 스레드를 양보)
+    @Value("${realtime.minigame.executor.max-batch:32}")
+    private int maxBatch;
+
+    // roomId -> 수신함
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private final AtomicLong completedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private ExecutorService executor;
+    private String activeMode;
+
+    @PostConstruct
+    public void start() {
+        activeMode = mode.toLowerCase();
+        if ("virtual".equals(activeMode)) {
+            executor = createVirtualThreadExecutor();
+            if (executor == null) {
+                log.warn("Virtual threads are not available on Java {}, falling back to pool mode",
+                        Runtime.version().feature());
+            }
+        }
+        if (executor == null) {
+            activeMode = "pool";
+            executor = createPoolExecutor();
+        }
+        log.info("Minigame room executor started: mode={}", activeMode);
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 방 생성 시 수신함 등록 (방을 다른 스레드에 공개하기 전에 호출)
+     */
+    public void register(String roomId) {
+        mailboxes.putIfAbsent(roomId, new Mailbox(roomId));
+    }
+
+    /**
+     * 방 이벤트 실행 (같은 방의 이벤트는 호출 순서대로 하나씩 실행)
+     * @return 수신함이 없거나 닫혀서(없는 방, 삭제된 방) 버렸으면 false
+     */
+    public boolean execute(String roomId, Runnable task) {
+        Mailbox mailbox = roomId == null ? null : mailboxes.get(roomId);
+        if (mailbox == null || !mailbox.offer(task)) {
+            droppedCount.incrementAndGet();
+            log.debug("Dropped minigame room task for missing room: roomId={}", roomId);
+            return false;
+        }
+        mailbox.schedule();
+        return true;
+    }
+
+    /**
+     * 방 이벤트 실행, 방이 없으면 호출한 스레드에서 ifMissing 실행 (없는 방에 대한 응답용, 방 상태는 건드리지 않아야 함)
+     */
+    public void execute(String roomId, Runnable task, Runnable ifMissing) {
+        if (!execute(roomId, task)) {
+            ifMissing.run();
+        }
+    }
+
+    /**
+     * 방 삭제 시 수신함 정리
+     * 바로 닫아서 새 이벤트는 받지 않고, 이미 들어온 이벤트를 모두 처리한 뒤 수신함을 제거합니다.
+     */
+    public void remove(String roomId) {
+        Mailbox mailbox = mailboxes.get(roomId);
+        if (mailbox != null) {
+            mailbox.close();
+            mailbox.schedule();
+        }
+    }
+
+    public String getMode() {
+        return activeMode;
+    }
+
+    public int getRoomCount() {
+        return mailboxes.size();
+    }
+
+    public int getQueuedCount() {
+        return mailboxes.values().stream().mapToInt(mailbox -> mailbox.tasks.size()).sum();
+    }
+
+    public long getCompletedCount() {
+        return completedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Java 21 이상이면 작업마다 가상 스레드를 만드는 실행기 (빌드 대상이 17 이라 리플렉션으로 호출)
+     */
+    private ExecutorService createVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    private ExecutorService createPoolExecutor() {
+        AtomicInteger threadCounter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "minigame-room-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return Executors.newFixedThreadPool(Math.max(1, poolSize), threadFactory);
+    }
+
+    /**
+     * 방 하나의 이벤트 대기열
+     * scheduled 가 true 인 동안에는 실행기에 한 번만 제출되어 있으므로 이벤트가 동시에 실행되지 않습니다.
+     */
+    private class Mailbox {
+        private final String roomId;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Mailbox(String roomId) {
+            this.roomId = roomId;
+        }
+
+        synchronized boolean offer(Runnable task) {
+            if (closed) {
+                return false;
+            }
+            tasks.offer(task);
+            return true;
+        }
+
+        // 닫은 뒤에는 offer 가 실패하므로 남은 이벤트는 줄기만 함
+        synchronized void close() {
+            closed = true;
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                for (int i = 0; i < Math.max(1, maxBatch); i++) {
+                    Runnable task = tasks.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    try {
+                        task.run();
+                        completedCount.incrementAndGet();
+                    } catch (Exception e) {
+                        // 예외가 발생해도 같은 방의 다음 이벤트는 계속 실행되도록 함
+                        failedCount.incrementAndGet();
+                        log.error("Minigame room task failed: roomId={} - {}", roomId, e.getMessage(), e);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // 처리 중에 새 이벤트가 들어왔거나 한도만큼 처리하고 남았으면 다시 제출
+            if (!tasks.isEmpty()) {
+                schedule();
+            } else if (closed) {
+                // 닫힌 수신함의 이벤트를 모두 처리했으면 제거
+                mailboxes.remove(roomId, this);
+            }
+        }
+    }
+}
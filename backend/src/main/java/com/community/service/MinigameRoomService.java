@@ -4,6 +4,7 @@ import com.community.dto.MinigamePlayerDto;
 import com.community.dto.MinigameRoomDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 
@@ -13,15 +14,8 @@ import com.community.dto.GameScoreDto;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.net.URLEncoder;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @Slf4j
@@ -32,9 +26,18 @@ public class MinigameRoomService {
     @Autowired
     private SimpMessageSendingOperations messagingTemplate;
 
+    @Autowired
+    private RealtimeMessagingService realtimeMessagingService;
+
+    // 방 상태 변경은 방별 직렬 실행기에서만 (컨트롤러 핸들러와 타이머 모두)
+    @Autowired
+    private MinigameRoomExecutor roomExecutor;
+
     // Game sessions per room
     private final Map<String, GameSession> sessions = new ConcurrentHashMap<>();
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    // 게임 타이머 (타이밍 휠, 실행 시점이 되면 작업을 방 실행기로 넘김)
+    @Autowired
+    private GameTimerService gameTimerService;
     private final Random random = new Random();
 
     // Reaction round state
@@ -43,139 +46,38 @@ public class MinigameRoomService {
 
     // Omok game state
     private final Map<String, OmokGameSession> omokSessions = new ConcurrentHashMap<>();
+    // 오목 봇 수 탐색 (전용 fork-join 풀)
+    @Autowired
+    private OmokBotService omokBotService;
 
-    // 한국어기초사전 Open API 설정
-    private static final String KRDICT_API_KEY = "F5E1C7AE840AC60C17D459064E04F4E7";
-    private static final String KRDICT_API_URL = "https://krdict.korean.go.kr/api/search";
-
-    // 단어 검증 캐시 (API 호출 최소화)
-    private static final Set<String> validWordCache = ConcurrentHashMap.newKeySet();
-    private static final Set<String> invalidWordCache = ConcurrentHashMap.newKeySet();
-
-    // 한국어 단어 사전 (끝말잇기 검증용 - API 실패시 폴백)
-    private static final Set<String> KOREAN_WORDS = new HashSet<>();
-    static {
-        // 가
-        KOREAN_WORDS.addAll(Arrays.asList("가게", "가격", "가구", "가난", "가능", "가득", "가로", "가루", "가방", "가슴", "가요", "가운데", "가을", "가위", "가장", "가정", "가족", "가지", "각각", "각도", "각오", "각자", "간격", "간단", "간부", "간섭", "간신히", "간장", "간접", "간판", "간호", "갈등", "갈비", "갈색", "감각", "감기", "감독", "감동", "감사", "감상", "감소", "감옥", "감자", "감정", "감히", "갑자기", "강", "강도", "강력", "강물", "강사", "강아지", "강의", "강조", "강화", "같이", "개", "개구리", "개미", "개발", "개방", "개선", "개성", "개월", "개인", "거리", "거실", "거울", "거의", "거짓", "건강", "건너", "건물", "건설", "건축", "걸음", "검사", "검정", "게시판", "게임", "겨울", "격차", "견해", "결과", "결국", "결론", "결심", "결정", "결혼", "겸손", "경고", "경기", "경력", "경비", "경쟁", "경제", "경찰", "경치", "경험", "계곡", "계기", "계단", "계란", "계산", "계속", "계약", "계절", "계층", "계획", "고개", "고구마", "고급", "고기", "고려", "고모", "고민", "고생", "고양이", "고유", "고장", "고전", "고집", "고추", "고통", "고향", "곡식", "골목", "골프", "곰", "곱", "공간", "공개", "공격", "공공", "공급", "공기", "공동", "공무원", "공사", "공식", "공연", "공원", "공장", "공주", "공중", "공책", "공통", "공포", "공해", "공휴일", "과거", "과목", "과연", "과일", "과자", "과장", "과정", "과학", "관객", "관계", "관광", "관념", "관련", "관리", "관심", "관점", "관찰", "광고", "광경", "광장", "괴물", "교과서", "교류", "교문", "교사", "교수", "교실", "교양", "교육", "교장", "교통", "교환", "교회", "구경", "구두", "구름", "구멍", "구분", "구석", "구성", "구역", "구입", "구조", "구체", "국가", "국기", "국내", "국민", "국물", "국수", "국어", "국왕", "국적", "국제", "국회", "군대", "군사", "군인", "굴", "굶", "궁금", "권리", "권위", "귀", "귀국", "귀신", "규모", "규정", "규칙", "균형", "귤", "그날", "그네", "그늘", "그때", "그릇", "그림", "그만", "그전", "극복", "극장", "근거", "근교", "근로", "근무", "근본", "근처", "글씨", "글자", "금고", "금년", "금메달", "금방", "금액", "금요일", "금지", "급격", "급식", "급여", "급히", "긍정", "기간", "기계", "기관", "기구", "기능", "기념", "기대", "기도", "기둥", "기록", "기름", "기르다", "기법", "기분", "기사", "기상", "기성", "기숙사", "기술", "기억", "기업", "기온", "기원", "기자", "기적", "기준", "기차", "기초", "기타", "기한", "기호", "기회", "긴장", "길", "김", "김치", "깊이", "꽃", "꽃다발", "꿈", "끝"));
-        // 나
-        KOREAN_WORDS.addAll(Arrays.asList("나라", "나머지", "나무", "나비", "나이", "나중", "나침반", "낙엽", "난방", "날개", "날씨", "날짜", "남녀", "남동생", "남매", "남방", "남부", "남북", "남산", "남성", "남자", "남쪽", "남편", "남한", "납득", "낭비", "내과", "내년", "내부", "내용", "내일", "냄새", "냉장고", "냉방", "너머", "넓이", "네모", "넥타이", "년도", "노동", "노란색", "노래", "노력", "노선", "노인", "노트", "녹색", "녹음", "녹차", "논리", "논문", "논쟁", "농담", "농민", "농사", "농업", "농촌", "뇌", "누나", "눈", "눈물", "눈썹", "뉴스", "느낌", "능력", "늑대"));
-        // 다
-        KOREAN_WORDS.addAll(Arrays.asList("다리", "다방", "다수", "다음", "다이어트", "단계", "단골", "단독", "단맛", "단순", "단어", "단위", "단점", "단체", "달", "달걀", "달러", "달력", "달리", "담배", "담요", "담임", "담장", "당근", "당분간", "당시", "당연", "당장", "대개", "대공", "대구", "대기", "대낮", "대담", "대도시", "대략", "대량", "대로", "대리", "대문", "대부분", "대비", "대사", "대상", "대신", "대안", "대응", "대장", "대전", "대중", "대책", "대체", "대충", "대출", "대통령", "대표", "대학", "대학생", "대학원", "대합실", "대형", "대화", "대회", "덕", "덕분", "도구", "도끼", "도대체", "도덕", "도둑", "도로", "도망", "도서관", "도시", "도움", "도자기", "도장", "도전", "도중", "독감", "독립", "독서", "독신", "독일", "독특", "돈", "돌", "동감", "동갑", "동기", "동네", "동료", "동물", "동생", "동서", "동시", "동아리", "동양", "동의", "동작", "동전", "동창", "동쪽", "동포", "동화", "돼지", "된장", "두부", "두통", "둘째", "뒤쪽", "드라마", "등", "등록", "등불", "등산", "등장", "땀", "땅", "때", "때문", "떡", "떡볶이", "또래"));
-        // 라
-        KOREAN_WORDS.addAll(Arrays.asList("라디오", "라면", "라운드", "라이벌", "라이터", "랭킹", "러시아", "레몬", "레스토랑", "레저", "레코드", "로봇", "로비", "록", "롤러", "리듬", "리본", "리조트", "리터"));
-        // 마
-        KOREAN_WORDS.addAll(Arrays.asList("마늘", "마당", "마라톤", "마련", "마루", "마무리", "마술", "마약", "마음", "마을", "마이크", "마지막", "마찬가지", "마찰", "마크", "마트", "막내", "만남", "만두", "만세", "만약", "만일", "만족", "만화", "말", "말씀", "맘", "맛", "맞이", "매년", "매달", "매력", "매일", "매장", "매체", "맥주", "머리", "머리카락", "먹이", "먼지", "멀리", "멍", "메뉴", "메달", "메모", "메시지", "멜로디", "며칠", "면", "면적", "명령", "명단", "명문", "명성", "명예", "명의", "명절", "명함", "모기", "모델", "모든", "모래", "모레", "모습", "모양", "모으다", "모음", "모자", "모집", "모퉁이", "목", "목걸이", "목록", "목사", "목소리", "목숨", "목요일", "목욕", "목적", "목표", "몫", "몸", "몸무게", "몸짓", "못", "무게", "무관심", "무궁화", "무기", "무늬", "무대", "무덤", "무렵", "무료", "무리", "무릎", "무사", "무역", "무용", "무지개", "무척", "묵", "문", "문구", "문법", "문서", "문의", "문자", "문장", "문제", "문학", "문화", "물가", "물건", "물결", "물고기", "물론", "물속", "물질", "물체", "뮤지컬", "미국", "미끄럼", "미녀", "미래", "미루다", "미리", "미사일", "미소", "미술", "미술관", "미안", "미역", "미용실", "미움", "미인", "미터", "미팅", "미혼", "민간", "민속", "민요", "민족", "민주", "밀가루", "밑"));
-        // 바
-        KOREAN_WORDS.addAll(Arrays.asList("바가지", "바구니", "바깥", "바나나", "바늘", "바다", "바닥", "바람", "바보", "바위", "바이러스", "바이올린", "바탕", "박물관", "박사", "박수", "반", "반대", "반드시", "반려", "반면", "반복", "반성", "반응", "반장", "반찬", "반쪽", "받침", "발", "발견", "발달", "발레", "발목", "발생", "발음", "발자국", "발전", "발표", "발휘", "밤", "밥", "밥그릇", "밥상", "방", "방금", "방면", "방문", "방법", "방송", "방식", "방안", "방언", "방울", "방위", "방지", "방침", "방학", "방해", "방향", "밭", "배", "배경", "배구", "배꼽", "배달", "배드민턴", "배려", "배우", "배추", "배치", "백", "백두산", "백색", "백성", "백인", "백화점", "버릇", "버섯", "버스", "버튼", "번개", "번역", "번호", "벌", "벌금", "벌레", "벌써", "범위", "범인", "범죄", "법", "법률", "법원", "법적", "법칙", "벗", "벚꽃", "베개", "벤치", "벨트", "변경", "변동", "변명", "변신", "변화", "별", "별도", "별로", "별명", "병", "병실", "병원", "보관", "보너스", "보도", "보람", "보리", "보물", "보살핌", "보상", "보수", "보안", "보완", "보육", "보이차", "보장", "보조", "보존", "보증", "보충", "보통", "보트", "보편", "보험", "복", "복도", "복사", "복습", "복잡", "복지", "볶음", "본래", "본문", "본부", "본사", "본인", "본질", "볼", "볼펜", "봄", "봉사", "봉지", "봉투", "부근", "부담", "부동산", "부드럽다", "부딪치다", "부러움", "부르다", "부모", "부문", "부분", "부부", "부분", "부상", "부엌", "부위", "부인", "부자", "부작용", "부장", "부정", "부족", "부주의", "부지런히", "부채", "부탁", "부품", "부피", "북", "북쪽", "북한", "분노", "분량", "분류", "분리", "분명", "분석", "분수", "분야", "분위기", "분쟁", "분포", "분필", "분홍색", "불", "불가능", "불꽃", "불만", "불법", "불빛", "불안", "불이익", "불편", "불평", "불행", "붉은색", "붓", "비", "비교", "비극", "비난", "비닐", "비누", "비둘기", "비디오", "비만", "비명", "비밀", "비바람", "비상", "비서", "비용", "비율", "비중", "비타민", "비판", "비행", "비행기", "빈곤", "빌딩", "빗", "빗물", "빛", "빠짐", "빨래", "뼈"));
-        // 사
-        KOREAN_WORDS.addAll(Arrays.asList("사건", "사계절", "사고", "사과", "사교", "사귀다", "사냥", "사다리", "사람", "사랑", "사례", "사립", "사망", "사모님", "사무실", "사물", "사방", "사상", "사생활", "사설", "사슴", "사실", "사업", "사용", "사원", "사월", "사이", "사이트", "사자", "사장", "사전", "사정", "사진", "사촌", "사춘기", "사치", "사탕", "사투리", "사파리", "사표", "사학", "사회", "사흘", "산", "산길", "산꼭대기", "산림", "산불", "산소", "산업", "산책", "살", "살림", "삶", "삼계탕", "삼국", "삼촌", "상가", "상관", "상금", "상담", "상당", "상대", "상류", "상반기", "상상", "상식", "상업", "상위", "상인", "상자", "상점", "상징", "상처", "상추", "상태", "상품", "상황", "새", "새벽", "새해", "색", "색깔", "샌드위치", "생각", "생명", "생물", "생산", "생선", "생신", "생일", "생활", "샤워", "서랍", "서류", "서로", "서론", "서명", "서민", "서비스", "서양", "서울", "서적", "서점", "서쪽", "서클", "석사", "석유", "석탄", "섞다", "선거", "선물", "선배", "선발", "선생님", "선수", "선원", "선장", "선전", "선진국", "선택", "선풍기", "설거지", "설날", "설득", "설렁탕", "설명", "설문", "설비", "설사", "설악산", "설탕", "섬", "섬유", "성", "성격", "성경", "성공", "성당", "성명", "성별", "성인", "성장", "성적", "성질", "성함", "성향", "세계", "세금", "세기", "세대", "세련", "세로", "세상", "세수", "세월", "세탁기", "세탁소", "센터", "센티미터", "셀프", "셋째", "소개", "소금", "소극적", "소나기", "소나무", "소년", "소녀", "소득", "소망", "소매", "소문", "소비", "소설", "소수", "소식", "소용", "소원", "소유", "소음", "소중", "소질", "소파", "소포", "소풍", "소화", "속", "속담", "속도", "속상", "속옷", "손", "손가락", "손길", "손님", "손등", "손바닥", "손뼉", "손실", "손잡이", "손해", "솔직", "솜씨", "송아지", "송이", "송편", "쇠고기", "쇼핑", "수건", "수년", "수단", "수도", "수렵", "수리", "수많다", "수면", "수명", "수박", "수상", "수석", "수술", "수업", "수영", "수요", "수요일", "수입", "수준", "수집", "수출", "수필", "수학", "수험생", "숙녀", "숙박", "숙소", "숙제", "순간", "순서", "순수", "순위", "술", "술집", "숫자", "숲", "쉼", "쉼표", "스님", "스승", "스스로", "스웨터", "스위치", "스카프", "스키", "스타", "스타일", "스테이크", "스트레스", "스포츠", "스프", "슬픔", "습관", "습기", "승객", "승리", "승부", "승용차", "승진", "시", "시각", "시간", "시골", "시급", "시기", "시끄럽다", "시내", "시대", "시댁", "시들다", "시리즈", "시멘트", "시민", "시범", "시부모", "시선", "시설", "시스템", "시아버지", "시어머니", "시월", "시위", "시인", "시일", "시작", "시장", "시절", "시점", "시청", "시키다", "시험", "식", "식구", "식량", "식료품", "식물", "식빵", "식사", "식용유", "식욕", "식초", "식탁", "식품", "식히다", "신고", "신규", "신기", "신념", "신문", "신발", "신분", "신비", "신사", "신선", "신세", "신앙", "신용", "신인", "신입", "신제품", "신청", "신체", "신호", "신혼부부", "실감", "실내", "실례", "실력", "실리", "실망", "실수", "실습", "실시", "실업", "실정", "실제", "실천", "실컷", "실태", "실패", "실험", "실현", "심각", "심리", "심부름", "심사", "심장", "심판", "심하다", "십대", "십자가", "싸움", "쌀", "쌍둥이", "썰매", "쓰기", "쓰레기", "쓸모"));
-        // 아
-        KOREAN_WORDS.addAll(Arrays.asList("아가씨", "아기", "아까", "아끼다", "아내", "아들", "아래", "아래층", "아름답다", "아르바이트", "아무리", "아버지", "아빠", "아시아", "아예", "아울러", "아이", "아이디어", "아저씨", "아줌마", "아직", "아침", "아파트", "아프리카", "아픔", "아홉", "악기", "악몽", "악수", "악화", "안개", "안경", "안과", "안내", "안녕", "안다", "안락", "안방", "안부", "안심", "안전", "안정", "안쪽", "안팎", "알", "알맹이", "알코올", "암", "암컷", "암탉", "압력", "앞", "앞길", "앞뒤", "앞문", "앞서다", "앞쪽", "애완동물", "애인", "애정", "액수", "앨범", "야간", "야구", "야단", "야외", "야채", "약", "약간", "약국", "약사", "약속", "약점", "약품", "약혼녀", "양", "양념", "양말", "양배추", "양복", "양식", "양옆", "양주", "양파", "얕다", "얘기", "어깨", "어느새", "어둠", "어디", "어려움", "어른", "어린이", "어머니", "어법", "어젯밤", "어쨌든", "어찌", "억", "억울", "언니", "언덕", "언론", "언어", "얼굴", "얼마", "얼음", "엄마", "엄청나다", "업무", "업종", "업체", "엉덩이", "에너지", "에어컨", "여가", "여관", "여군", "여기", "여기저기", "여대생", "여동생", "여든", "여러", "여론", "여름", "여부", "여성", "여우", "여유", "여인", "여자", "여전히", "여행", "역", "역사", "역시", "역할", "연결", "연구", "연극", "연기", "연락", "연령", "연말", "연상", "연설", "연세", "연속", "연습", "연애", "연예인", "연인", "연장", "연주", "연출", "연필", "연합", "연휴", "열", "열기", "열량", "열매", "열쇠", "열심히", "열차", "염려", "엽서", "영", "영광", "영국", "영상", "영양", "영어", "영역", "영웅", "영원", "영향", "영화", "영혼", "옆", "옆구리", "옆방", "옆집", "예금", "예매", "예문", "예민", "예방", "예보", "예비", "예산", "예상", "예선", "예술", "예식장", "예약", "예외", "예의", "예절", "예정", "예컨대", "예측", "옛날", "오늘", "오락", "오래", "오렌지", "오른쪽", "오리", "오염", "오월", "오이", "오전", "오징어", "오페라", "오피스텔", "오해", "오히려", "오후", "옥상", "옥수수", "온갖", "온도", "온몸", "온종일", "온통", "올라가다", "올림픽", "올해", "옷", "옷감", "옷장", "옷차림", "와인", "완벽", "완성", "완전", "왕", "왕비", "왕자", "왜냐하면", "외갓집", "외국", "외교", "외로움", "외모", "외부", "외삼촌", "외숙모", "외출", "외할머니", "외할아버지", "외환", "왼발", "왼손", "왼쪽", "요금", "요구", "요리", "요새", "요소", "요약", "요일", "요즘", "요청", "욕", "욕실", "욕심", "용감", "용기", "용돈", "용도", "용서", "용어", "용품", "우동", "우리", "우산", "우선", "우승", "우연히", "우유", "우울", "우유", "우정", "우체국", "운", "운동", "운동장", "운동화", "운명", "운반", "운전", "운행", "울음", "웃음", "원", "원고", "원래", "원리", "원서", "원숭이", "원인", "원칙", "원피스", "월", "월급", "월드컵", "월요일", "웬만하다", "위", "위기", "위로", "위반", "위생", "위성", "위원", "위치", "위험", "윗사람", "유난히", "유능", "유독", "유럽", "유리", "유머", "유명", "유물", "유사", "유산", "유월", "유의", "유적", "유전", "유지", "유치원", "유학", "유해", "유행", "유형", "육군", "육상", "육십", "육체", "윤리", "은", "은메달", "은행", "음", "음료", "음료수", "음반", "음식", "음식점", "음악", "음주", "응답", "의견", "의논", "의도", "의문", "의미", "의복", "의사", "의식", "의심", "의외", "의욕", "의원", "의자", "의지", "의학", "이", "이것", "이곳", "이기다", "이날", "이념", "이놈", "이달", "이동", "이때", "이래", "이력서", "이론", "이루다", "이름", "이마", "이모", "이미", "이민", "이발소", "이번", "이불", "이빨", "이사", "이상", "이성", "이슬", "이야기", "이어지다", "이유", "이웃", "이월", "이익", "이전", "이제", "이중", "이직", "이쪽", "이틀", "이해", "이혼", "익숙하다", "인간", "인격", "인공", "인구", "인기", "인류", "인물", "인분", "인사", "인삼", "인상", "인생", "인식", "인연", "인원", "인재", "인정", "인종", "인천", "인체", "인터넷", "인터뷰", "인하", "인형", "일", "일곱", "일기", "일단", "일대", "일등", "일반", "일부", "일부러", "일상", "일생", "일손", "일시", "일요일", "일월", "일으키다", "일자리", "일정", "일종", "일주일", "일찍", "일치", "일행", "일회용", "임금", "임무", "임산부", "임시", "임신", "입", "입구", "입금", "입력", "입맛", "입사", "입술", "입시", "입원", "입장", "입학", "잇몸", "잊다", "자격", "자극", "자기", "자꾸", "자녀", "자동", "자동차", "자랑", "자료", "자리", "자막", "자매", "자명종", "자문", "자살", "자세", "자신", "자연", "자연스럽다", "자원", "자유", "자전거", "자정", "자존심", "자주", "자체", "자판", "작가", "작년", "작다", "작동", "작문", "작성", "작업", "작용", "작은아버지", "작은어머니", "작품", "잔", "잔디", "잔치", "잠", "잠깐", "잠수함", "잠시", "잠옷", "잡다", "잡지", "장관", "장기간", "장난", "장남", "장녀", "장례", "장르", "장마", "장면", "장모", "장모님", "장미", "장비", "장사", "장소", "장애인", "장인", "장점", "장학금", "재능", "재다", "재료", "재미", "재산", "재생", "재정", "재주", "재채기", "재판", "재학", "쟁반", "저", "저거", "저고리", "저곳", "저기", "저금", "저녁", "저런", "저렇게", "저번", "저울", "저자", "저절로", "저쪽", "저희", "적", "적극", "적당", "적성", "적용", "적응", "적절", "적히다", "전개", "전공", "전구", "전국", "전기", "전날", "전달", "전라도", "전망", "전문", "전반", "전부", "전선", "전설", "전세", "전시", "전시회", "전원", "전자", "전쟁", "전제", "전주", "전체", "전통", "전혀", "전화", "전화기", "전화번호", "전후", "절", "절대", "절반", "절약", "절차", "젊음", "점", "점심", "점원", "점점", "점수", "점차", "접근", "접다", "접시", "접촉", "젓가락", "정거장", "정답", "정도", "정리", "정문", "정부", "정비", "정상", "정성", "정신", "정오", "정원", "정육점", "정의", "정장", "정전", "정직", "정치", "정확", "젖", "젖히다", "제공", "제과점", "제국", "제대로", "제도", "제목", "제발", "제법", "제비", "제사", "제시", "제안", "제외", "제일", "제자", "제작", "제주도", "제출", "제품", "제한", "조각", "조건", "조금", "조깅", "조리", "조명", "조미료", "조상", "조선", "조심", "조절", "조정", "조직", "조카", "족", "존경", "존대", "존재", "졸업", "졸음", "좀", "좁히다", "종교", "종류", "종소리", "종업원", "종이", "종일", "종종", "좌석", "좌우", "죄", "죄송", "주", "주거", "주관", "주로", "주류", "주먹", "주문", "주민", "주방", "주변", "주부", "주사", "주소", "주식", "주요", "주의", "주인", "주일", "주장", "주전자", "주제", "주차", "주택", "주한", "주황색", "죽음", "준비", "줄", "줄기", "줄무늬", "줌", "중간", "중계방송", "중국", "중년", "중단", "중독", "중반", "중부", "중세", "중소기업", "중순", "중심", "중앙", "중얼거리다", "중요", "중학교", "쥐", "즉석", "즐거움", "증가", "증거", "증권", "증상", "증세", "증시", "지각", "지갑", "지경", "지구", "지금", "지급", "지나가다", "지난달", "지난번", "지난주", "지난해", "지능", "지다", "지도", "지도자", "지루하다", "지름길", "지리", "지방", "지붕", "지불", "지식", "지역", "지우개", "지원", "지위", "지점", "지진", "지출", "지키다", "지하", "지하도", "지하철", "지혜", "직선", "직업", "직원", "직장", "직전", "직접", "직후", "진급", "진단", "진동", "진료", "진리", "진심", "진실", "진짜", "진출", "진통", "진행", "질", "질문", "질병", "질서", "질투", "짐", "집", "집단", "집안", "집중", "짓", "짓다", "짙다", "짝", "짝꿍", "짬뽕", "쪽", "찌개", "찍다"));
-        // 차
-        KOREAN_WORDS.addAll(Arrays.asList("차", "차갑다", "차량", "차례", "차마", "차선", "차이", "차창", "차츰", "착각", "찬물", "찬성", "찬스", "참가", "참고", "참기름", "참다", "참새", "참석", "참외", "참여", "참조", "창가", "창고", "창구", "창문", "창조", "창피", "채널", "채소", "채우다", "책", "책가방", "책방", "책상", "책임", "챔피언", "처리", "처벌", "처음", "천", "천국", "천둥", "천만", "천장", "천재", "천천히", "철", "철도", "철저", "첫날", "첫째", "청년", "청바지", "청소", "청소기", "청소년", "청춘", "체계", "체력", "체온", "체육", "체조", "체중", "체험", "초", "초기", "초대", "초등학교", "초록색", "초밥", "초보", "초상화", "초점", "초콜릿", "촌", "촌스럽다", "총", "총각", "총리", "총장", "촬영", "최고", "최근", "최대", "최선", "최소", "최신", "최악", "최우선", "최종", "최초", "최후", "추가", "추억", "추위", "추진", "추측", "추천", "축구", "축소", "축제", "축하", "출구", "출근", "출발", "출산", "출석", "출신", "출입", "출장", "출판", "출현", "충격", "충고", "충돌", "충분", "취미", "취소", "취업", "취직", "취하다", "측면", "치과", "치다", "치료", "치마", "치아", "치약", "치즈", "친구", "친밀", "친정", "친척", "친하다", "칠", "칠월", "칠판", "침", "침대", "침묵", "침실", "칫솔", "칭찬"));
-        // 카
-        KOREAN_WORDS.addAll(Arrays.asList("카드", "카레", "카메라", "카운터", "카페", "칼", "칼국수", "캐릭터", "캐리어", "캠페인", "캠퍼스", "커튼", "커피", "컴퓨터", "컵", "케이크", "코", "코끼리", "코너", "코드", "코스", "코스모스", "코트", "코피", "콘서트", "콘텐츠", "콧물", "콩", "콩나물", "쾌감", "쿠폰", "크기", "크리스마스", "클래식", "클럽", "키", "키로", "킬로그램", "킬로미터"));
-        // 타
-        KOREAN_WORDS.addAll(Arrays.asList("타다", "타입", "탁구", "탁자", "탄생", "탈락", "탈출", "탐구", "탑", "탓", "태권도", "태도", "태양", "태풍", "택배", "택시", "터널", "터미널", "턱", "털", "테니스", "테러", "테스트", "테이블", "텔레비전", "토끼", "토론", "토마토", "토요일", "톤", "통", "통계", "통과", "통로", "통신", "통역", "통일", "통장", "통제", "통증", "통지", "통화", "퇴근", "투자", "투표", "튀김", "트럭", "튼튼", "특기", "특별", "특성", "특수", "특이", "특정", "특징", "특히", "틀림", "틈", "티셔츠", "팀"));
-        // 파
-        KOREAN_WORDS.addAll(Arrays.asList("파괴", "파란색", "파리", "파악", "파일", "파출소", "파티", "판", "판결", "판단", "판매", "판사", "팔", "팔다", "팔월", "팝송", "패션", "팩스", "팬", "팬티", "퍼센트", "페이지", "펜", "편", "편견", "편도", "편리", "편안", "편의", "편지", "편하다", "평가", "평균", "평등", "평범", "평생", "평소", "평야", "평일", "평화", "폐지", "포도", "포도주", "포스터", "포인트", "포장", "포크", "포함", "폭력", "폭발", "폭우", "표", "표면", "표시", "표정", "표준", "표현", "푸르다", "풀", "품목", "품질", "풍경", "풍부", "풍선", "풍속", "풍습", "프로", "프로그램", "플라스틱", "피", "피곤", "피다", "피땀", "피로", "피부", "피아노", "피우다", "피자", "피해", "필기", "필름", "필수", "필요", "필자", "필통"));
-        // 하
-        KOREAN_WORDS.addAll(Arrays.asList("하늘", "하느님", "하다", "하드웨어", "하반기", "하숙집", "하순", "하얀색", "하여튼", "하인", "하필", "학과", "학교", "학급", "학기", "학년", "학력", "학번", "학부모", "학비", "학생", "학습", "학용품", "학원", "학자", "학점", "한가운데", "한강", "한계", "한국", "한국어", "한국인", "한글", "한꺼번에", "한눈", "한동안", "한두", "한라산", "한마디", "한복", "한순간", "한식", "한심", "한약", "한옥", "한자", "한정", "한참", "한창", "한편", "할머니", "할아버지", "할인", "함께", "합격", "합리", "합의", "항공", "항구", "항상", "항의", "해", "해결", "해군", "해당", "해롭다", "해산물", "해석", "해소", "해수욕장", "해안", "해외", "해일", "핵심", "핸드백", "햄버거", "햇볕", "햇살", "행동", "행복", "행사", "행위", "행정", "향", "향기", "향상", "향수", "향하다", "허락", "허리", "허용", "헌법", "험하다", "헤어지다", "헬기", "현관", "현금", "현대", "현상", "현실", "현장", "현재", "현지", "혈액", "협력", "협회", "형", "형님", "형부", "형사", "형성", "형수", "형식", "형제", "형태", "형편", "혜택", "호", "호기심", "호남", "호랑이", "호박", "호수", "호실", "호텔", "호흡", "혹시", "혼나다", "혼란", "혼자", "홈페이지", "홍보", "홍수", "홍차", "화", "화가", "화나다", "화난", "화려", "화면", "화분", "화살", "화상", "화요일", "화원", "화이팅", "화재", "화장", "화장실", "화장품", "화폐", "화학", "확대", "확보", "확산", "확실", "확신", "확인", "확장", "환경", "환영", "환율", "환자", "활기", "활동", "활발", "활용", "황금", "회", "회계", "회관", "회복", "회비", "회사", "회색", "회원", "회의", "회장", "회전", "회화", "횟수", "효과", "효도", "효율", "후기", "후반", "후보", "후배", "후추", "후회", "훈련", "훨씬", "휴가", "휴게실", "휴대", "휴식", "휴일", "휴지", "흉내", "흐름", "흑백", "흑인", "흔적", "흔히", "흙", "흡수", "흥미", "흥분", "희곡", "희망", "희생", "흰색", "힘"));
-    }
-
-    /**
-     * 한국어기초사전 API를 사용하여 단어 유효성 검증
-     * 캐시를 사용하여 API 호출 최소화
-     */
-    private boolean isValidKoreanWord(String word) {
-        if (word == null || word.trim().isEmpty()) {
-            return false;
-        }
-
-        String trimmedWord = word.trim();
+    // 끝말잇기 단어 사전 (오프라인 DAWG)
+    @Autowired
+    private WordDictionaryService wordDictionary;
 
-        // 1. 유효 단어 캐시 확인
-        if (validWordCache.contains(trimmedWord)) {
-            return true;
-        }
+    // 오프라인 사전에 없는 단어의 외부 확인 (설정하지 않으면 꺼짐)
+    @Autowired
+    private KrdictWordClient krdictClient;
 
-        // 2. 무효 단어 캐시 확인
-        if (invalidWordCache.contains(trimmedWord)) {
-            return false;
-        }
+    // 이어갈 단어가 없으면 바로 패배 처리 (내장 목록은 작아서 기본은 끔)
+    @Value("${realtime.minigame.dictionary.no-next-word-ends-game:false}")
+    private boolean noNextWordEndsGame;
 
-        // 3. 로컬 사전 확인 (빠른 응답)
-        if (KOREAN_WORDS.contains(trimmedWord)) {
-            validWordCache.add(trimmedWord);
-            return true;
-        }
+    // 두음법칙 (끝 글자 -> 바꿔 쓸 수 있는 첫 글자)
+    private static final Map<String, String> DUEUM = Map.ofEntries(
+            Map.entry("녀", "여"), Map.entry("뇨", "요"), Map.entry("뉴", "유"), Map.entry("니", "이"),
+            Map.entry("랴", "야"), Map.entry("려", "여"), Map.entry("례", "예"), Map.entry("료", "요"),
+            Map.entry("류", "유"), Map.entry("리", "이"), Map.entry("라", "나"), Map.entry("래", "내"),
+            Map.entry("로", "노"), Map.entry("뢰", "뇌"), Map.entry("루", "누"), Map.entry("르", "느"));
 
-        // 4. API 호출하여 검증
-        try {
-            boolean isValid = checkWordWithKrdictAPI(trimmedWord);
-            if (isValid) {
-                validWordCache.add(trimmedWord);
-                log.info("단어 '{}' API 검증 성공", trimmedWord);
-            } else {
-                invalidWordCache.add(trimmedWord);
-                log.info("단어 '{}' API 검증 실패 - 사전에 없음", trimmedWord);
-            }
-            return isValid;
-        } catch (Exception e) {
-            log.warn("API 호출 실패, 로컬 사전으로 폴백: {}", e.getMessage());
-            // API 실패시 로컬 사전으로 폴백
-            return KOREAN_WORDS.contains(trimmedWord);
-        }
-    }
+    // 힌트용 초성
+    private static final char[] CHOSUNG = {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ',
+            'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
 
     /**
-     * 한국어기초사전 API 호출
+     * 끝말잇기 단어 검증 (오프라인 사전, 네트워크 호출 없음)
      */
-    private boolean checkWordWithKrdictAPI(String word) throws Exception {
-        String encodedWord = URLEncoder.encode(word, StandardCharsets.UTF_8.toString());
-        String apiUrl = KRDICT_API_URL + "?key=" + KRDICT_API_KEY + "&q=" + encodedWord + "&part=word&sort=dict";
-
-        URL url = new URL(apiUrl);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setConnectTimeout(3000); // 3초 타임아웃
-        conn.setReadTimeout(3000);
-
-        int responseCode = conn.getResponseCode();
-        if (responseCode != 200) {
-            throw new RuntimeException("API 응답 오류: " + responseCode);
-        }
-
-        BufferedReader reader = new BufferedReader(
-            new InputStreamReader(conn.getInputStream(), StandardCharsets.UTF_8)
-        );
-        StringBuilder response = new StringBuilder();
-        String line;
-        while ((line = reader.readLine()) != null) {
-            response.append(line);
-        }
-        reader.close();
-        conn.disconnect();
-
-        String xmlResponse = response.toString();
-
-        // XML에서 total 값 파싱 (검색 결과 수)
-        // <total>0</total> 이면 단어 없음
-        // <total>1</total> 이상이면 단어 있음
-        if (xmlResponse.contains("<total>0</total>")) {
-            return false;
-        }
-
-        // 검색 결과가 있으면 정확한 단어 매칭 확인
-        // <word>단어</word> 태그에서 정확히 일치하는지 확인
-        String wordPattern = "<word>" + word + "</word>";
-        if (xmlResponse.contains(wordPattern)) {
-            return true;
-        }
-
-        // 부분 매칭도 허용 (API가 유사 단어도 반환하므로)
-        // total이 0이 아니고 검색어가 포함되어 있으면 유효
-        return xmlResponse.contains("<word>") && !xmlResponse.contains("<total>0</total>");
+    private boolean isValidKoreanWord(String word) {
+        return word != null && wordDictionary.isWord(word.trim());
     }
 
     /**
@@ -209,6 +111,7 @@ public class MinigameRoomService {
         host.setSelectedOutline(selectedOutline);
 
         room.getPlayers().add(host);
+        roomExecutor.register(roomId);
         rooms.put(roomId, room);
 
         log.info("방 생성: {} (ID: {}, GPS: {}, {})", roomName, roomId, gpsLng, gpsLat);
@@ -216,10 +119,51 @@ public class MinigameRoomService {
     }
 
     /**
-     * 방 목록 조회
+     * 방 ID 목록 (방 목록 응답은 방마다 snapshotRoom 으로 복사)
      */
-    public List<MinigameRoomDto> getAllRooms() {
-        return new ArrayList<>(rooms.values());
+    public List<String> getRoomIds() {
+        return new ArrayList<>(rooms.keySet());
+    }
+
+    /**
+     * 방 복사본 (플레이어 목록까지 복사, 그 방의 실행기에서 호출)
+     * 다른 방 실행기가 바꾸는 중인 방을 직렬화하지 않도록 방 목록 응답에 사용합니다.
+     * @return 방이 없으면 null
+     */
+    public MinigameRoomDto snapshotRoom(String roomId) {
+        MinigameRoomDto room = rooms.get(roomId);
+        if (room == null) {
+            return null;
+        }
+        MinigameRoomDto copy = new MinigameRoomDto();
+        copy.setRoomId(room.getRoomId());
+        copy.setRoomName(room.getRoomName());
+        copy.setGameName(room.getGameName());
+        copy.setHostId(room.getHostId());
+        copy.setHostName(room.getHostName());
+        copy.setCurrentPlayers(room.getCurrentPlayers());
+        copy.setMaxPlayers(room.getMaxPlayers());
+        copy.setLocked(room.isLocked());
+        copy.setPlaying(room.isPlaying());
+        copy.setAction(room.getAction());
+        copy.setTimestamp(room.getTimestamp());
+        copy.setGpsLng(room.getGpsLng());
+        copy.setGpsLat(room.getGpsLat());
+        room.getPlayers().forEach(player -> copy.getPlayers().add(copyPlayer(player)));
+        room.getSpectators().forEach(spectator -> copy.getSpectators().add(copyPlayer(spectator)));
+        return copy;
+    }
+
+    private static MinigamePlayerDto copyPlayer(MinigamePlayerDto player) {
+        MinigamePlayerDto copy = new MinigamePlayerDto();
+        copy.setUserId(player.getUserId());
+        copy.setUsername(player.getUsername());
+        copy.setLevel(player.getLevel());
+        copy.setHost(player.isHost());
+        copy.setReady(player.isReady());
+        copy.setSelectedProfile(player.getSelectedProfile());
+        copy.setSelectedOutline(player.getSelectedOutline());
+        return copy;
     }
 
     /**
@@ -302,7 +246,7 @@ public class MinigameRoomService {
                 // 오목 타이머 중지
                 OmokGameSession omokSession = omokSessions.remove(roomId);
                 if (omokSession != null && omokSession.timerFuture != null) {
-                    omokSession.timerFuture.cancel(false);
+                    omokSession.timerFuture.cancel();
                 }
 
                 // 게임 종료 이벤트 브로드캐스트
@@ -326,14 +270,19 @@ public class MinigameRoomService {
 
         // 방장이 나갔을 때
         if (room.getHostId().equals(userId)) {
-            if (room.getPlayers().isEmpty()) {
+            // 봇은 방장이 될 수 없으므로 남은 참가자가 봇뿐이면 방 삭제
+            Optional<MinigamePlayerDto> nextHost = room.getPlayers().stream()
+                    .filter(p -> !OmokBotService.isBot(p.getUserId()))
+                    .findFirst();
+            if (nextHost.isEmpty()) {
                 // 방 삭제
                 rooms.remove(roomId);
+                roomExecutor.remove(roomId);
                 log.info("방 삭제: {}", roomId);
                 return null;
             } else {
                 // 다음 사람을 방장으로 지정
-                MinigamePlayerDto newHost = room.getPlayers().get(0);
+                MinigamePlayerDto newHost = nextHost.get();
                 newHost.setHost(true);
                 room.setHostId(newHost.getUserId());
                 room.setHostName(newHost.getUsername());
@@ -353,6 +302,11 @@ public class MinigameRoomService {
             return null;
         }
 
+        // 봇은 오목 전용이므로 다른 게임으로 바꾸면 제거
+        if (!"오목".equals(gameName) && room.getPlayers().removeIf(p -> OmokBotService.isBot(p.getUserId()))) {
+            room.setCurrentPlayers(room.getPlayers().size());
+            log.info("게임 변경으로 오목 봇 제거: roomId={}, gameName={}", roomId, gameName);
+        }
         room.setGameName(gameName);
 
         // 최대 인원 수를 줄였을 때 초과 인원을 관전자로 이동
@@ -372,9 +326,13 @@ public class MinigameRoomService {
                     }
                 }
 
-                // 관전자로 이동
+                // 관전자로 이동 (봇은 관전자가 될 수 없으므로 제거만)
                 for (MinigamePlayerDto player : playersToMove) {
                     room.getPlayers().remove(player);
+                    if (OmokBotService.isBot(player.getUserId())) {
+                        log.info("오목 봇 제거: roomId={}, botId={}", roomId, player.getUserId());
+                        continue;
+                    }
                     player.setReady(false); // 준비 상태 초기화
                     room.getSpectators().add(player);
                     log.info("플레이어 {}를 관전자로 이동: roomId={}", player.getUsername(), roomId);
@@ -466,12 +424,43 @@ public class MinigameRoomService {
         return room;
     }
 
+    /**
+     * 방 실행기에서 한 번 실행되도록 예약
+     */
+    private GameTimerService.Timeout scheduleInRoom(String roomId, Runnable task, long delay, TimeUnit unit) {
+        AtomicReference<GameTimerService.Timeout> self = new AtomicReference<>();
+        GameTimerService.Timeout timeout = gameTimerService.schedule(
+                () -> roomExecutor.execute(roomId, () -> runUnlessCancelled(self, task)), delay, unit);
+        self.set(timeout);
+        return timeout;
+    }
+
+    /**
+     * 방 실행기에서 주기적으로 실행되도록 예약 (첫 실행은 한 주기 뒤)
+     */
+    private GameTimerService.Timeout scheduleInRoomAtFixedRate(String roomId, Runnable task, long period,
+                                                              TimeUnit unit) {
+        AtomicReference<GameTimerService.Timeout> self = new AtomicReference<>();
+        GameTimerService.Timeout timeout = gameTimerService.scheduleAtFixedRate(
+                () -> roomExecutor.execute(roomId, () -> runUnlessCancelled(self, task)), period, unit);
+        self.set(timeout);
+        return timeout;
+    }
+
+    // 방 실행기 대기열에 들어간 뒤 취소된 타이머는 실행하지 않음 (취소도 방 실행기에서 하므로 순서가 보장됨)
+    private void runUnlessCancelled(AtomicReference<GameTimerService.Timeout> self, Runnable task) {
+        GameTimerService.Timeout timeout = self.get();
+        if (timeout == null || !timeout.isCancelled()) {
+            task.run();
+        }
+    }
+
     // Inner class to hold session state
     private static class GameSession {
         private final String roomId;
         Map<String, GameTargetDto> activeTargets = new ConcurrentHashMap<>();
         Map<String, Integer> scores = new ConcurrentHashMap<>();
-        java.util.concurrent.ScheduledFuture<?> future;
+        GameTimerService.Timeout future;
         private int remainingSeconds = 0;
 
         public GameSession(String roomId) {
@@ -511,6 +500,12 @@ public class MinigameRoomService {
         room.setPlaying(true);
         log.info("게임 시작: {}", roomId);
 
+        // 이전 판에서 끝나지 않고 남은 오목 대국 정리 (새 판은 omokStart 로 시작)
+        OmokGameSession staleOmok = omokSessions.remove(roomId);
+        if (staleOmok != null && staleOmok.timerFuture != null) {
+            staleOmok.timerFuture.cancel();
+        }
+
         // Initialize game session
         GameSession session = new GameSession(roomId);
         sessions.put(roomId, session);
@@ -526,21 +521,13 @@ public class MinigameRoomService {
         if ("에임 맞추기".equals(room.getGameName())) {
             session.setRemainingSeconds(GAME_DURATION);
 
-            // 초기 타겟 생성 (최대 3개)
-            new Thread(() -> {
-                try {
-                    Thread.sleep(500);
-                    for (int i = 0; i < MAX_TARGETS; i++) {
-                        spawnTarget(roomId);
-                        Thread.sleep(200); // 타겟 간 약간의 간격
-                    }
-                } catch (InterruptedException e) {
-                    e.printStackTrace();
-                }
-            }).start();
+            // 초기 타겟 생성 (최대 3개, 타겟 간 약간의 간격)
+            for (int i = 0; i < MAX_TARGETS; i++) {
+                scheduleInRoom(roomId, () -> spawnTarget(roomId), 500 + i * 200L, TimeUnit.MILLISECONDS);
+            }
 
             // 주기적으로 타겟 생성 및 타이머 업데이트
-            session.future = scheduler.scheduleAtFixedRate(() -> {
+            session.future = scheduleInRoomAtFixedRate(roomId, () -> {
                 try {
                     GameSession s = sessions.get(roomId);
                     if (s == null) return;
@@ -554,7 +541,7 @@ public class MinigameRoomService {
                     timerEvt.setType("aimTimer");
                     timerEvt.setPayload(String.valueOf(s.getRemainingSeconds()));
                     timerEvt.setTimestamp(System.currentTimeMillis());
-                    messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", timerEvt);
+                    realtimeMessagingService.sendGameEvent(roomId, timerEvt);
 
                     // 타겟 생성 (최대 3개까지)
                     if (s.getRemainingSeconds() % TARGET_SPAWN_INTERVAL == 0) {
@@ -564,14 +551,14 @@ public class MinigameRoomService {
                     // 시간 종료 시 게임 종료
                     if (s.getRemainingSeconds() <= 0) {
                         if (s.future != null) {
-                            s.future.cancel(false);
+                            s.future.cancel();
                         }
                         endGameSession(roomId);
                     }
                 } catch (Exception e) {
                     log.error("에임 게임 타이머 에러: roomId={}", roomId, e);
                 }
-            }, 1, 1, TimeUnit.SECONDS);
+            }, 1, TimeUnit.SECONDS);
 
             log.info("에임 게임 타이머 시작: roomId={}, duration={}s", roomId, GAME_DURATION);
         } else if ("Reaction Race".equals(room.getGameName())) {
@@ -594,7 +581,7 @@ public class MinigameRoomService {
             evt.setType("spawnTarget");
             evt.setTarget(target);
             evt.setTimestamp(System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", evt);
+            realtimeMessagingService.sendGameEvent(roomId, evt);
             // Note: Broadcasting to room is fine, but ideally we should send to specific
             // user
             // using separate destination like /topic/minigame/room/{roomId}/game/{userId}
@@ -622,7 +609,7 @@ public class MinigameRoomService {
             scoreEvt.setPlayerId(entry.getKey());
             scoreEvt.setPayload(String.valueOf(entry.getValue()));
             scoreEvt.setTimestamp(System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", scoreEvt);
+            realtimeMessagingService.sendGameEvent(roomId, scoreEvt);
         }
     }
 
@@ -652,7 +639,7 @@ public class MinigameRoomService {
         evt.setTarget(target);
         evt.setTimestamp(System.currentTimeMillis());
 
-        messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", evt);
+        realtimeMessagingService.sendGameEvent(roomId, evt);
         log.info("타겟 생성: roomId={}, targetId={}, 현재 타겟 수={}", roomId, target.getId(), session.activeTargets.size());
     }
 
@@ -661,7 +648,7 @@ public class MinigameRoomService {
         if (session == null)
             return;
         if (session.future != null && !session.future.isCancelled()) {
-            session.future.cancel(false);
+            session.future.cancel();
         }
 
         // Broadcast final scores
@@ -713,7 +700,10 @@ public class MinigameRoomService {
         return room;
     }
 
-    public synchronized GameScoreDto handleHit(String roomId, String playerId, String playerName, String targetId,
+    /**
+     * 타겟 명중 처리 (방 실행기에서 호출되므로 같은 방의 명중은 순서대로 하나씩 처리됨)
+     */
+    public GameScoreDto handleHit(String roomId, String playerId, String playerName, String targetId,
             long clientTs) {
         log.info("handleHit called: room={}, player={}, target={}", roomId, playerId, targetId);
 
@@ -752,7 +742,7 @@ public class MinigameRoomService {
         scoreEvt.setPlayerName(playerName);
         scoreEvt.setPayload(String.valueOf(newScore));
         scoreEvt.setTimestamp(System.currentTimeMillis());
-        messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", scoreEvt);
+        realtimeMessagingService.sendGameEvent(roomId, scoreEvt);
 
         // broadcast target removed
         GameEventDto removed = new GameEventDto();
@@ -797,7 +787,7 @@ public class MinigameRoomService {
             log.info("reactionGo (immediate) sent for room {}", roomId);
 
             // schedule end
-            scheduler.schedule(() -> {
+            scheduleInRoom(roomId, () -> {
                 reactionActive.remove(roomId);
                 String winner = reactionWinner.get(roomId);
                 GameEventDto end = new GameEventDto();
@@ -816,7 +806,7 @@ public class MinigameRoomService {
         int delayMs = 800 + random.nextInt(1800); // 800..2600ms
         log.info("Scheduling reactionGo for room {} in {}ms", roomId, delayMs);
 
-        scheduler.schedule(() -> {
+        scheduleInRoom(roomId, () -> {
             reactionActive.put(roomId, true);
             GameEventDto go = new GameEventDto();
             go.setRoomId(roomId);
@@ -826,7 +816,7 @@ public class MinigameRoomService {
             log.info("reactionGo sent for room {}", roomId);
 
             // set timeout to end reaction round
-            scheduler.schedule(() -> {
+            scheduleInRoom(roomId, () -> {
                 reactionActive.remove(roomId);
                 String winner = reactionWinner.get(roomId);
                 GameEventDto end = new GameEventDto();
@@ -841,7 +831,10 @@ public class MinigameRoomService {
         }, delayMs, TimeUnit.MILLISECONDS);
     }
 
-    public synchronized String handleReactionHit(String roomId, String playerId, String playerName, long clientTs) {
+    /**
+     * 반응 속도 입력 처리 (방 실행기에서 호출되므로 먼저 도착한 입력이 승자)
+     */
+    public String handleReactionHit(String roomId, String playerId, String playerName, long clientTs) {
         Boolean active = reactionActive.get(roomId);
         if (active == null || !active)
             return null;
@@ -862,13 +855,109 @@ public class MinigameRoomService {
         return playerName != null ? playerName : playerId;
     }
 
+    // ===== 오목 봇 =====
+
+    /**
+     * 오목 방에 봇 추가 (방장만, 대기 중이고 자리가 있을 때)
+     */
+    public MinigameRoomDto addOmokBot(String roomId, String requesterId, String difficulty) {
+        MinigameRoomDto room = rooms.get(roomId);
+        if (room == null) {
+            return null;
+        }
+        if (!"오목".equals(room.getGameName()) || room.isPlaying() || !room.getHostId().equals(requesterId)) {
+            log.warn("봇 추가 불가: roomId={}, gameName={}, playing={}, requesterId={}", roomId, room.getGameName(),
+                    room.isPlaying(), requesterId);
+            return null;
+        }
+        if (room.getPlayers().size() >= Math.min(2, room.getMaxPlayers())) {
+            log.warn("봇 추가 불가 - 자리 없음: roomId={}, players={}", roomId, room.getPlayers().size());
+            return null;
+        }
+
+        MinigamePlayerDto bot = omokBotService.createBotPlayer(OmokBotService.Difficulty.from(difficulty));
+        room.getPlayers().add(bot);
+        room.setCurrentPlayers(room.getPlayers().size());
+        log.info("오목 봇 추가: roomId={}, botId={}", roomId, bot.getUserId());
+        return room;
+    }
+
+    /**
+     * 오목 방의 봇 제거 (방장만, 대기 중일 때)
+     */
+    public MinigameRoomDto removeOmokBot(String roomId, String requesterId) {
+        MinigameRoomDto room = rooms.get(roomId);
+        if (room == null || room.isPlaying() || !room.getHostId().equals(requesterId)) {
+            return null;
+        }
+        if (!room.getPlayers().removeIf(p -> OmokBotService.isBot(p.getUserId()))) {
+            return null;
+        }
+        room.setCurrentPlayers(room.getPlayers().size());
+        log.info("오목 봇 제거: roomId={}", roomId);
+        return room;
+    }
+
+    /**
+     * 현재 턴이 봇이면 수 탐색 요청
+     * 탐색 결과는 방 실행기에서 사람의 착수와 같은 검증 경로로 적용하고,
+     * 그 사이에 타임아웃 자동 배치나 재시작으로 판이 바뀌었으면 버립니다.
+     */
+    private void requestOmokBotMove(String roomId, OmokGameSession session) {
+        MinigameRoomDto room = rooms.get(roomId);
+        if (room == null || session.finished || room.getPlayers().size() < 2) {
+            return;
+        }
+        int playerIndex = session.board.getMoveCount() % room.getPlayers().size();
+        String botId = room.getPlayers().get(playerIndex).getUserId();
+        if (!OmokBotService.isBot(botId)) {
+            return;
+        }
+
+        int stone = playerIndex == 0 ? OmokBoard.BLACK : OmokBoard.WHITE;
+        int moveNumber = session.board.getMoveCount();
+        omokBotService.findMove(session.board, stone, OmokBotService.difficultyOf(botId),
+                        TimeUnit.SECONDS.toMillis(session.remainingSeconds))
+                .whenComplete((position, error) -> roomExecutor.execute(roomId, () -> {
+                    if (error != null) {
+                        // 착수하지 못하면 턴 타이머의 타임아웃 자동 배치가 대신 둠
+                        log.error("오목 봇 탐색 실패: roomId={}, botId={}", roomId, botId, error);
+                        return;
+                    }
+                    if (omokSessions.get(roomId) != session || session.finished
+                            || session.board.getMoveCount() != moveNumber || position < 0) {
+                        return;
+                    }
+                    handleOmokMove(roomId, botId, position);
+                }));
+    }
+
     // ===== 오목 타이머 관련 메서드 =====
 
+    /**
+     * 오목 대국 시작 (omokStart, 방장만, 방이 게임 중이고 진행 중인 대국이 없을 때)
+     * 중복/지연 도착한 omokStart 나 방장이 아닌 참가자의 요청으로 진행 중인 판이 지워지지 않도록 거부합니다.
+     * @return 시작했으면 true
+     */
+    public boolean startOmokGame(String roomId, String requesterId) {
+        MinigameRoomDto room = rooms.get(roomId);
+        if (room == null || !"오목".equals(room.getGameName()) || !room.isPlaying()
+                || !room.getHostId().equals(requesterId)) {
+            log.warn("오목 시작 거부: roomId={}, requesterId={}", roomId, requesterId);
+            return false;
+        }
+        OmokGameSession current = omokSessions.get(roomId);
+        if (current != null && !current.finished) {
+            log.warn("오목 시작 거부 - 진행 중인 대국 있음: roomId={}, moves={}", roomId, current.board.getMoveCount());
+            return false;
+        }
+        initOmokGame(roomId);
+        startOmokTimer(roomId);
+        return true;
+    }
+
     public void initOmokGame(String roomId) {
         OmokGameSession session = new OmokGameSession(roomId);
-        session.board = new int[225]; // 15x15 board
-        Arrays.fill(session.board, 0);
-        session.moveCount = 0;
         omokSessions.put(roomId, session);
         log.info("오목 게임 초기화: roomId={}", roomId);
     }
@@ -882,13 +971,13 @@ public class MinigameRoomService {
 
         // 기존 타이머 취소
         if (session.timerFuture != null && !session.timerFuture.isCancelled()) {
-            session.timerFuture.cancel(false);
+            session.timerFuture.cancel();
         }
 
         session.remainingSeconds = 15;
 
         // 매 1초마다 타이머 업데이트 브로드캐스트
-        session.timerFuture = scheduler.scheduleAtFixedRate(() -> {
+        session.timerFuture = scheduleInRoomAtFixedRate(roomId, () -> {
             try {
                 OmokGameSession s = omokSessions.get(roomId);
                 if (s == null)
@@ -902,77 +991,150 @@ public class MinigameRoomService {
                 timerEvt.setType("omokTimer");
                 timerEvt.setPayload(String.valueOf(s.remainingSeconds));
                 timerEvt.setTimestamp(System.currentTimeMillis());
-                messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", timerEvt);
+                realtimeMessagingService.sendGameEvent(roomId, timerEvt);
 
-                // 시간 초과 시 랜덤 위치에 돌 놓기
+                // 시간 초과 시 랜덤 위치에 돌 놓기 (다음 턴 타이머는 handleOmokTimeout 에서 새로 시작)
                 if (s.remainingSeconds <= 0) {
-                    handleOmokTimeout(roomId);
                     if (s.timerFuture != null) {
-                        s.timerFuture.cancel(false);
+                        s.timerFuture.cancel();
                     }
+                    handleOmokTimeout(roomId);
                 }
             } catch (Exception e) {
                 log.error("오목 타이머 에러: roomId={}", roomId, e);
             }
-        }, 1, 1, TimeUnit.SECONDS);
+        }, 1, TimeUnit.SECONDS);
 
         log.info("오목 타이머 시작: roomId={}", roomId);
+
+        // 봇 차례면 탐색 시작
+        requestOmokBotMove(roomId, session);
     }
 
-    private void handleOmokTimeout(String roomId) {
+    /**
+     * 오목 착수 처리 (서버가 판정)
+     * 차례, 판 범위, 빈 칸을 확인한 뒤 돌을 놓고 마지막 수 주변만 확인해 승리를 판정합니다.
+     * 잘못된 수는 보낸 사람의 수를 무시하고 omokMoveRejected 로 알립니다.
+     */
+    public void handleOmokMove(String roomId, String playerId, Integer position) {
         OmokGameSession session = omokSessions.get(roomId);
         MinigameRoomDto room = rooms.get(roomId);
         if (session == null || room == null || room.getPlayers() == null || room.getPlayers().size() < 2) {
+            rejectOmokMove(roomId, playerId, position, "notPlaying");
+            return;
+        }
+        if (session.finished) {
+            rejectOmokMove(roomId, playerId, position, "gameOver");
             return;
         }
 
-        // 현재 턴 플레이어 찾기
-        int currentPlayerIndex = session.moveCount % room.getPlayers().size();
+        // 현재 턴 플레이어인지 확인
+        int currentPlayerIndex = session.board.getMoveCount() % room.getPlayers().size();
         MinigamePlayerDto currentPlayer = room.getPlayers().get(currentPlayerIndex);
-
-        // 빈 위치 찾기
-        List<Integer> emptyPositions = new ArrayList<>();
-        for (int i = 0; i < session.board.length; i++) {
-            if (session.board[i] == 0) {
-                emptyPositions.add(i);
-            }
+        if (playerId == null || !playerId.equals(currentPlayer.getUserId())) {
+            rejectOmokMove(roomId, playerId, position, "notYourTurn");
+            return;
+        }
+        if (position == null || !OmokBoard.isInside(position)) {
+            rejectOmokMove(roomId, playerId, position, "outOfBoard");
+            return;
+        }
+        if (!session.board.isEmpty(position)) {
+            rejectOmokMove(roomId, playerId, position, "occupied");
+            return;
         }
 
-        if (emptyPositions.isEmpty()) {
-            log.warn("오목판에 빈 공간이 없음: roomId={}", roomId);
+        applyOmokMove(roomId, session, currentPlayerIndex, currentPlayer, position, null);
+    }
+
+    private void handleOmokTimeout(String roomId) {
+        OmokGameSession session = omokSessions.get(roomId);
+        MinigameRoomDto room = rooms.get(roomId);
+        if (session == null || session.finished || room == null || room.getPlayers() == null
+                || room.getPlayers().size() < 2) {
             return;
         }
 
+        // 현재 턴 플레이어 찾기
+        int currentPlayerIndex = session.board.getMoveCount() % room.getPlayers().size();
+        MinigamePlayerDto currentPlayer = room.getPlayers().get(currentPlayerIndex);
+
         // 랜덤 위치 선택
-        int randomPosition = emptyPositions.get(random.nextInt(emptyPositions.size()));
-        int playerSymbol = currentPlayerIndex == 0 ? 1 : 2;
-        session.board[randomPosition] = playerSymbol;
-        session.moveCount++;
+        int randomPosition = session.board.randomEmptyCell(random);
+        if (randomPosition < 0) {
+            log.warn("오목판에 빈 공간이 없음: roomId={}", roomId);
+            return;
+        }
 
         log.info("오목 타임아웃 - 자동 배치: roomId={}, playerId={}, position={}", roomId,
                 currentPlayer.getUserId(), randomPosition);
 
-        // 자동 배치 이벤트 브로드캐스트
-        GameEventDto autoMoveEvt = new GameEventDto();
-        autoMoveEvt.setRoomId(roomId);
-        autoMoveEvt.setType("omokMove");
-        autoMoveEvt.setPlayerId(currentPlayer.getUserId());
-        autoMoveEvt.setPosition(randomPosition);
-        autoMoveEvt.setPayload("timeout"); // 타임아웃으로 인한 자동 배치 표시
-        autoMoveEvt.setTimestamp(System.currentTimeMillis());
-        messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", autoMoveEvt);
-
-        // 다음 턴 타이머 시작
-        startOmokTimer(roomId);
+        // 타임아웃으로 인한 자동 배치 표시
+        applyOmokMove(roomId, session, currentPlayerIndex, currentPlayer, randomPosition, "timeout");
+    }
+
+    // 돌을 놓고 브로드캐스트한 뒤 승리/무승부면 게임 종료, 아니면 다음 턴 타이머 시작
+    private void applyOmokMove(String roomId, OmokGameSession session, int playerIndex,
+                               MinigamePlayerDto player, int position, String payload) {
+        int playerSymbol = playerIndex == 0 ? OmokBoard.BLACK : OmokBoard.WHITE;
+        boolean win = session.board.place(position, playerSymbol);
+
+        GameEventDto moveEvt = new GameEventDto();
+        moveEvt.setRoomId(roomId);
+        moveEvt.setType("omokMove");
+        moveEvt.setPlayerId(player.getUserId());
+        moveEvt.setPosition(position);
+        moveEvt.setPayload(payload);
+        moveEvt.setTimestamp(System.currentTimeMillis());
+        realtimeMessagingService.sendGameEvent(roomId, moveEvt);
+
+        if (win) {
+            finishOmokGame(roomId, session, player, "win");
+        } else if (session.board.isFull()) {
+            finishOmokGame(roomId, session, null, "draw");
+        } else {
+            // 다음 턴 타이머 시작
+            startOmokTimer(roomId);
+        }
+    }
+
+    private void finishOmokGame(String roomId, OmokGameSession session, MinigamePlayerDto winner, String result) {
+        session.finished = true;
+        if (session.timerFuture != null) {
+            session.timerFuture.cancel();
+        }
+        log.info("오목 게임 종료: roomId={}, result={}, winnerId={}, moves={}", roomId, result,
+                winner != null ? winner.getUserId() : null, session.board.getMoveCount());
+
+        GameEventDto endEvt = new GameEventDto();
+        endEvt.setRoomId(roomId);
+        endEvt.setType("gameEnd");
+        endEvt.setPlayerId(winner != null ? winner.getUserId() : null);
+        endEvt.setPlayerName(winner != null ? winner.getUsername() : null);
+        endEvt.setPayload(result);
+        endEvt.setTimestamp(System.currentTimeMillis());
+        realtimeMessagingService.sendGameEvent(roomId, endEvt);
+    }
+
+    private void rejectOmokMove(String roomId, String playerId, Integer position, String reason) {
+        log.debug("오목 착수 거부: roomId={}, playerId={}, position={}, reason={}", roomId, playerId, position, reason);
+        GameEventDto rejectEvt = new GameEventDto();
+        rejectEvt.setRoomId(roomId);
+        rejectEvt.setType("omokMoveRejected");
+        rejectEvt.setPlayerId(playerId);
+        rejectEvt.setPosition(position);
+        rejectEvt.setPayload(reason);
+        rejectEvt.setTimestamp(System.currentTimeMillis());
+        realtimeMessagingService.sendGameEvent(roomId, rejectEvt);
     }
 
     // 오목 게임 세션 클래스
     private static class OmokGameSession {
         private final String roomId;
-        int[] board; // 15x15 = 225 cells
-        int moveCount = 0;
+        final OmokBoard board = new OmokBoard();
+        boolean finished = false; // 승리/무승부 후에는 착수와 타임아웃 무시
         int remainingSeconds = 15;
-        java.util.concurrent.ScheduledFuture<?> timerFuture;
+        GameTimerService.Timeout timerFuture;
         Set<String> rematchRequests = new HashSet<>(); // 다시하기 요청한 플레이어 ID
 
         public OmokGameSession(String roomId) {
@@ -992,8 +1154,12 @@ public class MinigameRoomService {
             return false;
         }
 
-        // 다시하기 요청 추가
+        // 다시하기 요청 추가 (봇은 항상 동의)
         session.rematchRequests.add(playerId);
+        room.getPlayers().stream()
+                .map(MinigamePlayerDto::getUserId)
+                .filter(OmokBotService::isBot)
+                .forEach(session.rematchRequests::add);
         log.info("오목 다시하기 요청 추가: roomId={}, playerId={}, 현재 요청 수={}/{}",
                  roomId, playerId, session.rematchRequests.size(), room.getPlayers().size());
 
@@ -1016,8 +1182,10 @@ public class MinigameRoomService {
         String currentWord;
         int currentPlayerIndex = 0;
         int remainingSeconds = 10;
-        java.util.concurrent.ScheduledFuture<?> timerFuture;
+        GameTimerService.Timeout timerFuture;
         Set<String> rematchRequests = new HashSet<>();
+        Set<String> hintedPlayers = new HashSet<>(); // 힌트를 사용한 플레이어 ID
+        String pendingWord; // 외부 사전 확인을 기다리는 단어
 
         public WordChainSession(String roomId) {
             this.roomId = roomId;
@@ -1040,12 +1208,12 @@ public class MinigameRoomService {
 
         // 기존 타이머 취소
         if (session.timerFuture != null && !session.timerFuture.isCancelled()) {
-            session.timerFuture.cancel(false);
+            session.timerFuture.cancel();
         }
 
         session.remainingSeconds = 10;
 
-        session.timerFuture = scheduler.scheduleAtFixedRate(() -> {
+        session.timerFuture = scheduleInRoomAtFixedRate(roomId, () -> {
             try {
                 WordChainSession s = wordChainSessions.get(roomId);
                 if (s == null) return;
@@ -1063,14 +1231,14 @@ public class MinigameRoomService {
                 // 시간 초과 시 현재 플레이어 패배
                 if (s.remainingSeconds <= 0) {
                     if (s.timerFuture != null) {
-                        s.timerFuture.cancel(false);
+                        s.timerFuture.cancel();
                     }
                     handleWordChainTimeout(roomId);
                 }
             } catch (Exception e) {
                 log.error("끝말잇기 타이머 에러: roomId={}", roomId, e);
             }
-        }, 1, 1, TimeUnit.SECONDS);
+        }, 1, TimeUnit.SECONDS);
     }
 
     private void handleWordChainTimeout(String roomId) {
@@ -1135,18 +1303,65 @@ public class MinigameRoomService {
             return false;
         }
 
+        // 외부 사전 확인을 기다리는 단어가 있으면 결과가 나올 때까지 다음 단어를 받지 않음
+        if (session.pendingWord != null) {
+            sendWordChainError(roomId, playerId, "'" + session.pendingWord + "'을(를) 사전에서 확인하는 중입니다");
+            return false;
+        }
+
         // 사전에 있는 단어인지 확인
-        if (!isValidKoreanWord(word)) {
-            GameEventDto errorEvt = new GameEventDto();
-            errorEvt.setRoomId(roomId);
-            errorEvt.setType("wordChainError");
-            errorEvt.setPlayerId(playerId);
-            errorEvt.setPayload("'" + word + "'은(는) 사전에 없는 단어입니다");
-            errorEvt.setTimestamp(System.currentTimeMillis());
-            messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", errorEvt);
+        if (isValidKoreanWord(word)) {
+            acceptWord(roomId, session, room, playerId, currentPlayer.getUsername(), word);
+            return true;
+        }
+        if (!krdictClient.isEnabled()) {
+            sendWordChainError(roomId, playerId, "'" + word + "'은(는) 사전에 없는 단어입니다");
             return false;
         }
 
+        // 오프라인 사전에 없으면 외부 사전으로 확인하고, 결과는 방 실행기에서 이어서 처리 (타이머는 계속 흐름)
+        session.pendingWord = word;
+        int turn = session.wordHistory.size();
+        krdictClient.lookup(word).whenComplete((lookup, error) -> roomExecutor.execute(roomId, () -> {
+            if (wordChainSessions.get(roomId) != session || session.wordHistory.size() != turn
+                    || !word.equals(session.pendingWord)) {
+                return;
+            }
+            session.pendingWord = null;
+
+            // 확인하는 동안 방/플레이어 목록이 바뀌었을 수 있으므로 다시 조회
+            MinigameRoomDto currentRoom = rooms.get(roomId);
+            if (currentRoom == null || session.currentPlayerIndex >= currentRoom.getPlayers().size()) {
+                return;
+            }
+            MinigamePlayerDto player = currentRoom.getPlayers().get(session.currentPlayerIndex);
+            if (!player.getUserId().equals(playerId)) {
+                return;
+            }
+
+            if (error == null && lookup == KrdictWordClient.WordLookup.VALID) {
+                acceptWord(roomId, session, currentRoom, playerId, player.getUsername(), word);
+            } else if (error == null && lookup == KrdictWordClient.WordLookup.INVALID) {
+                sendWordChainError(roomId, playerId, "'" + word + "'은(는) 사전에 없는 단어입니다");
+            } else {
+                sendWordChainError(roomId, playerId, "지금은 사전에서 '" + word + "'을(를) 확인할 수 없습니다. 다른 단어를 입력하세요");
+            }
+        }));
+        return false;
+    }
+
+    private void sendWordChainError(String roomId, String playerId, String message) {
+        GameEventDto errorEvt = new GameEventDto();
+        errorEvt.setRoomId(roomId);
+        errorEvt.setType("wordChainError");
+        errorEvt.setPlayerId(playerId);
+        errorEvt.setPayload(message);
+        errorEvt.setTimestamp(System.currentTimeMillis());
+        messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", errorEvt);
+    }
+
+    private void acceptWord(String roomId, WordChainSession session, MinigameRoomDto room,
+            String playerId, String playerName, String word) {
         // 단어 저장
         session.wordHistory.add(word);
         session.currentWord = word;
@@ -1159,15 +1374,33 @@ public class MinigameRoomService {
         wordEvt.setRoomId(roomId);
         wordEvt.setType("wordChainWord");
         wordEvt.setPlayerId(playerId);
-        wordEvt.setPlayerName(currentPlayer.getUsername());
+        wordEvt.setPlayerName(playerName);
         wordEvt.setPayload(word);
         wordEvt.setTimestamp(System.currentTimeMillis());
         messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", wordEvt);
 
+        // 다음 플레이어가 이어갈 단어가 사전에 남아 있지 않으면 다음 플레이어 패배
+        // (오프라인 사전이 완전한 표제어 목록이고 외부 사전을 쓰지 않을 때만 설정으로 켬)
+        if (noNextWordEndsGame && !krdictClient.isEnabled()
+                && countRemainingWords(session, nextStartChars(word)) <= 0) {
+            MinigamePlayerDto loser = room.getPlayers().get(session.currentPlayerIndex);
+            log.info("끝말잇기 이어갈 단어 없음: roomId={}, word={}, loserId={}", roomId, word, loser.getUserId());
+
+            GameEventDto endEvt = new GameEventDto();
+            endEvt.setRoomId(roomId);
+            endEvt.setType("wordChainEnd");
+            endEvt.setPlayerId(loser.getUserId());
+            endEvt.setPlayerName(loser.getUsername());
+            endEvt.setPayload("noNextWord");
+            endEvt.setTimestamp(System.currentTimeMillis());
+            messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", endEvt);
+
+            endWordChainGame(roomId);
+            return;
+        }
+
         // 타이머 재시작
         startWordChainTimer(roomId);
-
-        return true;
     }
 
     private String getLastChar(String word) {
@@ -1176,30 +1409,102 @@ public class MinigameRoomService {
 
     private String applyDueum(String ch) {
         // 두음법칙 적용
-        Map<String, String> dueumMap = new HashMap<>();
-        dueumMap.put("녀", "여");
-        dueumMap.put("뇨", "요");
-        dueumMap.put("뉴", "유");
-        dueumMap.put("니", "이");
-        dueumMap.put("랴", "야");
-        dueumMap.put("려", "여");
-        dueumMap.put("례", "예");
-        dueumMap.put("료", "요");
-        dueumMap.put("류", "유");
-        dueumMap.put("리", "이");
-        dueumMap.put("라", "나");
-        dueumMap.put("래", "내");
-        dueumMap.put("로", "노");
-        dueumMap.put("뢰", "뇌");
-        dueumMap.put("루", "누");
-        dueumMap.put("르", "느");
-        return dueumMap.getOrDefault(ch, ch);
+        return DUEUM.getOrDefault(ch, ch);
+    }
+
+    // 다음 단어가 시작할 수 있는 글자 (끝 글자, 두음법칙을 적용한 글자)
+    private List<String> nextStartChars(String word) {
+        String lastChar = getLastChar(word);
+        String convertedLastChar = applyDueum(lastChar);
+        return lastChar.equals(convertedLastChar) ? List.of(lastChar) : List.of(lastChar, convertedLastChar);
+    }
+
+    // 시작 글자로 이어갈 수 있는 남은 단어 수 (한 글자 단어와 이미 사용한 단어 제외)
+    private int countRemainingWords(WordChainSession session, List<String> startChars) {
+        int remaining = 0;
+        for (String startChar : startChars) {
+            remaining += wordDictionary.countWordsStartingWith(startChar);
+            if (wordDictionary.isWord(startChar)) {
+                remaining--;
+            }
+        }
+        for (String used : session.wordHistory) {
+            if (used.length() > 1 && startChars.contains(used.substring(0, 1)) && wordDictionary.isWord(used)) {
+                remaining--;
+            }
+        }
+        return remaining;
+    }
+
+    // 시작 글자로 이어갈 수 있는 남은 단어 중 하나를 무작위로 (없으면 null)
+    private String pickRemainingWord(WordChainSession session, List<String> startChars) {
+        int[] counts = new int[startChars.size()];
+        int total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = wordDictionary.countWordsStartingWith(startChars.get(i));
+            total += counts[i];
+        }
+        if (total == 0) {
+            return null;
+        }
+        // 무작위 위치에서 시작해 한 바퀴 돌며 쓸 수 있는 첫 단어
+        int start = random.nextInt(total);
+        for (int n = 0; n < total; n++) {
+            int index = (start + n) % total;
+            int group = 0;
+            while (index >= counts[group]) {
+                index -= counts[group++];
+            }
+            String candidate = wordDictionary.wordStartingWith(startChars.get(group), index);
+            if (candidate != null && candidate.length() > 1 && !session.wordHistory.contains(candidate)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 끝말잇기 힌트 (현재 차례인 플레이어만, 한 게임에 한 번)
+     * 이어갈 수 있는 단어 하나를 첫 글자 + 나머지 초성으로 보냅니다. (예: 사과 -> 사ㄱ)
+     */
+    public void sendWordChainHint(String roomId, String playerId) {
+        WordChainSession session = wordChainSessions.get(roomId);
+        MinigameRoomDto room = rooms.get(roomId);
+        if (session == null || room == null || room.getPlayers().isEmpty()) return;
+
+        MinigamePlayerDto currentPlayer = room.getPlayers().get(session.currentPlayerIndex);
+        if (!currentPlayer.getUserId().equals(playerId)) {
+            return;
+        }
+
+        GameEventDto hintEvt = new GameEventDto();
+        hintEvt.setRoomId(roomId);
+        hintEvt.setPlayerId(playerId);
+        hintEvt.setTimestamp(System.currentTimeMillis());
+        if (!session.hintedPlayers.add(playerId)) {
+            hintEvt.setType("wordChainError");
+            hintEvt.setPayload("힌트는 한 게임에 한 번만 사용할 수 있습니다");
+        } else {
+            String word = pickRemainingWord(session, nextStartChars(session.currentWord));
+            hintEvt.setType("wordChainHint");
+            hintEvt.setPayload(word != null ? toHint(word) : "이어갈 수 있는 단어가 없습니다");
+        }
+        messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", hintEvt);
+    }
+
+    private String toHint(String word) {
+        StringBuilder hint = new StringBuilder(word.length()).append(word.charAt(0));
+        for (int i = 1; i < word.length(); i++) {
+            char ch = word.charAt(i);
+            hint.append(ch >= '가' && ch <= '힣' ? CHOSUNG[(ch - '가') / 588] : ch);
+        }
+        return hint.toString();
     }
 
     private void endWordChainGame(String roomId) {
         WordChainSession session = wordChainSessions.remove(roomId);
         if (session != null && session.timerFuture != null) {
-            session.timerFuture.cancel(false);
+            session.timerFuture.cancel();
         }
 
         MinigameRoomDto room = rooms.get(roomId);
@@ -1408,7 +1713,7 @@ public class MinigameRoomService {
         String keyword;
         Map<String, String> votes = new HashMap<>();
         int remainingSeconds = 0;
-        java.util.concurrent.ScheduledFuture<?> timerFuture;
+        GameTimerService.Timeout timerFuture;
         Set<String> rematchRequests = new HashSet<>();
         boolean liarCaught = false;
         String liarGuess = null;
@@ -1485,7 +1790,7 @@ public class MinigameRoomService {
         }
 
         // 5초 후 토론 시작
-        scheduler.schedule(() -> startLiarDiscussion(roomId), 5, TimeUnit.SECONDS);
+        scheduleInRoom(roomId, () -> startLiarDiscussion(roomId), 5, TimeUnit.SECONDS);
     }
 
     private void startLiarDiscussion(String roomId) {
@@ -1502,7 +1807,7 @@ public class MinigameRoomService {
         messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", discussEvt);
 
         // 타이머 시작
-        session.timerFuture = scheduler.scheduleAtFixedRate(() -> {
+        session.timerFuture = scheduleInRoomAtFixedRate(roomId, () -> {
             try {
                 LiarGameSession s = liarSessions.get(roomId);
                 if (s == null) return;
@@ -1517,13 +1822,13 @@ public class MinigameRoomService {
                 messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", timerEvt);
 
                 if (s.remainingSeconds <= 0) {
-                    if (s.timerFuture != null) s.timerFuture.cancel(false);
+                    if (s.timerFuture != null) s.timerFuture.cancel();
                     startLiarVoting(roomId);
                 }
             } catch (Exception e) {
                 log.error("라이어 타이머 에러: roomId={}", roomId, e);
             }
-        }, 1, 1, TimeUnit.SECONDS);
+        }, 1, TimeUnit.SECONDS);
     }
 
     private void startLiarVoting(String roomId) {
@@ -1541,7 +1846,7 @@ public class MinigameRoomService {
         messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", voteEvt);
 
         // 투표 타이머
-        session.timerFuture = scheduler.scheduleAtFixedRate(() -> {
+        session.timerFuture = scheduleInRoomAtFixedRate(roomId, () -> {
             try {
                 LiarGameSession s = liarSessions.get(roomId);
                 if (s == null) return;
@@ -1556,13 +1861,13 @@ public class MinigameRoomService {
                 messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", timerEvt);
 
                 if (s.remainingSeconds <= 0) {
-                    if (s.timerFuture != null) s.timerFuture.cancel(false);
+                    if (s.timerFuture != null) s.timerFuture.cancel();
                     processLiarVotes(roomId);
                 }
             } catch (Exception e) {
                 log.error("라이어 투표 타이머 에러: roomId={}", roomId, e);
             }
-        }, 1, 1, TimeUnit.SECONDS);
+        }, 1, TimeUnit.SECONDS);
     }
 
     public void submitLiarVote(String roomId, String voterId, String targetId) {
@@ -1584,7 +1889,7 @@ public class MinigameRoomService {
         // 모든 플레이어가 투표했는지 확인
         MinigameRoomDto room = rooms.get(roomId);
         if (room != null && session.votes.size() >= room.getPlayers().size()) {
-            if (session.timerFuture != null) session.timerFuture.cancel(false);
+            if (session.timerFuture != null) session.timerFuture.cancel();
             processLiarVotes(roomId);
         }
     }
@@ -1639,7 +1944,7 @@ public class MinigameRoomService {
         // 라이어가 잡혔으면 키워드 맞추기 기회 (10초)
         if (liarCaught) {
             session.remainingSeconds = 10;
-            session.timerFuture = scheduler.scheduleAtFixedRate(() -> {
+            session.timerFuture = scheduleInRoomAtFixedRate(roomId, () -> {
                 try {
                     LiarGameSession s = liarSessions.get(roomId);
                     if (s == null) return;
@@ -1653,13 +1958,13 @@ public class MinigameRoomService {
                     messagingTemplate.convertAndSend("/topic/minigame/room/" + roomId + "/game", timerEvt);
 
                     if (s.remainingSeconds <= 0) {
-                        if (s.timerFuture != null) s.timerFuture.cancel(false);
+                        if (s.timerFuture != null) s.timerFuture.cancel();
                         endLiarGame(roomId, false); // 라이어가 맞추지 못함
                     }
                 } catch (Exception e) {
                     log.error("라이어 키워드 맞추기 타이머 에러: roomId={}", roomId, e);
                 }
-            }, 1, 1, TimeUnit.SECONDS);
+            }, 1, TimeUnit.SECONDS);
         } else {
             // 라이어가 못 잡혔으면 라이어 승리
             endLiarGame(roomId, true);
@@ -1673,7 +1978,7 @@ public class MinigameRoomService {
         session.liarGuess = guess;
         boolean correct = session.keyword.equals(guess.trim());
 
-        if (session.timerFuture != null) session.timerFuture.cancel(false);
+        if (session.timerFuture != null) session.timerFuture.cancel();
 
         // 추측 결과 전송
         GameEventDto guessEvt = new GameEventDto();
@@ -1702,7 +2007,7 @@ public class MinigameRoomService {
         LiarGameSession session = liarSessions.get(roomId);
         if (session == null) return;
 
-        if (session.timerFuture != null) session.timerFuture.cancel(false);
+        if (session.timerFuture != null) session.timerFuture.cancel();
 
         GameEventDto endEvt = new GameEventDto();
         endEvt.setRoomId(roomId);
@@ -0,0 +1,138 @@
+package com.community.service;
+
+import java.util.Random;
+
+/**
+ * 오목판 (15x15 비트보드)
+ * 돌 색마다 비트 240개(long 4개)를 쓰고, 한 줄을 16칸(15칸 + 빈 경계 칸 1개)으로 배치해
+ * 가로(1) / 세로(16) / 대각선(17, 15) 이동이 줄 끝에서 다음 줄로 넘어가지 않도록 합니다.
+ * - 착수: O(1), 5목 판정은 마지막 수에서 네 방향으로 이어진 같은 돌만 확인
+ * - 빈 칸 무작위 선택: O(1) (빈 칸 목록과 위치 색인을 함께 유지하고 착수 시 마지막 항목과 교환해 제거)
+ * 외부에서 쓰는 위치는 클라이언트와 같은 row * 15 + col 입니다.
+ * 스레드 안전하지 않으므로 방 실행기에서만 사용해야 합니다.
+ */
+public final class OmokBoard {
+
+    public static final int SIZE = 15;
+    public static final int CELLS = SIZE * SIZE;
+
+    public static final int EMPTY = 0;
+    public static final int BLACK = 1;
+    public static final int WHITE = 2;
+
+    // 비트 인덱스 = row * STRIDE + col (col 15 는 항상 비어 있는 경계 칸)
+    private static final int STRIDE = SIZE + 1;
+    private static final int BITS = SIZE * STRIDE;
+    private static final int WORDS = (BITS + 63) >>> 6;
+
+    // 가로, 세로, 대각선(\), 대각선(/)
+    private static final int[] DIRECTIONS = {1, STRIDE, STRIDE + 1, STRIDE - 1};
+
+    // [돌 색 - 1][워드]
+    private final long[][] stones = new long[2][WORDS];
+
+    // 빈 칸 목록 (앞쪽 emptyCount 개가 유효) / 위치 -> 목록 내 인덱스
+    private final int[] emptyCells = new int[CELLS];
+    private final int[] emptyIndex = new int[CELLS];
+    private int emptyCount = CELLS;
+
+    public OmokBoard() {
+        for (int i = 0; i < CELLS; i++) {
+            emptyCells[i] = i;
+            emptyIndex[i] = i;
+        }
+    }
+
+    public static boolean isInside(int position) {
+        return position >= 0 && position < CELLS;
+    }
+
+    public boolean isEmpty(int position) {
+        int bit = toBit(position);
+        return !test(stones[0], bit) && !test(stones[1], bit);
+    }
+
+    /**
+     * @return EMPTY, BLACK, WHITE
+     */
+    public int get(int position) {
+        int bit = toBit(position);
+        if (test(stones[0], bit)) {
+            return BLACK;
+        }
+        return test(stones[1], bit) ? WHITE : EMPTY;
+    }
+
+    /**
+     * 돌 놓기 (범위와 빈 칸 여부는 호출하는 쪽에서 먼저 확인)
+     * @return 이 수로 5목 이상이 완성되면 true
+     */
+    public boolean place(int position, int stone) {
+        if (!isInside(position) || !isEmpty(position)) {
+            throw new IllegalArgumentException("둘 수 없는 위치입니다: " + position);
+        }
+        if (stone != BLACK && stone != WHITE) {
+            throw new IllegalArgumentException("잘못된 돌입니다: " + stone);
+        }
+        long[] board = stones[stone - 1];
+        int bit = toBit(position);
+        board[bit >>> 6] |= 1L << bit;
+        removeEmpty(position);
+        return isFive(board, bit);
+    }
+
+    /**
+     * 빈 칸 하나를 무작위로 선택
+     * @return 빈 칸이 없으면 -1
+     */
+    public int randomEmptyCell(Random random) {
+        if (emptyCount == 0) {
+            return -1;
+        }
+        return emptyCells[random.nextInt(emptyCount)];
+    }
+
+    public int getMoveCount() {
+        return CELLS - emptyCount;
+    }
+
+    public boolean isFull() {
+        return emptyCount == 0;
+    }
+
+    private void removeEmpty(int position) {
+        int index = emptyIndex[position];
+        int last = emptyCells[--emptyCount];
+        emptyCells[index] = last;
+        emptyIndex[last] = index;
+    }
+
+    /**
+     * 마지막 수에서 방향별로 양쪽으로 같은 돌이 이어지는 만큼 세어 5개 이상인지 확인
+     * 경계 칸 덕분에 줄 끝을 넘는 칸은 항상 비어 있으므로 비트 범위만 확인하면 되고,
+     * 대부분의 수는 바로 옆 칸에서 끊기므로 몇 번의 비트 확인으로 끝납니다.
+     */
+    private static boolean isFive(long[] board, int bit) {
+        for (int step : DIRECTIONS) {
+            int count = 1;
+            for (int target = bit + step; target < BITS && test(board, target); target += step) {
+                count++;
+            }
+            for (int target = bit - step; target >= 0 && test(board, target); target -= step) {
+                count++;
+            }
+            if (count >= 5) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean test(long[] board, int bit) {
+        return (board[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    private static int toBit(int position) {
+        return (position / SIZE) * STRIDE + position % SIZE;
+    }
+}
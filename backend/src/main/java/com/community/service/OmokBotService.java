@@ -0,0 +1,167 @@
+package com.community.service;
+
+import com.community.dto.MinigamePlayerDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오목 봇 (1인 플레이용 상대)
+ * 봇은 방의 참가자 목록에 일반 플레이어처럼 들어가며 userId 접두사로 구분합니다.
+ * 수 탐색은 모든 방이 함께 쓰는 fork-join 풀(parallelism 개 스레드)에서 실행되므로
+ * 봇이 많아도 방 실행기나 다른 서버 작업의 스레드를 빼앗지 않습니다.
+ * 탐색 제한 시간은 요청 시각 기준이라 풀에서 기다린 시간도 포함되며,
+ * 난이도별 시간과 남은 턴 시간(여유 시간 제외) 중 짧은 쪽을 넘지 않습니다.
+ */
+@Service
+@Slf4j
+public class OmokBotService {
+
+    public static final String BOT_ID_PREFIX = "omok-bot-";
+
+    public enum Difficulty {
+        EASY("쉬움"),
+        NORMAL("보통"),
+        HARD("어려움");
+
+        private final String label;
+
+        Difficulty(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public static Difficulty from(String value) {
+            if (value != null) {
+                for (Difficulty difficulty : values()) {
+                    if (difficulty.name().equalsIgnoreCase(value)) {
+                        return difficulty;
+                    }
+                }
+            }
+            return NORMAL;
+        }
+    }
+
+    // 봇 탐색 전용 스레드 수
+    @Value("${realtime.minigame.omok-bot.parallelism:2}")
+    private int parallelism;
+
+    // 턴 제한 시간에서 남겨 두는 여유 (결과 적용/전송 시간)
+    @Value("${realtime.minigame.omok-bot.safety-margin-ms:1500}")
+    private long safetyMarginMs;
+
+    @Value("${realtime.minigame.omok-bot.easy.max-depth:2}")
+    private int easyMaxDepth;
+
+    @Value("${realtime.minigame.omok-bot.easy.time-ms:300}")
+    private long easyTimeMs;
+
+    @Value("${realtime.minigame.omok-bot.normal.max-depth:4}")
+    private int normalMaxDepth;
+
+    @Value("${realtime.minigame.omok-bot.normal.time-ms:1500}")
+    private long normalTimeMs;
+
+    @Value("${realtime.minigame.omok-bot.hard.max-depth:8}")
+    private int hardMaxDepth;
+
+    @Value("${realtime.minigame.omok-bot.hard.time-ms:5000}")
+    private long hardTimeMs;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void start() {
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("omok-bot-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        };
+        pool = new ForkJoinPool(Math.max(1, parallelism), threadFactory, null, false);
+        log.info("Omok bot pool started: parallelism={}", pool.getParallelism());
+    }
+
+    @PreDestroy
+    public void stop() {
+        pool.shutdownNow();
+    }
+
+    public static boolean isBot(String userId) {
+        return userId != null && userId.startsWith(BOT_ID_PREFIX);
+    }
+
+    /**
+     * 봇 userId 에 들어 있는 난이도 (omok-bot-{난이도}-{id})
+     */
+    public static Difficulty difficultyOf(String botId) {
+        String rest = botId.substring(BOT_ID_PREFIX.length());
+        int end = rest.indexOf('-');
+        return Difficulty.from(end < 0 ? rest : rest.substring(0, end));
+    }
+
+    /**
+     * 방에 넣을 봇 플레이어 생성 (항상 준비 완료 상태)
+     */
+    public MinigamePlayerDto createBotPlayer(Difficulty difficulty) {
+        MinigamePlayerDto bot = new MinigamePlayerDto();
+        bot.setUserId(BOT_ID_PREFIX + difficulty.name().toLowerCase(Locale.ROOT) + "-"
+                + UUID.randomUUID().toString().substring(0, 8));
+        bot.setUsername("오목 봇 (" + difficulty.getLabel() + ")");
+        bot.setLevel(0);
+        bot.setHost(false);
+        bot.setReady(true);
+        return bot;
+    }
+
+    /**
+     * 다음 수 탐색
+     * 판은 호출한 스레드(방 실행기)에서 바로 복사하므로 이후 판이 바뀌어도 탐색에 영향이 없습니다.
+     * @param turnRemainingMillis 현재 턴의 남은 시간
+     * @return 둘 위치 (빈 칸이 없으면 -1)
+     */
+    public CompletableFuture<Integer> findMove(OmokBoard board, int stone, Difficulty difficulty,
+                                               long turnRemainingMillis) {
+        long budgetMillis = Math.max(0, Math.min(timeBudgetMillis(difficulty), turnRemainingMillis - safetyMarginMs));
+        long requestedNanos = System.nanoTime();
+        OmokSearch search = new OmokSearch(board, requestedNanos + TimeUnit.MILLISECONDS.toNanos(budgetMillis));
+        int maxDepth = maxDepth(difficulty);
+
+        return CompletableFuture.supplyAsync(() -> {
+            int move = search.search(stone, maxDepth);
+            log.debug("Omok bot move: difficulty={}, move={}, nodes={}, elapsed={}ms (budget {}ms)",
+                    difficulty, move, search.getNodes(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestedNanos), budgetMillis);
+            return move;
+        }, pool);
+    }
+
+    private long timeBudgetMillis(Difficulty difficulty) {
+        return switch (difficulty) {
+            case EASY -> easyTimeMs;
+            case NORMAL -> normalTimeMs;
+            case HARD -> hardTimeMs;
+        };
+    }
+
+    private int maxDepth(Difficulty difficulty) {
+        return switch (difficulty) {
+            case EASY -> easyMaxDepth;
+            case NORMAL -> normalMaxDepth;
+            case HARD -> hardMaxDepth;
+        };
+    }
+}
@@ -0,0 +1,411 @@
+package com.community.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 오목 봇 탐색 (알파베타 + 4목 위협 우선 처리)
+ * 판 평가는 가로/세로/대각선의 모든 5칸 구간(572개) 중 한 색만 들어 있는 구간의 돌 수로 점수를 매기고,
+ * 착수/무르기 때는 그 칸을 지나는 구간(최대 20개)만 갱신합니다.
+ * - 후보 수: 기존 돌 2칸 이내의 빈 칸을 공격+수비 점수로 정렬해 상위 몇 개만 탐색
+ * - 위협: 바로 이기는 수가 있으면 그 수만, 상대에게 4목이 있으면 막는 칸만 탐색
+ * - 병렬: 루트에서 가장 유력한 첫 수로 하한을 정한 뒤 나머지 수를 fork-join 작업으로 나눠 탐색
+ * - 시간: 깊이를 1씩 늘려 가며 탐색하고, 제한 시각이 지나면 마지막으로 끝난 깊이의 최선 수를 사용
+ * 생성할 때 판을 복사하므로 탐색 중에 원래 판이 바뀌어도 영향이 없습니다.
+ */
+public final class OmokSearch {
+
+    private static final int SIZE = OmokBoard.SIZE;
+    private static final int CELLS = OmokBoard.CELLS;
+
+    private static final int WIN = 100_000_000;
+    private static final int INFINITY = WIN + 1_000;
+    private static final int MAX_PLY = 32;
+
+    // 구간 안 같은 색 돌 수별 점수 (5개 = 승리)
+    private static final int[] WEIGHTS = {0, 1, 16, 256, 4_096, WIN};
+
+    // 루트 / 그 아래에서 탐색할 후보 수
+    private static final int ROOT_WIDTH = 20;
+    private static final int WIDTH = 10;
+
+    // 구간 -> 칸 5개, 칸 -> 그 칸을 지나는 구간들
+    private static final int[][] WINDOW_CELLS;
+    private static final int[][] CELL_WINDOWS;
+
+    static {
+        List<int[]> windows = new ArrayList<>();
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        for (int row = 0; row < SIZE; row++) {
+            for (int col = 0; col < SIZE; col++) {
+                for (int[] direction : directions) {
+                    int endRow = row + direction[0] * 4;
+                    int endCol = col + direction[1] * 4;
+                    if (endRow < 0 || endRow >= SIZE || endCol < 0 || endCol >= SIZE) {
+                        continue;
+                    }
+                    int[] window = new int[5];
+                    for (int k = 0; k < 5; k++) {
+                        window[k] = (row + direction[0] * k) * SIZE + col + direction[1] * k;
+                    }
+                    windows.add(window);
+                }
+            }
+        }
+        WINDOW_CELLS = windows.toArray(new int[0][]);
+
+        int[] perCell = new int[CELLS];
+        for (int[] window : WINDOW_CELLS) {
+            for (int position : window) {
+                perCell[position]++;
+            }
+        }
+        CELL_WINDOWS = new int[CELLS][];
+        for (int position = 0; position < CELLS; position++) {
+            CELL_WINDOWS[position] = new int[perCell[position]];
+            perCell[position] = 0;
+        }
+        for (int w = 0; w < WINDOW_CELLS.length; w++) {
+            for (int position : WINDOW_CELLS[w]) {
+                CELL_WINDOWS[position][perCell[position]++] = w;
+            }
+        }
+    }
+
+    private final int[] cells;
+    // [돌 색 - 1][구간] 구간 안 돌 수
+    private final int[][] counts;
+    // 주변 2칸 안의 돌 수 (0 보다 크면 후보 수)
+    private final int[] nearby;
+    private int stoneCount;
+    // 흑 기준 평가 점수
+    private int score;
+
+    private final long deadlineNanos;
+    private final AtomicBoolean stopped;
+    private long nodes;
+
+    // 깊이별 후보 수 버퍼 (탐색 중 할당을 피하기 위해 미리 만듦)
+    private final int[][] moveBuffers = new int[MAX_PLY][WIDTH];
+    private final int[][] scoreBuffers = new int[MAX_PLY][WIDTH];
+
+    public OmokSearch(OmokBoard board, long deadlineNanos) {
+        this.cells = new int[CELLS];
+        this.counts = new int[2][WINDOW_CELLS.length];
+        this.nearby = new int[CELLS];
+        this.deadlineNanos = deadlineNanos;
+        this.stopped = new AtomicBoolean();
+        for (int position = 0; position < CELLS; position++) {
+            int stone = board.get(position);
+            if (stone != OmokBoard.EMPTY) {
+                make(position, stone);
+            }
+        }
+    }
+
+    // 병렬 탐색용 복사본 (제한 시각과 중단 신호는 공유)
+    private OmokSearch(OmokSearch source) {
+        this.cells = source.cells.clone();
+        this.counts = new int[][]{source.counts[0].clone(), source.counts[1].clone()};
+        this.nearby = source.nearby.clone();
+        this.stoneCount = source.stoneCount;
+        this.score = source.score;
+        this.deadlineNanos = source.deadlineNanos;
+        this.stopped = source.stopped;
+    }
+
+    /**
+     * 최선의 수 탐색 (fork-join 풀 안에서 호출해야 루트 병렬 탐색이 그 풀에서 실행됨)
+     * @return 둘 위치 (빈 칸이 없으면 -1)
+     */
+    public int search(int stone, int maxDepth) {
+        int[] rootMoves = new int[CELLS];
+        int[] rootScores = new int[CELLS];
+        int count = generate(stone, rootMoves, rootScores, ROOT_WIDTH);
+        if (count == 0) {
+            return -1;
+        }
+        // 바로 이기는 수, 반드시 막아야 하는 한 칸, 첫 수는 탐색할 필요가 없음
+        if (count == 1) {
+            return rootMoves[0];
+        }
+
+        int bestMove = rootMoves[0];
+        for (int depth = 1; depth <= Math.min(maxDepth, MAX_PLY - 1); depth++) {
+            int[] values = searchRoot(stone, depth, rootMoves, count);
+            if (stopped.get()) {
+                break;
+            }
+            // 다음 깊이에서 좋은 수를 먼저 보도록 점수 순으로 정렬
+            sortDescending(rootMoves, values, count);
+            bestMove = rootMoves[0];
+            if (values[0] >= WIN - MAX_PLY || values[0] <= -(WIN - MAX_PLY)) {
+                // 승패가 정해짐
+                break;
+            }
+        }
+        return bestMove;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    private int[] searchRoot(int stone, int depth, int[] moves, int count) {
+        int[] values = new int[count];
+        AtomicInteger alpha = new AtomicInteger(-INFINITY);
+
+        // 가장 유력한 첫 수를 먼저 탐색해 하한을 정함
+        values[0] = searchRootMove(stone, depth, moves[0], -INFINITY);
+        alpha.set(values[0]);
+
+        List<RootMoveTask> tasks = new ArrayList<>(count - 1);
+        for (int i = 1; i < count; i++) {
+            tasks.add(new RootMoveTask(this, stone, depth, moves, values, i, alpha));
+        }
+        ForkJoinTask.invokeAll(tasks);
+        for (RootMoveTask task : tasks) {
+            nodes += task.nodes;
+        }
+        return values;
+    }
+
+    private int searchRootMove(int stone, int depth, int move, int alpha) {
+        if (make(move, stone)) {
+            unmake(move, stone);
+            return WIN;
+        }
+        int value = -negamax(3 - stone, depth - 1, -INFINITY, -alpha, 1);
+        unmake(move, stone);
+        return value;
+    }
+
+    private int negamax(int stone, int depth, int alpha, int beta, int ply) {
+        if (isTimeUp()) {
+            return 0;
+        }
+        if (depth == 0) {
+            return stone == OmokBoard.BLACK ? score : -score;
+        }
+
+        int[] moves = moveBuffers[ply];
+        int count = generate(stone, moves, scoreBuffers[ply], WIDTH);
+        if (count == 0) {
+            // 판이 가득 참 (무승부)
+            return 0;
+        }
+
+        int best = -INFINITY;
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            if (make(move, stone)) {
+                unmake(move, stone);
+                return WIN - ply;
+            }
+            int value = -negamax(3 - stone, depth - 1, -beta, -alpha, ply + 1);
+            unmake(move, stone);
+            if (stopped.get()) {
+                return 0;
+            }
+            if (value > best) {
+                best = value;
+            }
+            if (value > alpha) {
+                alpha = value;
+            }
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 후보 수를 점수 높은 순으로 moves 에 채움
+     * 바로 이기는 수가 있으면 그 수 하나만, 상대에게 4목이 있으면 막는 칸만 남김
+     * @return 후보 수 개수
+     */
+    private int generate(int stone, int[] moves, int[] scores, int width) {
+        if (stoneCount == 0) {
+            moves[0] = (SIZE / 2) * SIZE + SIZE / 2;
+            return 1;
+        }
+        if (stoneCount == CELLS) {
+            return 0;
+        }
+
+        int[] own = counts[stone - 1];
+        int[] opponent = counts[2 - stone];
+        int count = 0;
+        boolean mustBlock = false;
+
+        for (int position = 0; position < CELLS; position++) {
+            if (cells[position] != OmokBoard.EMPTY || nearby[position] == 0) {
+                continue;
+            }
+            int attack = 0;
+            int defend = 0;
+            boolean blocks = false;
+            for (int w : CELL_WINDOWS[position]) {
+                int mine = own[w];
+                int theirs = opponent[w];
+                if (theirs == 0) {
+                    if (mine == 4) {
+                        moves[0] = position;
+                        return 1;
+                    }
+                    attack += WEIGHTS[mine + 1] - WEIGHTS[mine];
+                }
+                if (mine == 0) {
+                    if (theirs == 4) {
+                        blocks = true;
+                    }
+                    defend += WEIGHTS[theirs + 1] - WEIGHTS[theirs];
+                }
+            }
+            if (blocks && !mustBlock) {
+                // 처음 발견한 4목: 지금까지 모은 후보는 버리고 막는 칸만 모음
+                mustBlock = true;
+                count = 0;
+            }
+            if (mustBlock && !blocks) {
+                continue;
+            }
+            count = insert(moves, scores, count, width, position, attack + defend);
+        }
+        return count;
+    }
+
+    // 상위 width 개만 점수 내림차순으로 유지
+    private static int insert(int[] moves, int[] scores, int count, int width, int position, int value) {
+        if (count == width && value <= scores[count - 1]) {
+            return count;
+        }
+        int i = count == width ? count - 1 : count;
+        while (i > 0 && scores[i - 1] < value) {
+            moves[i] = moves[i - 1];
+            scores[i] = scores[i - 1];
+            i--;
+        }
+        moves[i] = position;
+        scores[i] = value;
+        return count == width ? count : count + 1;
+    }
+
+    private static void sortDescending(int[] moves, int[] values, int count) {
+        for (int i = 1; i < count; i++) {
+            int move = moves[i];
+            int value = values[i];
+            int j = i;
+            while (j > 0 && values[j - 1] < value) {
+                moves[j] = moves[j - 1];
+                values[j] = values[j - 1];
+                j--;
+            }
+            moves[j] = move;
+            values[j] = value;
+        }
+    }
+
+    /**
+     * 돌 놓기 (평가 점수와 후보 칸 정보 갱신)
+     * @return 5목이 완성되면 true
+     */
+    private boolean make(int position, int stone) {
+        cells[position] = stone;
+        stoneCount++;
+        boolean win = false;
+        int[] own = counts[stone - 1];
+        for (int w : CELL_WINDOWS[position]) {
+            score -= windowValue(w);
+            own[w]++;
+            score += windowValue(w);
+            if (own[w] == 5) {
+                win = true;
+            }
+        }
+        updateNearby(position, 1);
+        return win;
+    }
+
+    private void unmake(int position, int stone) {
+        int[] own = counts[stone - 1];
+        for (int w : CELL_WINDOWS[position]) {
+            score -= windowValue(w);
+            own[w]--;
+            score += windowValue(w);
+        }
+        updateNearby(position, -1);
+        cells[position] = OmokBoard.EMPTY;
+        stoneCount--;
+    }
+
+    // 한 색만 들어 있는 구간만 점수가 있음 (흑 +, 백 -)
+    private int windowValue(int w) {
+        int black = counts[0][w];
+        int white = counts[1][w];
+        if (white == 0) {
+            return WEIGHTS[black];
+        }
+        return black == 0 ? -WEIGHTS[white] : 0;
+    }
+
+    private void updateNearby(int position, int delta) {
+        int row = position / SIZE;
+        int col = position % SIZE;
+        for (int r = Math.max(0, row - 2); r <= Math.min(SIZE - 1, row + 2); r++) {
+            for (int c = Math.max(0, col - 2); c <= Math.min(SIZE - 1, col + 2); c++) {
+                nearby[r * SIZE + c] += delta;
+            }
+        }
+    }
+
+    private boolean isTimeUp() {
+        if ((++nodes & 1023) == 0 && System.nanoTime() - deadlineNanos > 0) {
+            stopped.set(true);
+        }
+        return stopped.get();
+    }
+
+    /**
+     * 루트의 두 번째 이후 수 하나를 복사한 판에서 탐색 (그때까지 찾은 최선 점수를 하한으로 사용)
+     */
+    private static final class RootMoveTask extends RecursiveAction {
+        private final OmokSearch parent;
+        private final int stone;
+        private final int depth;
+        private final int[] moves;
+        private final int[] values;
+        private final int index;
+        private final AtomicInteger alpha;
+        private long nodes;
+
+        RootMoveTask(OmokSearch parent, int stone, int depth, int[] moves, int[] values, int index,
+                     AtomicInteger alpha) {
+            this.parent = parent;
+            this.stone = stone;
+            this.depth = depth;
+            this.moves = moves;
+            this.values = values;
+            this.index = index;
+            this.alpha = alpha;
+        }
+
+        @Override
+        protected void compute() {
+            if (parent.stopped.get()) {
+                values[index] = -INFINITY;
+                return;
+            }
+            OmokSearch search = new OmokSearch(parent);
+            int value = search.searchRootMove(stone, depth, moves[index], alpha.get());
+            values[index] = value;
+            alpha.accumulateAndGet(value, Math::max);
+            nodes = search.nodes;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.community.service;
+
+import com.community.dto.RoomDto;
+import com.community.dto.RoomListDeltaDto;
+import com.community.dto.RoomListSnapshotDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 개인 룸 목록 (메모리)
+ * 활성 방 전체와 그중 호스트가 온라인이라 목록에 보이는 방을 관리하고,
+ * 보이는 방이 바뀔 때마다 변경분만 /topic/rooms/delta 로 전송합니다.
+ * 처음 사용 시 PersonalRoomService 가 DB의 활성 방을 한 번 불러옵니다.
+ * 전체 목록(/app/room.list 응답)은 버전별로 한 번만 직렬화해 재사용합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PersonalRoomDirectory {
+
+    private final ActiveUserService activeUserService;
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final RealtimeMessagingService realtimeMessagingService;
+
+    // roomId -> 방 정보 (활성 방 전체)
+    private final Map<String, RoomDto> rooms = new LinkedHashMap<>();
+
+    // hostId -> roomId
+    private final Map<String, String> hostToRoom = new HashMap<>();
+
+    // 목록에 보이는 roomId (호스트가 온라인인 방)
+    private final Set<String> visibleRoomIds = new LinkedHashSet<>();
+
+    private long version;
+    private boolean loaded;
+
+    // 현재 버전의 직렬화된 전체 목록 (목록이 바뀌면 버림)
+    private SerializedSnapshot serializedSnapshot;
+
+    /**
+     * 직렬화된 전체 목록
+     */
+    public record SerializedSnapshot(long version, int roomCount, byte[] json) {
+    }
+
+    public synchronized boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * DB에서 불러온 활성 방으로 초기화 (변경분 전송 없음)
+     */
+    public synchronized void load(List<RoomDto> activeRooms) {
+        if (loaded) {
+            return;
+        }
+        for (RoomDto room : activeRooms) {
+            rooms.put(room.getRoomId(), room);
+            if (room.getHostId() != null) {
+                hostToRoom.put(room.getHostId(), room.getRoomId());
+            }
+            if (isHostOnline(room)) {
+                visibleRoomIds.add(room.getRoomId());
+            }
+        }
+        loaded = true;
+        serializedSnapshot = null;
+        log.info("Room directory loaded: {} rooms, {} visible", rooms.size(), visibleRoomIds.size());
+    }
+
+    /**
+     * 방 생성/갱신
+     */
+    public synchronized void put(RoomDto room) {
+        RoomDto entry = copyOf(room);
+        RoomDto previous = rooms.put(entry.getRoomId(), entry);
+        if (previous != null && previous.getHostId() != null) {
+            hostToRoom.remove(previous.getHostId());
+        }
+        if (entry.getHostId() != null) {
+            hostToRoom.put(entry.getHostId(), entry.getRoomId());
+        }
+        if (isHostOnline(entry)) {
+            visibleRoomIds.add(entry.getRoomId());
+            publish(List.of(entry), List.of());
+        } else if (visibleRoomIds.remove(entry.getRoomId())) {
+            publish(List.of(), List.of(entry.getRoomId()));
+        }
+    }
+
+    /**
+     * 방 삭제
+     */
+    public synchronized void remove(String roomId) {
+        RoomDto removed = rooms.remove(roomId);
+        if (removed != null && removed.getHostId() != null) {
+            hostToRoom.remove(removed.getHostId(), roomId);
+        }
+        if (visibleRoomIds.remove(roomId)) {
+            publish(List.of(), List.of(roomId));
+        }
+    }
+
+    /**
+     * 호스트 접속 (방이 있으면 목록에 표시)
+     */
+    public synchronized void hostOnline(String hostId) {
+        String roomId = hostToRoom.get(hostId);
+        if (roomId != null && visibleRoomIds.add(roomId)) {
+            publish(List.of(rooms.get(roomId)), List.of());
+        }
+    }
+
+    /**
+     * 호스트 접속 종료 (방은 유지하고 목록에서만 숨김)
+     */
+    public synchronized void hostOffline(String hostId) {
+        String roomId = hostToRoom.get(hostId);
+        if (roomId != null && visibleRoomIds.remove(roomId)) {
+            publish(List.of(), List.of(roomId));
+        }
+    }
+
+    public synchronized List<RoomDto> getVisibleRooms() {
+        List<RoomDto> visible = new ArrayList<>(visibleRoomIds.size());
+        for (String roomId : visibleRoomIds) {
+            visible.add(copyOf(rooms.get(roomId)));
+        }
+        return visible;
+    }
+
+    public synchronized RoomListSnapshotDto snapshot() {
+        return new RoomListSnapshotDto(version, getVisibleRooms());
+    }
+
+    /**
+     * 전체 목록을 JSON 으로 (같은 버전이면 캐시된 byte[] 반환)
+     */
+    public synchronized SerializedSnapshot serializedSnapshot() {
+        if (serializedSnapshot == null) {
+            RoomListSnapshotDto snapshot = snapshot();
+            serializedSnapshot = new SerializedSnapshot(version, snapshot.getRooms().size(),
+                    realtimeMessagingService.serialize(snapshot));
+        }
+        return serializedSnapshot;
+    }
+
+    private void publish(List<RoomDto> added, List<String> removed) {
+        version++;
+        serializedSnapshot = null;
+        messagingTemplate.convertAndSend("/topic/rooms/delta", new RoomListDeltaDto(version, added, removed));
+        log.debug("Room directory delta: version={}, added={}, removed={}", version, added.size(), removed.size());
+    }
+
+    private boolean isHostOnline(RoomDto room) {
+        // 호스트 ID가 없는 경우 표시 (안전장치)
+        return room.getHostId() == null || activeUserService.isUserActive(room.getHostId());
+    }
+
+    private RoomDto copyOf(RoomDto room) {
+        RoomDto copy = new RoomDto();
+        copy.setRoomId(room.getRoomId());
+        copy.setRoomName(room.getRoomName());
+        copy.setHostId(room.getHostId());
+        copy.setHostName(room.getHostName());
+        copy.setMaxMembers(room.getMaxMembers());
+        copy.setIsPrivate(room.getIsPrivate());
+        copy.setGpsLng(room.getGpsLng());
+        copy.setGpsLat(room.getGpsLat());
+        copy.setGameName(room.getGameName());
+        copy.setMembers(room.getMembers());
+        return copy;
+    }
+}
@@ -2,6 +2,7 @@ package com.community.service;
 
 import com.community.dto.FurnitureDto;
 import com.community.dto.RoomDto;
+import com.community.dto.RoomListSnapshotDto;
 import com.community.model.PersonalRoom;
 import com.community.model.RoomFurniture;
 import com.community.repository.PersonalRoomRepository;
@@ -30,6 +31,7 @@ public class PersonalRoomService {
     private final PersonalRoomRepository personalRoomRepository;
     private final RoomFurnitureRepository roomFurnitureRepository;
     private final ActiveUserService activeUserService;
+    private final PersonalRoomDirectory personalRoomDirectory;
 
     // 메모리 캐시: roomId -> RoomDto 매핑 (빠른 조회용)
     private final Map<String, RoomDto> activeRoomsCache = new ConcurrentHashMap<>();
@@ -79,6 +81,8 @@ public class PersonalRoomService {
                 // 캐시 업데이트
                 activeRoomsCache.put(room.getRoomId(), dto);
                 hostToRoom.put(hostId, room.getRoomId());
+                ensureDirectoryLoaded();
+                personalRoomDirectory.put(dto);
                 
                 return dto;
             }
@@ -110,6 +114,8 @@ public class PersonalRoomService {
         if (hostId != null) {
             hostToRoom.put(hostId, saved.getRoomId());
         }
+        ensureDirectoryLoaded();
+        personalRoomDirectory.put(dto);
         
         return dto;
     }
@@ -130,6 +136,7 @@ public class PersonalRoomService {
             if (cached != null && cached.getHostId() != null) {
                 hostToRoom.remove(cached.getHostId());
             }
+            personalRoomDirectory.remove(roomId);
             return cached;
         }
         
@@ -143,6 +150,7 @@ public class PersonalRoomService {
         // 캐시에서 제거
         activeRoomsCache.remove(roomId);
         hostToRoom.remove(hostId);
+        personalRoomDirectory.remove(roomId);
         
         RoomDto dto = entityToDto(room);
         dto.setAction("delete");
@@ -175,27 +183,43 @@ public class PersonalRoomService {
 
     /**
      * 모든 활성 방 목록 조회 (호스트가 온라인인 방만)
+     * 메모리 방 목록에서 바로 반환 (DB 조회는 처음 한 번만)
      */
     @Transactional(readOnly = true)
     public List<RoomDto> getAllRooms() {
-        // DB에서 최신 데이터 로드
-        List<PersonalRoom> rooms = personalRoomRepository.findByIsActiveTrue();
-        return rooms.stream()
-                .filter(room -> {
-                    // 호스트가 온라인인 방만 필터링
-                    if (room.getHostId() != null) {
-                        String hostId = String.valueOf(room.getHostId());
-                        boolean isOnline = activeUserService.isUserActive(hostId);
-                        if (!isOnline) {
-                            log.debug("방 {} 필터링됨: 호스트 {}가 오프라인", room.getRoomId(), hostId);
-                        }
-                        return isOnline;
-                    }
-                    // 호스트 ID가 없는 경우 표시 (안전장치)
-                    return true;
-                })
-                .map(this::entityToDto)
-                .collect(Collectors.toList());
+        ensureDirectoryLoaded();
+        return personalRoomDirectory.getVisibleRooms();
+    }
+
+    /**
+     * 버전이 포함된 전체 방 목록 (실시간 변경분 동기화용)
+     */
+    @Transactional(readOnly = true)
+    public RoomListSnapshotDto getRoomListSnapshot() {
+        ensureDirectoryLoaded();
+        return personalRoomDirectory.snapshot();
+    }
+
+    /**
+     * 버전 포함 방 목록 (직렬화된 형태, 같은 버전이면 재사용)
+     */
+    @Transactional(readOnly = true)
+    public PersonalRoomDirectory.SerializedSnapshot getSerializedRoomListSnapshot() {
+        ensureDirectoryLoaded();
+        return personalRoomDirectory.serializedSnapshot();
+    }
+
+    /**
+     * 호스트 접속/종료에 따른 방 목록 표시 여부 갱신
+     */
+    @Transactional(readOnly = true)
+    public void updateHostPresence(String hostId, boolean online) {
+        ensureDirectoryLoaded();
+        if (online) {
+            personalRoomDirectory.hostOnline(hostId);
+        } else {
+            personalRoomDirectory.hostOffline(hostId);
+        }
     }
 
     /**
@@ -391,6 +415,14 @@ public class PersonalRoomService {
 
     // ==================== Helper 메서드 ====================
 
+    private void ensureDirectoryLoaded() {
+        if (!personalRoomDirectory.isLoaded()) {
+            personalRoomDirectory.load(personalRoomRepository.findByIsActiveTrue().stream()
+                    .map(this::entityToDto)
+                    .collect(Collectors.toList()));
+        }
+    }
+
     private RoomDto entityToDto(PersonalRoom entity) {
         RoomDto dto = new RoomDto();
         dto.setRoomId(entity.getRoomId());
@@ -0,0 +1,232 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.PlayerPositionDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 고정 주기 위치 브로드캐스트 서비스
+ * 위치 업데이트를 받을 때마다 전송하지 않고, 틱마다 움직인 플레이어만 모아 한 프레임으로 전송합니다.
+ * 전송 횟수가 (업데이트 수 x 구독자 수)에서 (틱 수 x 구독자 수)로 줄어듭니다.
+ * 개인 룸(currentRoomId)에 있는 플레이어는 광장이 아닌 방별 토픽으로 분리해 전송합니다.
+ * 새로 입장한 세션에는 다음 틱에 광장 전체 상태를 한 번 보내, 움직이지 않는 플레이어도 바로 보이게 합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PositionBroadcastService {
+
+    private final WorldStateService worldStateService;
+    private final AreaOfInterestService areaOfInterestService;
+    private final SpaceRoutingService spaceRoutingService;
+    private final RealtimeMessagingService realtimeMessagingService;
+    private final PositionMailbox positionMailbox;
+    private final ActiveUserService activeUserService;
+    private final ProximityChatService proximityChatService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 초당 틱 수 (10~20Hz 권장)
+    @Value("${realtime.position.tick-rate-hz:15}")
+    private int tickRateHz;
+
+    // 몇 틱마다 전체 상태를 다시 보낼지 (늦게 구독한 클라이언트 동기화)
+    @Value("${realtime.position.keyframe-interval-ticks:150}")
+    private int keyframeIntervalTicks;
+
+    private static final String PLAZA_TOPIC = "/topic/positions";
+    private static final String PLAZA_QUEUE = "/user/queue/positions";
+
+    // 입장한 세션에 광장 스냅샷 전송 여부
+    @Value("${realtime.position.join-snapshot.enabled:true}")
+    private boolean joinSnapshotEnabled;
+
+    // 다음 틱에 스냅샷을 보낼 세션 (sessionId -> userId)
+    private final Map<String, String> pendingSnapshots = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService tickExecutor = Executors.newSingleThreadScheduledExecutor();
+    private final AtomicLong tickCounter = new AtomicLong();
+
+    // /topic/positions 구독자 전체가 공유하는 광장 토픽 상태 (틱 스레드 전용)
+    private SpacePositionChannel plazaChannel;
+
+    // 틱 한 번 처리 시간 (수신함 반영부터 전송까지)
+    private Timer tickTimer;
+
+    @PostConstruct
+    public void start() {
+        plazaChannel = new SpacePositionChannel(PLAZA_TOPIC, worldStateService, false);
+        tickTimer = Timer.builder("realtime.position.tick")
+                .description("Position broadcast tick duration")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        int rate = Math.max(1, Math.min(tickRateHz, 60));
+        long periodMicros = TimeUnit.SECONDS.toMicros(1) / rate;
+        tickExecutor.scheduleAtFixedRate(this::tick, periodMicros, periodMicros, TimeUnit.MICROSECONDS);
+        log.info("Position broadcast tick started: {} Hz", rate);
+    }
+
+    @PreDestroy
+    public void stop() {
+        tickExecutor.shutdownNow();
+    }
+
+    /**
+     * 한 틱 처리: 움직인 플레이어가 있을 때만 스냅샷 프레임 전송
+     */
+    void tick() {
+        long startNanos = System.nanoTime();
+        try {
+            drainMailbox();
+            sendPendingSnapshots();
+            List<PlayerPositionDto> moved = worldStateService.drainMovedPlayers();
+            Set<String> arrived = worldStateService.drainArrivedUsers();
+            Map<String, String> departed = worldStateService.drainDepartedUsers();
+            if (moved.isEmpty() && departed.isEmpty()) {
+                return;
+            }
+
+            long tick = tickCounter.incrementAndGet();
+            Set<String> movedIds = new HashSet<>();
+            for (PlayerPositionDto position : moved) {
+                movedIds.add(position.getUserId());
+            }
+
+            // 공간별 분리: 광장 / 개인 룸
+            List<PlayerPositionDto> all = worldStateService.getAllPositions();
+            List<PlayerPositionDto> plazaPlayers = new ArrayList<>();
+            Map<String, List<PlayerPositionDto>> playersByRoom = new HashMap<>();
+            for (PlayerPositionDto position : all) {
+                String roomId = SpaceRoutingService.roomIdOf(position);
+                if (roomId == null) {
+                    plazaPlayers.add(position);
+                } else {
+                    playersByRoom.computeIfAbsent(roomId, id -> new ArrayList<>()).add(position);
+                }
+            }
+            Set<Integer> livePlayerIds = worldStateService.getLivePlayerIds();
+            proximityChatService.updateIndex(plazaPlayers, playersByRoom);
+
+            boolean aoiEnabled = areaOfInterestService.isEnabled();
+            spaceRoutingService.notifySpaceChanges(all, aoiEnabled ? PLAZA_QUEUE : PLAZA_TOPIC);
+            spaceRoutingService.publishRooms(tick, playersByRoom, movedIds, livePlayerIds, keyframeIntervalTicks);
+
+            if (aoiEnabled) {
+                // 관심 영역 모드: 주변 플레이어에게만 개별 전송
+                areaOfInterestService.publish(tick, plazaPlayers, movedIds, arrived, departed, livePlayerIds);
+            } else {
+                publishToTopic(tick, plazaPlayers, movedIds, livePlayerIds);
+            }
+        } catch (Exception e) {
+            // 예외가 발생해도 다음 틱이 계속 실행되도록 함
+            log.error("Position broadcast tick failed: {}", e.getMessage(), e);
+        } finally {
+            tickTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 세션별 최신 위치 업데이트 반영 (PositionMailbox 사용 시)
+     */
+    private void drainMailbox() {
+        positionMailbox.drain((sessionId, payload) -> {
+            // 이미 접속 종료 처리된 세션의 업데이트는 버림 (removePlayer 뒤에 다시 추가되지 않도록)
+            String userId = activeUserService.getUserIdBySession(sessionId);
+            if (userId == null) {
+                positionMailbox.remove(sessionId);
+                return;
+            }
+            try {
+                PlayerPositionDto position = objectMapper.readValue(payload, PlayerPositionDto.class);
+                // 세션의 사용자가 아닌 다른 플레이어 위치는 받지 않음
+                if (!userId.equals(position.getUserId())) {
+                    log.warn("Rejected position update for another user: sessionId={}, userId={}, payloadUserId={}",
+                            sessionId, userId, position.getUserId());
+                    return;
+                }
+                position.setTimestamp(System.currentTimeMillis());
+                worldStateService.updatePosition(position);
+            } catch (Exception e) {
+                log.warn("Invalid position update: sessionId={}, error={}", sessionId, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 입장한 세션에 광장 스냅샷 예약 (플레이어 입장 시 호출)
+     * 관심 영역 모드에서는 첫 프레임에 시야 안 전체 상태가 포함되므로 보내지 않음
+     */
+    public void requestSnapshot(String sessionId, String userId) {
+        if (!joinSnapshotEnabled || areaOfInterestService.isEnabled() || sessionId == null) {
+            return;
+        }
+        pendingSnapshots.put(sessionId, userId != null ? userId : "");
+    }
+
+    /**
+     * 예약된 세션마다 광장 전체 상태를 압축 키프레임 하나로 전송 (정의/애니메이션 포함)
+     * 틱 스레드에서 이번 틱 변경분보다 먼저 보내므로 이후 /topic/positions 변경분과 순서가 맞음
+     */
+    private void sendPendingSnapshots() {
+        if (pendingSnapshots.isEmpty()) {
+            return;
+        }
+        List<PlayerPositionDto> plazaPlayers = new ArrayList<>();
+        for (PlayerPositionDto position : worldStateService.getAllPositions()) {
+            if (SpaceRoutingService.roomIdOf(position) == null) {
+                plazaPlayers.add(position);
+            }
+        }
+
+        long tick = tickCounter.get();
+        for (String sessionId : List.copyOf(pendingSnapshots.keySet())) {
+            String userId = pendingSnapshots.remove(sessionId);
+            List<PlayerPositionDto> others = new ArrayList<>(plazaPlayers.size());
+            for (PlayerPositionDto position : plazaPlayers) {
+                if (!position.getUserId().equals(userId)) {
+                    others.add(position);
+                }
+            }
+            if (others.isEmpty()) {
+                continue;
+            }
+            // 세션 전용 인코더라 모든 플레이어의 정의와 전체 필드가 포함됨
+            CompactPositionFrameDto frame = new PositionFrameEncoder(worldStateService).encode(tick, others, true);
+            realtimeMessagingService.sendPositionFrameToSession(sessionId, frame);
+            log.debug("Join snapshot sent: sessionId={}, players={}", sessionId, others.size());
+        }
+    }
+
+    private void publishToTopic(long tick, List<PlayerPositionDto> plazaPlayers, Set<String> movedIds,
+                                Set<Integer> livePlayerIds) {
+        boolean keyframe = keyframeIntervalTicks > 0 && tick % keyframeIntervalTicks == 0;
+        CompactPositionFrameDto frame = plazaChannel.nextFrame(tick, plazaPlayers, movedIds, livePlayerIds, keyframe);
+        if (!frame.isEmpty()) {
+            realtimeMessagingService.sendPositionFrame(PLAZA_TOPIC, frame);
+        }
+    }
+
+    public long getTickCount() {
+        return tickCounter.get();
+    }
+}
@@ -0,0 +1,167 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.PlayerDefDto;
+import com.community.dto.PlayerPositionDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 수신자(세션 또는 토픽) 하나에 대한 압축 위치 프레임 인코더
+ * 좌표를 고정 소수점 정수로 양자화하고, 마지막으로 보낸 상태와 달라진 필드만 전송합니다.
+ * username/modelPath 는 처음 한 번(또는 바뀔 때)만 정의로 보내고 이후에는 작은 정수 ID로 참조합니다.
+ *
+ * STOMP 는 순서가 보장되는 신뢰 전송이므로 마지막으로 보낸 상태를 수신 확인된 상태로 간주합니다.
+ * 스레드 안전하지 않으므로 틱 스레드에서만 사용합니다.
+ */
+public class PositionFrameEncoder {
+
+    public static final int FIELD_X = 1;
+    public static final int FIELD_Y = 1 << 1;
+    public static final int FIELD_Z = 1 << 2;
+    public static final int FIELD_ROTATION = 1 << 3;
+    public static final int FIELD_ANIMATION = 1 << 4;
+    public static final int FIELD_FLAGS = 1 << 5;
+    public static final int ALL_FIELDS = (1 << 6) - 1;
+
+    private static final int FIELD_COUNT = 6;
+    private static final double POSITION_SCALE = 100.0;  // 1cm
+    private static final double ROTATION_SCALE = 1000.0; // 1/1000 rad
+
+    private final WorldStateService worldStateService;
+
+    // 플레이어 ID -> 마지막으로 보낸 양자화 상태 [x, y, z, rotation, animation, flags]
+    private final Map<Integer, int[]> baselines = new HashMap<>();
+
+    // 플레이어 ID -> 마지막으로 보낸 정의 버전
+    private final Map<Integer, Integer> knownDefs = new HashMap<>();
+
+    // 이미 보낸 애니메이션 ID
+    private final Set<Integer> knownAnimations = new HashSet<>();
+
+    public PositionFrameEncoder(WorldStateService worldStateService) {
+        this.worldStateService = worldStateService;
+    }
+
+    /**
+     * 프레임 생성
+     * @param keyframe true 면 기준 상태를 초기화하고 정의/애니메이션/전체 필드를 다시 보냄
+     *                 (중간 프레임을 놓친 수신자도 키프레임 하나로 복구)
+     */
+    public CompactPositionFrameDto encode(long tick, Collection<PlayerPositionDto> players, boolean keyframe) {
+        if (keyframe) {
+            reset();
+        }
+        List<PlayerDefDto> defs = new ArrayList<>();
+        Map<Integer, String> anims = new HashMap<>();
+        List<int[]> updates = new ArrayList<>();
+
+        for (PlayerPositionDto position : players) {
+            Integer playerId = worldStateService.getPlayerId(position.getUserId());
+            if (playerId == null) {
+                continue;
+            }
+
+            int staticVersion = worldStateService.getStaticVersion(position.getUserId());
+            Integer knownVersion = knownDefs.get(playerId);
+            if (knownVersion == null || knownVersion != staticVersion) {
+                defs.add(new PlayerDefDto(playerId, position.getUserId(), position.getUsername(), position.getModelPath()));
+                knownDefs.put(playerId, staticVersion);
+            }
+
+            int[] state = quantize(position);
+            if (knownAnimations.add(state[4])) {
+                anims.put(state[4], worldStateService.getAnimationName(state[4]));
+            }
+
+            int[] baseline = baselines.get(playerId);
+            int mask = (keyframe || baseline == null) ? ALL_FIELDS : diff(baseline, state);
+            if (mask == 0) {
+                continue;
+            }
+            updates.add(pack(playerId, mask, state));
+            baselines.put(playerId, state);
+        }
+
+        CompactPositionFrameDto frame = new CompactPositionFrameDto();
+        frame.setT(tick);
+        frame.setTs(System.currentTimeMillis());
+        frame.setK(keyframe ? Boolean.TRUE : null);
+        frame.setDefs(defs);
+        frame.setAnims(anims);
+        frame.setU(updates);
+        return frame;
+    }
+
+    /**
+     * 플레이어가 시야에서 사라졌을 때 기준 상태 제거 (다시 보이면 전체 필드 전송)
+     */
+    public void forget(String userId) {
+        Integer playerId = worldStateService.getPlayerId(userId);
+        if (playerId != null) {
+            baselines.remove(playerId);
+            knownDefs.remove(playerId);
+        }
+    }
+
+    /**
+     * 모든 기준 상태 초기화 (다음 프레임에 정의/애니메이션/전체 필드를 다시 전송)
+     */
+    public void reset() {
+        baselines.clear();
+        knownDefs.clear();
+        knownAnimations.clear();
+    }
+
+    /**
+     * 기준 상태에서 사라진 플레이어 정리
+     */
+    public void retainPlayers(Set<Integer> playerIds) {
+        baselines.keySet().retainAll(playerIds);
+        knownDefs.keySet().retainAll(playerIds);
+    }
+
+    private int[] quantize(PlayerPositionDto position) {
+        return new int[] {
+                quantize(position.getX(), POSITION_SCALE),
+                quantize(position.getY(), POSITION_SCALE),
+                quantize(position.getZ(), POSITION_SCALE),
+                quantize(position.getRotationY(), ROTATION_SCALE),
+                worldStateService.internAnimation(position.getAnimation()),
+                Boolean.TRUE.equals(position.getIsChangingAvatar()) ? 1 : 0
+        };
+    }
+
+    private int quantize(Double value, double scale) {
+        return value != null ? (int) Math.round(value * scale) : 0;
+    }
+
+    private int diff(int[] baseline, int[] state) {
+        int mask = 0;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if (baseline[i] != state[i]) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    private int[] pack(int playerId, int mask, int[] state) {
+        int[] packed = new int[2 + Integer.bitCount(mask)];
+        packed[0] = playerId;
+        packed[1] = mask;
+        int index = 2;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            if ((mask & (1 << i)) != 0) {
+                packed[index++] = state[i];
+            }
+        }
+        return packed;
+    }
+}
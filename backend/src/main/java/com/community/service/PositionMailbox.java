@@ -0,0 +1,133 @@
+package com.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * 위치 업데이트 수신함 (세션별 최신 값만 유지)
+ * /app/player.position 메시지를 컨트롤러로 보내지 않고 세션마다 가장 최근 본문 하나만 보관하며,
+ * 위치 브로드캐스트 틱에서 한 번에 꺼내 처리합니다.
+ * 세션별 초당 최대 업데이트 수를 넘는 메시지는 보관하지 않고 버립니다.
+ */
+@Component
+@Slf4j
+public class PositionMailbox {
+
+    @Value("${realtime.position.mailbox.enabled:true}")
+    private boolean enabled;
+
+    // 세션별 초당 최대 위치 업데이트 수
+    @Value("${realtime.position.mailbox.max-rate-hz:30}")
+    private int maxRateHz;
+
+    // 순간적으로 허용할 추가 업데이트 수
+    @Value("${realtime.position.mailbox.burst:5}")
+    private int burst;
+
+    // sessionId -> 수신함
+    private final Map<String, Slot> slots = new ConcurrentHashMap<>();
+
+    private final AtomicLong acceptedCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * 위치 업데이트 보관
+     * @return 보관했으면 true, 속도 제한으로 버렸으면 false
+     */
+    public boolean offer(String sessionId, byte[] payload) {
+        Slot slot = slots.computeIfAbsent(sessionId, id -> new Slot(burst + 1));
+        if (!slot.tryAcquire(Math.max(1, maxRateHz), burst + 1)) {
+            slot.dropped.incrementAndGet();
+            droppedCount.incrementAndGet();
+            return false;
+        }
+        acceptedCount.incrementAndGet();
+        if (slot.latest.getAndSet(payload) != null) {
+            // 아직 처리되지 않은 이전 업데이트는 새 값으로 대체됨
+            coalescedCount.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * 보관된 최신 업데이트를 모두 꺼내 처리 (틱 스레드)
+     */
+    public void drain(BiConsumer<String, byte[]> consumer) {
+        slots.forEach((sessionId, slot) -> {
+            byte[] payload = slot.latest.getAndSet(null);
+            if (payload != null) {
+                consumer.accept(sessionId, payload);
+            }
+        });
+    }
+
+    /**
+     * 세션 종료 시 수신함 제거
+     */
+    public void remove(String sessionId) {
+        Slot slot = slots.remove(sessionId);
+        if (slot != null && slot.dropped.get() > 0) {
+            log.debug("Position mailbox closed: sessionId={}, dropped={}", sessionId, slot.dropped.get());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getDroppedCount(String sessionId) {
+        Slot slot = slots.get(sessionId);
+        return slot != null ? slot.dropped.get() : 0;
+    }
+
+    public long getAcceptedCount() {
+        return acceptedCount.get();
+    }
+
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getSessionCount() {
+        return slots.size();
+    }
+
+    /**
+     * 세션 하나의 수신함과 토큰 버킷
+     */
+    private static class Slot {
+        private final AtomicReference<byte[]> latest = new AtomicReference<>();
+        private final AtomicLong dropped = new AtomicLong();
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        Slot(int capacity) {
+            this.tokens = capacity;
+        }
+
+        synchronized boolean tryAcquire(int ratePerSecond, int capacity) {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(capacity, tokens + elapsedSeconds * ratePerSecond);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
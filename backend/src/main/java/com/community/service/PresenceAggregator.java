@@ -0,0 +1,141 @@
+package com.community.service;
+
+import com.community.dto.PlayerJoinDto;
+import com.community.dto.PresenceBatchDto;
+import com.community.dto.PresenceStatusDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입장/퇴장/활동 상태/온라인 인원 수 브로드캐스트 묶음 전송
+ * 접속/종료 때마다 바로 전송하지 않고 window-ms 동안 모아 /topic/presence 로 한 번에 보냅니다.
+ * 같은 구간 안에서 상태가 원래대로 돌아온 사용자(입장 후 퇴장, 재접속)는 보내지 않습니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PresenceAggregator {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ActiveUserService activeUserService;
+
+    // 묶어서 보낼 구간 길이 (UI 지연 1초 미만 유지)
+    @Value("${realtime.presence.batch-window-ms:250}")
+    private long windowMs;
+
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    // userId -> 구간 안의 첫/마지막 이벤트
+    private final Map<String, PendingPresence> pending = new LinkedHashMap<>();
+
+    // userId -> 구간 안의 마지막 활동 상태
+    private final Map<String, String> pendingStatuses = new LinkedHashMap<>();
+    private boolean countChanged;
+    private int lastSentCount = -1;
+
+    @PostConstruct
+    public void start() {
+        long period = Math.max(50, Math.min(windowMs, 1000));
+        flushExecutor.scheduleAtFixedRate(this::flush, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flushExecutor.shutdownNow();
+    }
+
+    public synchronized void recordJoin(PlayerJoinDto join) {
+        record(join);
+    }
+
+    public synchronized void recordLeave(PlayerJoinDto leave) {
+        record(leave);
+    }
+
+    /**
+     * 활동 상태 변경 (active, idle, away)
+     */
+    public synchronized void recordStatus(String userId, String status) {
+        pendingStatuses.put(userId, status);
+    }
+
+    /**
+     * 온라인 인원 수가 바뀌었을 수 있음 (다음 전송에 포함)
+     */
+    public synchronized void markCountChanged() {
+        countChanged = true;
+    }
+
+    private void record(PlayerJoinDto event) {
+        PendingPresence entry = pending.get(event.getUserId());
+        if (entry == null) {
+            pending.put(event.getUserId(), new PendingPresence(event));
+        } else {
+            entry.last = event;
+        }
+        countChanged = true;
+    }
+
+    void flush() {
+        try {
+            List<PlayerJoinDto> joins = new ArrayList<>();
+            List<PlayerJoinDto> leaves = new ArrayList<>();
+            List<PresenceStatusDto> statuses = new ArrayList<>();
+            synchronized (this) {
+                if (pending.isEmpty() && pendingStatuses.isEmpty() && !countChanged) {
+                    return;
+                }
+                pendingStatuses.forEach((userId, status) -> statuses.add(new PresenceStatusDto(userId, status)));
+                pendingStatuses.clear();
+                for (PendingPresence entry : pending.values()) {
+                    // 구간 시작과 끝의 상태가 같으면 (입장 후 퇴장, 퇴장 후 재입장) 생략
+                    if (!entry.first.getAction().equals(entry.last.getAction())) {
+                        continue;
+                    }
+                    if ("join".equals(entry.last.getAction())) {
+                        joins.add(entry.last);
+                    } else {
+                        leaves.add(entry.last);
+                    }
+                }
+                pending.clear();
+                countChanged = false;
+            }
+
+            int count = activeUserService.getActiveUserCount();
+            Integer onlineCount = count != lastSentCount ? count : null;
+            lastSentCount = count;
+            if (joins.isEmpty() && leaves.isEmpty() && statuses.isEmpty() && onlineCount == null) {
+                return;
+            }
+            messagingTemplate.convertAndSend("/topic/presence",
+                    new PresenceBatchDto(joins, leaves, statuses, onlineCount, System.currentTimeMillis()));
+        } catch (Exception e) {
+            // 예외가 발생해도 다음 전송이 계속 실행되도록 함
+            log.error("Presence flush failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private static class PendingPresence {
+        private final PlayerJoinDto first;
+        private PlayerJoinDto last;
+
+        PendingPresence(PlayerJoinDto event) {
+            this.first = event;
+            this.last = event;
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.community.service;
+
+import com.community.dto.PlayerPositionDto;
+import com.community.model.PersonalRoom;
+import com.community.model.UserSession;
+import com.community.model.UserSession.SpaceType;
+import com.community.repository.PersonalRoomRepository;
+import com.community.repository.UserRepository;
+import com.community.repository.UserSessionRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션 heartbeat 추적 (메모리)
+ * 클라이언트가 보내는 모든 STOMP 프레임(heartbeat 포함)으로 마지막 수신 시각을, SEND 프레임으로 마지막 활동 시각을 기록합니다.
+ * - active -> idle -> away: 활동이 없는 시간에 따라 상태 변경 (/topic/presence 로 묶어서 전송)
+ * - ghost: 프레임이 ghost-after-ms 동안 전혀 없으면 접속 종료로 처리 (GhostSession 이벤트)
+ * - user_sessions: 공간/방/마지막 활동 시각을 flush-interval-ms 마다 바뀐 사용자만 모아서 저장
+ * 만료 검사는 1초 단위 타이밍 휠로 처리해, heartbeat 마다 정렬/재배치 비용이 들지 않습니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PresenceHeartbeatTracker {
+
+    private static final int WHEEL_SLOTS = 64;
+    private static final long SLOT_MS = 1000;
+
+    private final WorldStateService worldStateService;
+    private final PresenceAggregator presenceAggregator;
+    private final UserSessionRepository userSessionRepository;
+    private final UserRepository userRepository;
+    private final PersonalRoomRepository personalRoomRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${realtime.presence.tracker.idle-after-ms:60000}")
+    private long idleAfterMs;
+
+    @Value("${realtime.presence.tracker.away-after-ms:300000}")
+    private long awayAfterMs;
+
+    @Value("${realtime.presence.tracker.ghost-after-ms:30000}")
+    private long ghostAfterMs;
+
+    @Value("${realtime.presence.tracker.flush-interval-ms:30000}")
+    private long flushIntervalMs;
+
+    /**
+     * 응답 없는 세션 (접속 종료 이벤트 없이 끊긴 연결)
+     */
+    public record GhostSession(String sessionId, String userId, String username) {
+    }
+
+    public enum Status {
+        ACTIVE, IDLE, AWAY;
+
+        String wireName() {
+            return name().toLowerCase();
+        }
+    }
+
+    // sessionId -> 추적 정보
+    private final Map<String, TrackedSession> sessions = new ConcurrentHashMap<>();
+
+    // 타이밍 휠: 다음 검사 시각(초) % WHEEL_SLOTS 칸에 sessionId 보관
+    private final List<Set<String>> wheel = new ArrayList<>(WHEEL_SLOTS);
+    private long lastProcessedSlotTime;
+
+    // 개인 룸 roomId(문자열) -> personal_rooms.id
+    private final Map<String, Long> roomIdCache = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService trackerExecutor = Executors.newSingleThreadScheduledExecutor();
+
+    @PostConstruct
+    public void start() {
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+        lastProcessedSlotTime = System.currentTimeMillis() / SLOT_MS;
+        trackerExecutor.scheduleAtFixedRate(this::advance, SLOT_MS, SLOT_MS, TimeUnit.MILLISECONDS);
+        trackerExecutor.scheduleAtFixedRate(this::flushOccupancy, flushIntervalMs, flushIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        trackerExecutor.shutdownNow();
+    }
+
+    /**
+     * 플레이어 입장 시 추적 시작
+     */
+    public void register(String sessionId, String userId, String username) {
+        long now = System.currentTimeMillis();
+        TrackedSession session = new TrackedSession(sessionId, userId, username, now);
+        sessions.put(sessionId, session);
+        schedule(session, now + Math.min(idleAfterMs, ghostAfterMs));
+    }
+
+    /**
+     * 클라이언트 프레임 수신 (인바운드 채널에서 호출, 추적 중인 세션만 반영)
+     * @param activity SEND 프레임이면 true (heartbeat/구독 등은 false)
+     */
+    public void touch(String sessionId, boolean activity) {
+        TrackedSession session = sessions.get(sessionId);
+        if (session == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        session.lastSeenAt = now;
+        if (activity) {
+            session.lastActiveAt = now;
+            if (session.status != Status.ACTIVE) {
+                changeStatus(session, Status.ACTIVE);
+            }
+        }
+    }
+
+    /**
+     * 접속 종료 시 추적 중단
+     */
+    public void remove(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    public Status getStatus(String sessionId) {
+        TrackedSession session = sessions.get(sessionId);
+        return session != null ? session.status : null;
+    }
+
+    public int getTrackedSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * 1초마다 현재 칸의 세션 검사 (틱이 밀리면 밀린 칸까지 처리)
+     */
+    void advance() {
+        try {
+            long now = System.currentTimeMillis();
+            long currentSlotTime = now / SLOT_MS;
+            // 한 바퀴 이상 밀렸으면 모든 칸을 한 번씩만 처리
+            long firstSlotTime = Math.max(lastProcessedSlotTime + 1, currentSlotTime - WHEEL_SLOTS + 1);
+            for (long slotTime = firstSlotTime; slotTime <= currentSlotTime; slotTime++) {
+                processSlot(wheel.get((int) (slotTime % WHEEL_SLOTS)), now);
+            }
+            lastProcessedSlotTime = currentSlotTime;
+        } catch (Exception e) {
+            // 예외가 발생해도 다음 검사가 계속 실행되도록 함
+            log.error("Presence heartbeat check failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void processSlot(Set<String> slot, long now) {
+        for (String sessionId : List.copyOf(slot)) {
+            TrackedSession session = sessions.get(sessionId);
+            if (session == null) {
+                slot.remove(sessionId);
+                continue;
+            }
+            if (session.nextCheckAt > now) {
+                continue; // 휠 한 바퀴보다 먼 검사
+            }
+            slot.remove(sessionId);
+
+            if (now - session.lastSeenAt >= ghostAfterMs) {
+                reap(session);
+                continue;
+            }
+
+            long inactiveMs = now - session.lastActiveAt;
+            Status status = inactiveMs >= awayAfterMs ? Status.AWAY
+                    : inactiveMs >= idleAfterMs ? Status.IDLE : Status.ACTIVE;
+            if (status != session.status) {
+                changeStatus(session, status);
+            }
+
+            long nextCheck = session.lastSeenAt + ghostAfterMs;
+            if (status == Status.ACTIVE) {
+                nextCheck = Math.min(nextCheck, session.lastActiveAt + idleAfterMs);
+            } else if (status == Status.IDLE) {
+                nextCheck = Math.min(nextCheck, session.lastActiveAt + awayAfterMs);
+            }
+            schedule(session, Math.max(nextCheck, now + SLOT_MS));
+        }
+    }
+
+    private void schedule(TrackedSession session, long checkAt) {
+        session.nextCheckAt = checkAt;
+        wheel.get((int) ((checkAt / SLOT_MS) % WHEEL_SLOTS)).add(session.sessionId);
+    }
+
+    private void changeStatus(TrackedSession session, Status status) {
+        session.status = status;
+        presenceAggregator.recordStatus(session.userId, status.wireName());
+    }
+
+    private void reap(TrackedSession session) {
+        if (sessions.remove(session.sessionId, session)) {
+            log.warn("Reaping ghost session: userId={}, sessionId={}, silentFor={}ms",
+                    session.userId, session.sessionId, System.currentTimeMillis() - session.lastSeenAt);
+            eventPublisher.publishEvent(new GhostSession(session.sessionId, session.userId, session.username));
+        }
+    }
+
+    /**
+     * 공간/방/마지막 활동 시각이 바뀐 사용자만 user_sessions 에 한 번에 저장
+     */
+    void flushOccupancy() {
+        try {
+            Map<Long, TrackedSession> changed = new HashMap<>();
+            for (TrackedSession session : sessions.values()) {
+                Long userId = parseUserId(session.userId);
+                if (userId == null) {
+                    continue;
+                }
+                PlayerPositionDto position = worldStateService.getPosition(session.userId);
+                String roomKey = position != null ? position.getCurrentRoomId() : null;
+                if (roomKey != null && roomKey.isBlank()) {
+                    roomKey = null;
+                }
+                if (session.lastActiveAt != session.flushedActiveAt || !Objects.equals(roomKey, session.flushedRoomKey)) {
+                    session.pendingRoomKey = roomKey;
+                    changed.put(userId, session);
+                }
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+
+            Map<Long, UserSession> existing = new HashMap<>();
+            for (UserSession row : userSessionRepository.findAllById(changed.keySet())) {
+                existing.put(row.getUserId(), row);
+            }
+
+            List<UserSession> rows = new ArrayList<>(changed.size());
+            for (Map.Entry<Long, TrackedSession> entry : changed.entrySet()) {
+                TrackedSession session = entry.getValue();
+                UserSession row = existing.get(entry.getKey());
+                if (row == null) {
+                    row = UserSession.builder()
+                            .user(userRepository.getReferenceById(entry.getKey()))
+                            .build();
+                }
+                row.setCurrentSpaceType(session.pendingRoomKey != null ? SpaceType.LOCAL_ROOM : SpaceType.PLAZA);
+                row.setCurrentRoomId(resolveRoomId(session.pendingRoomKey));
+                row.setLastActiveAt(toLocalDateTime(session.lastActiveAt));
+                rows.add(row);
+            }
+            userSessionRepository.saveAll(rows);
+
+            for (TrackedSession session : changed.values()) {
+                session.flushedActiveAt = session.lastActiveAt;
+                session.flushedRoomKey = session.pendingRoomKey;
+            }
+            log.debug("Flushed {} user session rows", rows.size());
+        } catch (Exception e) {
+            // 실패한 사용자는 다음 flush 때 다시 저장됨
+            log.warn("User session flush failed: {}", e.getMessage());
+        }
+    }
+
+    private Long resolveRoomId(String roomKey) {
+        if (roomKey == null) {
+            return null;
+        }
+        Long cached = roomIdCache.get(roomKey);
+        if (cached != null) {
+            return cached;
+        }
+        Long roomId = personalRoomRepository.findByRoomId(roomKey).map(PersonalRoom::getId).orElse(null);
+        if (roomId != null) {
+            roomIdCache.put(roomKey, roomId);
+        }
+        return roomId;
+    }
+
+    private Long parseUserId(String userId) {
+        try {
+            return Long.parseLong(userId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static class TrackedSession {
+        private final String sessionId;
+        private final String userId;
+        private final String username;
+        private volatile long lastSeenAt;
+        private volatile long lastActiveAt;
+        private volatile Status status = Status.ACTIVE;
+        private volatile long nextCheckAt;
+
+        // 마지막으로 저장한 값 (flush 스레드 전용)
+        private long flushedActiveAt;
+        private String flushedRoomKey;
+        private String pendingRoomKey;
+
+        TrackedSession(String sessionId, String userId, String username, long now) {
+            this.sessionId = sessionId;
+            this.userId = userId;
+            this.username = username;
+            this.lastSeenAt = now;
+            this.lastActiveAt = now;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.community.service;
+
+import com.community.dto.ActiveSessionDto;
+
+import java.util.List;
+
+/**
+ * 접속 중인 사용자(프레즌스) 저장소
+ * 사용자당 하나의 세션만 허용하며, ActiveUserService 가 이 저장소를 통해 중복 로그인/온라인 여부를 판단합니다.
+ * - memory: 단일 인스턴스용 (InMemoryPresenceStore)
+ * - jdbc: 여러 인스턴스가 DB 테이블을 공유 (JdbcPresenceStore)
+ */
+public interface PresenceStore {
+
+    /**
+     * 세션 등록
+     * @return 등록되면 true, 이미 다른 세션으로 접속 중이면 false
+     */
+    boolean register(ActiveSessionDto session);
+
+    /**
+     * 세션 ID로 제거
+     * @return 제거된 세션 (없으면 null)
+     */
+    ActiveSessionDto removeBySession(String sessionId);
+
+    /**
+     * 사용자 ID로 제거
+     * @return 제거된 세션 (없으면 null)
+     */
+    ActiveSessionDto removeByUser(String userId);
+
+    ActiveSessionDto findByUser(String userId);
+
+    ActiveSessionDto findBySession(String sessionId);
+
+    boolean isActive(String userId);
+
+    int count();
+
+    List<ActiveSessionDto> findAll();
+}
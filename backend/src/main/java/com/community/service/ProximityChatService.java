@@ -0,0 +1,200 @@
+package com.community.service;
+
+import com.community.dto.ChatMessageDto;
+import com.community.dto.PlayerPositionDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 근거리 광장 채팅 서비스
+ * 광장 채팅을 /topic/chat 전체가 아닌 보낸 사람 주변(radius 이내) 플레이어에게만 /user/queue/chat 으로 전송합니다.
+ * 개인 룸 안에서 보낸 메시지는 같은 방에 있는 플레이어에게만 전달합니다.
+ * 전체 채팅(/app/chat.global)은 사용자별 속도 제한을 거쳐 /topic/chat 으로 전송합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProximityChatService {
+
+    public static final String SCOPE_NEARBY = "nearby";
+    public static final String SCOPE_GLOBAL = "global";
+    public static final String SCOPE_NOTICE = "notice";
+
+    private static final String CHAT_QUEUE = "/queue/chat";
+
+    private final WorldStateService worldStateService;
+    private final ActiveUserService activeUserService;
+    private final RealtimeMessagingService realtimeMessagingService;
+
+    @Value("${realtime.chat.proximity.enabled:true}")
+    private boolean enabled;
+
+    // 메시지가 전달되는 거리 (월드 좌표 단위)
+    @Value("${realtime.chat.proximity.radius:45}")
+    private double radius;
+
+    // 사용자별 분당 전체 채팅 수
+    @Value("${realtime.chat.global.max-per-minute:6}")
+    private int globalMaxPerMinute;
+
+    // 순간적으로 허용할 전체 채팅 수
+    @Value("${realtime.chat.global.burst:3}")
+    private int globalBurst;
+
+    // 틱마다 새로 만든 위치 색인으로 교체 (만든 뒤에는 수정하지 않으므로 여러 스레드에서 읽어도 안전)
+    private volatile PositionIndex index = PositionIndex.EMPTY;
+
+    // userId -> 전체 채팅 토큰 버킷
+    private final Map<String, RateBucket> globalBuckets = new ConcurrentHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 최신 위치로 색인 교체 (위치 브로드캐스트 틱에서 호출)
+     */
+    public void updateIndex(List<PlayerPositionDto> plazaPlayers, Map<String, List<PlayerPositionDto>> playersByRoom) {
+        if (!enabled) {
+            return;
+        }
+        // 셀 크기를 반경과 같게 두면 주변 3x3 셀만 보면 됨
+        SpatialGrid<PlayerPositionDto> grid = new SpatialGrid<>(Math.max(1, radius));
+        for (PlayerPositionDto position : plazaPlayers) {
+            if (position.getX() != null && position.getZ() != null) {
+                grid.insert(position.getX(), position.getZ(), position);
+            }
+        }
+        index = new PositionIndex(grid, Map.copyOf(playersByRoom));
+    }
+
+    /**
+     * 보낸 사람 주변 플레이어에게 전송
+     * @return 받은 사람 수 (보낸 사람 포함)
+     */
+    public int sendNearby(ChatMessageDto chatDto) {
+        chatDto.setScope(SCOPE_NEARBY);
+        List<String> recipients = findRecipients(chatDto.getUserId());
+        List<String> sessionIds = new ArrayList<>(recipients.size());
+        for (String userId : recipients) {
+            String sessionId = activeUserService.getSessionIdByUserId(userId);
+            if (sessionId != null) {
+                sessionIds.add(sessionId);
+            }
+        }
+        realtimeMessagingService.sendToSessions(sessionIds, CHAT_QUEUE, chatDto);
+        return recipients.size();
+    }
+
+    /**
+     * 전체 채팅 속도 제한
+     * @return 보낼 수 있으면 true
+     */
+    public boolean tryAcquireGlobal(String userId) {
+        if (userId == null) {
+            return false;
+        }
+        RateBucket bucket = globalBuckets.computeIfAbsent(userId, id -> new RateBucket(Math.max(1, globalBurst)));
+        return bucket.tryAcquire(Math.max(1, globalMaxPerMinute) / 60.0, Math.max(1, globalBurst));
+    }
+
+    /**
+     * 속도 제한에 걸린 사용자에게만 안내 메시지 전송
+     */
+    public void sendNotice(String sessionId, String message) {
+        ChatMessageDto notice = ChatMessageDto.builder()
+                .userId("system")
+                .username("System")
+                .message(message)
+                .scope(SCOPE_NOTICE)
+                .timestamp(System.currentTimeMillis())
+                .build();
+        realtimeMessagingService.sendToSession(sessionId, CHAT_QUEUE, notice);
+    }
+
+    /**
+     * 접속 종료 시 속도 제한 상태 정리
+     */
+    public void removeUser(String userId) {
+        if (userId != null) {
+            globalBuckets.remove(userId);
+        }
+    }
+
+    private List<String> findRecipients(String senderId) {
+        PlayerPositionDto sender = worldStateService.getPosition(senderId);
+        if (sender == null || sender.getX() == null || sender.getZ() == null) {
+            // 위치를 아직 모르면 보낸 사람에게만 표시
+            return senderId != null ? List.of(senderId) : Collections.emptyList();
+        }
+
+        PositionIndex current = index;
+        List<String> recipients = new ArrayList<>();
+        recipients.add(senderId);
+
+        String roomId = SpaceRoutingService.roomIdOf(sender);
+        if (roomId != null) {
+            for (PlayerPositionDto member : current.playersByRoom.getOrDefault(roomId, Collections.emptyList())) {
+                if (!senderId.equals(member.getUserId())) {
+                    recipients.add(member.getUserId());
+                }
+            }
+            return recipients;
+        }
+
+        double radiusSquared = radius * radius;
+        SpatialGrid<PlayerPositionDto> grid = current.plaza;
+        grid.forEachNear(grid.toCell(sender.getX()), grid.toCell(sender.getZ()), 1, position -> {
+            if (senderId.equals(position.getUserId())) {
+                return;
+            }
+            double dx = position.getX() - sender.getX();
+            double dz = position.getZ() - sender.getZ();
+            if (dx * dx + dz * dz <= radiusSquared) {
+                recipients.add(position.getUserId());
+            }
+        });
+        return recipients;
+    }
+
+    /**
+     * 한 틱 시점의 광장 격자와 방별 플레이어 목록
+     */
+    private record PositionIndex(SpatialGrid<PlayerPositionDto> plaza,
+                                 Map<String, List<PlayerPositionDto>> playersByRoom) {
+        static final PositionIndex EMPTY = new PositionIndex(new SpatialGrid<>(1), Map.of());
+    }
+
+    /**
+     * 사용자 하나의 토큰 버킷
+     */
+    private static class RateBucket {
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        RateBucket(int capacity) {
+            this.tokens = capacity;
+        }
+
+        synchronized boolean tryAcquire(double ratePerSecond, int capacity) {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            tokens = Math.min(capacity, tokens + elapsedSeconds * ratePerSecond);
+            lastRefillNanos = now;
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
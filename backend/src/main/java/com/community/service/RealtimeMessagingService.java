@@ -0,0 +1,137 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.GameEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Collection;
+
+/**
+ * 고빈도 실시간 메시지 전송
+ * JSON 본문과 함께 바이너리 본문을 한 번만 미리 인코딩해 내부 헤더에 담아 보내면,
+ * BinaryCodecInterceptor 가 바이너리 코덱을 협상한 세션에만 바이너리 본문으로 바꿔 전송합니다.
+ * 바이너리 세션이 하나도 없으면 바이너리 인코딩을 생략합니다.
+ * 여러 세션에게 같은 JSON 을 보낼 때는 한 번만 직렬화한 byte[] 를 모든 세션이 공유합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RealtimeMessagingService {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final BinaryFrameCodec binaryFrameCodec;
+    private final SessionCodecRegistry sessionCodecRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 미니게임 방 게임 이벤트 전송
+     * Server -> /topic/minigame/room/{roomId}/game
+     */
+    public void sendGameEvent(String roomId, GameEventDto event) {
+        String destination = "/topic/minigame/room/" + roomId + "/game";
+        if (!binaryFrameCodec.supports(event) || !sessionCodecRegistry.hasBinarySessions()) {
+            messagingTemplate.convertAndSend(destination, event);
+            return;
+        }
+        messagingTemplate.convertAndSend(destination, event,
+                createHeaders(null, binaryFrameCodec.encodeGameEvent(event)));
+    }
+
+    /**
+     * 위치 프레임 브로드캐스트
+     * Server -> /topic/positions 또는 /topic/room/{roomId}/positions
+     */
+    public void sendPositionFrame(String destination, CompactPositionFrameDto frame) {
+        if (!sessionCodecRegistry.hasBinarySessions()) {
+            messagingTemplate.convertAndSend(destination, frame);
+            return;
+        }
+        messagingTemplate.convertAndSend(destination, frame,
+                createHeaders(null, binaryFrameCodec.encodePositionFrame(frame)));
+    }
+
+    /**
+     * 특정 세션에게 일반(JSON) 메시지 전송
+     * Server -> /user/queue/...
+     */
+    public void sendToSession(String sessionId, String destination, Object payload) {
+        messagingTemplate.convertAndSendToUser(sessionId, destination, payload, createHeaders(sessionId, null));
+    }
+
+    /**
+     * 여러 세션에게 같은 JSON 메시지 전송 (세션마다 변환하지 않고 한 번만 직렬화)
+     * Server -> /user/queue/...
+     */
+    public void sendToSessions(Collection<String> sessionIds, String destination, Object payload) {
+        if (sessionIds.isEmpty()) {
+            return;
+        }
+        byte[] json = serialize(payload);
+        for (String sessionId : sessionIds) {
+            sendSerializedToSession(sessionId, destination, json);
+        }
+    }
+
+    /**
+     * 미리 직렬화한 JSON 본문을 특정 세션에게 전송 (메시지 변환 생략)
+     * Server -> /user/queue/...
+     */
+    public void sendSerializedToSession(String sessionId, String destination, byte[] json) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headerAccessor.setLeaveMutable(true);
+        messagingTemplate.send("/user/" + sessionId + destination,
+                MessageBuilder.createMessage(json, headerAccessor.getMessageHeaders()));
+    }
+
+    /**
+     * 메시지 브로커와 같은 ObjectMapper 로 JSON 직렬화
+     */
+    public byte[] serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    /**
+     * 특정 세션에게 위치 프레임 전송 (세션의 코덱으로 한 번만 인코딩)
+     * Server -> /user/queue/positions
+     */
+    public void sendPositionFrameToSession(String sessionId, CompactPositionFrameDto frame) {
+        if (!sessionCodecRegistry.isBinary(sessionId)) {
+            messagingTemplate.convertAndSendToUser(sessionId, "/queue/positions", frame,
+                    createHeaders(sessionId, null));
+            return;
+        }
+        // 바이너리 세션에는 JSON 변환 없이 바로 바이너리 본문 전송
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headerAccessor.setSessionId(sessionId);
+        headerAccessor.setContentType(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+        headerAccessor.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(sessionId, "/queue/positions",
+                binaryFrameCodec.encodePositionFrame(frame), headerAccessor.getMessageHeaders());
+    }
+
+    private MessageHeaders createHeaders(String sessionId, byte[] binaryPayload) {
+        SimpMessageHeaderAccessor headerAccessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        if (sessionId != null) {
+            headerAccessor.setSessionId(sessionId);
+        }
+        if (binaryPayload != null) {
+            headerAccessor.setHeader(BinaryFrameCodec.BINARY_PAYLOAD_HEADER, binaryPayload);
+        }
+        headerAccessor.setLeaveMutable(true);
+        return headerAccessor.getMessageHeaders();
+    }
+}
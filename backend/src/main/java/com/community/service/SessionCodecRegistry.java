@@ -0,0 +1,40 @@
+package com.community.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별로 협상된 메시지 코덱 추적
+ * CONNECT 시 바이너리 코덱을 요청한 세션만 등록되며, 나머지 세션은 JSON 을 받습니다.
+ */
+@Component
+public class SessionCodecRegistry {
+
+    private final Set<String> binarySessions = ConcurrentHashMap.newKeySet();
+
+    public void registerBinary(String sessionId) {
+        if (sessionId != null) {
+            binarySessions.add(sessionId);
+        }
+    }
+
+    public void remove(String sessionId) {
+        if (sessionId != null) {
+            binarySessions.remove(sessionId);
+        }
+    }
+
+    public boolean isBinary(String sessionId) {
+        return sessionId != null && binarySessions.contains(sessionId);
+    }
+
+    public boolean hasBinarySessions() {
+        return !binarySessions.isEmpty();
+    }
+
+    public int getBinarySessionCount() {
+        return binarySessions.size();
+    }
+}
@@ -0,0 +1,126 @@
+package com.community.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 느린 수신자(slow consumer) 추적
+ * 세션별 웹소켓 전송 시간을 기록해, 전송이 오래 걸리는 세션을 저하(degraded) 상태로 표시합니다.
+ * 저하된 세션에는 위치 프레임을 보내지 않고, 회복되면 한 번 전체 상태를 다시 보내도록 표시합니다.
+ * 전송 시간/버퍼 한도를 넘으면 Spring 이 세션을 끊습니다 (realtime.websocket.send-time-limit-ms 등).
+ */
+@Component
+@Slf4j
+public class SlowConsumerRegistry {
+
+    // 전송 하나가 이 시간보다 오래 걸리면 저하 상태로 전환
+    @Value("${realtime.websocket.slow-consumer.degrade-after-ms:500}")
+    private long degradeAfterMs;
+
+    // sessionId -> 전송 상태
+    private final Map<String, Tracker> trackers = new ConcurrentHashMap<>();
+
+    private final AtomicLong skippedFrames = new AtomicLong();
+    private final AtomicLong degradeEvents = new AtomicLong();
+    private final AtomicLong evictedSessions = new AtomicLong();
+
+    public void sendStarted(String sessionId) {
+        trackers.computeIfAbsent(sessionId, id -> new Tracker()).sendStartedNanos = System.nanoTime();
+    }
+
+    public void sendFinished(String sessionId) {
+        Tracker tracker = trackers.get(sessionId);
+        if (tracker == null) {
+            return;
+        }
+        long elapsed = System.nanoTime() - tracker.sendStartedNanos;
+        tracker.sendStartedNanos = 0;
+        if (elapsed > TimeUnit.MILLISECONDS.toNanos(degradeAfterMs)) {
+            markDegraded(sessionId, tracker);
+        } else if (tracker.degraded) {
+            tracker.degraded = false;
+            tracker.needsResync = true;
+            log.info("Slow consumer recovered: sessionId={}", sessionId);
+        }
+    }
+
+    /**
+     * 저하 상태 여부 (진행 중인 전송이 오래 걸리고 있어도 저하로 판단)
+     */
+    public boolean isDegraded(String sessionId) {
+        Tracker tracker = trackers.get(sessionId);
+        if (tracker == null) {
+            return false;
+        }
+        long startedNanos = tracker.sendStartedNanos;
+        if (!tracker.degraded && startedNanos != 0
+                && System.nanoTime() - startedNanos > TimeUnit.MILLISECONDS.toNanos(degradeAfterMs)) {
+            markDegraded(sessionId, tracker);
+        }
+        return tracker.degraded;
+    }
+
+    /**
+     * 회복 후 전체 상태 재전송이 필요한지 확인 (한 번만 true)
+     */
+    public boolean consumeResync(String sessionId) {
+        Tracker tracker = trackers.get(sessionId);
+        if (tracker == null || !tracker.needsResync) {
+            return false;
+        }
+        tracker.needsResync = false;
+        return true;
+    }
+
+    public void recordSkippedFrame() {
+        skippedFrames.incrementAndGet();
+    }
+
+    /**
+     * 세션 종료 시 정리
+     * @param evicted 전송 한도 초과로 끊긴 경우 true
+     */
+    public void remove(String sessionId, boolean evicted) {
+        trackers.remove(sessionId);
+        if (evicted) {
+            evictedSessions.incrementAndGet();
+            log.warn("Slow consumer disconnected: sessionId={}", sessionId);
+        }
+    }
+
+    public long getDegradedSessionCount() {
+        return trackers.values().stream().filter(tracker -> tracker.degraded).count();
+    }
+
+    public long getSkippedFrameCount() {
+        return skippedFrames.get();
+    }
+
+    public long getDegradeEventCount() {
+        return degradeEvents.get();
+    }
+
+    public long getEvictedSessionCount() {
+        return evictedSessions.get();
+    }
+
+    private void markDegraded(String sessionId, Tracker tracker) {
+        if (!tracker.degraded) {
+            tracker.degraded = true;
+            degradeEvents.incrementAndGet();
+            log.warn("Slow consumer degraded: sessionId={}", sessionId);
+        }
+    }
+
+    private static class Tracker {
+        private volatile long sendStartedNanos;
+        private volatile boolean degraded;
+        private volatile boolean needsResync;
+    }
+}
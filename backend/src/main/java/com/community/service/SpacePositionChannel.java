@@ -0,0 +1,82 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.PlayerJoinDto;
+import com.community.dto.PlayerPositionDto;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 공간(광장 토픽 또는 개인 룸) 하나의 위치 토픽 상태
+ * 구독자 전체가 같은 프레임을 받으므로 인코더 하나와 직전 틱의 구성원 목록을 공유합니다.
+ * 틱 스레드에서만 사용합니다.
+ */
+public class SpacePositionChannel {
+
+    private final String destination;
+    private final PositionFrameEncoder encoder;
+    private final boolean resyncOnEntry;
+    private Set<String> members = new HashSet<>();
+
+    /**
+     * @param resyncOnEntry 구성원이 들어올 때마다 전체 상태 재전송 (인원이 적은 개인 룸용)
+     */
+    public SpacePositionChannel(String destination, WorldStateService worldStateService, boolean resyncOnEntry) {
+        this.destination = destination;
+        this.encoder = new PositionFrameEncoder(worldStateService);
+        this.resyncOnEntry = resyncOnEntry;
+    }
+
+    public String getDestination() {
+        return destination;
+    }
+
+    /**
+     * 이번 틱 프레임 생성
+     * @param players 현재 이 공간에 있는 플레이어
+     * @param movedIds 이번 틱에 움직인 userId
+     * @param keyframe 전체 상태를 보낼지 여부
+     */
+    public CompactPositionFrameDto nextFrame(long tick, List<PlayerPositionDto> players, Set<String> movedIds,
+                                             Set<Integer> livePlayerIds, boolean keyframe) {
+        long now = System.currentTimeMillis();
+        Set<String> current = new HashSet<>();
+        List<PlayerPositionDto> changed = new ArrayList<>();
+        List<PlayerJoinDto> presence = new ArrayList<>();
+
+        for (PlayerPositionDto position : players) {
+            String userId = position.getUserId();
+            current.add(userId);
+            if (!members.contains(userId)) {
+                presence.add(new PlayerJoinDto(userId, position.getUsername(), "in-range", now));
+            }
+        }
+
+        // 새로 들어온 구독자는 기존 구성원을 모르므로, 방 토픽은 입장 시 전체 상태를 다시 보냄
+        if (resyncOnEntry && !presence.isEmpty()) {
+            encoder.reset();
+            keyframe = true;
+        }
+        for (PlayerPositionDto position : players) {
+            String userId = position.getUserId();
+            if (keyframe || !members.contains(userId) || movedIds.contains(userId)) {
+                changed.add(position);
+            }
+        }
+        for (String userId : members) {
+            if (!current.contains(userId)) {
+                presence.add(new PlayerJoinDto(userId, null, "out-of-range", now));
+                encoder.forget(userId);
+            }
+        }
+        members = current;
+        encoder.retainPlayers(livePlayerIds);
+
+        CompactPositionFrameDto frame = encoder.encode(tick, changed, keyframe);
+        frame.setPresence(presence);
+        return frame;
+    }
+}
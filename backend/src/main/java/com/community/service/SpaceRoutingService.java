@@ -0,0 +1,115 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.PlayerPositionDto;
+import com.community.dto.SpaceChangeDto;
+import com.community.model.UserSession.SpaceType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * currentRoomId 기반 위치 라우팅
+ * 광장(currentRoomId 없음)과 개인 룸(/topic/room/{roomId}/positions)의 위치 트래픽을 분리하고,
+ * 플레이어의 공간이 바뀌면 /user/queue/space 로 새로 구독할 토픽을 알려줍니다.
+ * 틱 스레드에서만 호출됩니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SpaceRoutingService {
+
+    private final WorldStateService worldStateService;
+    private final ActiveUserService activeUserService;
+    private final RealtimeMessagingService realtimeMessagingService;
+
+    // roomId -> 방 위치 토픽 상태
+    private final Map<String, SpacePositionChannel> roomChannels = new HashMap<>();
+
+    // userId -> 마지막으로 확인한 공간 (광장은 "")
+    private final Map<String, String> lastRoomIds = new HashMap<>();
+
+    /**
+     * 플레이어가 있는 개인 룸 ID (광장이면 null)
+     */
+    public static String roomIdOf(PlayerPositionDto position) {
+        String roomId = position.getCurrentRoomId();
+        return (roomId == null || roomId.isBlank()) ? null : roomId;
+    }
+
+    public static String roomPositionsDestination(String roomId) {
+        return "/topic/room/" + roomId + "/positions";
+    }
+
+    /**
+     * 개인 룸별 위치 프레임 전송
+     */
+    public void publishRooms(long tick, Map<String, List<PlayerPositionDto>> playersByRoom, Set<String> movedIds,
+                             Set<Integer> livePlayerIds, int keyframeIntervalTicks) {
+        boolean keyframe = keyframeIntervalTicks > 0 && tick % keyframeIntervalTicks == 0;
+
+        for (Map.Entry<String, List<PlayerPositionDto>> room : playersByRoom.entrySet()) {
+            SpacePositionChannel channel = roomChannels.computeIfAbsent(room.getKey(),
+                    roomId -> new SpacePositionChannel(roomPositionsDestination(roomId), worldStateService, true));
+            publish(tick, channel, room.getValue(), movedIds, livePlayerIds, keyframe);
+        }
+
+        // 이번 틱에 아무도 없는 방은 퇴장 알림을 보내고 정리
+        Iterator<Map.Entry<String, SpacePositionChannel>> it = roomChannels.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, SpacePositionChannel> entry = it.next();
+            if (!playersByRoom.containsKey(entry.getKey())) {
+                publish(tick, entry.getValue(), List.of(), movedIds, livePlayerIds, false);
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * 공간이 바뀐 플레이어에게 새 위치 토픽 안내
+     */
+    public void notifySpaceChanges(List<PlayerPositionDto> players, String plazaDestination) {
+        Map<String, String> current = new HashMap<>();
+        for (PlayerPositionDto position : players) {
+            String roomId = roomIdOf(position);
+            String spaceKey = roomId != null ? roomId : "";
+            current.put(position.getUserId(), spaceKey);
+
+            String lastSpaceKey = lastRoomIds.get(position.getUserId());
+            // 처음 보는 플레이어가 광장에 있으면 이미 광장 토픽을 구독 중이므로 안내 생략
+            if (spaceKey.equals(lastSpaceKey) || (lastSpaceKey == null && roomId == null)) {
+                continue;
+            }
+            String sessionId = activeUserService.getSessionIdByUserId(position.getUserId());
+            if (sessionId == null) {
+                continue;
+            }
+            SpaceChangeDto change = roomId != null
+                    ? new SpaceChangeDto(SpaceType.LOCAL_ROOM.name(), roomId, roomPositionsDestination(roomId),
+                            System.currentTimeMillis())
+                    : new SpaceChangeDto(SpaceType.PLAZA.name(), null, plazaDestination, System.currentTimeMillis());
+            realtimeMessagingService.sendToSession(sessionId, "/queue/space", change);
+            log.debug("Space changed: userId={}, roomId={}", position.getUserId(), roomId);
+        }
+        lastRoomIds.clear();
+        lastRoomIds.putAll(current);
+    }
+
+    public int getActiveRoomCount() {
+        return roomChannels.size();
+    }
+
+    private void publish(long tick, SpacePositionChannel channel, List<PlayerPositionDto> players,
+                         Set<String> movedIds, Set<Integer> livePlayerIds, boolean keyframe) {
+        CompactPositionFrameDto frame = channel.nextFrame(tick, players, movedIds, livePlayerIds, keyframe);
+        if (!frame.isEmpty()) {
+            realtimeMessagingService.sendPositionFrame(channel.getDestination(), frame);
+        }
+    }
+}
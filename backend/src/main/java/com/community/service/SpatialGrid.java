@@ -0,0 +1,76 @@
+package com.community.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * x/z 평면 균일 격자
+ * 좌표를 셀 단위로 나눠 주변 셀에 있는 항목만 빠르게 조회합니다.
+ * 스레드 안전하지 않으므로 한 스레드(틱 스레드)에서만 사용합니다.
+ */
+public class SpatialGrid<T> {
+
+    private final double cellSize;
+    private final Map<Long, List<T>> cells = new HashMap<>();
+
+    public SpatialGrid(double cellSize) {
+        if (cellSize <= 0) {
+            throw new IllegalArgumentException("cellSize must be positive");
+        }
+        this.cellSize = cellSize;
+    }
+
+    public static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xffffffffL);
+    }
+
+    public static int cellXOf(long key) {
+        return (int) (key >> 32);
+    }
+
+    public static int cellZOf(long key) {
+        return (int) key;
+    }
+
+    public int toCell(double coordinate) {
+        return (int) Math.floor(coordinate / cellSize);
+    }
+
+    public long cellKeyOf(double x, double z) {
+        return cellKey(toCell(x), toCell(z));
+    }
+
+    public void insert(double x, double z, T item) {
+        cells.computeIfAbsent(cellKeyOf(x, z), k -> new ArrayList<>()).add(item);
+    }
+
+    public void clear() {
+        cells.clear();
+    }
+
+    public Map<Long, List<T>> getCells() {
+        return Collections.unmodifiableMap(cells);
+    }
+
+    /**
+     * 셀 (cellX, cellZ) 를 중심으로 radiusCells 칸 이내의 모든 항목 순회
+     */
+    public void forEachNear(int cellX, int cellZ, int radiusCells, Consumer<T> action) {
+        for (int dx = -radiusCells; dx <= radiusCells; dx++) {
+            for (int dz = -radiusCells; dz <= radiusCells; dz++) {
+                List<T> items = cells.get(cellKey(cellX + dx, cellZ + dz));
+                if (items != null) {
+                    items.forEach(action);
+                }
+            }
+        }
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,91 @@
+package com.community.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 끝말잇기 단어 사전 (오프라인 DAWG)
+ * 시작할 때 사전 파일을 메모리 매핑해 두고 네트워크 없이 조회합니다.
+ * - path 를 지정하면 그 파일을, 비워 두면 클래스패스의 dictionary/korean-words.dawg 를 사용
+ * - 클래스패스 파일이 jar 안에 있으면 매핑할 수 없으므로 direct 버퍼에 한 번 복사
+ * 사전 내용은 src/main/dictionary/korean-words.txt 에서 ./gradlew buildDictionary 로 만듭니다.
+ */
+@Service
+@Slf4j
+public class WordDictionaryService {
+
+    private static final String DEFAULT_RESOURCE = "dictionary/korean-words.dawg";
+
+    // 외부 사전 파일 경로 (비우면 내장 사전)
+    @Value("${realtime.minigame.dictionary.path:}")
+    private String dictionaryPath;
+
+    private KoreanDictionary dictionary;
+
+    @PostConstruct
+    public void load() throws IOException {
+        long startNanos = System.nanoTime();
+        ByteBuffer buffer = dictionaryPath.isBlank() ? loadResource() : map(Path.of(dictionaryPath));
+        dictionary = KoreanDictionary.load(buffer);
+        log.info("Word dictionary loaded: words={}, size={}KB, source={}, took={}ms",
+                dictionary.getWordCount(), dictionary.getSizeInBytes() / 1024,
+                dictionaryPath.isBlank() ? "classpath:" + DEFAULT_RESOURCE : dictionaryPath,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    public boolean isWord(String word) {
+        return word != null && !word.isEmpty() && dictionary.contains(word);
+    }
+
+    /**
+     * 접두사(보통 시작 글자 하나)로 시작하는 단어 수
+     */
+    public int countWordsStartingWith(String prefix) {
+        return prefix == null || prefix.isEmpty() ? 0 : dictionary.countWithPrefix(prefix);
+    }
+
+    /**
+     * 접두사로 시작하는 단어 중 사전 순 index 번째 (없으면 null)
+     */
+    public String wordStartingWith(String prefix, int index) {
+        return prefix == null ? null : dictionary.wordWithPrefix(prefix, index);
+    }
+
+    public int getWordCount() {
+        return dictionary.getWordCount();
+    }
+
+    private ByteBuffer loadResource() throws IOException {
+        ClassPathResource resource = new ClassPathResource(DEFAULT_RESOURCE);
+        if (!resource.exists()) {
+            throw new IllegalStateException("끝말잇기 사전 파일이 없습니다: classpath:" + DEFAULT_RESOURCE);
+        }
+        if (resource.isFile()) {
+            return map(resource.getFile().toPath());
+        }
+        try (InputStream in = resource.getInputStream()) {
+            byte[] bytes = in.readAllBytes();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return buffer;
+        }
+    }
+
+    // 매핑은 채널을 닫아도 유지됨
+    private ByteBuffer map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
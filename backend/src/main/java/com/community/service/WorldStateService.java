@@ -0,0 +1,194 @@
+package com.community.service;
+
+import com.community.dto.PlayerPositionDto;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 월드 상태 저장소
+ * 사용자별 최신 위치만 유지하고, 마지막 틱 이후 움직인 사용자를 추적합니다.
+ */
+@Service
+public class WorldStateService {
+
+    private static final int MAX_ANIMATIONS = 64;
+
+    // userId -> 최신 위치
+    private final Map<String, PlayerPositionDto> latestPositions = new ConcurrentHashMap<>();
+
+    // 마지막 틱 이후 위치가 갱신된 userId
+    private final Set<String> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    // 마지막 틱 이후 처음 위치를 보낸 userId (입장)
+    private final Set<String> arrivedUsers = ConcurrentHashMap.newKeySet();
+
+    // 마지막 틱 이후 제거된 userId -> username (퇴장)
+    private final Map<String, String> departedUsers = new ConcurrentHashMap<>();
+
+    // userId -> 압축 프레임에서 쓰는 작은 정수 ID (재사용하지 않음)
+    private final Map<String, Integer> playerIds = new ConcurrentHashMap<>();
+    private final AtomicInteger nextPlayerId = new AtomicInteger(1);
+
+    // userId -> 정적 속성(username, modelPath) 버전, 바뀔 때마다 증가
+    private final Map<String, Integer> staticVersions = new ConcurrentHashMap<>();
+
+    // 애니메이션 이름 <-> 정수 ID
+    private final Map<String, Integer> animationIds = new ConcurrentHashMap<>();
+    private final Map<Integer, String> animationNames = new ConcurrentHashMap<>();
+    private final AtomicInteger nextAnimationId = new AtomicInteger(1);
+
+    /**
+     * 위치 갱신 (같은 틱 안의 이전 값은 덮어씀)
+     */
+    public void updatePosition(PlayerPositionDto position) {
+        if (position == null || position.getUserId() == null) {
+            return;
+        }
+        String userId = position.getUserId();
+        PlayerPositionDto previous = latestPositions.put(userId, position);
+        if (previous == null) {
+            arrivedUsers.add(userId);
+            playerIds.computeIfAbsent(userId, k -> nextPlayerId.getAndIncrement());
+            staticVersions.merge(userId, 1, Integer::sum);
+        } else if (!Objects.equals(previous.getUsername(), position.getUsername())
+                || !Objects.equals(previous.getModelPath(), position.getModelPath())) {
+            staticVersions.merge(userId, 1, Integer::sum);
+        }
+        dirtyUsers.add(userId);
+    }
+
+    /**
+     * 사용자 제거 (접속 종료)
+     */
+    public PlayerPositionDto removePlayer(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        dirtyUsers.remove(userId);
+        arrivedUsers.remove(userId);
+        PlayerPositionDto removed = latestPositions.remove(userId);
+        playerIds.remove(userId);
+        staticVersions.remove(userId);
+        if (removed != null) {
+            departedUsers.put(userId, removed.getUsername() != null ? removed.getUsername() : "");
+        }
+        return removed;
+    }
+
+    /**
+     * 사용자의 최신 위치 조회
+     */
+    public PlayerPositionDto getPosition(String userId) {
+        return userId != null ? latestPositions.get(userId) : null;
+    }
+
+    /**
+     * 마지막 호출 이후 움직인 플레이어들의 최신 위치를 꺼냄
+     */
+    public List<PlayerPositionDto> drainMovedPlayers() {
+        List<PlayerPositionDto> moved = new ArrayList<>();
+        Iterator<String> it = dirtyUsers.iterator();
+        while (it.hasNext()) {
+            String userId = it.next();
+            it.remove();
+            PlayerPositionDto position = latestPositions.get(userId);
+            if (position != null) {
+                moved.add(position);
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * 마지막 호출 이후 처음 위치를 보낸 userId 목록을 꺼냄
+     */
+    public Set<String> drainArrivedUsers() {
+        Set<String> arrived = new HashSet<>();
+        Iterator<String> it = arrivedUsers.iterator();
+        while (it.hasNext()) {
+            arrived.add(it.next());
+            it.remove();
+        }
+        return arrived;
+    }
+
+    /**
+     * 마지막 호출 이후 제거된 userId -> username 을 꺼냄
+     */
+    public Map<String, String> drainDepartedUsers() {
+        Map<String, String> departed = new HashMap<>();
+        Iterator<Map.Entry<String, String>> it = departedUsers.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, String> entry = it.next();
+            departed.put(entry.getKey(), entry.getValue());
+            it.remove();
+        }
+        return departed;
+    }
+
+    /**
+     * 현재 위치를 알고 있는 모든 플레이어
+     */
+    public List<PlayerPositionDto> getAllPositions() {
+        return new ArrayList<>(latestPositions.values());
+    }
+
+    /**
+     * 압축 프레임용 플레이어 ID (위치를 보낸 적 없으면 null)
+     */
+    public Integer getPlayerId(String userId) {
+        return userId != null ? playerIds.get(userId) : null;
+    }
+
+    /**
+     * 현재 위치를 알고 있는 플레이어들의 압축 프레임 ID
+     */
+    public Set<Integer> getLivePlayerIds() {
+        return new HashSet<>(playerIds.values());
+    }
+
+    /**
+     * 정적 속성(username, modelPath) 버전
+     */
+    public int getStaticVersion(String userId) {
+        return userId != null ? staticVersions.getOrDefault(userId, 0) : 0;
+    }
+
+    /**
+     * 애니메이션 이름을 정수 ID로 변환 (처음 보는 이름이면 새로 발급)
+     */
+    public int internAnimation(String animation) {
+        String name = animation != null ? animation : "";
+        Integer existing = animationIds.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        // 클라이언트가 임의 문자열을 보내도 테이블이 무한히 커지지 않도록 제한
+        if (animationIds.size() >= MAX_ANIMATIONS) {
+            return 0;
+        }
+        return animationIds.computeIfAbsent(name, k -> {
+            int id = nextAnimationId.getAndIncrement();
+            animationNames.put(id, k);
+            return id;
+        });
+    }
+
+    public String getAnimationName(int animationId) {
+        return animationNames.get(animationId);
+    }
+
+    public int getPlayerCount() {
+        return latestPositions.size();
+    }
+}
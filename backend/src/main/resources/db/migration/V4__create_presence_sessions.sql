@@ -0,0 +1,16 @@
+-- ================================================
+-- Shared presence table for realtime.presence.store=jdbc
+-- (one row per connected user, refreshed by the owning node's heartbeat)
+-- ================================================
+
+CREATE TABLE IF NOT EXISTS presence_sessions (
+    user_id      VARCHAR(64)  PRIMARY KEY,
+    session_id   VARCHAR(128) NOT NULL UNIQUE,
+    username     VARCHAR(100),
+    node_id      VARCHAR(64)  NOT NULL,
+    connected_at TIMESTAMP    NOT NULL,
+    heartbeat_at TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_presence_sessions_node ON presence_sessions (node_id);
+CREATE INDEX IF NOT EXISTS idx_presence_sessions_heartbeat ON presence_sessions (heartbeat_at);
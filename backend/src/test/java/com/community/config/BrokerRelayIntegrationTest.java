@@ -0,0 +1,146 @@
+package com.community.config;
+
+import com.community.CommunityApplication;
+import com.community.tools.LocalStompBroker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * relay 모드 2노드 확인: 노드 A 에서 발행한 /topic 메시지가 노드 B 에 연결된 구독자에게 도착하는지
+ * 내장 STOMP 브로커(LocalStompBroker)와 같은 JVM 안의 애플리케이션 2개(h2 프로필)로 실행합니다.
+ */
+class BrokerRelayIntegrationTest {
+
+    private static final long TIMEOUT_SECONDS = 20;
+
+    private LocalStompBroker broker;
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+    private WebSocketStompClient stompClient;
+    private ThreadPoolTaskScheduler clientScheduler;
+
+    @BeforeEach
+    void start() throws Exception {
+        broker = LocalStompBroker.start(freePort());
+        nodeA = startNode("relay-a");
+        nodeB = startNode("relay-b");
+        awaitBrokerAvailable(nodeA);
+        awaitBrokerAvailable(nodeB);
+    }
+
+    @AfterEach
+    void stop() {
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (clientScheduler != null) {
+            clientScheduler.shutdown();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (broker != null) {
+            broker.close();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private ConfigurableApplicationContext startNode(String name) {
+        return new SpringApplicationBuilder(CommunityApplication.class)
+                .profiles("h2")
+                // application.yml 보다 우선하도록 명령행 인자로 전달
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:" + name
+                                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+                        "--spring.jmx.enabled=false",
+                        "--realtime.broker.mode=relay",
+                        "--realtime.broker.relay.host=127.0.0.1",
+                        "--realtime.broker.relay.port=" + broker.getPort());
+    }
+
+    private static void awaitBrokerAvailable(ConfigurableApplicationContext node) throws InterruptedException {
+        StompBrokerRelayMessageHandler relay = node.getBean(StompBrokerRelayMessageHandler.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!relay.isBrokerAvailable() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(relay.isBrokerAvailable(), "relay did not connect to the broker");
+    }
+
+    private static int port(ConfigurableApplicationContext node) {
+        return ((WebServerApplicationContext) node).getWebServer().getPort();
+    }
+
+    @Test
+    void topicMessagePublishedOnOneNodeReachesSubscriberOnTheOther() throws Exception {
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        // 구독 RECEIPT 대기용
+        clientScheduler = new ThreadPoolTaskScheduler();
+        clientScheduler.initialize();
+        stompClient.setTaskScheduler(clientScheduler);
+
+        StompSession session = stompClient
+                .connectAsync("ws://127.0.0.1:" + port(nodeB) + "/ws-native", new StompSessionHandlerAdapter() {
+                })
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        BlockingQueue<Map<?, ?>> received = new LinkedBlockingQueue<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        session.setAutoReceipt(true);
+        session.subscribe("/topic/relay-test", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                received.add((Map<?, ?>) payload);
+            }
+        }).addReceiptTask(subscribed::countDown);
+        // 브로커가 구독을 등록한 뒤에 발행
+        assertTrue(subscribed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), "subscription receipt not received");
+
+        nodeA.getBean(SimpMessagingTemplate.class).convertAndSend("/topic/relay-test", Map.of("text", "hello"));
+
+        Map<?, ?> message = received.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(message, "message did not reach the other node");
+        assertEquals("hello", message.get("text"));
+    }
+}
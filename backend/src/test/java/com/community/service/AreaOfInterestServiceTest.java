@@ -0,0 +1,160 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.PlayerJoinDto;
+import com.community.dto.PlayerPositionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AreaOfInterestServiceTest {
+
+    private WorldStateService worldState;
+    private AreaOfInterestService service;
+    private final Map<String, PlayerPositionDto> players = new HashMap<>();
+
+    // sessionId -> 이번 틱에 받은 프레임
+    private final Map<String, CompactPositionFrameDto> sent = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        worldState = new WorldStateService();
+        ActiveUserService activeUserService = mock(ActiveUserService.class);
+        when(activeUserService.getSessionIdByUserId(anyString())).thenAnswer(call -> "s-" + call.getArgument(0));
+        RealtimeMessagingService realtimeMessaging = mock(RealtimeMessagingService.class);
+        doAnswer(call -> sent.put(call.getArgument(0), call.getArgument(1)))
+                .when(realtimeMessaging).sendPositionFrameToSession(anyString(), any(CompactPositionFrameDto.class));
+
+        service = new AreaOfInterestService(worldState, activeUserService, realtimeMessaging,
+                mock(SlowConsumerRegistry.class));
+        ReflectionTestUtils.setField(service, "cellSize", 30.0);
+        ReflectionTestUtils.setField(service, "viewRadiusCells", 1);
+        // 키프레임은 시야 변화와 무관하므로 끔
+        ReflectionTestUtils.setField(service, "keyframeIntervalTicks", 0);
+    }
+
+    private void place(String userId, double x, double z) {
+        PlayerPositionDto position = new PlayerPositionDto();
+        position.setUserId(userId);
+        position.setUsername(userId + "-name");
+        position.setX(x);
+        position.setY(0.0);
+        position.setZ(z);
+        position.setAnimation("idle");
+        worldState.updatePosition(position);
+        players.put(userId, position);
+    }
+
+    private void tick(long tick, Set<String> moved, Set<String> arrived, Map<String, String> departed) {
+        sent.clear();
+        Set<Integer> live = new HashSet<>();
+        players.keySet().forEach(userId -> live.add(worldState.getPlayerId(userId)));
+        service.publish(tick, new ArrayList<>(players.values()), moved, arrived, departed, live);
+    }
+
+    private static Map<String, String> presence(CompactPositionFrameDto frame) {
+        Map<String, String> actions = new HashMap<>();
+        if (frame != null && frame.getPresence() != null) {
+            for (PlayerJoinDto event : frame.getPresence()) {
+                actions.put(event.getUserId(), event.getAction());
+            }
+        }
+        return actions;
+    }
+
+    @Test
+    void joinIsDeliveredOnlyToNeighbouringCells() {
+        place("a", 5, 5);
+        place("b", 40, 5);     // 바로 옆 셀
+        place("c", 500, 500);  // 먼 셀
+
+        tick(1, Set.of("a", "b", "c"), Set.of("a", "b", "c"), Map.of());
+
+        assertEquals(Map.of("b", "join"), presence(sent.get("s-a")));
+        assertEquals(Map.of("a", "join"), presence(sent.get("s-b")));
+        // c 주변에는 아무도 없으므로 보낼 것도 없음
+        assertNull(sent.get("s-c"));
+        assertEquals(1, sent.get("s-a").getU().size());
+    }
+
+    @Test
+    void movingAcrossCellsSendsOutOfRangeAndInRange() {
+        place("a", 5, 5);
+        place("b", 10, 5);
+        place("c", 500, 5);
+        tick(1, Set.of("a", "b", "c"), Set.of("a", "b", "c"), Map.of());
+
+        place("b", 490, 5);
+        tick(2, Set.of("b"), Set.of(), Map.of());
+
+        assertEquals(Map.of("b", "out-of-range"), presence(sent.get("s-a")));
+        assertEquals(Map.of("a", "out-of-range", "c", "in-range"), presence(sent.get("s-b")));
+        assertEquals(Map.of("b", "in-range"), presence(sent.get("s-c")));
+    }
+
+    @Test
+    void unchangedNeighbourhoodSendsOnlyMovement() {
+        place("a", 5, 5);
+        place("b", 10, 5);
+        tick(1, Set.of("a", "b"), Set.of("a", "b"), Map.of());
+
+        place("b", 12, 5);
+        tick(2, Set.of("b"), Set.of(), Map.of());
+
+        CompactPositionFrameDto frame = sent.get("s-a");
+        assertTrue(presence(frame).isEmpty());
+        assertEquals(1, frame.getU().size());
+        // 움직이지 않은 a 는 b 에게 보낼 것이 없음
+        assertNull(sent.get("s-b"));
+    }
+
+    @Test
+    void disconnectSendsLeaveWithUsername() {
+        place("a", 5, 5);
+        place("b", 10, 5);
+        tick(1, Set.of("a", "b"), Set.of("a", "b"), Map.of());
+
+        players.remove("b");
+        tick(2, Set.of(), Set.of(), Map.of("b", "b-name"));
+
+        PlayerJoinDto leave = sent.get("s-a").getPresence().get(0);
+        assertEquals("b", leave.getUserId());
+        assertEquals("leave", leave.getAction());
+        assertEquals("b-name", leave.getUsername());
+        assertFalse(sent.containsKey("s-b"));
+    }
+
+    @Test
+    void returningReceiverGetsFreshJoinEvents() {
+        place("a", 5, 5);
+        place("b", 10, 5);
+        tick(1, Set.of("a", "b"), Set.of("a", "b"), Map.of());
+
+        // a 가 개인 룸에 들어가 광장 목록에서 빠지면 a 의 시야 정보도 정리됨
+        PlayerPositionDto a = players.remove("a");
+        tick(2, Set.of(), Set.of(), Map.of());
+        assertEquals(Map.of("a", "out-of-range"), presence(sent.get("s-b")));
+
+        players.put("a", a);
+        tick(3, Set.of("a"), Set.of(), Map.of());
+        assertEquals(Map.of("b", "in-range"), presence(sent.get("s-a")));
+        assertEquals(Map.of("a", "in-range"), presence(sent.get("s-b")));
+    }
+}
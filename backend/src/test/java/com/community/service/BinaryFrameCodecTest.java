@@ -0,0 +1,104 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.GameEventDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * binary-v1 레이아웃 확인 (클라이언트 binaryCodec.js 와 같은 순서로 읽음)
+ */
+class BinaryFrameCodecTest {
+
+    private final BinaryFrameCodec codec = new BinaryFrameCodec();
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+
+    private static int readSignedVarInt(ByteBuffer in) {
+        int raw = (int) readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    private static String readString(ByteBuffer in) {
+        byte[] bytes = new byte[(int) readVarLong(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void encodesPositionFrameUpdatesWithZigzagValues() {
+        CompactPositionFrameDto frame = new CompactPositionFrameDto();
+        frame.setT(300L);
+        frame.setTs(1_700_000_000_000L);
+        frame.setAnims(Map.of(2, "walk"));
+        frame.setU(List.of(new int[] {7, PositionFrameEncoder.FIELD_X | PositionFrameEncoder.FIELD_Z, -1234, 56}));
+
+        ByteBuffer in = ByteBuffer.wrap(codec.encodePositionFrame(frame));
+        assertEquals(BinaryFrameCodec.MAGIC, in.get() & 0xFF);
+        assertEquals(BinaryFrameCodec.TYPE_POSITION_FRAME, in.get());
+        assertEquals(300L, readVarLong(in));
+        assertEquals(1_700_000_000_000L, readVarLong(in));
+        assertEquals(0, in.get());                  // 키프레임 아님
+        assertEquals(0, readVarLong(in));           // defs
+        assertEquals(1, readVarLong(in));           // anims
+        assertEquals(2, readVarLong(in));
+        assertEquals("walk", readString(in));
+        assertEquals(1, readVarLong(in));           // updates
+        assertEquals(7, readVarLong(in));
+        assertEquals(PositionFrameEncoder.FIELD_X | PositionFrameEncoder.FIELD_Z, in.get());
+        assertEquals(-1234, readSignedVarInt(in));
+        assertEquals(56, readSignedVarInt(in));
+        assertEquals(0, readVarLong(in));           // presence
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void encodesHotGameEventsWithTypeCodesAndIsSmallerThanJson() throws Exception {
+        GameEventDto event = new GameEventDto();
+        event.setRoomId("room-1");
+        event.setType("aimTimer");
+        event.setPayload("27");
+        event.setTimestamp(1_700_000_000_000L);
+        assertTrue(codec.supports(event));
+
+        byte[] binary = codec.encodeGameEvent(event);
+        ByteBuffer in = ByteBuffer.wrap(binary);
+        assertEquals(BinaryFrameCodec.MAGIC, in.get() & 0xFF);
+        assertEquals(BinaryFrameCodec.TYPE_GAME_EVENT, in.get());
+        assertEquals(1, in.get());                  // aimTimer 코드
+        assertEquals(1 | (1 << 6) | (1 << 7), in.get() & 0xFF);
+        assertEquals("room-1", readString(in));
+        assertEquals("27", readString(in));
+        assertEquals(1_700_000_000_000L, readVarLong(in));
+        assertFalse(in.hasRemaining());
+
+        assertTrue(binary.length * 3 < new ObjectMapper().writeValueAsBytes(event).length);
+    }
+
+    @Test
+    void onlyHotEventsAreBinaryEncoded() {
+        GameEventDto chat = new GameEventDto();
+        chat.setType("wordChainWord");
+        assertFalse(codec.supports(chat));
+        assertFalse(codec.supports(null));
+    }
+}
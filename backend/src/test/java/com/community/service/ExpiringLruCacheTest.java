@@ -0,0 +1,53 @@
+package com.community.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ExpiringLruCacheTest {
+
+    @Test
+    void evictsLeastRecentlyUsedEntryWhenFull() {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(2, 1, TimeUnit.MINUTES);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        assertEquals(1, cache.get("a")); // b 가 가장 오래 조회되지 않은 항목
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void expiresEntriesByTheirOwnTtl() throws InterruptedException {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(10, 1, TimeUnit.MINUTES);
+        cache.put("short", 1, 20, TimeUnit.MILLISECONDS);
+        cache.put("long", 2);
+
+        Thread.sleep(50);
+
+        assertNull(cache.get("short"));
+        assertEquals(2, cache.get("long"));
+        assertEquals(1, cache.getExpirationCount());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void countsOneHitOrMissPerLookup() {
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(10, 1, TimeUnit.MINUTES);
+        cache.put("a", 1);
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("missing");
+
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+}
@@ -0,0 +1,170 @@
+package com.community.service;
+
+import com.community.dto.ActiveSessionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdbcPresenceStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcPresenceStore nodeA;
+    private JdbcPresenceStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트마다 새 H2 메모리 DB (두 저장소가 같은 DB 를 공유해 노드 두 개를 흉내냄)
+        DriverManagerDataSource dataSource = emptyDatabase();
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V4__create_presence_sessions.sql"))
+                .execute(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        nodeA = store("node-a");
+        nodeB = store("node-b");
+    }
+
+    private static DriverManagerDataSource emptyDatabase() {
+        return new DriverManagerDataSource(
+                "jdbc:h2:mem:presence-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+    }
+
+    private JdbcPresenceStore store(String nodeId) {
+        JdbcPresenceStore store = new JdbcPresenceStore(jdbcTemplate);
+        // start() 는 heartbeat 스케줄을 시작하므로 호출하지 않고 노드 ID 만 지정
+        ReflectionTestUtils.setField(store, "nodeId", nodeId);
+        ReflectionTestUtils.setField(store, "nearCacheTtlMs", 0L);
+        ReflectionTestUtils.setField(store, "staleAfterMs", 30_000L);
+        return store;
+    }
+
+    private static ActiveSessionDto session(String userId, String sessionId) {
+        return ActiveSessionDto.builder()
+                .userId(userId)
+                .sessionId(sessionId)
+                .username(userId + "-name")
+                .connectedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void insertRow(String userId, String sessionId, String nodeId, LocalDateTime heartbeatAt) {
+        jdbcTemplate.update("INSERT INTO presence_sessions "
+                        + "(user_id, session_id, username, node_id, connected_at, heartbeat_at) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)",
+                userId, sessionId, userId, nodeId, Timestamp.valueOf(heartbeatAt), Timestamp.valueOf(heartbeatAt));
+    }
+
+    private String nodeOf(String userId) {
+        return jdbcTemplate.queryForObject("SELECT node_id FROM presence_sessions WHERE user_id = ?",
+                String.class, userId);
+    }
+
+    private int rowCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM presence_sessions", Integer.class);
+    }
+
+    @Test
+    void duplicateLoginOnAnotherNodeIsRejected() {
+        assertTrue(nodeA.register(session("u1", "a-1")));
+
+        assertFalse(nodeB.register(session("u1", "b-1")));
+        assertTrue(nodeB.isActive("u1"));
+        assertEquals("a-1", nodeB.findByUser("u1").getSessionId());
+        assertNull(nodeB.findBySession("b-1"));
+        assertEquals(1, rowCount());
+        assertEquals("node-a", nodeOf("u1"));
+    }
+
+    @Test
+    void duplicateLoginOnTheSameNodeIsRejected() {
+        assertTrue(nodeA.register(session("u1", "a-1")));
+
+        assertFalse(nodeA.register(session("u1", "a-2")));
+        assertEquals("a-1", nodeA.findByUser("u1").getSessionId());
+        assertEquals(1, rowCount());
+    }
+
+    @Test
+    void disconnectFreesTheUserForOtherNodes() {
+        nodeA.register(session("u1", "a-1"));
+
+        assertEquals("u1", nodeA.removeBySession("a-1").getUserId());
+
+        assertFalse(nodeB.isActive("u1"));
+        assertTrue(nodeB.register(session("u1", "b-1")));
+        assertEquals("node-b", nodeOf("u1"));
+    }
+
+    @Test
+    void staleRowOfCrashedNodeIsReplacedOnLogin() {
+        insertRow("u1", "dead-1", "crashed", LocalDateTime.now().minusMinutes(5));
+
+        // heartbeat 가 끊긴 행은 접속 중으로 보지 않음
+        assertFalse(nodeA.isActive("u1"));
+        assertEquals(0, nodeA.count());
+
+        assertTrue(nodeA.register(session("u1", "a-1")));
+        assertEquals("node-a", nodeOf("u1"));
+        assertEquals(1, rowCount());
+    }
+
+    @Test
+    void freshRowOfAnotherNodeIsNotReplaced() {
+        insertRow("u1", "live-1", "other", LocalDateTime.now());
+
+        assertFalse(nodeA.register(session("u1", "a-1")));
+        assertEquals("other", nodeOf("u1"));
+    }
+
+    @Test
+    void heartbeatRefreshesOwnRowsAndRemovesStaleOnes() {
+        nodeA.register(session("u1", "a-1"));
+        jdbcTemplate.update("UPDATE presence_sessions SET heartbeat_at = ? WHERE user_id = 'u1'",
+                Timestamp.valueOf(LocalDateTime.now().minusSeconds(20)));
+        insertRow("u2", "dead-2", "crashed", LocalDateTime.now().minusMinutes(5));
+        insertRow("u3", "live-3", "node-b", LocalDateTime.now());
+
+        ReflectionTestUtils.invokeMethod(nodeA, "heartbeat");
+
+        assertEquals(2, rowCount());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM presence_sessions WHERE user_id = 'u2'", Integer.class));
+        Timestamp heartbeat = jdbcTemplate.queryForObject(
+                "SELECT heartbeat_at FROM presence_sessions WHERE user_id = 'u1'", Timestamp.class);
+        assertTrue(heartbeat.toLocalDateTime().isAfter(LocalDateTime.now().minusSeconds(5)));
+        assertEquals(2, nodeB.count());
+    }
+
+    @Test
+    void shutdownRemovesOnlyThisNodesRows() {
+        nodeA.register(session("u1", "a-1"));
+        nodeB.register(session("u2", "b-1"));
+
+        nodeA.stop();
+
+        assertFalse(nodeB.isActive("u1"));
+        assertTrue(nodeB.isActive("u2"));
+        assertEquals(1, rowCount());
+    }
+
+    @Test
+    void startFailsWhenTableIsMissing() {
+        JdbcPresenceStore store = new JdbcPresenceStore(new JdbcTemplate(emptyDatabase()));
+        ReflectionTestUtils.setField(store, "configuredNodeId", "node-c");
+
+        IllegalStateException error = assertThrows(IllegalStateException.class, store::start);
+        assertTrue(error.getMessage().contains("V4__create_presence_sessions.sql"));
+    }
+}
@@ -0,0 +1,102 @@
+package com.community.service;
+
+import com.community.tools.KoreanDictionaryCompiler;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KoreanDictionaryTest {
+
+    private static KoreanDictionary build(String... words) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        KoreanDictionaryCompiler.write(KoreanDictionaryCompiler.compile(List.of(words)), out);
+        return KoreanDictionary.load(ByteBuffer.wrap(out.toByteArray()));
+    }
+
+    @Test
+    void containsOnlyCompiledWords() throws IOException {
+        KoreanDictionary dictionary = build("사과", "사과나무", "과일", "일기");
+
+        assertEquals(4, dictionary.getWordCount());
+        assertTrue(dictionary.contains("사과"));
+        assertTrue(dictionary.contains("사과나무"));
+        assertTrue(dictionary.contains("일기"));
+        assertFalse(dictionary.contains("사"));        // 접두사일 뿐 단어가 아님
+        assertFalse(dictionary.contains("사과나"));
+        assertFalse(dictionary.contains("사과나무들"));
+        assertFalse(dictionary.contains("기차"));
+        assertFalse(dictionary.contains(""));
+    }
+
+    @Test
+    void countsAndEnumeratesWordsByPrefixInDictionaryOrder() throws IOException {
+        KoreanDictionary dictionary = build("사자", "사과", "사과나무", "사랑", "과일");
+
+        assertEquals(4, dictionary.countWithPrefix("사"));
+        assertEquals(2, dictionary.countWithPrefix("사과"));  // 접두사 자체가 단어면 포함
+        assertEquals(0, dictionary.countWithPrefix("기"));
+        assertEquals(5, dictionary.countWithPrefix(""));
+
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < dictionary.countWithPrefix("사"); i++) {
+            words.add(dictionary.wordWithPrefix("사", i));
+        }
+        assertEquals(List.of("사과", "사과나무", "사랑", "사자"), words);
+        assertNull(dictionary.wordWithPrefix("사", 4));
+        assertNull(dictionary.wordWithPrefix("사", -1));
+        assertNull(dictionary.wordWithPrefix("기", 0));
+    }
+
+    @Test
+    void sharesCommonSuffixes() throws IOException {
+        // 같은 접미사("기차")를 가진 단어는 상태를 공유하므로 단어를 늘려도 크기가 거의 그대로
+        KoreanDictionary small = build("가기차", "나기차");
+        KoreanDictionary large = build("가기차", "나기차", "다기차", "라기차", "마기차", "바기차");
+
+        int arcBytes = KoreanDictionary.ARC_INTS * Integer.BYTES;
+        assertEquals(small.getSizeInBytes() + 4 * arcBytes, large.getSizeInBytes());
+    }
+
+    @Test
+    void rejectsFilesInAnotherFormat() {
+        assertThrows(IllegalArgumentException.class,
+                () -> KoreanDictionary.load(ByteBuffer.wrap(new byte[64])));
+    }
+
+    @Test
+    void bundledDictionaryMatchesWordList() throws IOException {
+        TreeSet<String> words = new TreeSet<>();
+        for (String line : Files.readAllLines(Path.of("src/main/dictionary/korean-words.txt"), StandardCharsets.UTF_8)) {
+            String word = line.strip();
+            if (!word.isEmpty() && !word.startsWith("#")) {
+                words.add(word);
+            }
+        }
+
+        KoreanDictionary bundled;
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream("dictionary/korean-words.dawg")) {
+            bundled = KoreanDictionary.load(ByteBuffer.wrap(in.readAllBytes()));
+        }
+
+        // 목록을 바꾸고 ./gradlew buildDictionary 를 다시 돌리지 않으면 실패
+        assertEquals(words.size(), bundled.getWordCount());
+        for (String word : words) {
+            assertTrue(bundled.contains(word), word);
+        }
+    }
+}
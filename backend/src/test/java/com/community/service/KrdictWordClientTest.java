@@ -0,0 +1,223 @@
+package com.community.service;
+
+import com.community.service.KrdictWordClient.WordLookup;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 로컬 스텁 HTTP 서버(krdict 응답 흉내)로 확인하는 KrdictWordClient 동작
+ * 스텁은 q 가 "사과" 일 때만 표제어를 돌려주고, 실패/지연을 켜고 끌 수 있습니다.
+ */
+class KrdictWordClientTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    private KrdictWordClient client;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        serverExecutor = Executors.newCachedThreadPool();
+        server.setExecutor(serverExecutor);
+        server.createContext("/api/search", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        release.countDown();
+        if (client != null) {
+            client.shutdown();
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try {
+            release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String word = "";
+        for (String param : exchange.getRequestURI().getRawQuery().split("&")) {
+            if (param.startsWith("q=")) {
+                word = URLDecoder.decode(param.substring(2), StandardCharsets.UTF_8);
+            }
+        }
+        String body = "사과".equals(word) || "사과나무".equals(word)
+                ? "<channel><total>1</total><item><word>사과</word></item></channel>"
+                : "<channel><total>0</total></channel>";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(failing.get() ? 500 : 200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private KrdictWordClient newClient(String apiKey, int maxConcurrency, int failureThreshold, long openMs) {
+        KrdictWordClient created = new KrdictWordClient(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(created, "apiKey", apiKey);
+        ReflectionTestUtils.setField(created, "apiUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/api/search");
+        ReflectionTestUtils.setField(created, "maxConcurrency", maxConcurrency);
+        ReflectionTestUtils.setField(created, "connectTimeoutMs", 1000L);
+        ReflectionTestUtils.setField(created, "requestTimeoutMs", 2000L);
+        ReflectionTestUtils.setField(created, "failureThreshold", failureThreshold);
+        ReflectionTestUtils.setField(created, "openMs", openMs);
+        ReflectionTestUtils.setField(created, "cacheSize", 100);
+        ReflectionTestUtils.setField(created, "validCacheTtlMinutes", 10L);
+        ReflectionTestUtils.setField(created, "invalidCacheTtlMinutes", 10L);
+        created.init();
+        client = created;
+        return created;
+    }
+
+    private static WordLookup await(CompletableFuture<WordLookup> future) throws Exception {
+        return future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void acceptsOnlyExactHeadwords() throws Exception {
+        KrdictWordClient krdict = newClient("key", 4, 5, 1000);
+
+        assertEquals(WordLookup.VALID, await(krdict.lookup("사과")));
+        // 검색 결과는 있지만 표제어가 다름
+        assertEquals(WordLookup.INVALID, await(krdict.lookup("사과나무")));
+        assertEquals(WordLookup.INVALID, await(krdict.lookup("없는말")));
+    }
+
+    @Test
+    void cachesValidAndInvalidResults() throws Exception {
+        KrdictWordClient krdict = newClient("key", 4, 5, 1000);
+
+        await(krdict.lookup("사과"));
+        await(krdict.lookup("없는말"));
+        assertEquals(WordLookup.VALID, await(krdict.lookup("사과")));
+        assertEquals(WordLookup.INVALID, await(krdict.lookup("없는말")));
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void coalescesConcurrentLookupsOfTheSameWord() throws Exception {
+        KrdictWordClient krdict = newClient("key", 4, 5, 1000);
+        release = new CountDownLatch(1);
+
+        List<CompletableFuture<WordLookup>> lookups = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            lookups.add(krdict.lookup("사과"));
+        }
+        release.countDown();
+
+        for (CompletableFuture<WordLookup> lookup : lookups) {
+            assertEquals(WordLookup.VALID, await(lookup));
+        }
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void reportsUnavailableWhenConcurrencyLimitIsReached() throws Exception {
+        KrdictWordClient krdict = newClient("key", 1, 5, 1000);
+        release = new CountDownLatch(1);
+
+        CompletableFuture<WordLookup> first = krdict.lookup("사과");
+        CompletableFuture<WordLookup> second = krdict.lookup("없는말");
+
+        assertEquals(WordLookup.UNAVAILABLE, await(second));
+        release.countDown();
+        assertEquals(WordLookup.VALID, await(first));
+        assertEquals(1, requests.get());
+
+        // 거절된 단어는 캐시되지 않고, 자리가 나면 다시 확인
+        assertEquals(WordLookup.INVALID, await(krdict.lookup("없는말")));
+    }
+
+    @Test
+    void opensCircuitAfterConsecutiveFailuresAndRecovers() throws Exception {
+        KrdictWordClient krdict = newClient("key", 4, 2, 200);
+        failing.set(true);
+
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+        assertEquals(2, requests.get());
+
+        // 열린 동안은 호출하지 않음
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+        assertEquals(2, requests.get());
+
+        // open 시간이 지나면 요청 하나로 회복 확인
+        failing.set(false);
+        Thread.sleep(300);
+        assertEquals(WordLookup.VALID, await(krdict.lookup("사과")));
+        assertEquals(WordLookup.INVALID, await(krdict.lookup("없는말")));
+        assertEquals(4, requests.get());
+    }
+
+    @Test
+    void failedTrialReopensCircuit() throws Exception {
+        KrdictWordClient krdict = newClient("key", 4, 1, 200);
+        failing.set(true);
+
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+        Thread.sleep(300);
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+        assertEquals(2, requests.get());
+
+        failing.set(false);
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void invalidUrlDoesNotLeakPermitsOrInFlightLookups() throws Exception {
+        KrdictWordClient krdict = newClient("key", 1, 5, 1000);
+        ReflectionTestUtils.setField(krdict, "apiUrl", "http://bad host/api/search");
+
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+
+        ReflectionTestUtils.setField(krdict, "apiUrl",
+                "http://127.0.0.1:" + server.getAddress().getPort() + "/api/search");
+        assertEquals(WordLookup.VALID, await(krdict.lookup("사과")));
+    }
+
+    @Test
+    void disabledWithoutApiKey() throws Exception {
+        KrdictWordClient krdict = newClient("", 4, 5, 1000);
+
+        assertFalse(krdict.isEnabled());
+        assertEquals(WordLookup.UNAVAILABLE, await(krdict.lookup("사과")));
+        assertEquals(0, requests.get());
+    }
+}
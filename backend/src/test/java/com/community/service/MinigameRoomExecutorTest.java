@@ -0,0 +1,131 @@
+package com.community.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MinigameRoomExecutorTest {
+
+    private MinigameRoomExecutor executor;
+
+    @BeforeEach
+    void start() {
+        executor = new MinigameRoomExecutor();
+        ReflectionTestUtils.setField(executor, "mode", "pool");
+        ReflectionTestUtils.setField(executor, "poolSize", 4);
+        ReflectionTestUtils.setField(executor, "maxBatch", 8);
+        executor.start();
+    }
+
+    @AfterEach
+    void stop() {
+        executor.stop();
+    }
+
+    private static void await(CountDownLatch latch) throws InterruptedException {
+        assertTrue(latch.await(5, TimeUnit.SECONDS), "timed out");
+    }
+
+    private void awaitRoomCount(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (executor.getRoomCount() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(expected, executor.getRoomCount());
+    }
+
+    @Test
+    void runsTasksOfOneRoomInSubmissionOrder() throws InterruptedException {
+        executor.register("room");
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicBoolean overlapped = new AtomicBoolean();
+        AtomicBoolean running = new AtomicBoolean();
+
+        for (int i = 0; i < 1000; i++) {
+            int n = i;
+            executor.execute("room", () -> {
+                if (!running.compareAndSet(false, true)) {
+                    overlapped.set(true);
+                }
+                order.add(n);
+                running.set(false);
+            });
+        }
+        executor.execute("room", done::countDown);
+        await(done);
+
+        assertFalse(overlapped.get());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, order.get(i));
+        }
+    }
+
+    @Test
+    void dropsTasksForUnknownRoomsWithoutCreatingMailboxes() {
+        AtomicBoolean ran = new AtomicBoolean();
+        AtomicBoolean missing = new AtomicBoolean();
+
+        assertFalse(executor.execute("unknown", () -> ran.set(true)));
+        executor.execute("unknown", () -> ran.set(true), () -> missing.set(true));
+
+        assertFalse(ran.get());
+        assertTrue(missing.get());
+        assertEquals(0, executor.getRoomCount());
+        assertEquals(2, executor.getDroppedCount());
+    }
+
+    @Test
+    void removeDrainsQueuedTasksThenDropsTheMailbox() throws InterruptedException {
+        executor.register("room");
+        CountDownLatch blocker = new CountDownLatch(1);
+        CountDownLatch queuedRan = new CountDownLatch(1);
+
+        executor.execute("room", () -> {
+            try {
+                blocker.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        executor.execute("room", queuedRan::countDown);
+        executor.remove("room");
+
+        // 삭제 뒤에 도착한 작업(예: 타이머)은 버리고 수신함을 다시 만들지 않음
+        AtomicBoolean late = new AtomicBoolean();
+        assertFalse(executor.execute("room", () -> late.set(true)));
+
+        blocker.countDown();
+        await(queuedRan);
+        awaitRoomCount(0);
+        assertFalse(executor.execute("room", () -> late.set(true)));
+        assertFalse(late.get());
+        assertEquals(0, executor.getRoomCount());
+    }
+
+    @Test
+    void removeFromInsideTheRoomTaskCleansUp() throws InterruptedException {
+        executor.register("room");
+        CountDownLatch removed = new CountDownLatch(1);
+
+        executor.execute("room", () -> {
+            executor.remove("room");
+            removed.countDown();
+        });
+        await(removed);
+
+        awaitRoomCount(0);
+    }
+}
@@ -0,0 +1,143 @@
+package com.community.service;
+
+import com.community.dto.GameEventDto;
+import com.community.dto.MinigamePlayerDto;
+import com.community.dto.MinigameRoomDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MinigameRoomServiceTest {
+
+    private MinigameRoomService service;
+    private RealtimeMessagingService realtimeMessaging;
+
+    @BeforeEach
+    void setUp() {
+        service = new MinigameRoomService();
+        realtimeMessaging = mock(RealtimeMessagingService.class);
+        ReflectionTestUtils.setField(service, "roomExecutor", new MinigameRoomExecutor());
+        ReflectionTestUtils.setField(service, "omokBotService", new OmokBotService());
+        ReflectionTestUtils.setField(service, "messagingTemplate", mock(SimpMessageSendingOperations.class));
+        ReflectionTestUtils.setField(service, "realtimeMessagingService", realtimeMessaging);
+        // 시작하지 않은 타이머 휠: 타이머를 등록만 하고 실행하지 않음
+        ReflectionTestUtils.setField(service, "gameTimerService", new GameTimerService(new SimpleMeterRegistry()));
+    }
+
+    private MinigameRoomDto omokRoomWithBot() {
+        MinigameRoomDto room = service.createRoom("방", "오목", "host", "방장", 2, false, 1, null, null, null, null);
+        assertNotNull(service.addOmokBot(room.getRoomId(), "host", "easy"));
+        assertEquals(2, room.getPlayers().size());
+        return room;
+    }
+
+    private static boolean hasBot(Iterable<MinigamePlayerDto> players) {
+        for (MinigamePlayerDto player : players) {
+            if (OmokBotService.isBot(player.getUserId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    void changingGameAwayFromOmokRemovesBots() {
+        MinigameRoomDto room = omokRoomWithBot();
+
+        service.updateRoomSettings(room.getRoomId(), "끝말잇기", 4);
+
+        assertFalse(hasBot(room.getPlayers()));
+        assertEquals(1, room.getPlayers().size());
+        assertEquals(1, room.getCurrentPlayers());
+    }
+
+    @Test
+    void keepingOmokKeepsBots() {
+        MinigameRoomDto room = omokRoomWithBot();
+
+        service.updateRoomSettings(room.getRoomId(), "오목", 2);
+
+        assertTrue(hasBot(room.getPlayers()));
+    }
+
+    @Test
+    void shrinkingRoomDropsBotsInsteadOfMovingThemToSpectators() {
+        MinigameRoomDto room = omokRoomWithBot();
+
+        service.updateRoomSettings(room.getRoomId(), "오목", 1);
+
+        assertFalse(hasBot(room.getPlayers()));
+        assertFalse(hasBot(room.getSpectators()));
+        assertEquals(1, room.getCurrentPlayers());
+    }
+
+    private MinigameRoomDto playingOmokRoom() {
+        MinigameRoomDto room = service.createRoom("방", "오목", "host", "방장", 2, false, 1, null, null, null, null);
+        MinigamePlayerDto guest = new MinigamePlayerDto();
+        guest.setUserId("guest");
+        guest.setUsername("손님");
+        room.getPlayers().add(guest);
+        service.startGame(room.getRoomId());
+        return room;
+    }
+
+    private List<GameEventDto> sentGameEvents(String roomId) {
+        ArgumentCaptor<GameEventDto> events = ArgumentCaptor.forClass(GameEventDto.class);
+        verify(realtimeMessaging, atLeastOnce()).sendGameEvent(eq(roomId), events.capture());
+        return events.getAllValues();
+    }
+
+    @Test
+    void omokStartIsAcceptedOnlyFromTheHostWhileTheRoomIsPlaying() {
+        MinigameRoomDto room = service.createRoom("방", "오목", "host", "방장", 2, false, 1, null, null, null, null);
+        assertFalse(service.startOmokGame(room.getRoomId(), "host"));  // 대기 중
+
+        MinigameRoomDto playing = playingOmokRoom();
+        assertFalse(service.startOmokGame(playing.getRoomId(), "guest"));
+        assertTrue(service.startOmokGame(playing.getRoomId(), "host"));
+    }
+
+    @Test
+    void omokStartDoesNotWipeAGameInProgress() {
+        MinigameRoomDto room = playingOmokRoom();
+        String roomId = room.getRoomId();
+        assertTrue(service.startOmokGame(roomId, "host"));
+        service.handleOmokMove(roomId, "host", 112);
+
+        // 늦게 도착한 omokStart 는 거부되고 판이 그대로 남음
+        assertFalse(service.startOmokGame(roomId, "host"));
+        service.handleOmokMove(roomId, "guest", 112);
+
+        List<GameEventDto> events = sentGameEvents(roomId);
+        GameEventDto last = events.get(events.size() - 1);
+        assertEquals("omokMoveRejected", last.getType());
+        assertEquals("occupied", last.getPayload());
+    }
+
+    @Test
+    void newRoundDiscardsAnUnfinishedOmokGame() {
+        MinigameRoomDto room = playingOmokRoom();
+        String roomId = room.getRoomId();
+        assertTrue(service.startOmokGame(roomId, "host"));
+        service.handleOmokMove(roomId, "host", 112);
+
+        service.endGameAndResetReady(roomId);
+        service.startGame(roomId);
+
+        assertTrue(service.startOmokGame(roomId, "host"));
+    }
+}
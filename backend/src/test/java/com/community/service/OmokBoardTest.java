@@ -0,0 +1,96 @@
+package com.community.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OmokBoardTest {
+
+    private static final int N = OmokBoard.SIZE;
+
+    private static int at(int row, int col) {
+        return row * N + col;
+    }
+
+    @Test
+    void detectsFiveInEveryDirection() {
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        for (int[] d : directions) {
+            OmokBoard board = new OmokBoard();
+            int row = 5;
+            int col = 7;
+            for (int k = 0; k < 4; k++) {
+                assertFalse(board.place(at(row + d[0] * k, col + d[1] * k), OmokBoard.BLACK));
+            }
+            assertTrue(board.place(at(row + d[0] * 4, col + d[1] * 4), OmokBoard.BLACK));
+        }
+    }
+
+    @Test
+    void doesNotWrapAcrossRowEdges() {
+        OmokBoard board = new OmokBoard();
+        // 0행 끝 3칸 + 1행 앞 2칸: 위치 값은 연속이지만 한 줄이 아님
+        board.place(at(0, 12), OmokBoard.BLACK);
+        board.place(at(0, 13), OmokBoard.BLACK);
+        board.place(at(0, 14), OmokBoard.BLACK);
+        board.place(at(1, 0), OmokBoard.BLACK);
+        assertFalse(board.place(at(1, 1), OmokBoard.BLACK));
+    }
+
+    @Test
+    void rejectsOccupiedCells() {
+        OmokBoard board = new OmokBoard();
+        board.place(at(7, 7), OmokBoard.BLACK);
+
+        assertEquals(OmokBoard.BLACK, board.get(at(7, 7)));
+        assertThrows(IllegalArgumentException.class, () -> board.place(at(7, 7), OmokBoard.WHITE));
+        assertEquals(1, board.getMoveCount());
+    }
+
+    @Test
+    void matchesFullBoardScanOnRandomGames() {
+        Random random = new Random(7);
+        for (int game = 0; game < 2000; game++) {
+            OmokBoard board = new OmokBoard();
+            int[][] naive = new int[N][N];
+            while (!board.isFull()) {
+                int stone = board.getMoveCount() % 2 == 0 ? OmokBoard.BLACK : OmokBoard.WHITE;
+                int position = board.randomEmptyCell(random);
+                boolean win = board.place(position, stone);
+                naive[position / N][position % N] = stone;
+                assertEquals(hasFive(naive, stone), win);
+                if (win) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean hasFive(int[][] board, int stone) {
+        int[][] directions = {{0, 1}, {1, 0}, {1, 1}, {1, -1}};
+        for (int row = 0; row < N; row++) {
+            for (int col = 0; col < N; col++) {
+                for (int[] d : directions) {
+                    int k = 0;
+                    while (k < 5) {
+                        int r = row + d[0] * k;
+                        int c = col + d[1] * k;
+                        if (r < 0 || r >= N || c < 0 || c >= N || board[r][c] != stone) {
+                            break;
+                        }
+                        k++;
+                    }
+                    if (k == 5) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.community.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PositionBroadcastServiceTest {
+
+    private WorldStateService worldState;
+    private PositionMailbox mailbox;
+    private ActiveUserService activeUserService;
+    private PositionBroadcastService service;
+
+    @BeforeEach
+    void setUp() {
+        worldState = new WorldStateService();
+        mailbox = new PositionMailbox();
+        ReflectionTestUtils.setField(mailbox, "maxRateHz", 1000);
+        ReflectionTestUtils.setField(mailbox, "burst", 100);
+        activeUserService = mock(ActiveUserService.class);
+        when(activeUserService.getUserIdBySession("s1")).thenReturn("1");
+
+        AreaOfInterestService areaOfInterestService = mock(AreaOfInterestService.class);
+        when(areaOfInterestService.isEnabled()).thenReturn(true);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        service = new PositionBroadcastService(worldState, areaOfInterestService, mock(SpaceRoutingService.class),
+                mock(RealtimeMessagingService.class), mailbox, activeUserService, mock(ProximityChatService.class),
+                new ObjectMapper(), meterRegistry);
+        // start() 는 틱 스케줄을 시작하므로 호출하지 않고 타이머만 준비
+        ReflectionTestUtils.setField(service, "tickTimer", Timer.builder("test.tick").register(meterRegistry));
+    }
+
+    private static byte[] position(String userId, double x) {
+        return ("{\"userId\":\"" + userId + "\",\"x\":" + x + ",\"y\":0,\"z\":0}").getBytes();
+    }
+
+    @Test
+    void appliesLatestUpdateOfRegisteredSession() {
+        mailbox.offer("s1", position("1", 1.0));
+        mailbox.offer("s1", position("1", 2.0));
+
+        service.tick();
+
+        assertEquals(2.0, worldState.getPosition("1").getX());
+    }
+
+    @Test
+    void rejectsUpdateForAnotherUser() {
+        mailbox.offer("s1", position("2", 1.0));
+
+        service.tick();
+
+        assertNull(worldState.getPosition("2"));
+        assertNull(worldState.getPosition("1"));
+    }
+
+    @Test
+    void dropsUpdateOfDisconnectedSession() {
+        mailbox.offer("s1", position("1", 1.0));
+        service.tick();
+        assertNotNull(worldState.getPosition("1"));
+
+        // 접속 종료 이벤트로 플레이어가 제거된 뒤 남아 있던 업데이트
+        mailbox.offer("s1", position("1", 3.0));
+        when(activeUserService.getUserIdBySession("s1")).thenReturn(null);
+        worldState.removePlayer("1");
+
+        service.tick();
+
+        assertNull(worldState.getPosition("1"));
+        assertEquals(0, mailbox.getSessionCount());
+    }
+}
@@ -0,0 +1,93 @@
+package com.community.service;
+
+import com.community.dto.CompactPositionFrameDto;
+import com.community.dto.PlayerPositionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PositionFrameEncoderTest {
+
+    private WorldStateService worldState;
+    private PositionFrameEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        worldState = new WorldStateService();
+        encoder = new PositionFrameEncoder(worldState);
+    }
+
+    private PlayerPositionDto move(String userId, double x, String animation) {
+        PlayerPositionDto position = new PlayerPositionDto();
+        position.setUserId(userId);
+        position.setUsername(userId + "-name");
+        position.setModelPath("/models/" + userId + ".glb");
+        position.setX(x);
+        position.setY(0.0);
+        position.setZ(1.5);
+        position.setRotationY(0.25);
+        position.setAnimation(animation);
+        worldState.updatePosition(position);
+        return position;
+    }
+
+    @Test
+    void sendsOnlyChangedFieldsAfterTheFirstFrame() {
+        PlayerPositionDto first = move("a", 1.0, "idle");
+        CompactPositionFrameDto frame = encoder.encode(1, List.of(first), false);
+        assertEquals(1, frame.getDefs().size());
+        assertEquals(1, frame.getAnims().size());
+        assertEquals(PositionFrameEncoder.ALL_FIELDS, frame.getU().get(0)[1]);
+
+        PlayerPositionDto moved = move("a", 1.2, "idle");
+        frame = encoder.encode(2, List.of(moved), false);
+        assertTrue(frame.getDefs().isEmpty());
+        assertTrue(frame.getAnims().isEmpty());
+        int playerId = worldState.getPlayerId("a");
+        assertArrayEquals(new int[] {playerId, PositionFrameEncoder.FIELD_X, 120}, frame.getU().get(0));
+
+        // 그대로면 보내지 않음
+        frame = encoder.encode(3, List.of(moved), false);
+        assertTrue(frame.getU().isEmpty());
+    }
+
+    @Test
+    void keyframeResendsDefinitionsAndAnimations() {
+        PlayerPositionDto a = move("a", 1.0, "walk");
+        encoder.encode(1, List.of(a), false);
+
+        // 키프레임만 받은 수신자도 ID -> 사용자/애니메이션 이름을 알 수 있어야 함
+        CompactPositionFrameDto keyframe = encoder.encode(2, List.of(a), true);
+        assertEquals(Boolean.TRUE, keyframe.getK());
+        assertEquals(1, keyframe.getDefs().size());
+        assertEquals("a", keyframe.getDefs().get(0).getU());
+        assertEquals("walk", keyframe.getAnims().get(worldState.internAnimation("walk")));
+        assertEquals(PositionFrameEncoder.ALL_FIELDS, keyframe.getU().get(0)[1]);
+
+        // 키프레임 뒤에는 다시 변경분만
+        CompactPositionFrameDto next = encoder.encode(3, List.of(a), false);
+        assertTrue(next.getDefs().isEmpty());
+        assertTrue(next.getAnims().isEmpty());
+        assertTrue(next.getU().isEmpty());
+    }
+
+    @Test
+    void keyframeDropsBaselinesOfPlayersNoLongerInView() {
+        PlayerPositionDto a = move("a", 1.0, "idle");
+        PlayerPositionDto b = move("b", 2.0, "idle");
+        encoder.encode(1, List.of(a, b), false);
+
+        encoder.encode(2, List.of(a), true);
+
+        // b 가 다시 보이면 정의와 전체 필드를 보냄
+        CompactPositionFrameDto frame = encoder.encode(3, List.of(a, b), false);
+        assertEquals(1, frame.getDefs().size());
+        assertEquals("b", frame.getDefs().get(0).getU());
+        assertEquals(PositionFrameEncoder.ALL_FIELDS, frame.getU().get(0)[1]);
+    }
+}
@@ -0,0 +1,108 @@
+package com.community.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PositionMailboxTest {
+
+    private PositionMailbox mailbox;
+
+    @BeforeEach
+    void setUp() {
+        mailbox = new PositionMailbox();
+        ReflectionTestUtils.setField(mailbox, "maxRateHz", 1000);
+        ReflectionTestUtils.setField(mailbox, "burst", 100);
+    }
+
+    private Map<String, String> drain() {
+        Map<String, String> drained = new HashMap<>();
+        mailbox.drain((sessionId, payload) -> drained.put(sessionId, new String(payload)));
+        return drained;
+    }
+
+    @Test
+    void keepsOnlyTheLatestUpdatePerSession() {
+        mailbox.offer("s1", "1".getBytes());
+        mailbox.offer("s1", "2".getBytes());
+        mailbox.offer("s1", "3".getBytes());
+        mailbox.offer("s2", "a".getBytes());
+
+        assertEquals(Map.of("s1", "3", "s2", "a"), drain());
+        assertEquals(4, mailbox.getAcceptedCount());
+        assertEquals(2, mailbox.getCoalescedCount());
+
+        // 꺼낸 뒤에는 새 업데이트가 올 때까지 비어 있음
+        assertTrue(drain().isEmpty());
+        mailbox.offer("s1", "4".getBytes());
+        assertEquals(Map.of("s1", "4"), drain());
+        assertEquals(2, mailbox.getCoalescedCount());
+    }
+
+    @Test
+    void dropsUpdatesBeyondTheBurst() {
+        ReflectionTestUtils.setField(mailbox, "maxRateHz", 1);
+        ReflectionTestUtils.setField(mailbox, "burst", 2);
+
+        int accepted = 0;
+        for (int i = 0; i < 5; i++) {
+            if (mailbox.offer("s1", new byte[] {(byte) i})) {
+                accepted++;
+            }
+        }
+
+        // 처음 1 + burst 개만 통과
+        assertEquals(3, accepted);
+        assertEquals(2, mailbox.getDroppedCount("s1"));
+        assertEquals(2, mailbox.getDroppedCount());
+        // 다른 세션은 영향 없음
+        assertTrue(mailbox.offer("s2", new byte[] {0}));
+        assertEquals(0, mailbox.getDroppedCount("s2"));
+    }
+
+    @Test
+    void tokensRefillOverTime() throws InterruptedException {
+        // 50ms 마다 토큰 하나
+        ReflectionTestUtils.setField(mailbox, "maxRateHz", 20);
+        ReflectionTestUtils.setField(mailbox, "burst", 0);
+
+        assertTrue(mailbox.offer("s1", new byte[] {1}));
+        assertFalse(mailbox.offer("s1", new byte[] {2}));
+
+        Thread.sleep(80);
+        assertTrue(mailbox.offer("s1", new byte[] {3}));
+        assertEquals((byte) 3, drainSingle("s1"));
+    }
+
+    @Test
+    void removeForgetsSessionState() {
+        ReflectionTestUtils.setField(mailbox, "maxRateHz", 1);
+        ReflectionTestUtils.setField(mailbox, "burst", 0);
+        mailbox.offer("s1", new byte[] {1});
+        assertFalse(mailbox.offer("s1", new byte[] {2}));
+
+        mailbox.remove("s1");
+
+        assertEquals(0, mailbox.getSessionCount());
+        assertTrue(drain().isEmpty());
+        // 다시 연결하면 새 버킷으로 시작
+        assertTrue(mailbox.offer("s1", new byte[] {3}));
+    }
+
+    private byte drainSingle(String sessionId) {
+        byte[][] latest = new byte[1][];
+        mailbox.drain((id, payload) -> {
+            if (id.equals(sessionId)) {
+                latest[0] = payload;
+            }
+        });
+        return latest[0][0];
+    }
+}
@@ -0,0 +1,148 @@
+package com.community.service;
+
+import com.community.repository.PersonalRoomRepository;
+import com.community.repository.UserRepository;
+import com.community.repository.UserSessionRepository;
+import com.community.service.PresenceHeartbeatTracker.GhostSession;
+import com.community.service.PresenceHeartbeatTracker.Status;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PresenceHeartbeatTrackerTest {
+
+    private static final long IDLE_MS = 60_000;
+    private static final long AWAY_MS = 300_000;
+    private static final long GHOST_MS = 30_000;
+
+    private PresenceAggregator aggregator;
+    private ApplicationEventPublisher eventPublisher;
+    private PresenceHeartbeatTracker tracker;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        aggregator = mock(PresenceAggregator.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        tracker = new PresenceHeartbeatTracker(new WorldStateService(), aggregator,
+                mock(UserSessionRepository.class), mock(UserRepository.class), mock(PersonalRoomRepository.class),
+                eventPublisher);
+        ReflectionTestUtils.setField(tracker, "idleAfterMs", IDLE_MS);
+        ReflectionTestUtils.setField(tracker, "awayAfterMs", AWAY_MS);
+        ReflectionTestUtils.setField(tracker, "ghostAfterMs", GHOST_MS);
+
+        // start() 는 1초 검사 스케줄을 시작하므로 호출하지 않고 휠만 준비
+        List<Set<String>> wheel = (List<Set<String>>) ReflectionTestUtils.getField(tracker, "wheel");
+        for (int i = 0; i < 64; i++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+
+        tracker.register("s1", "1", "player1");
+    }
+
+    /**
+     * 세션 시각을 과거로 돌려 시간이 흐른 것처럼 만듦
+     */
+    @SuppressWarnings("unchecked")
+    private void age(String sessionId, long silentMs, long inactiveMs) {
+        Map<String, ?> sessions = (Map<String, ?>) ReflectionTestUtils.getField(tracker, "sessions");
+        Object session = sessions.get(sessionId);
+        long now = System.currentTimeMillis();
+        ReflectionTestUtils.setField(session, "lastSeenAt", now - silentMs);
+        ReflectionTestUtils.setField(session, "lastActiveAt", now - inactiveMs);
+        ReflectionTestUtils.setField(session, "nextCheckAt", 0L);
+    }
+
+    /**
+     * 휠의 모든 칸 검사 (한 바퀴 이상 밀린 경우와 같음)
+     */
+    private void sweep() {
+        ReflectionTestUtils.setField(tracker, "lastProcessedSlotTime", 0L);
+        tracker.advance();
+    }
+
+    @Test
+    void freshSessionStaysActive() {
+        sweep();
+
+        assertEquals(Status.ACTIVE, tracker.getStatus("s1"));
+        verify(aggregator, never()).recordStatus(anyString(), anyString());
+    }
+
+    @Test
+    void inactivityMovesToIdleThenAway() {
+        age("s1", 1_000, IDLE_MS + 1_000);
+        sweep();
+        assertEquals(Status.IDLE, tracker.getStatus("s1"));
+        verify(aggregator).recordStatus("1", "idle");
+
+        // 상태가 그대로면 다시 알리지 않음
+        clearInvocations(aggregator);
+        age("s1", 1_000, IDLE_MS + 2_000);
+        sweep();
+        verify(aggregator, never()).recordStatus(anyString(), anyString());
+
+        age("s1", 1_000, AWAY_MS + 1_000);
+        sweep();
+        assertEquals(Status.AWAY, tracker.getStatus("s1"));
+        verify(aggregator).recordStatus("1", "away");
+    }
+
+    @Test
+    void activityReturnsToActive() {
+        age("s1", 1_000, AWAY_MS + 1_000);
+        sweep();
+        assertEquals(Status.AWAY, tracker.getStatus("s1"));
+
+        tracker.touch("s1", true);
+
+        assertEquals(Status.ACTIVE, tracker.getStatus("s1"));
+        verify(aggregator).recordStatus("1", "active");
+    }
+
+    @Test
+    void heartbeatKeepsSessionAliveButNotActive() {
+        age("s1", GHOST_MS + 1_000, IDLE_MS + 1_000);
+
+        // heartbeat 프레임만 온 경우
+        tracker.touch("s1", false);
+        sweep();
+
+        assertEquals(Status.IDLE, tracker.getStatus("s1"));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void silentSessionIsReapedAsGhost() {
+        age("s1", GHOST_MS + 1_000, GHOST_MS + 1_000);
+        sweep();
+
+        assertNull(tracker.getStatus("s1"));
+        assertEquals(0, tracker.getTrackedSessionCount());
+        verify(eventPublisher).publishEvent(new GhostSession("s1", "1", "player1"));
+    }
+
+    @Test
+    void removedSessionIsNotReaped() {
+        age("s1", GHOST_MS + 1_000, GHOST_MS + 1_000);
+        tracker.remove("s1");
+        sweep();
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+}
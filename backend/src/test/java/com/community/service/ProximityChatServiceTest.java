@@ -0,0 +1,142 @@
+package com.community.service;
+
+import com.community.dto.ChatMessageDto;
+import com.community.dto.PlayerPositionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProximityChatServiceTest {
+
+    private WorldStateService worldState;
+    private RealtimeMessagingService realtimeMessaging;
+    private ProximityChatService service;
+    private final List<PlayerPositionDto> plaza = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        worldState = new WorldStateService();
+        ActiveUserService activeUserService = mock(ActiveUserService.class);
+        when(activeUserService.getSessionIdByUserId(anyString())).thenAnswer(call -> "s-" + call.getArgument(0));
+        realtimeMessaging = mock(RealtimeMessagingService.class);
+        service = new ProximityChatService(worldState, activeUserService, realtimeMessaging);
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "radius", 45.0);
+        ReflectionTestUtils.setField(service, "globalMaxPerMinute", 6);
+        ReflectionTestUtils.setField(service, "globalBurst", 3);
+    }
+
+    private PlayerPositionDto place(String userId, double x, double z, String roomId) {
+        PlayerPositionDto position = new PlayerPositionDto();
+        position.setUserId(userId);
+        position.setX(x);
+        position.setY(0.0);
+        position.setZ(z);
+        position.setCurrentRoomId(roomId);
+        worldState.updatePosition(position);
+        if (roomId == null) {
+            plaza.add(position);
+        }
+        return position;
+    }
+
+    private static ChatMessageDto chat(String senderId) {
+        return ChatMessageDto.builder()
+                .userId(senderId)
+                .username(senderId)
+                .message("안녕하세요")
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<String> sentTo() {
+        ArgumentCaptor<Collection<String>> sessionIds = ArgumentCaptor.forClass(Collection.class);
+        verify(realtimeMessaging).sendToSessions(sessionIds.capture(), eq("/queue/chat"), any());
+        return new HashSet<>(sessionIds.getValue());
+    }
+
+    @Test
+    void deliversOnlyWithinRadius() {
+        place("sender", 0, 0, null);
+        place("near", 30, 30, null);        // 거리 약 42
+        place("edge", 45, 0, null);         // 정확히 반경
+        place("corner", 40, 40, null);      // 이웃 셀이지만 거리 약 57
+        place("far", 300, 300, null);
+        service.updateIndex(plaza, Map.of());
+
+        ChatMessageDto message = chat("sender");
+        int recipients = service.sendNearby(message);
+
+        assertEquals(3, recipients);
+        assertEquals(Set.of("s-sender", "s-near", "s-edge"), sentTo());
+        assertEquals(ProximityChatService.SCOPE_NEARBY, message.getScope());
+    }
+
+    @Test
+    void recipientsAcrossCellBoundaryAreIncluded() {
+        // 반경 = 셀 크기이므로 44 와 46 은 다른 셀
+        place("sender", 44, 0, null);
+        place("neighbour", 46, 0, null);
+        place("behind", -1, 0, null);
+        service.updateIndex(plaza, Map.of());
+
+        service.sendNearby(chat("sender"));
+
+        assertEquals(Set.of("s-sender", "s-neighbour", "s-behind"), sentTo());
+    }
+
+    @Test
+    void senderWithoutPositionOnlySeesOwnMessage() {
+        place("other", 0, 0, null);
+        service.updateIndex(plaza, Map.of());
+
+        assertEquals(1, service.sendNearby(chat("unknown")));
+        assertEquals(Set.of("s-unknown"), sentTo());
+    }
+
+    @Test
+    void roomChatStaysInsideTheRoom() {
+        PlayerPositionDto sender = place("sender", 0, 0, "r1");
+        PlayerPositionDto roommate = place("roommate", 500, 500, "r1");
+        place("otherRoom", 0, 0, "r2");
+        place("plaza", 0, 0, null);
+        service.updateIndex(plaza, Map.of("r1", List.of(sender, roommate)));
+
+        service.sendNearby(chat("sender"));
+
+        assertEquals(Set.of("s-sender", "s-roommate"), sentTo());
+    }
+
+    @Test
+    void globalChatIsRateLimitedPerUser() {
+        assertTrue(service.tryAcquireGlobal("a"));
+        assertTrue(service.tryAcquireGlobal("a"));
+        assertTrue(service.tryAcquireGlobal("a"));
+        assertFalse(service.tryAcquireGlobal("a"));
+
+        assertTrue(service.tryAcquireGlobal("b"));
+
+        // 접속 종료 후 다시 들어오면 새 버킷
+        service.removeUser("a");
+        assertTrue(service.tryAcquireGlobal("a"));
+    }
+}
@@ -0,0 +1,76 @@
+package com.community.service;
+
+import com.community.dto.PlayerPositionDto;
+import com.community.dto.SpaceChangeDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SpaceRoutingServiceTest {
+
+    private static final String PLAZA = "/user/queue/positions";
+
+    private RealtimeMessagingService realtimeMessaging;
+    private SpaceRoutingService service;
+
+    @BeforeEach
+    void setUp() {
+        ActiveUserService activeUserService = mock(ActiveUserService.class);
+        when(activeUserService.getSessionIdByUserId(anyString())).thenAnswer(call -> "s-" + call.getArgument(0));
+        realtimeMessaging = mock(RealtimeMessagingService.class);
+        service = new SpaceRoutingService(new WorldStateService(), activeUserService, realtimeMessaging);
+    }
+
+    private static PlayerPositionDto at(String userId, String roomId) {
+        PlayerPositionDto position = new PlayerPositionDto();
+        position.setUserId(userId);
+        position.setCurrentRoomId(roomId);
+        return position;
+    }
+
+    private SpaceChangeDto lastChange(String sessionId) {
+        ArgumentCaptor<Object> change = ArgumentCaptor.forClass(Object.class);
+        verify(realtimeMessaging).sendToSession(eq(sessionId), eq("/queue/space"), change.capture());
+        return (SpaceChangeDto) change.getValue();
+    }
+
+    @Test
+    void newPlazaPlayerIsNotNotified() {
+        service.notifySpaceChanges(List.of(at("a", null), at("b", " ")), PLAZA);
+
+        verify(realtimeMessaging, never()).sendToSession(anyString(), anyString(), any());
+    }
+
+    @Test
+    void enteringAndLeavingRoomMovesSubscription() {
+        service.notifySpaceChanges(List.of(at("a", null)), PLAZA);
+
+        service.notifySpaceChanges(List.of(at("a", "r1")), PLAZA);
+        SpaceChangeDto toRoom = lastChange("s-a");
+        assertEquals("r1", toRoom.getRoomId());
+        assertEquals("/topic/room/r1/positions", toRoom.getPositionsDestination());
+
+        // 같은 공간에 머물면 다시 알리지 않음
+        clearInvocations(realtimeMessaging);
+        service.notifySpaceChanges(List.of(at("a", "r1")), PLAZA);
+        verify(realtimeMessaging, never()).sendToSession(anyString(), anyString(), any());
+
+        service.notifySpaceChanges(List.of(at("a", null)), PLAZA);
+        SpaceChangeDto toPlaza = lastChange("s-a");
+        assertNull(toPlaza.getRoomId());
+        assertEquals(PLAZA, toPlaza.getPositionsDestination());
+    }
+}
@@ -0,0 +1,162 @@
+package com.community.tools;
+
+import com.community.service.KoreanDictionary;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 끝말잇기 사전 파일 생성기 (단어 목록 -> KoreanDictionary 형식)
+ * 단어로 트라이를 만든 뒤 같은 접미사 구조를 가진 상태를 하나로 합쳐 최소 오토마타로 저장합니다.
+ * tools 소스셋(서버 jar 에 들어가지 않음)에 있으며, 단어 목록을 바꾼 뒤 ./gradlew buildDictionary 로 다시 만듭니다.
+ * 입력: UTF-8 텍스트, 한 줄에 단어 하나 (빈 줄과 # 으로 시작하는 줄은 무시)
+ */
+public final class KoreanDictionaryCompiler {
+
+    private KoreanDictionaryCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: KoreanDictionaryCompiler <words.txt> <output.dawg>");
+            System.exit(1);
+        }
+        Path input = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+
+        TreeSet<String> words = new TreeSet<>();
+        for (String line : Files.readAllLines(input, StandardCharsets.UTF_8)) {
+            String word = line.strip();
+            if (!word.isEmpty() && !word.startsWith("#")) {
+                words.add(word);
+            }
+        }
+
+        int[] compiled = compile(words);
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        try (OutputStream out = Files.newOutputStream(output)) {
+            write(compiled, out);
+        }
+        System.out.printf("%d words -> %s (%d bytes)%n", words.size(), output, compiled.length * Integer.BYTES);
+    }
+
+    /**
+     * @param words 중복 없는 단어 (정렬 여부 무관)
+     */
+    public static int[] compile(Iterable<String> words) {
+        TrieNode root = new TrieNode();
+        int wordCount = 0;
+        for (String word : words) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            TrieNode node = root;
+            for (int i = 0; i < word.length(); i++) {
+                node = node.children.computeIfAbsent(word.charAt(i), c -> new TrieNode());
+            }
+            if (!node.terminal) {
+                node.terminal = true;
+                wordCount++;
+            }
+        }
+
+        IntList out = new IntList();
+        out.add(KoreanDictionary.MAGIC);
+        out.add(KoreanDictionary.VERSION);
+        out.add(wordCount);
+        out.add(0); // 시작 상태 오프셋
+        out.add(0); // 전체 int 수
+
+        Map<List<Integer>, Integer> registry = new HashMap<>();
+        int rootOffset = writeNode(root, registry, out);
+        out.set(3, rootOffset);
+        out.set(4, out.size());
+        return out.toArray();
+    }
+
+    public static void write(int[] compiled, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        for (int value : compiled) {
+            data.writeInt(value);
+        }
+        data.flush();
+    }
+
+    /**
+     * 자식부터 기록하고, 이미 같은 구조의 상태가 있으면 그 오프셋을 재사용 (접미사 공유)
+     * @return 상태 오프셋 (자식이 없으면 -1)
+     */
+    private static int writeNode(TrieNode node, Map<List<Integer>, Integer> registry, IntList out) {
+        if (node.children.isEmpty()) {
+            return KoreanDictionary.NO_NODE;
+        }
+
+        List<Integer> signature = new ArrayList<>(node.children.size() * 2);
+        int words = 0;
+        for (Map.Entry<Character, TrieNode> entry : node.children.entrySet()) {
+            TrieNode child = entry.getValue();
+            int target = writeNode(child, registry, out);
+            signature.add(entry.getKey() | (child.terminal ? KoreanDictionary.FINAL : 0));
+            signature.add(target);
+            words += (child.terminal ? 1 : 0)
+                    + (target == KoreanDictionary.NO_NODE ? 0 : out.get(target + 1));
+        }
+
+        Integer existing = registry.get(signature);
+        if (existing != null) {
+            return existing;
+        }
+        int offset = out.size();
+        out.add(node.children.size());
+        out.add(words);
+        for (int value : signature) {
+            out.add(value);
+        }
+        registry.put(signature, offset);
+        return offset;
+    }
+
+    private static final class TrieNode {
+        private final TreeMap<Character, TrieNode> children = new TreeMap<>();
+        private boolean terminal;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[1024];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        void set(int index, int value) {
+            values[index] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.community.tools;
+
+import org.apache.activemq.artemis.core.config.Configuration;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 로컬 실행/테스트용 STOMP 브로커 (내장 ActiveMQ Artemis)
+ * realtime.broker.mode=relay 를 외부 브로커 설치 없이 확인할 때 씁니다.
+ * 메모리 전용(영속화 없음), 인증 없음이므로 운영에 쓰지 않습니다.
+ * tools 소스셋(서버 jar 에 들어가지 않음)에 있으며, ./gradlew localBroker 로 실행합니다.
+ * /topic/ 은 구독자 전체에게(multicast), /queue/ 는 한 구독자에게(anycast) 전달합니다.
+ */
+public final class LocalStompBroker implements AutoCloseable {
+
+    public static final int DEFAULT_PORT = 61613;
+
+    private final EmbeddedActiveMQ server;
+    private final int port;
+
+    private LocalStompBroker(EmbeddedActiveMQ server, int port) {
+        this.server = server;
+        this.port = port;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        LocalStompBroker broker = start(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(broker::close));
+        System.out.printf("STOMP broker listening on localhost:%d (Ctrl+C to stop)%n", port);
+        new CountDownLatch(1).await();
+    }
+
+    /**
+     * @param port STOMP 포트 (localhost 에만 열림)
+     */
+    public static LocalStompBroker start(int port) throws Exception {
+        Configuration config = new ConfigurationImpl()
+                .setName("local-stomp-broker")
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .setJMXManagementEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + port
+                        + "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/");
+
+        EmbeddedActiveMQ server = new EmbeddedActiveMQ();
+        server.setConfiguration(config);
+        server.start();
+        return new LocalStompBroker(server, port);
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    @Override
+    public void close() {
+        try {
+            server.stop();
+        } catch (Exception e) {
+            System.err.println("Failed to stop STOMP broker: " + e.getMessage());
+        }
+    }
+}
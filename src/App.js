@@ -974,6 +974,9 @@ function App() {
         return updated;
       });
 
+      // 관심 영역 밖으로 나간 경우는 아바타만 제거
+      if (data.action === 'out-of-range') return;
+
       // Notify GlobalChat
       setPlayerLeaveEvent({ ...data, timestamp: Date.now() });
     });
@@ -8,6 +8,7 @@ function GlobalChat({ isVisible = true, username, userId, onlineCount: externalO
   const [isMinimized, setIsMinimized] = useState(false);
   const [onlineCount, setOnlineCount] = useState(0);
   const [activeTab, setActiveTab] = useState('all'); // 'all', 'plaza', 'system'
+  const [chatScope, setChatScope] = useState('nearby'); // 'nearby' (주변), 'global' (전체)
   const [isFocused, setIsFocused] = useState(false);
   const messagesEndRef = useRef(null);
   const inputRef = useRef(null);
@@ -101,18 +102,25 @@ function GlobalChat({ isVisible = true, username, userId, onlineCount: externalO
   // WebSocket 채팅 메시지 수신
   useEffect(() => {
     const handleChatMessage = (data) => {
+      const isNotice = data.scope === 'notice';
       const newMessage = {
         id: `${data.userId}_${data.timestamp || Date.now()}_${Math.random().toString(36).substr(2, 9)}`,
         username: data.username,
         userId: data.userId,
-        text: data.message,
+        text: data.scope === 'global' ? `[전체] ${data.message}` : data.message,
         timestamp: new Date(data.timestamp).toLocaleTimeString('ko-KR', {
           hour: '2-digit',
           minute: '2-digit'
-        })
+        }),
+        isSystem: isNotice
       };
       setMessages(prev => [...prev, newMessage]);
 
+      // 안내 메시지는 말풍선으로 표시하지 않음
+      if (isNotice) {
+        return;
+      }
+
       // 부모 컴포넌트에게도 전달 (말풍선 표시용)
       if (onChatMessage) {
         onChatMessage(data);
@@ -128,7 +136,7 @@ function GlobalChat({ isVisible = true, username, userId, onlineCount: externalO
     e.preventDefault();
     if (inputText.trim() && multiplayerService.connected) {
       // WebSocket으로 메시지 전송
-      multiplayerService.sendChatMessage(inputText.trim());
+      multiplayerService.sendChatMessage(inputText.trim(), chatScope);
       setInputText('');
     }
   };
@@ -216,6 +224,14 @@ function GlobalChat({ isVisible = true, username, userId, onlineCount: externalO
 
           {/* 입력 영역 */}
           <form className="global-chat-input-container" onSubmit={handleSendMessage}>
+            <button
+              type="button"
+              className={`chat-scope-button ${chatScope}`}
+              onClick={() => setChatScope(chatScope === 'nearby' ? 'global' : 'nearby')}
+              title={chatScope === 'nearby' ? '주변 플레이어에게만 보내기' : '전체에게 보내기'}
+            >
+              {chatScope === 'nearby' ? '주변' : '전체'}
+            </button>
             <input
               ref={inputRef}
               type="text"
@@ -27,6 +27,7 @@ function MinigameModal({ onClose, userProfile, onlinePlayers, initialMode = 'lob
     const [roomChatInput, setRoomChatInput] = useState('');
     const [roomChatMessages, setRoomChatMessages] = useState([]);
     const [isSwitchingRole, setIsSwitchingRole] = useState(false);
+    const [botDifficulty, setBotDifficulty] = useState('normal');
     const [isReconnecting, setIsReconnecting] = useState(false); // 재연결 중 상태
     const [showSpectatorList, setShowSpectatorList] = useState(false); // 관전자 목록 모달
     const [showErrorPopup, setShowErrorPopup] = useState(false); // 에러 팝업
@@ -389,6 +390,12 @@ function MinigameModal({ onClose, userProfile, onlinePlayers, initialMode = 'lob
             });
         }
     };
+    const handleAddBot = () => {
+        if (currentRoom?.roomId) minigameService.addBot(currentRoom.roomId, botDifficulty);
+    };
+    const handleRemoveBot = () => {
+        if (currentRoom?.roomId) minigameService.removeBot(currentRoom.roomId);
+    };
     const handleReady = () => {
         if (currentRoom?.roomId) minigameService.toggleReady(currentRoom.roomId);
     };
@@ -458,6 +465,7 @@ function MinigameModal({ onClose, userProfile, onlinePlayers, initialMode = 'lob
     const isPlayer = currentRoom?.players?.some(p => String(p.userId) === String(userProfile?.id));
     const isSpectator = currentRoom?.spectators?.some(s => String(s.userId) === String(userProfile?.id));
     const isRoomFull = currentRoom?.currentPlayers >= currentRoom?.maxPlayers;
+    const hasBot = currentRoom?.players?.some(p => String(p.userId).startsWith('omok-bot-'));
 
     const renderContent = () => {
         if (currentRoom?.playing) {
@@ -579,6 +587,18 @@ function MinigameModal({ onClose, userProfile, onlinePlayers, initialMode = 'lob
                                 <>
                                     <button className="game-start-btn" onClick={handleGameStart}><FaGamepad /> 게임 시작</button>
                                     <button className="room-settings-btn" onClick={handleOpenRoomSettings}>⚙️ 방 설정</button>
+                                    {currentRoom?.gameName === '오목' && (hasBot ? (
+                                        <button className="switch-role-btn" onClick={handleRemoveBot}>🤖 봇 제거</button>
+                                    ) : isPlayer && !isRoomFull && (
+                                        <>
+                                            <select className="bot-difficulty-select" value={botDifficulty} onChange={(e) => setBotDifficulty(e.target.value)}>
+                                                <option value="easy">쉬움</option>
+                                                <option value="normal">보통</option>
+                                                <option value="hard">어려움</option>
+                                            </select>
+                                            <button className="switch-role-btn" onClick={handleAddBot}>🤖 봇 추가</button>
+                                        </>
+                                    ))}
                                     {isPlayer ? (
                                         <button className="switch-role-btn" onClick={handleSwitchRole} disabled={isSwitchingRole}>
                                             {isSwitchingRole ? '전환 중...' : '관전자로 전환'}
@@ -129,8 +129,9 @@ const OmokGame = ({ roomId, isHost, userProfile, players = [], onGameEnd }) => {
         }
 
         case 'gameEnd':
+          // 서버 판정 결과 (승자는 playerId, 무승부면 null)
           setGameStatus('ended');
-          setWinner(evt.winnerId);
+          setWinner(evt.winnerId ?? evt.playerId ?? null);
           break;
 
         default:
@@ -15,6 +15,8 @@ const WordChainGame = ({ roomId, isHost, userProfile, players = [], onGameEnd })
   const [winner, setWinner] = useState(null);
   const [loser, setLoser] = useState(null);
   const [errorMessage, setErrorMessage] = useState('');
+  const [hint, setHint] = useState('');
+  const [hintUsed, setHintUsed] = useState(false);
   const [rematchRequests, setRematchRequests] = useState(new Set());
   const [waitingForRematch, setWaitingForRematch] = useState(false);
   const inputRef = useRef(null);
@@ -87,6 +89,16 @@ const WordChainGame = ({ roomId, isHost, userProfile, players = [], onGameEnd })
           setCurrentTurnIndex(prev => (prev + 1) % players.length);
           setTimerSeconds(TURN_TIME);
           setErrorMessage('');
+          setHint('');
+          break;
+        }
+
+        case 'wordChainHint': {
+          // 힌트 (첫 글자 + 나머지 초성, 요청한 사람에게만 표시)
+          const myId = String(userProfile.id || userProfile.userId);
+          if (String(evt.playerId) === myId) {
+            setHint(evt.payload);
+          }
           break;
         }
 
@@ -107,8 +119,8 @@ const WordChainGame = ({ roomId, isHost, userProfile, players = [], onGameEnd })
         case 'wordChainEnd': {
           // 게임 종료 (패배자 정보가 playerId로 전달됨)
           setGameStatus('ended');
-          // payload가 'timeout'이면 playerId가 패배자
-          if (evt.payload === 'timeout') {
+          // payload가 'timeout'(시간 초과) 또는 'noNextWord'(이어갈 단어 없음)이면 playerId가 패배자
+          if (evt.payload === 'timeout' || evt.payload === 'noNextWord') {
             setLoser(evt.playerId);
             // 승자는 패배자가 아닌 다른 플레이어
             const winnerPlayer = players.find(p => p.userId !== evt.playerId);
@@ -135,6 +147,8 @@ const WordChainGame = ({ roomId, isHost, userProfile, players = [], onGameEnd })
           setRematchRequests(new Set());
           setWaitingForRematch(false);
           setErrorMessage('');
+          setHint('');
+          setHintUsed(false);
           setInputWord('');
           break;
         }
@@ -209,6 +223,15 @@ const WordChainGame = ({ roomId, isHost, userProfile, players = [], onGameEnd })
     }
   };
 
+  const handleHintRequest = () => {
+    if (!isMyTurn || hintUsed || gameStatus !== 'playing') return;
+    minigameService.sendGameEvent(roomId, {
+      type: 'wordChainHint',
+      playerId: userProfile.id
+    });
+    setHintUsed(true);
+  };
+
   const handleRematchRequest = () => {
     minigameService.sendGameEvent(roomId, {
       type: 'wordChainRematchRequest',
@@ -295,8 +318,19 @@ const WordChainGame = ({ roomId, isHost, userProfile, players = [], onGameEnd })
             >
               입력
             </button>
+            <button
+              onClick={handleHintRequest}
+              disabled={!isMyTurn || hintUsed}
+              className="submit-btn hint-btn"
+            >
+              💡 힌트
+            </button>
           </div>
 
+          {hint && (
+            <div className="hint-message">💡 {hint}</div>
+          )}
+
           {errorMessage && (
             <div className="error-message">{errorMessage}</div>
           )}
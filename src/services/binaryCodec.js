@@ -0,0 +1,129 @@
+// binary-v1 코덱 디코더 (서버 BinaryFrameCodec 과 동일한 형식)
+// 정수는 varint (음수는 zigzag), 문자열은 길이 + UTF-8, 프레임은 [0xB1][타입]으로 시작
+
+export const BINARY_CODEC = 'binary-v1';
+
+const MAGIC = 0xB1;
+const TYPE_POSITION_FRAME = 1;
+const TYPE_GAME_EVENT = 2;
+
+const GAME_EVENT_TYPES = { 1: 'aimTimer', 2: 'omokTimer', 3: 'spawnTarget', 4: 'scoreUpdate' };
+
+const textDecoder = new TextDecoder();
+
+class Reader {
+  constructor(bytes) {
+    this.bytes = bytes;
+    this.view = new DataView(bytes.buffer, bytes.byteOffset, bytes.byteLength);
+    this.offset = 0;
+  }
+
+  byte() {
+    return this.bytes[this.offset++];
+  }
+
+  varint() {
+    let result = 0;
+    let multiplier = 1;
+    let b;
+    do {
+      b = this.byte();
+      result += (b & 0x7f) * multiplier;
+      multiplier *= 128;
+    } while (b & 0x80);
+    return result;
+  }
+
+  signedVarint() {
+    const n = this.varint();
+    return (n % 2 === 0) ? n / 2 : -(n + 1) / 2;
+  }
+
+  float() {
+    const value = this.view.getFloat32(this.offset);
+    this.offset += 4;
+    return value;
+  }
+
+  string() {
+    const length = this.varint();
+    const value = textDecoder.decode(this.bytes.subarray(this.offset, this.offset + length));
+    this.offset += length;
+    return value;
+  }
+}
+
+function decodePositionFrame(r) {
+  const frame = { t: r.varint(), ts: r.varint(), k: r.byte() === 1 };
+
+  frame.defs = [];
+  for (let n = r.varint(); n > 0; n--) {
+    frame.defs.push({ i: r.varint(), u: r.string(), n: r.string(), m: r.string() });
+  }
+
+  frame.anims = {};
+  for (let n = r.varint(); n > 0; n--) {
+    const id = r.varint();
+    frame.anims[id] = r.string();
+  }
+
+  frame.u = [];
+  for (let n = r.varint(); n > 0; n--) {
+    const update = [r.varint(), r.byte()];
+    for (let bit = 0; bit < 6; bit++) {
+      if (update[1] & (1 << bit)) update.push(r.signedVarint());
+    }
+    frame.u.push(update);
+  }
+
+  frame.presence = [];
+  for (let n = r.varint(); n > 0; n--) {
+    frame.presence.push({ userId: r.string(), username: r.string(), action: r.string() });
+  }
+  return frame;
+}
+
+function decodeGameEvent(r) {
+  const code = r.byte();
+  const event = { type: code === 0 ? r.string() : GAME_EVENT_TYPES[code] };
+  const mask = r.byte();
+
+  if (mask & 1) event.roomId = r.string();
+  if (mask & 2) event.playerId = r.string();
+  if (mask & 4) event.playerName = r.string();
+  if (mask & 8) {
+    event.target = {
+      id: r.string(),
+      x: r.float(),
+      y: r.float(),
+      size: r.float(),
+      createdAt: r.varint(),
+      duration: r.varint()
+    };
+  }
+  if (mask & 16) event.targetId = r.string();
+  if (mask & 32) event.position = r.signedVarint();
+  if (mask & 64) event.payload = r.string();
+  if (mask & 128) event.timestamp = r.varint();
+  return event;
+}
+
+export function decodeBinaryFrame(bytes) {
+  const r = new Reader(bytes);
+  if (r.byte() !== MAGIC) {
+    throw new Error('Unknown binary frame');
+  }
+  const type = r.byte();
+  if (type === TYPE_POSITION_FRAME) return decodePositionFrame(r);
+  if (type === TYPE_GAME_EVENT) return decodeGameEvent(r);
+  throw new Error('Unknown binary frame type: ' + type);
+}
+
+// STOMP 메시지 본문 파싱 (바이너리면 디코딩, 아니면 JSON)
+export function parseStompMessage(message) {
+  const contentType = message.headers['content-type'] || '';
+  if (contentType.startsWith('application/octet-stream')) {
+    return decodeBinaryFrame(message.binaryBody);
+  }
+  return JSON.parse(message.body);
+}
@@ -1,5 +1,6 @@
 import { Client } from '@stomp/stompjs';
-import SockJS from 'sockjs-client';
+import { parseStompMessage } from './binaryCodec';
+import { createStompSocket, STOMP_CONNECT_HEADERS } from './stompTransport';
 
 class MinigameService {
   constructor() {
@@ -36,7 +37,6 @@ class MinigameService {
     this.username = username;
 
     const wsUrl = process.env.REACT_APP_SOCKET_URL || 'http://localhost:8080';
-    // const socket = new SockJS(`${wsUrl}/ws`); // Move inside factory to avoid race condition
 
     // Create a promise that will resolve when onConnect is called
     return new Promise((resolve, reject) => {
@@ -50,9 +50,10 @@ class MinigameService {
 
       this.client = new Client({
         webSocketFactory: () => {
-          console.log('[MinigameService] Creating SockJS instance...');
-          return new SockJS(`${wsUrl}/ws`);
+          console.log('[MinigameService] Creating WebSocket instance...');
+          return createStompSocket(wsUrl);
         },
+        connectHeaders: STOMP_CONNECT_HEADERS,
         reconnectDelay: 5000,
         heartbeatIncoming: 4000,
         heartbeatOutgoing: 4000,
@@ -230,7 +231,7 @@ class MinigameService {
 
     // 게임 이벤트(타겟 스폰, 점수 업데이트 등) 구독
     this.client.subscribe('/topic/minigame/room/' + roomId + '/game', (message) => {
-      const data = JSON.parse(message.body);
+      const data = parseStompMessage(message);
       this.emit('gameEvent', data);
     });
 
@@ -328,6 +329,49 @@ class MinigameService {
 
   }
 
+  /**
+   * 오목 봇 추가 (방장만)
+   */
+  addBot(roomId, difficulty) {
+    if (!this.connected || !this.client) {
+      console.error('WebSocket not connected');
+      return;
+    }
+
+    const payload = {
+      roomId,
+      userId: this.userId,
+      difficulty
+    };
+
+    this.client.publish({
+      destination: '/app/minigame.room.addBot',
+      body: JSON.stringify(payload)
+    });
+
+  }
+
+  /**
+   * 오목 봇 제거 (방장만)
+   */
+  removeBot(roomId) {
+    if (!this.connected || !this.client) {
+      console.error('WebSocket not connected');
+      return;
+    }
+
+    const payload = {
+      roomId,
+      userId: this.userId
+    };
+
+    this.client.publish({
+      destination: '/app/minigame.room.removeBot',
+      body: JSON.stringify(payload)
+    });
+
+  }
+
   /**
    * 게임 시작
    */
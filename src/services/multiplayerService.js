@@ -1,5 +1,9 @@
 import { Client } from '@stomp/stompjs';
-import SockJS from 'sockjs-client';
+import { parseStompMessage } from './binaryCodec';
+import { createStompSocket, STOMP_CONNECT_HEADERS } from './stompTransport';
+
+// 상태가 그대로인 위치는 이 간격으로만 다시 전송 (새로 들어온 플레이어는 서버의 입장 스냅샷으로 받음)
+const IDLE_POSITION_RESEND_MS = 5000;
 
 class MultiplayerService {
   constructor() {
@@ -16,6 +20,7 @@ class MultiplayerService {
     this.onChatMessageCallbacks = [];
     this.onDuplicateLoginCallbacks = [];
     this.onOnlineCountUpdateCallbacks = [];
+    this.onPlayerStatusCallbacks = []; // 활동 상태 변경 (active, idle, away)
     this.onFriendUpdateCallbacks = [];
     this.onDMMessageCallbacks = [];
     this.onRoomUpdateCallbacks = []; // 방 생성/삭제 콜백 추가
@@ -24,6 +29,10 @@ class MultiplayerService {
     this.pendingRoomChatSubscriptions = new Set(); // roomId set to subscribe on connect if subscribe requested earlier
     this.onConnectCallbacks = []; // 연결 성공 리스너
     this.roomSubscriptions = new Map(); // Track room subscriptions
+    this.remotePlayers = new Map(); // 압축 위치 프레임: 플레이어 ID -> 마지막 상태
+    this.animationNames = new Map(); // 압축 위치 프레임: 애니메이션 ID -> 이름
+    this.lastPositionState = null; // 마지막으로 보낸 위치 상태 (변경 없으면 전송 생략)
+    this.lastPositionSentAt = 0;
 
     // 화면 공유 관련 콜백
     this.onScreenShareStartCallbacks = [];
@@ -52,10 +61,10 @@ class MultiplayerService {
     this.isObserver = isObserver;
 
     const wsUrl = process.env.REACT_APP_SOCKET_URL || 'http://localhost:8080';
-    const socket = new SockJS(`${wsUrl}/ws`);
 
     this.client = new Client({
-      webSocketFactory: () => socket,
+      webSocketFactory: () => createStompSocket(wsUrl),
+      connectHeaders: STOMP_CONNECT_HEADERS,
       reconnectDelay: 5000,
       heartbeatIncoming: 4000,
       heartbeatOutgoing: 4000,
@@ -63,8 +72,13 @@ class MultiplayerService {
       onConnect: () => {
         console.log('✅ WebSocket Connected');
         this.connected = true;
+        this.lastPositionState = null; // 재연결 후 첫 위치는 항상 전송
+
+        // 압축 위치 프레임 디코딩 상태 (세션마다 새로 시작)
+        this.remotePlayers = new Map();
+        this.animationNames = new Map();
 
-        // Subscribe to player join/leave events
+        // Subscribe to duplicate login notices (입장/퇴장은 /topic/presence 로 묶어서 수신)
         this.client.subscribe('/topic/players', (message) => {
           const data = JSON.parse(message.body);
 
@@ -77,28 +91,44 @@ class MultiplayerService {
           }
         });
 
-        // Subscribe to online count updates
-        this.client.subscribe('/topic/online-count', (message) => {
-          const count = parseInt(message.body);
-          this.onOnlineCountUpdateCallbacks.forEach(cb => cb?.(count));
+        // 입장/퇴장/온라인 인원 수 묶음 (서버가 짧은 구간마다 모아서 전송)
+        this.client.subscribe('/topic/presence', (message) => {
+          const batch = JSON.parse(message.body);
+          (batch.joins || []).forEach(data => this.onPlayerJoinCallbacks.forEach(cb => cb?.(data)));
+          (batch.leaves || []).forEach(data => this.onPlayerLeaveCallbacks.forEach(cb => cb?.(data)));
+          (batch.statuses || []).forEach(data => this.onPlayerStatusCallbacks.forEach(cb => cb?.(data)));
+          if (batch.onlineCount !== undefined && batch.onlineCount !== null) {
+            this.onOnlineCountUpdateCallbacks.forEach(cb => cb?.(batch.onlineCount));
+          }
         });
 
-        // Subscribe to position updates
-        this.client.subscribe('/topic/positions', (message) => {
-          const data = JSON.parse(message.body);
+        // Subscribe to position updates (서버가 틱마다 움직인 플레이어를 묶어서 전송)
+        // 광장은 /topic/positions, 개인 룸은 /topic/room/{roomId}/positions (서버가 /user/queue/space 로 안내)
+        this.spacePositionsSubscription = null;
+        this.subscribeSpacePositions('/topic/positions');
 
-          // In observer mode, show all position updates; in player mode, ignore own
-          if (this.isObserver || String(data.userId) !== String(this.userId)) {
-            this.onPositionUpdateCallbacks.forEach(cb => cb?.(data));
-          }
+        // 공간(광장/개인 룸) 변경 안내
+        this.client.subscribe('/user/queue/space', (message) => {
+          this.handleSpaceChange(JSON.parse(message.body));
+        });
+
+        // 관심 영역 모드: 주변 플레이어의 위치/입퇴장만 개인 큐로 수신
+        this.client.subscribe('/user/queue/positions', (message) => {
+          this.handlePositionFrame(parseStompMessage(message));
         });
 
-        // Subscribe to chat messages
+        // Subscribe to chat messages (전체 채팅)
         this.client.subscribe('/topic/chat', (message) => {
           const data = JSON.parse(message.body);
           this.onChatMessageCallbacks.forEach(cb => cb?.(data));
         });
 
+        // 근거리 채팅 (주변 플레이어가 보낸 광장 채팅, 속도 제한 안내)
+        this.client.subscribe('/user/queue/chat', (message) => {
+          const data = JSON.parse(message.body);
+          this.onChatMessageCallbacks.forEach(cb => cb?.(data));
+        });
+
         // Subscribe to friend updates (친구 요청, 수락 등)
         this.client.subscribe('/topic/friend-updates/' + this.userId, (message) => {
           const data = JSON.parse(message.body);
@@ -119,11 +149,19 @@ class MultiplayerService {
         });
 
         // Subscribe to room list updates (방 목록 실시간 동기화)
-        this.client.subscribe('/topic/rooms/list', (message) => {
-          const rooms = JSON.parse(message.body);
-          console.log('📜 방 목록 실시간 업데이트:', rooms.length, 'rooms');
-          this.onRoomListUpdateCallbacks.forEach(cb => cb?.(rooms));
+        // 전체 목록은 연결 시 한 번 받고(/user/queue/rooms), 이후에는 변경분(/topic/rooms/delta)만 적용
+        this.roomDirectory = new Map();
+        this.roomDirectoryVersion = null;
+        this.client.subscribe('/user/queue/rooms', (message) => {
+          const snapshot = JSON.parse(message.body);
+          this.roomDirectory = new Map((snapshot.rooms || []).map(room => [room.roomId, room]));
+          this.roomDirectoryVersion = snapshot.version;
+          this.notifyRoomListUpdate();
+        });
+        this.client.subscribe('/topic/rooms/delta', (message) => {
+          this.handleRoomListDelta(JSON.parse(message.body));
         });
+        this.requestRoomList();
 
         // Subscribe to screen share broadcast (화면 공유 시작/종료 알림)
         this.client.subscribe('/topic/screenshare/broadcast', (message) => {
@@ -172,6 +210,101 @@ class MultiplayerService {
     this.client.activate();
   }
 
+  // 압축 위치 프레임 처리
+  // defs: 플레이어 정의 (i -> userId/username/modelPath), anims: 애니메이션 ID -> 이름
+  // u: [플레이어 ID, 필드 마스크, 바뀐 값...] (1=x, 2=y, 4=z: 1/100 단위, 8=rotationY: 1/1000 rad, 16=animation, 32=isChangingAvatar)
+  // presence: 관심 영역 입장/퇴장 (join, leave, in-range, out-of-range)
+  handlePositionFrame(frame) {
+    if (frame.anims) {
+      Object.entries(frame.anims).forEach(([id, name]) => this.animationNames.set(Number(id), name || 'idle'));
+    }
+
+    (frame.defs || []).forEach(def => {
+      const prev = this.remotePlayers.get(def.i) || {};
+      this.remotePlayers.set(def.i, { ...prev, userId: def.u, username: def.n, modelPath: def.m });
+    });
+
+    (frame.presence || []).forEach(event => {
+      if (event.action === 'join') {
+        this.onPlayerJoinCallbacks.forEach(cb => cb?.(event));
+      } else if (event.action === 'leave' || event.action === 'out-of-range') {
+        this.remotePlayers.forEach((player, id) => {
+          if (String(player.userId) === String(event.userId)) this.remotePlayers.delete(id);
+        });
+        this.onPlayerLeaveCallbacks.forEach(cb => cb?.(event));
+      }
+    });
+
+    (frame.u || []).forEach(update => {
+      const player = this.remotePlayers.get(update[0]);
+      if (!player) return;
+
+      const mask = update[1];
+      let index = 2;
+      if (mask & 1) player.x = update[index++] / 100;
+      if (mask & 2) player.y = update[index++] / 100;
+      if (mask & 4) player.z = update[index++] / 100;
+      if (mask & 8) player.rotationY = update[index++] / 1000;
+      if (mask & 16) player.animation = this.animationNames.get(update[index++]) || 'idle';
+      if (mask & 32) player.isChangingAvatar = update[index++] === 1;
+
+      // In observer mode, show all position updates; in player mode, ignore own
+      if (this.isObserver || String(player.userId) !== String(this.userId)) {
+        this.onPositionUpdateCallbacks.forEach(cb => cb?.({ ...player }));
+      }
+    });
+  }
+
+  // 방 목록 전체 요청 (응답은 /user/queue/rooms)
+  requestRoomList() {
+    if (this.client && this.client.connected) {
+      this.client.publish({ destination: '/app/room.list', body: '{}' });
+    }
+  }
+
+  // 방 목록 변경분 적용 (버전이 이어지지 않으면 전체 목록 다시 요청)
+  handleRoomListDelta(delta) {
+    if (this.roomDirectoryVersion === null || delta.version <= this.roomDirectoryVersion) return;
+    if (delta.version !== this.roomDirectoryVersion + 1) {
+      this.roomDirectoryVersion = null;
+      this.requestRoomList();
+      return;
+    }
+    (delta.removed || []).forEach(roomId => this.roomDirectory.delete(roomId));
+    (delta.added || []).forEach(room => this.roomDirectory.set(room.roomId, room));
+    this.roomDirectoryVersion = delta.version;
+    this.notifyRoomListUpdate();
+  }
+
+  notifyRoomListUpdate() {
+    const rooms = Array.from(this.roomDirectory.values());
+    console.log('📜 방 목록 실시간 업데이트:', rooms.length, 'rooms');
+    this.onRoomListUpdateCallbacks.forEach(cb => cb?.(rooms));
+  }
+
+  // 현재 공간의 위치 토픽만 구독 (개인 큐 /user/queue/positions 는 항상 구독 중)
+  subscribeSpacePositions(destination) {
+    if (this.spacePositionsSubscription) {
+      this.spacePositionsSubscription.unsubscribe();
+      this.spacePositionsSubscription = null;
+    }
+    if (destination && destination.startsWith('/topic/')) {
+      this.spacePositionsSubscription = this.client.subscribe(destination, (message) => {
+        this.handlePositionFrame(parseStompMessage(message));
+      });
+    }
+  }
+
+  // 공간이 바뀌면 이전 공간의 플레이어를 정리하고 새 위치 토픽으로 전환
+  handleSpaceChange(change) {
+    this.remotePlayers.forEach(player => {
+      if (String(player.userId) === String(this.userId)) return;
+      this.onPlayerLeaveCallbacks.forEach(cb => cb?.({ userId: player.userId, action: 'out-of-range' }));
+    });
+    this.remotePlayers = new Map();
+    this.subscribeSpacePositions(change.positionsDestination);
+  }
+
   disconnect() {
     if (this.client) {
       this.client.deactivate();
@@ -205,6 +338,18 @@ class MultiplayerService {
         return;
       }
 
+      // 움직임/애니메이션/아바타 변경이 없으면 전송 생략
+      const state = [
+        Math.round(position[0] * 100), Math.round(position[1] * 100), Math.round(position[2] * 100),
+        Math.round((rotationY || 0) * 1000), animation, modelPath, isChangingAvatar, currentRoomId
+      ].join('|');
+      const now = Date.now();
+      if (state === this.lastPositionState && now - this.lastPositionSentAt < IDLE_POSITION_RESEND_MS) {
+        return;
+      }
+      this.lastPositionState = state;
+      this.lastPositionSentAt = now;
+
       this.client.publish({
         destination: '/app/player.position',
         body: JSON.stringify({
@@ -229,10 +374,11 @@ class MultiplayerService {
     }
   }
 
-  sendChatMessage(message) {
+  // scope: 'nearby' (주변 플레이어에게만) | 'global' (전체, 속도 제한 있음)
+  sendChatMessage(message, scope = 'nearby') {
     if (this.connected && this.client) {
       this.client.publish({
-        destination: '/app/chat.message',
+        destination: scope === 'global' ? '/app/chat.global' : '/app/chat.message',
         body: JSON.stringify({
           userId: this.userId,
           username: this.username,
@@ -395,6 +541,15 @@ class MultiplayerService {
     }
   }
 
+  onPlayerStatusChange(callback) {
+    if (callback) {
+      this.onPlayerStatusCallbacks.push(callback);
+      return () => {
+        this.onPlayerStatusCallbacks = this.onPlayerStatusCallbacks.filter(cb => cb !== callback);
+      };
+    }
+  }
+
   onOnlineCountUpdate(callback) {
     if (callback) {
       this.onOnlineCountUpdateCallbacks.push(callback);
@@ -0,0 +1,30 @@
+import SockJS from 'sockjs-client';
+import { BINARY_CODEC } from './binaryCodec';
+
+// STOMP 연결용 소켓 생성
+// 기본은 순수 WebSocket(/ws-native), 연결이 한 번도 열리지 못하면 이후에는 SockJS(/ws)로 대체
+
+let nativeUnavailable = typeof WebSocket === 'undefined';
+
+// 서버가 바이너리 코덱을 쓸 수 있으면 사용 (SockJS 세션은 서버가 무시하고 JSON 사용)
+export const STOMP_CONNECT_HEADERS = { 'accept-codec': BINARY_CODEC };
+
+function toWebSocketUrl(httpUrl) {
+  return httpUrl.replace(/^http/, 'ws');
+}
+
+export function createStompSocket(baseUrl) {
+  if (!nativeUnavailable) {
+    const socket = new WebSocket(`${toWebSocketUrl(baseUrl)}/ws-native`);
+    let opened = false;
+    socket.addEventListener('open', () => { opened = true; });
+    socket.addEventListener('close', () => {
+      if (!opened) {
+        console.warn('⚠️ Native WebSocket unavailable, falling back to SockJS');
+        nativeUnavailable = true;
+      }
+    });
+    return socket;
+  }
+  return new SockJS(`${baseUrl}/ws`);
+}